@@ -0,0 +1,82 @@
+package com.ourhour.domain.notification.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import com.ourhour.domain.notification.dto.SSEEventDTO;
+import com.ourhour.domain.notification.enums.NotificationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 수신자에게 같은 SSE 이벤트를 보낼 때의 수신자당 할당량 비교
+ * perRecipient: 기존 방식 (수신자마다 SSEEventDTO 생성 + JSON 직렬화 + 인코딩)
+ * serializeOnce: 한 번 직렬화/인코딩한 본문을 공유하고 수신자별 id 필드만 생성
+ * -prof gc 의 gc.alloc.rate.norm 값을 recipients로 나누면 수신자당 할당 바이트를 알 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SseFrameFanOutBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int recipients;
+
+    private ObjectMapper objectMapper;
+    private NotificationDTO notification;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        notification = NotificationDTO.builder()
+                .notificationId(1L)
+                .type(NotificationType.CHAT_MESSAGE)
+                .title("새 채팅 메시지")
+                .message("프로젝트 채팅방에 새 메시지가 도착했습니다.")
+                .relatedId(10L)
+                .relatedType("CHATROOM")
+                .actionUrl("/org/1/chat/10")
+                .isRead(false)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .build();
+    }
+
+    @Benchmark
+    public void perRecipient(Blackhole blackhole) throws JsonProcessingException {
+        for (int i = 0; i < recipients; i++) {
+            SSEEventDTO event = SSEEventDTO.builder()
+                    .type("notification")
+                    .data(notification)
+                    .build();
+            blackhole.consume(SseFrame.of(String.valueOf(i), "notification", objectMapper.writeValueAsString(event)));
+        }
+    }
+
+    @Benchmark
+    public void serializeOnce(Blackhole blackhole) throws JsonProcessingException {
+        SSEEventDTO event = SSEEventDTO.builder()
+                .type("notification")
+                .data(notification)
+                .build();
+        SseFrame encodedBody = SseFrame.of("notification", objectMapper.writeValueAsString(event));
+        for (int i = 0; i < recipients; i++) {
+            blackhole.consume(encodedBody.withId(String.valueOf(i)));
+        }
+    }
+}
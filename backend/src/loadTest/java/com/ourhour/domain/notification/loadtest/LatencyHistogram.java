@@ -0,0 +1,53 @@
+package com.ourhour.domain.notification.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 밀리초 단위 고정 버킷 지연 히스토그램
+ * 수신 스레드 여러 개가 잠금 없이 기록하고, 보고 시점에 백분위수를 계산합니다.
+ * maxMillis를 넘는 값은 마지막 버킷에 모읍니다.
+ */
+class LatencyHistogram {
+
+    private final AtomicLongArray buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    LatencyHistogram(int maxMillis) {
+        this.buckets = new AtomicLongArray(maxMillis + 1);
+    }
+
+    void record(long millis) {
+        int bucket = (int) Math.min(Math.max(0, millis), buckets.length() - 1);
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        sum.add(Math.max(0, millis));
+    }
+
+    long count() {
+        return count.sum();
+    }
+
+    double mean() {
+        long total = count.sum();
+        return total == 0 ? 0 : (double) sum.sum() / total;
+    }
+
+    // p: 0~100
+    long percentile(double p) {
+        long total = count.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * p / 100.0);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return i;
+            }
+        }
+        return buckets.length() - 1;
+    }
+}
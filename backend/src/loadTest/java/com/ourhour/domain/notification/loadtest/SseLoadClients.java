@@ -0,0 +1,140 @@
+package com.ourhour.domain.notification.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모의 SSE 클라이언트 묶음
+ * JDK HttpClient의 비동기 요청으로 연결당 스레드 없이 다수의 SSE 스트림을 열고,
+ * 수신한 부하 테스트 이벤트의 sentAt으로 fan-out 지연을 기록합니다.
+ * 측정 시작 시각 이후에 전송된 이벤트만 집계하므로 워밍업 구간의 지연은 섞이지 않습니다.
+ */
+class SseLoadClients {
+
+    // HttpClient 하나가 선택자 스레드 하나로 처리할 연결 수
+    private static final int CONNECTIONS_PER_HTTP_CLIENT = 5000;
+    private static final String CONNECTED_LINE = "data:connected";
+    private static final String SENT_AT_FIELD = "\"sentAt\":";
+
+    private final String baseUrl;
+    private final List<HttpClient> httpClients = new ArrayList<>();
+    private final List<Flow.Subscription> subscriptions = new ArrayList<>();
+
+    private final AtomicInteger connected = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final LongAdder received = new LongAdder();
+    private final LatencyHistogram histogram;
+    private volatile long measureFromMillis = Long.MAX_VALUE;
+
+    SseLoadClients(String baseUrl, int clients, LatencyHistogram histogram) {
+        this.baseUrl = baseUrl;
+        this.histogram = histogram;
+        int httpClientCount = Math.max(1, (clients + CONNECTIONS_PER_HTTP_CLIENT - 1) / CONNECTIONS_PER_HTTP_CLIENT);
+        for (int i = 0; i < httpClientCount; i++) {
+            httpClients.add(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build());
+        }
+    }
+
+    void open(long userId, int index) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/loadtest/sse/connect/" + userId))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        httpClients.get(index % httpClients.size())
+                .sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new LineSubscriber()))
+                .whenComplete((response, error) -> {
+                    if (error != null || response.statusCode() != 200) {
+                        failed.incrementAndGet();
+                    }
+                });
+    }
+
+    // fromMillis 이후 전송된 이벤트부터 집계
+    void startMeasuring(long fromMillis) {
+        this.measureFromMillis = fromMillis;
+    }
+
+    int getConnected() {
+        return connected.get();
+    }
+
+    // 연결 실패 또는 연결 후 끊긴 수
+    int getFailed() {
+        return failed.get();
+    }
+
+    long getReceived() {
+        return received.sum();
+    }
+
+    void close() {
+        synchronized (subscriptions) {
+            subscriptions.forEach(Flow.Subscription::cancel);
+            subscriptions.clear();
+        }
+    }
+
+    // 애플리케이션 ObjectMapper의 타입 정보(["java.lang.Long", 값])가 붙어도 첫 숫자열을 값으로 사용
+    private static long parseSentAt(String line) {
+        int start = line.indexOf(SENT_AT_FIELD);
+        if (start < 0) {
+            return -1;
+        }
+        int from = start + SENT_AT_FIELD.length();
+        while (from < line.length() && !Character.isDigit(line.charAt(from))) {
+            from++;
+        }
+        int to = from;
+        while (to < line.length() && Character.isDigit(line.charAt(to))) {
+            to++;
+        }
+        return to > from ? Long.parseLong(line.substring(from, to)) : -1;
+    }
+
+    private final class LineSubscriber implements Flow.Subscriber<String> {
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            synchronized (subscriptions) {
+                subscriptions.add(subscription);
+            }
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (CONNECTED_LINE.equals(line)) {
+                connected.incrementAndGet();
+                return;
+            }
+            if (line.startsWith("data:")) {
+                long sentAt = parseSentAt(line);
+                if (sentAt >= measureFromMillis) {
+                    received.increment();
+                    histogram.record(System.currentTimeMillis() - sentAt);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // 실패 집계는 응답 future 완료 시 한 번만 수행
+        }
+
+        @Override
+        public void onComplete() {
+            // 서버가 연결을 닫은 경우 (타임아웃 등)
+        }
+    }
+}
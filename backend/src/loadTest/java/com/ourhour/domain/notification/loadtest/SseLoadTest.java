@@ -0,0 +1,314 @@
+package com.ourhour.domain.notification.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * SSE 계층 부하 테스트
+ * Redis 컨테이너(Testcontainers, Docker 필요)와 애플리케이션을 별도 JVM(loadtest 프로필: H2)으로 띄운 뒤 N개의 SSE 클라이언트를 연결하고,
+ * 초당 rate 회씩 fanout 명에게 이벤트를 보내 다음을 보고합니다.
+ * - 연결당 힙 사용량 (GC 후 연결 전/후 힙 차이 / 연결 수)
+ * - fan-out 지연 백분위수 (서버 전송 시작 ~ 클라이언트 수신)
+ * - 서버 스레드 수, 측정 구간 GC 횟수/시간/최대 중단 시간
+ *
+ * 실행 예: ./gradlew sseLoadTest -PloadTest.args="clients=10000 rate=20 fanout=500 duration=60"
+ * 옵션: clients, rate, fanout, duration(초), warmup(초), ramp(초당 연결 수), port, heap(서버 -Xmx), redis-image,
+ *       max-p99-ms, max-heap-per-connection-kb (지정하면 초과 시 실패 코드로 종료)
+ * 서버 로그에 ERROR가 하나라도 남으면 측정값과 관계없이 실패 코드로 종료합니다.
+ * 수만 개 연결은 클라이언트와 서버가 같은 호스트의 임시 포트/파일 디스크립터를 함께 쓰므로
+ * ulimit -n 과 net.ipv4.ip_local_port_range 를 충분히 늘린 뒤 실행합니다.
+ */
+public final class SseLoadTest {
+
+    private static final long FIRST_USER_ID = 1_000_000L;
+    private static final int MAX_LATENCY_MILLIS = 60_000;
+    private static final int REDIS_PORT = 6379;
+    private static final Path SERVER_LOG = Path.of("build", "loadtest", "server.log");
+    // application.yml의 콘솔 로그 패턴 (%d{HH:mm:ss.SSS} [%thread] %-5level ...)의 ERROR 줄
+    private static final Pattern ERROR_LINE = Pattern.compile("^\\d{2}:\\d{2}:\\d{2}\\.\\d{3} \\[[^\\]]*\\] ERROR ");
+    private static final int MAX_REPORTED_ERRORS = 5;
+
+    private final Map<String, String> options;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient controlClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final String baseUrl;
+
+    private SseLoadTest(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = "http://localhost:" + intOption("port", 18080);
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                options.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        System.exit(new SseLoadTest(options).run());
+    }
+
+    private int run() throws Exception {
+        int clients = intOption("clients", 1000);
+        int rate = intOption("rate", 10);
+        int fanout = Math.min(intOption("fanout", 100), clients);
+        int durationSeconds = intOption("duration", 30);
+        int warmupSeconds = intOption("warmup", 5);
+        int rampPerSecond = intOption("ramp", 2000);
+
+        GenericContainer<?> redis = startRedis();
+        Process server;
+        try {
+            server = startServer(redis);
+        } catch (IOException | RuntimeException e) {
+            redis.stop();
+            throw e;
+        }
+        SseLoadClients loadClients = null;
+        ScheduledExecutorService pusher = Executors.newSingleThreadScheduledExecutor();
+        try {
+            awaitServer(server);
+            JsonNode baseline = stats(true);
+
+            // 1. 연결
+            LatencyHistogram latency = new LatencyHistogram(MAX_LATENCY_MILLIS);
+            loadClients = new SseLoadClients(baseUrl, clients, latency);
+            long connectStarted = System.nanoTime();
+            for (int i = 0; i < clients; i++) {
+                loadClients.open(FIRST_USER_ID + i, i);
+                if ((i + 1) % rampPerSecond == 0) {
+                    Thread.sleep(1000);
+                }
+            }
+            awaitConnections(loadClients, clients);
+            long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connectStarted);
+            JsonNode connectedStats = stats(true);
+
+            // 2. 전송 (워밍업 이후 전송분만 측정)
+            LongAdder expected = new LongAdder();
+            long measureFrom = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(warmupSeconds);
+            long[] cursor = {0};
+            pusher.scheduleAtFixedRate(() -> {
+                long from = cursor[0];
+                cursor[0] = from + fanout * 2L > clients ? 0 : from + fanout;
+                boolean measured = System.currentTimeMillis() >= measureFrom;
+                push(FIRST_USER_ID + from, fanout);
+                if (measured) {
+                    expected.add(fanout);
+                }
+            }, 0, TimeUnit.SECONDS.toNanos(1) / Math.max(1, rate), TimeUnit.NANOSECONDS);
+
+            loadClients.startMeasuring(measureFrom);
+            Thread.sleep(Math.max(0, measureFrom - System.currentTimeMillis()));
+            JsonNode measureStarted = stats(false);
+
+            Thread.sleep(TimeUnit.SECONDS.toMillis(durationSeconds));
+            pusher.shutdown();
+            pusher.awaitTermination(5, TimeUnit.SECONDS);
+            // 전송 중이던 이벤트 수신 대기
+            Thread.sleep(2000);
+            JsonNode finished = stats(false);
+
+            return report(clients, rate, fanout, durationSeconds, connectMillis, loadClients,
+                    baseline, connectedStats, measureStarted, finished, latency,
+                    expected.sum(), loadClients.getReceived());
+        } finally {
+            pusher.shutdownNow();
+            if (loadClients != null) {
+                loadClients.close();
+            }
+            server.destroy();
+            if (!server.waitFor(30, TimeUnit.SECONDS)) {
+                server.destroyForcibly();
+            }
+            redis.stop();
+        }
+    }
+
+    private int report(int clients, int rate, int fanout, int durationSeconds, long connectMillis,
+            SseLoadClients loadClients, JsonNode baseline, JsonNode connected, JsonNode measureStarted,
+            JsonNode finished, LatencyHistogram latency, long expected, long received) {
+        long connections = longValue(connected, "connections");
+        long heapDelta = longValue(connected, "heapUsed") - longValue(baseline, "heapUsed");
+        double heapPerConnectionKb = connections == 0 ? 0 : heapDelta / 1024.0 / connections;
+
+        System.out.println();
+        System.out.println("=== SSE 부하 테스트 결과 ===");
+        System.out.printf("설정            clients=%d rate=%d/s fanout=%d duration=%ds%n",
+                clients, rate, fanout, durationSeconds);
+        System.out.printf("연결            %d / %d (실패/끊김 %d, 소요 %d ms)%n",
+                loadClients.getConnected(), clients, loadClients.getFailed(), connectMillis);
+        System.out.printf("연결당 힙        %.2f KB (연결 전 %d MB -> 연결 후 %d MB)%n", heapPerConnectionKb,
+                toMegabytes(longValue(baseline, "heapUsed")), toMegabytes(longValue(connected, "heapUsed")));
+        System.out.printf("서버 스레드       연결 전 %d / 연결 후 %d / 종료 시 %d%n",
+                longValue(baseline, "threads"), longValue(connected, "threads"), longValue(finished, "threads"));
+        System.out.printf("전달            %d / %d (%.2f%%)%n", received, expected,
+                expected == 0 ? 0 : received * 100.0 / expected);
+        System.out.printf("fan-out 지연     p50=%d p90=%d p99=%d p99.9=%d max=%d mean=%.1f ms (n=%d)%n",
+                latency.percentile(50), latency.percentile(90), latency.percentile(99), latency.percentile(99.9),
+                latency.percentile(100), latency.mean(), latency.count());
+        System.out.printf("GC (측정 구간)    %d회, 총 %d ms, 최대 중단 %.1f ms (최근 2분)%n",
+                longValue(finished, "gcCount") - longValue(measureStarted, "gcCount"),
+                longValue(finished, "gcTimeMillis") - longValue(measureStarted, "gcTimeMillis"),
+                doubleValue(finished, "gcMaxPauseMillis"));
+
+        List<String> violations = new ArrayList<>();
+        if (loadClients.getConnected() < clients) {
+            violations.add("모든 클라이언트가 연결되지 않았습니다");
+        }
+        if (options.containsKey("max-p99-ms") && latency.percentile(99) > intOption("max-p99-ms", 0)) {
+            violations.add("p99 지연이 max-p99-ms를 넘었습니다");
+        }
+        if (options.containsKey("max-heap-per-connection-kb")
+                && heapPerConnectionKb > intOption("max-heap-per-connection-kb", 0)) {
+            violations.add("연결당 힙이 max-heap-per-connection-kb를 넘었습니다");
+        }
+        List<String> serverErrors = serverErrors();
+        if (!serverErrors.isEmpty()) {
+            violations.add("서버 로그에 ERROR " + serverErrors.size() + "건이 있습니다 (" + SERVER_LOG.toAbsolutePath() + ")");
+            serverErrors.stream().limit(MAX_REPORTED_ERRORS).forEach(line -> System.out.println("  " + line));
+        }
+        violations.forEach(violation -> System.out.println("실패: " + violation));
+        return violations.isEmpty() ? 0 : 1;
+    }
+
+    // 서버 로그의 ERROR 줄 (스택 트레이스 제외)
+    private static List<String> serverErrors() {
+        try (Stream<String> lines = Files.lines(SERVER_LOG)) {
+            return lines.filter(line -> ERROR_LINE.matcher(line).find()).toList();
+        } catch (IOException e) {
+            return List.of("서버 로그를 읽을 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    // 카운터/핫 티어 등 Redis를 쓰는 구성요소가 실제 Redis로 동작하도록 컨테이너 실행
+    private GenericContainer<?> startRedis() {
+        GenericContainer<?> redis = new GenericContainer<>(
+                DockerImageName.parse(options.getOrDefault("redis-image", "redis:7-alpine")))
+                .withExposedPorts(REDIS_PORT);
+        System.out.println("Redis 컨테이너 시작 중...");
+        redis.start();
+        return redis;
+    }
+
+    // 같은 클래스패스로 애플리케이션을 별도 JVM에서 실행 (클라이언트 부하가 서버 지표에 섞이지 않도록)
+    private Process startServer(GenericContainer<?> redis) throws IOException {
+        Files.createDirectories(SERVER_LOG.getParent());
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-Xmx" + options.getOrDefault("heap", "2g"));
+        command.add("-Dspring.devtools.restart.enabled=false");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("com.ourhour.OurhourApplication");
+        command.add("--spring.profiles.active=loadtest");
+        command.add("--server.port=" + intOption("port", 18080));
+        command.add("--spring.data.redis.host=" + redis.getHost());
+        command.add("--spring.data.redis.port=" + redis.getMappedPort(REDIS_PORT));
+
+        System.out.println("서버 시작 중... (로그: " + SERVER_LOG.toAbsolutePath() + ")");
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(SERVER_LOG.toFile())
+                .directory(new File("."))
+                .start();
+    }
+
+    private void awaitServer(Process server) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(3);
+        while (System.nanoTime() < deadline) {
+            if (!server.isAlive()) {
+                throw new IllegalStateException("서버가 시작 중 종료되었습니다. build/loadtest/server.log를 확인하세요");
+            }
+            try {
+                stats(false);
+                return;
+            } catch (IOException e) {
+                Thread.sleep(500);
+            }
+        }
+        throw new IllegalStateException("서버가 제한 시간 안에 시작되지 않았습니다");
+    }
+
+    private void awaitConnections(SseLoadClients loadClients, int clients) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(2);
+        long nextProgress = System.nanoTime();
+        while (loadClients.getConnected() + loadClients.getFailed() < clients && System.nanoTime() < deadline) {
+            if (System.nanoTime() >= nextProgress) {
+                System.out.printf("연결 중 %d / %d (실패 %d)%n", loadClients.getConnected(), clients, loadClients.getFailed());
+                nextProgress = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            }
+            Thread.sleep(200);
+        }
+    }
+
+    private void push(long fromUserId, int count) {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create(baseUrl + "/loadtest/sse/push?fromUserId=" + fromUserId + "&count=" + count))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        controlClient.sendAsync(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private JsonNode stats(boolean gc) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/loadtest/sse/stats?gc=" + gc))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        HttpResponse<String> response = controlClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("stats 응답 코드 " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    // 애플리케이션 ObjectMapper는 숫자에 타입 정보를 붙이기도 하므로(["java.lang.Long", 값]) 마지막 원소를 값으로 사용
+    private static JsonNode value(JsonNode stats, String field) {
+        JsonNode node = stats.path(field);
+        return node.isArray() && node.size() > 0 ? node.get(node.size() - 1) : node;
+    }
+
+    private static long longValue(JsonNode stats, String field) {
+        return value(stats, field).asLong();
+    }
+
+    private static double doubleValue(JsonNode stats, String field) {
+        return value(stats, field).asDouble();
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static long toMegabytes(long bytes) {
+        return bytes / (1024 * 1024);
+    }
+}
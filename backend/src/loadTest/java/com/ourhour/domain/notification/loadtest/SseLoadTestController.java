@@ -0,0 +1,90 @@
+package com.ourhour.domain.notification.loadtest;
+
+import com.ourhour.domain.notification.service.SSENotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 전용 엔드포인트 (loadtest 프로필에서만 등록)
+ * 인증 없이 사용자 ID로 SSE 연결을 열고, 지정한 사용자 범위로 이벤트를 보내며, 서버 JVM 지표를 돌려줍니다.
+ */
+@Profile("loadtest")
+@RestController
+@RequestMapping("/loadtest/sse")
+public class SseLoadTestController {
+
+    private final SSENotificationService sseNotificationService;
+    private final MeterRegistry meterRegistry;
+
+    public SseLoadTestController(SSENotificationService sseNotificationService, MeterRegistry meterRegistry) {
+        this.sseNotificationService = sseNotificationService;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @GetMapping(value = "/connect/{userId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter connect(@PathVariable Long userId) {
+        return sseNotificationService.subscribe(userId, null);
+    }
+
+    /**
+     * [fromUserId, fromUserId + count) 사용자에게 같은 이벤트 한 건을 전송
+     * 수신 측은 sentAt과 수신 시각의 차이로 fan-out 지연을 계산합니다.
+     */
+    @PostMapping("/push")
+    public int push(@RequestParam long fromUserId, @RequestParam int count) {
+        List<Long> userIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            userIds.add(fromUserId + i);
+        }
+        sseNotificationService.sendToUsers(userIds, "loadtest", Map.of("sentAt", System.currentTimeMillis()));
+        return count;
+    }
+
+    // gc=true면 측정 전에 GC를 요청하여 연결당 힙 사용량을 안정적으로 계산
+    @GetMapping("/stats")
+    public Map<String, Object> stats(@RequestParam(defaultValue = "false") boolean gc) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        if (gc) {
+            memory.gc();
+        }
+
+        long gcCount = 0;
+        long gcTimeMillis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcTimeMillis += Math.max(0, collector.getCollectionTime());
+        }
+
+        double maxPauseMillis = 0;
+        for (Timer pause : meterRegistry.find("jvm.gc.pause").timers()) {
+            maxPauseMillis = Math.max(maxPauseMillis, pause.max(TimeUnit.MILLISECONDS));
+        }
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("connections", sseNotificationService.getActiveConnectionCount());
+        stats.put("heapUsed", memory.getHeapMemoryUsage().getUsed());
+        stats.put("threads", ManagementFactory.getThreadMXBean().getThreadCount());
+        stats.put("gcCount", gcCount);
+        stats.put("gcTimeMillis", gcTimeMillis);
+        stats.put("gcMaxPauseMillis", maxPauseMillis);
+        return stats;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ourhour.domain.notification.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+
+/**
+ * 부하 테스트 엔드포인트(/loadtest/**)는 JWT 없이 접근하도록 기본 보안 체인보다 먼저 매칭
+ */
+@Profile("loadtest")
+@Configuration
+public class SseLoadTestSecurityConfig {
+
+    @Bean
+    @Order(0)
+    public SecurityFilterChain loadTestSecurityFilterChain(HttpSecurity http) throws Exception {
+        return http
+                .securityMatcher("/loadtest/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .build();
+    }
+}
@@ -0,0 +1,5 @@
+package com.ourhour.domain.auth.dto;
+
+// 여러 메일을 한 번에 발송할 때 사용하는 메일 한 통의 내용
+public record EmailMessage(String toEmail, String subject, String content) {
+}
@@ -1,14 +1,24 @@
 package com.ourhour.domain.auth.service;
 
+import com.ourhour.domain.auth.dto.EmailMessage;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailSenderService {
@@ -57,4 +67,55 @@ public class EmailSenderService {
         }
     }
 
+    /**
+     * 여러 메일을 SMTP 연결 하나로 발송
+     * 일부 메일만 실패해도 나머지는 발송하며, 실패한 메일 목록을 돌려줍니다.
+     * @return 발송하지 못한 메일 (모두 성공하면 빈 목록)
+     */
+    public List<EmailMessage> sendEmails(List<EmailMessage> messages) {
+        if (messages.isEmpty()) {
+            return List.of();
+        }
+
+        Map<MimeMessage, EmailMessage> mimeMessages = new IdentityHashMap<>();
+        List<EmailMessage> failed = new ArrayList<>();
+        for (EmailMessage message : messages) {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            try {
+                MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+                helper.setTo(message.toEmail());
+                helper.setSubject(message.subject());
+                helper.setText(message.content(), true);
+                helper.setFrom(fromMail);
+                mimeMessages.put(mimeMessage, message);
+            } catch (MessagingException e) {
+                log.warn("메일 작성 실패: to={}, reason={}", message.toEmail(), e.getMessage());
+                failed.add(message);
+            }
+        }
+        if (mimeMessages.isEmpty()) {
+            return failed;
+        }
+
+        try {
+            mailSender.send(mimeMessages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            // 메일별 실패 목록이 없으면 연결 자체가 실패한 것이므로 전부 실패로 처리
+            if (e.getFailedMessages().isEmpty()) {
+                failed.addAll(mimeMessages.values());
+            } else {
+                e.getFailedMessages().keySet().forEach(key -> {
+                    EmailMessage message = mimeMessages.get(key);
+                    if (message != null) {
+                        failed.add(message);
+                    }
+                });
+            }
+            log.warn("메일 일괄 발송 중 일부 실패: total={}, failed={}", messages.size(), failed.size());
+        } catch (MailException e) {
+            failed.addAll(mimeMessages.values());
+            log.warn("메일 일괄 발송 실패: total={}, reason={}", messages.size(), e.getMessage());
+        }
+        return failed;
+    }
 }
@@ -0,0 +1,20 @@
+package com.ourhour.domain.chat.broker;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 노드의 브로커로 전달하는 STOMP 메시지
+ * payload는 발행 노드에서 이미 변환된 본문을 그대로 전달하므로 수신 노드는 다시 변환하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatBrokerMessage {
+
+    private String originNodeId;
+    private String destination;
+    private String contentType;
+    private byte[] payload;
+}
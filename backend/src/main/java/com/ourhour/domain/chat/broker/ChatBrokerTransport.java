@@ -0,0 +1,26 @@
+package com.ourhour.domain.chat.broker;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 채팅 메시지 전달 채널
+ * 모든 노드가 같은 채널을 구독하며, 자기 노드가 발행한 메시지도 수신하므로 호출자가 걸러야 합니다.
+ */
+public interface ChatBrokerTransport {
+
+    /**
+     * 채널 구독 시작
+     */
+    void subscribe(String nodeId, Consumer<ChatBrokerMessage> handler);
+
+    /**
+     * 모든 노드로 메시지 발행
+     * @return 발행 성공 여부
+     */
+    boolean publish(ChatBrokerMessage message);
+
+    /**
+     * 채널 구독 해제
+     */
+    void unsubscribe(String nodeId);
+}
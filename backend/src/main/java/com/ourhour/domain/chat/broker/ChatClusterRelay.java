@@ -0,0 +1,128 @@
+package com.ourhour.domain.chat.broker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.UUID;
+
+/**
+ * 노드 간 채팅 메시지 중계 (chat.broker.type=redis)
+ * brokerChannel 인터셉터로 이 노드에서 브로커로 보내는 메시지를 다른 노드에도 발행하고,
+ * 다른 노드에서 받은 메시지는 이 노드의 내장 브로커로 넣어 이 노드의 구독자에게 전송합니다.
+ * 다른 노드에서 받은 메시지에는 발행 노드 헤더가 있으므로 다시 발행하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "redis")
+public class ChatClusterRelay implements ChannelInterceptor {
+
+    static final String ORIGIN_HEADER = "chatBrokerOrigin";
+
+    private final ChatBrokerTransport transport;
+    private final MessageChannel brokerChannel;
+    private final String destinationPrefix;
+    private final String nodeId;
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter failedCounter;
+
+    // brokerChannel은 이 인터셉터를 등록하는 WebSocket 설정에서 만들어지므로 지연 주입
+    public ChatClusterRelay(ChatBrokerTransport transport,
+            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+            MeterRegistry meterRegistry,
+            @Value("${chat.broker.destination-prefix:/sub}") String destinationPrefix,
+            @Value("${chat.broker.node-id:}") String nodeId) {
+        this.transport = transport;
+        this.brokerChannel = brokerChannel;
+        this.destinationPrefix = destinationPrefix;
+        // 노드 ID를 지정하지 않으면 재시작마다 새 ID를 사용
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+
+        this.publishedCounter = Counter.builder("chat.broker.relay.published")
+                .description("다른 노드로 발행한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.receivedCounter = Counter.builder("chat.broker.relay.received")
+                .description("다른 노드에서 받아 이 노드 구독자에게 전송한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.broker.relay.failed")
+                .description("다른 노드로 발행하지 못한 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        transport.subscribe(nodeId, this::deliver);
+        log.info("Chat cluster relay started on node {}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        transport.unsubscribe(nodeId);
+    }
+
+    /**
+     * 이 노드에서 브로커로 보내는 메시지를 다른 노드에도 발행
+     * 이 노드의 구독자 전송은 그대로 진행되며, 발행 실패가 로컬 전송을 막지 않습니다.
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || headers.containsKey(ORIGIN_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (destination == null || !destination.startsWith(destinationPrefix)) {
+            return message;
+        }
+
+        Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+        ChatBrokerMessage relayed = new ChatBrokerMessage(nodeId, destination,
+                contentType == null ? null : contentType.toString(), payload);
+        if (transport.publish(relayed)) {
+            publishedCounter.increment();
+        } else {
+            failedCounter.increment();
+        }
+        return message;
+    }
+
+    // 다른 노드에서 발행한 메시지를 이 노드의 내장 브로커로 전달 (자기 노드가 발행한 메시지는 이미 전송했으므로 무시)
+    void deliver(ChatBrokerMessage relayed) {
+        if (nodeId.equals(relayed.getOriginNodeId())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayed.getDestination());
+        if (relayed.getContentType() != null) {
+            accessor.setContentType(MimeType.valueOf(relayed.getContentType()));
+        }
+        accessor.setHeader(ORIGIN_HEADER, relayed.getOriginNodeId());
+
+        brokerChannel.send(MessageBuilder.createMessage(relayed.getPayload(), accessor.getMessageHeaders()));
+        receivedCounter.increment();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ourhour.domain.chat.broker;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 노드 간 채팅 메시지 전달 채널
+ * 모든 노드가 chat:broker 채널을 구독하고, 각 노드의 내장 브로커가 자기 노드의 구독자에게만 전송합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "redis")
+public class RedisChatBrokerTransport implements ChatBrokerTransport {
+
+    private static final String CHANNEL = "chat:broker";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+
+    public RedisChatBrokerTransport(StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void subscribe(String nodeId, Consumer<ChatBrokerMessage> handler) {
+        MessageListener listener = (message, pattern) -> handle(message, handler);
+        listeners.put(nodeId, listener);
+        listenerContainer.addMessageListener(listener, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public boolean publish(ChatBrokerMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(message));
+            return true;
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 채팅 메시지를 다른 노드로 전달할 수 없습니다: destination={}, reason={}",
+                    message.getDestination(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void unsubscribe(String nodeId) {
+        MessageListener listener = listeners.remove(nodeId);
+        if (listener != null) {
+            listenerContainer.removeMessageListener(listener);
+        }
+    }
+
+    private void handle(Message message, Consumer<ChatBrokerMessage> handler) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            handler.accept(objectMapper.readValue(body, ChatBrokerMessage.class));
+        } catch (Exception e) {
+            log.warn("Failed to handle chat broker message: {}", e.getMessage());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ourhour.domain.chat.dto.ChatMessageReqDTO;
 import com.ourhour.domain.chat.dto.ChatMessageResDTO;
 import com.ourhour.domain.chat.dto.ChatRoomEnterReqDTO;
 import com.ourhour.domain.chat.dto.ChatRoomLeaveReqDTO;
+import com.ourhour.domain.chat.service.ChatMessageWriteBehind;
 import com.ourhour.domain.chat.service.ChatService;
 import com.ourhour.domain.chat.service.UserLocationService;
 import com.ourhour.global.jwt.dto.Claims;
@@ -27,11 +28,15 @@ public class ChatController {
     private final SimpMessageSendingOperations messagingTemplate;
     private final ChatService chatService;
     private final UserLocationService userLocationService;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
 
     @MessageMapping("/chat/message")
     public void message(@Payload ChatMessageReqDTO chatMessageReqDTO, Principal principal) {
 
-        ChatMessageResDTO chatMessageResDTO = chatService.saveAndConvertMessage(chatMessageReqDTO, principal);
+        // 쓰기 지연 저장 모드에서는 ID만 부여하고 바로 전송 (저장은 이후 일괄 처리)
+        ChatMessageResDTO chatMessageResDTO = chatMessageWriteBehind.isEnabled()
+                ? chatService.acceptMessage(chatMessageReqDTO, principal)
+                : chatService.saveAndConvertMessage(chatMessageReqDTO, principal);
 
         messagingTemplate.convertAndSend(
                 "/sub/chat/room/" + chatMessageResDTO.getChatRoomId(), chatMessageResDTO
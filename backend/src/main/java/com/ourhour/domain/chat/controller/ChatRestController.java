@@ -13,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -20,18 +21,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 
 import java.util.List;
 
+@Validated
 @RestController
 @RequestMapping("/api/orgs/{orgId}/chat-rooms")
 @RequiredArgsConstructor
 @Tag(name = "채팅(REST)", description = "채팅방/메시지/참가자 관리 API")
 public class ChatRestController {
 
+    private static final int DEFAULT_MESSAGE_PAGE_SIZE = 50;
+    private static final int MIN_MESSAGE_PAGE_SIZE = 1;
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+
     private final ChatService chatService;
 
     @OrgAuth(accessLevel = Role.MEMBER)
@@ -114,6 +123,24 @@ public class ChatRestController {
         return ResponseEntity.ok(ApiResponse.success(PageResponse.of(chatMessages), "채팅 메시지 조회에 성공했습니다."));
     }
 
+    @OrgAuth(accessLevel = Role.MEMBER)
+    @GetMapping("/{roomId}/messages/cursor")
+    @Operation(summary = "메시지 목록 커서 조회",
+            description = "메시지 ID 기준으로 최신 메시지, before/after 이전/이후 메시지, around 주변 메시지를 조회합니다. "
+                    + "응답의 beforeCursor/afterCursor를 다음 요청의 before/after로 전달합니다.")
+    public ResponseEntity<ApiResponse<ChatMessageCursorResDTO>> getMessagesByCursor(
+            @OrgId @PathVariable Long orgId,
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long around,
+            @RequestParam(defaultValue = "" + DEFAULT_MESSAGE_PAGE_SIZE) @Min(MIN_MESSAGE_PAGE_SIZE) @Max(MAX_MESSAGE_PAGE_SIZE) int size) {
+
+        ChatMessageCursorResDTO response = chatService.findMessagesByCursor(orgId, roomId, before, after, around, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "채팅 메시지 조회에 성공했습니다."));
+    }
+
     @OrgAuth(accessLevel = Role.MEMBER)
     @GetMapping("/{roomId}/participants")
     @Operation(summary = "참여자 목록 조회", description = "특정 채팅방의 참가자 목록을 조회합니다.")
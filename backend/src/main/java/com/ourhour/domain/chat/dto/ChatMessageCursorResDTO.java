@@ -0,0 +1,16 @@
+package com.ourhour.domain.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ChatMessageCursorResDTO {
+    private List<ChatMessageResDTO> messages; // 메시지 ID 오름차순 (오래된 메시지부터)
+    private Long beforeCursor; // 이전 메시지 요청 시 before로 전달 (더 없으면 null)
+    private Long afterCursor; // 이후 메시지 요청 시 after로 전달 (더 없으면 null)
+    private boolean hasBefore;
+    private boolean hasAfter;
+}
@@ -0,0 +1,37 @@
+package com.ourhour.domain.chat.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 쓰기 지연 저장 대기 중인 채팅 메시지
+ * ID는 전송 전에 미리 부여하며, persisted는 메시지가 포함된 일괄 저장이 커밋되면 완료됩니다.
+ */
+@Getter
+@Builder
+public class PendingChatMessage {
+
+    private final Long chatMessageId;
+    private final Long roomId;
+    private final Long senderId;
+    private final String senderName;
+    private final String content;
+    private final LocalDateTime sentAt;
+
+    @Builder.Default
+    private final CompletableFuture<Void> persisted = new CompletableFuture<>();
+
+    public ChatMessageResDTO toResDTO() {
+        return ChatMessageResDTO.builder()
+                .chatRoomId(roomId)
+                .chatMessageId(chatMessageId)
+                .senderId(senderId)
+                .senderName(senderName)
+                .message(content)
+                .timestamp(sentAt)
+                .build();
+    }
+}
@@ -18,8 +18,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessageEntity {
 
+    // ChatMessageIdGenerator에서 부여 (저장 방식과 관계없이 같은 ID 체계 사용)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long chatMessageId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -36,6 +36,16 @@ public class ChatRoomEntity {
     @JoinColumn(name = "org_id")
     private OrgEntity orgEntity;
 
+    // 마지막 메시지는 ChatRoomLastMessageRepository로만 갱신 (채팅방 수정 시 덮어쓰지 않음)
+    @Column(insertable = false, updatable = false)
+    private Long lastMessageId;
+
+    @Column(insertable = false, updatable = false)
+    private String lastMessagePreview;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime lastSentAt;
+
     public void update(String name, TagColor color) {
         this.name = name;
         this.color = color;
@@ -0,0 +1,13 @@
+package com.ourhour.domain.chat.enums;
+
+/**
+ * 채팅 STOMP 브로커 종류
+ * SIMPLE: JVM 내장 브로커 (단일 노드, 기본값)
+ * REDIS: 노드마다 내장 브로커를 두고 Redis pub/sub로 메시지를 다른 노드에 전달
+ * RELAY: 외부 STOMP 브로커로 중계 (구독 관리까지 외부 브로커가 담당)
+ */
+public enum ChatBrokerType {
+    SIMPLE,
+    REDIS,
+    RELAY
+}
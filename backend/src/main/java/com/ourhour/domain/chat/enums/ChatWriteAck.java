@@ -0,0 +1,11 @@
+package com.ourhour.domain.chat.enums;
+
+/**
+ * 쓰기 지연 저장 사용 시 메시지 전송 시점
+ * BROADCAST: ID를 부여하고 바로 전송, 저장은 이후 일괄 처리 (저장 전 장애 시 전송된 메시지가 유실될 수 있음)
+ * PERSISTED: 메시지가 포함된 일괄 저장이 커밋된 뒤 전송 (여러 메시지가 한 번의 INSERT를 함께 기다림)
+ */
+public enum ChatWriteAck {
+    BROADCAST,
+    PERSISTED
+}
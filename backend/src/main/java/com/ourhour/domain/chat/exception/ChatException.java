@@ -29,4 +29,14 @@ public class ChatException extends BusinessException {
     public static ChatException alreadyParticipated() {
         return new ChatException(ErrorCode.CHAT_ALREADY_PARTICIPANT);
     }
+
+    // 메시지 저장 확인(ack=persisted)을 기다리다 실패했을 때
+    public static ChatException chatMessageSaveFailedException() {
+        return new ChatException(ErrorCode.CHAT_MESSAGE_SAVE_FAILED);
+    }
+
+    // 메시지 목록 커서를 두 개 이상 지정했을 때
+    public static ChatException invalidMessageCursorException() {
+        return new ChatException(ErrorCode.CHAT_INVALID_MESSAGE_CURSOR);
+    }
 }
\ No newline at end of file
@@ -1,10 +1,8 @@
 package com.ourhour.domain.chat.mapper;
 
-import com.ourhour.domain.chat.dto.ChatMessageResDTO;
 import com.ourhour.domain.chat.dto.ChatParticipantResDTO;
 import com.ourhour.domain.chat.dto.ChatRoomListResDTO;
 import com.ourhour.domain.chat.dto.ChatRoomDetailResDTO;
-import com.ourhour.domain.chat.entity.ChatMessageEntity;
 import com.ourhour.domain.chat.entity.ChatParticipantEntity;
 import com.ourhour.domain.chat.entity.ChatRoomEntity;
 import org.mapstruct.Mapper;
@@ -29,12 +27,4 @@ public interface ChatMapper {
     @Mapping(source = "memberEntity.name", target = "memberName")
     @Mapping(source = "memberEntity.profileImgUrl", target = "profileImageUrl")
     ChatParticipantResDTO toChatParticipantResDTO(ChatParticipantEntity participant);
-
-    @Mapping(source = "chatRoomEntity.roomId", target = "chatRoomId")
-    @Mapping(source = "chatMessageId", target = "chatMessageId")
-    @Mapping(source = "memberEntity.memberId", target = "senderId")
-    @Mapping(source = "memberEntity.name", target = "senderName")
-    @Mapping(source = "content", target = "message")
-    @Mapping(source = "sentAt", target = "timestamp")
-    ChatMessageResDTO toChatMessageResDTO(ChatMessageEntity chatMessage);
 }
\ No newline at end of file
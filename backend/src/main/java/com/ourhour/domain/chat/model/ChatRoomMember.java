@@ -0,0 +1,16 @@
+package com.ourhour.domain.chat.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅방 참여자 (멤버 ID, 사용자 ID, 이름)
+ */
+@Getter
+@AllArgsConstructor
+public class ChatRoomMember {
+
+    private final Long memberId;
+    private final Long userId;
+    private final String name;
+}
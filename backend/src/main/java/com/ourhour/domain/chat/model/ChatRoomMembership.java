@@ -0,0 +1,49 @@
+package com.ourhour.domain.chat.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 메모리에 캐시하는 채팅방 참여 정보
+ * 메시지를 보낼 때마다 필요한 채팅방의 회사/이름과 참여자 목록을 한 번에 담습니다.
+ */
+public final class ChatRoomMembership {
+
+    private final Long roomId;
+    private final Long orgId;
+    private final String roomName;
+    private final Map<Long, ChatRoomMember> membersByMemberId;
+
+    public ChatRoomMembership(Long roomId, Long orgId, String roomName, List<ChatRoomMember> members) {
+        this.roomId = roomId;
+        this.orgId = orgId;
+        this.roomName = roomName;
+        Map<Long, ChatRoomMember> byMemberId = new LinkedHashMap<>();
+        members.forEach(member -> byMemberId.put(member.getMemberId(), member));
+        this.membersByMemberId = Collections.unmodifiableMap(byMemberId);
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public Long getOrgId() {
+        return orgId;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public Collection<ChatRoomMember> getMembers() {
+        return membersByMemberId.values();
+    }
+
+    public Optional<ChatRoomMember> findMember(Long memberId) {
+        return Optional.ofNullable(membersByMemberId.get(memberId));
+    }
+}
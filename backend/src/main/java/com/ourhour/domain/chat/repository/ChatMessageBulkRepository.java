@@ -0,0 +1,34 @@
+package com.ourhour.domain.chat.repository;
+
+import com.ourhour.domain.chat.dto.PendingChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 일괄 저장소 (JDBC batch insert)
+ * ID를 미리 부여한 메시지를 저장하므로 IDENTITY 키를 돌려받지 않고 chat_message_id를 직접 넣습니다.
+ * 채팅방/발신자는 ID 값만 사용하며 존재 여부는 FK 제약으로 검증합니다.
+ * MySQL에서는 rewriteBatchedStatements=true 설정으로 다중 행 INSERT 한 번으로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO tbl_chat_message "
+            + "(chat_message_id, room_id, sender_id, content, sent_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<PendingChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.getChatMessageId());
+            ps.setLong(2, message.getRoomId());
+            ps.setLong(3, message.getSenderId());
+            ps.setString(4, message.getContent());
+            ps.setObject(5, message.getSentAt());
+        });
+    }
+}
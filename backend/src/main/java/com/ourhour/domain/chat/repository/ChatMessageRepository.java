@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+
 public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity, Long> {
 
     @Query("SELECT  NEW com.ourhour.domain.chat.dto.ChatMessageResDTO(" +
@@ -23,6 +25,31 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessageEntity,
             "ORDER BY m.sentAt ASC")
     Page<ChatMessageResDTO> findAllByOrgAndChatRoom(@Param("orgId") Long orgId, @Param("roomId") Long roomId, Pageable pageable);
 
+    // keyset 페이지네이션: idx_chat_message_room_message (room_id, chat_message_id) 인덱스 순서대로 읽고 COUNT 쿼리 없음
+    @Query("SELECT  NEW com.ourhour.domain.chat.dto.ChatMessageResDTO(" +
+            "       m.chatRoomEntity.roomId, " +
+            "       m.chatMessageId, " +
+            "       m.memberEntity.memberId, " +
+            "       m.memberEntity.name, " +
+            "       m.content, " +
+            "       m.sentAt) " +
+            "FROM   ChatMessageEntity m " +
+            "WHERE  m.chatRoomEntity.roomId = :roomId AND m.chatMessageId < :beforeId " +
+            "ORDER BY m.chatMessageId DESC")
+    List<ChatMessageResDTO> findByRoomIdBefore(@Param("roomId") Long roomId, @Param("beforeId") Long beforeId, Pageable pageable);
+
+    @Query("SELECT  NEW com.ourhour.domain.chat.dto.ChatMessageResDTO(" +
+            "       m.chatRoomEntity.roomId, " +
+            "       m.chatMessageId, " +
+            "       m.memberEntity.memberId, " +
+            "       m.memberEntity.name, " +
+            "       m.content, " +
+            "       m.sentAt) " +
+            "FROM   ChatMessageEntity m " +
+            "WHERE  m.chatRoomEntity.roomId = :roomId AND m.chatMessageId > :afterId " +
+            "ORDER BY m.chatMessageId ASC")
+    List<ChatMessageResDTO> findByRoomIdAfter(@Param("roomId") Long roomId, @Param("afterId") Long afterId, Pageable pageable);
+
     @Modifying
     @Query("DELETE FROM ChatMessageEntity cm WHERE cm.chatRoomEntity.roomId = :roomId")
     void deleteAllByChatRoomEntity_RoomId(@Param("roomId") Long roomId);
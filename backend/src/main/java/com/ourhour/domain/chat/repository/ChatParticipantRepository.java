@@ -3,6 +3,7 @@ package com.ourhour.domain.chat.repository;
 import com.ourhour.domain.chat.dto.ChatRoomListResDTO;
 import com.ourhour.domain.chat.entity.ChatParticipantEntity;
 import com.ourhour.domain.chat.entity.ChatParticipantId;
+import com.ourhour.domain.chat.model.ChatRoomMember;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,18 +19,13 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
             "           cr.roomId, " +
             "           cr.name, " +
             "           cr.color, " +
-            "           cm.content, " +
-            "           cm.sentAt) " +
+            "           cr.lastMessagePreview, " +
+            "           cr.lastSentAt) " +
             "FROM ChatParticipantEntity cp " +
             "JOIN cp.chatRoomEntity cr " +
-            "LEFT JOIN ChatMessageEntity cm ON cm.chatRoomEntity = cr AND cm.chatMessageId = (" +
-            "    SELECT MAX(cm2.chatMessageId) " +
-            "    FROM ChatMessageEntity cm2 " +
-            "    WHERE cm2.chatRoomEntity = cr" +
-            ") " +
             "WHERE cp.memberEntity.memberId = :memberId " +
             "AND cr.orgEntity.orgId = :orgId " +
-            "ORDER BY COALESCE(cm.sentAt) DESC",
+            "ORDER BY cr.lastSentAt DESC, cr.roomId DESC",
             countQuery = "SELECT COUNT(cp) FROM ChatParticipantEntity cp WHERE cp.memberEntity.memberId = :memberId AND cp.chatRoomEntity.orgEntity.orgId = :orgId")
     Page<ChatRoomListResDTO> findChatRoomsWithLastMessage(@Param("orgId") Long orgId, @Param("memberId") Long memberId, Pageable pageable);
 
@@ -49,4 +45,17 @@ public interface ChatParticipantRepository extends JpaRepository<ChatParticipant
     );
 
     int countByChatRoomEntity_RoomId(Long roomId);
-}
\ No newline at end of file
+
+    // 채팅방 참여 정보 캐시 적재용 (엔티티 대신 필요한 값만 조회)
+    @Query("SELECT NEW com.ourhour.domain.chat.model.ChatRoomMember(m.memberId, u.userId, m.name) " +
+            "FROM ChatParticipantEntity cp " +
+            "JOIN cp.memberEntity m " +
+            "LEFT JOIN m.userEntity u " +
+            "WHERE cp.chatRoomEntity.roomId = :roomId")
+    List<ChatRoomMember> findMembersByRoomId(@Param("roomId") Long roomId);
+
+    // 사용자가 참여 중인 채팅방 ID 조회 (SSE 토픽 구독용)
+    @Query("SELECT cp.chatRoomEntity.roomId FROM ChatParticipantEntity cp " +
+            "WHERE cp.memberEntity.userEntity.userId = :userId")
+    List<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+}
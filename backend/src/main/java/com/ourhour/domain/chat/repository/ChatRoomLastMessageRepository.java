@@ -0,0 +1,59 @@
+package com.ourhour.domain.chat.repository;
+
+import com.ourhour.domain.chat.dto.PendingChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 마지막 메시지 갱신 (tbl_chat_room.last_message_*)
+ * 채팅방 목록이 메시지 테이블을 조회하지 않도록 메시지를 저장하는 트랜잭션 안에서 함께 갱신합니다.
+ * 저장 순서가 뒤바뀌어도 이전 메시지로 덮어쓰지 않도록 더 큰 메시지 ID일 때만 변경합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomLastMessageRepository {
+
+    public static final int PREVIEW_LENGTH = 255;
+
+    private static final String UPDATE_SQL = "UPDATE tbl_chat_room "
+            + "SET last_message_id = ?, last_message_preview = ?, last_sent_at = ? "
+            + "WHERE room_id = ? AND (last_message_id IS NULL OR last_message_id < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void update(Long roomId, Long messageId, String content, LocalDateTime sentAt) {
+        jdbcTemplate.update(UPDATE_SQL, messageId, preview(content), sentAt, roomId, messageId);
+    }
+
+    // 채팅방마다 가장 큰 ID의 메시지로 한 번씩만 갱신
+    public void updateAll(List<PendingChatMessage> messages) {
+        Map<Long, PendingChatMessage> latestByRoom = new LinkedHashMap<>();
+        for (PendingChatMessage message : messages) {
+            latestByRoom.merge(message.getRoomId(), message,
+                    (current, candidate) -> candidate.getChatMessageId() > current.getChatMessageId() ? candidate : current);
+        }
+
+        List<PendingChatMessage> latest = List.copyOf(latestByRoom.values());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, latest, latest.size(), (ps, message) -> {
+            ps.setLong(1, message.getChatMessageId());
+            ps.setString(2, preview(message.getContent()));
+            ps.setObject(3, message.getSentAt());
+            ps.setLong(4, message.getRoomId());
+            ps.setLong(5, message.getChatMessageId());
+        });
+    }
+
+    // 서로게이트 쌍이 잘리지 않도록 코드 포인트 기준으로 자름
+    static String preview(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= PREVIEW_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PREVIEW_LENGTH));
+    }
+}
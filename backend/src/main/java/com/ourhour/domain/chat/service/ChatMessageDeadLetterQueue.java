@@ -0,0 +1,89 @@
+package com.ourhour.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ourhour.domain.chat.dto.PendingChatMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쓰기 지연 저장에 실패한 채팅 메시지 보관소 (Redis 리스트)
+ * 이미 전송된 메시지가 일시적인 DB 장애로 기록에서 사라지지 않도록 재시도 후에도 저장하지 못한 메시지를 보관하고,
+ * ChatMessageWriteBehind가 주기적으로 꺼내 다시 저장합니다. 인스턴스가 재시작되어도 남으며 어느 인스턴스든 꺼낼 수 있습니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageDeadLetterQueue {
+
+    static final String KEY = "chat:message:dead-letter";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ChatMessageDeadLetterQueue(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 메시지 보관
+     * @return Redis 오류로 보관하지 못하면 false
+     */
+    public boolean push(List<PendingChatMessage> messages) {
+        try {
+            List<String> values = new ArrayList<>(messages.size());
+            for (PendingChatMessage message : messages) {
+                values.add(objectMapper.writeValueAsString(DeadLetter.from(message)));
+            }
+            stringRedisTemplate.opsForList().rightPushAll(KEY, values);
+            return true;
+        } catch (Exception e) {
+            log.warn("채팅 메시지를 dead-letter에 보관할 수 없습니다: size={}, reason={}", messages.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 보관된 메시지를 앞에서부터 최대 count개 꺼냄 (꺼낸 메시지는 목록에서 삭제)
+     */
+    public List<PendingChatMessage> pop(int count) {
+        List<String> values = stringRedisTemplate.opsForList().leftPop(KEY, count);
+        if (values == null || values.isEmpty()) {
+            return List.of();
+        }
+        List<PendingChatMessage> messages = new ArrayList<>(values.size());
+        for (String value : values) {
+            try {
+                messages.add(objectMapper.readValue(value, DeadLetter.class).toPending());
+            } catch (Exception e) {
+                log.error("dead-letter의 채팅 메시지를 읽을 수 없어 버립니다: value={}, reason={}", value, e.getMessage());
+            }
+        }
+        return messages;
+    }
+
+    // 저장에 필요한 값만 보관 (저장 완료 Future는 원래 인스턴스에서 이미 실패로 완료됨)
+    private record DeadLetter(Long chatMessageId, Long roomId, Long senderId, String senderName, String content,
+            LocalDateTime sentAt) {
+
+        static DeadLetter from(PendingChatMessage message) {
+            return new DeadLetter(message.getChatMessageId(), message.getRoomId(), message.getSenderId(),
+                    message.getSenderName(), message.getContent(), message.getSentAt());
+        }
+
+        PendingChatMessage toPending() {
+            return PendingChatMessage.builder()
+                    .chatMessageId(chatMessageId)
+                    .roomId(roomId)
+                    .senderId(senderId)
+                    .senderName(senderName)
+                    .content(content)
+                    .sentAt(sentAt)
+                    .build();
+        }
+    }
+}
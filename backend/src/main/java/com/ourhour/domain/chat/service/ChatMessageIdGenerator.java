@@ -0,0 +1,47 @@
+package com.ourhour.domain.chat.service;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID 생성기
+ * 쓰기 지연 저장은 저장 전에 ID를 부여해야 하므로 DB AUTO_INCREMENT 대신 시각 기반 ID를 사용하며,
+ * 동기 저장도 같은 생성기를 사용해 두 방식이 섞여도 ID가 겹치지 않습니다 (chat_message_id에는 AUTO_INCREMENT가 없음).
+ * [2025-01-01 기준 경과 ms 41비트][노드 4비트][순번 8비트] = 53비트로, JavaScript 숫자로도 정확히 표현됩니다.
+ * 기존 AUTO_INCREMENT ID보다 항상 크고 시간 순으로 증가하므로 ID 순서가 곧 메시지 순서입니다.
+ * 같은 ms에 256개를 넘기거나 시계가 뒤로 가면 ms 값을 하나씩 올려 같은 노드 안에서는 항상 증가합니다.
+ * 노드 번호는 ChatMessageNodeIdLease에서 받으며, 임대가 바뀌어도 시각 부분이 앞서므로 이전 ID보다 큽니다.
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+    static final int NODE_BITS = 4;
+    static final int SEQUENCE_BITS = 8;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final ChatMessageNodeIdLease nodeIdLease;
+    private long lastMillis = -1L;
+    private long sequence;
+
+    public ChatMessageIdGenerator(ChatMessageNodeIdLease nodeIdLease) {
+        this.nodeIdLease = nodeIdLease;
+    }
+
+    public long nextId() {
+        return nextId(System.currentTimeMillis());
+    }
+
+    synchronized long nextId(long nowMillis) {
+        if (nowMillis > lastMillis) {
+            lastMillis = nowMillis;
+            sequence = 0;
+        } else {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                lastMillis++;
+            }
+        }
+        return ((lastMillis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeIdLease.getNodeId() << SEQUENCE_BITS) | sequence;
+    }
+}
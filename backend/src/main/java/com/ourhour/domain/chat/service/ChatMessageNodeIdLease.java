@@ -0,0 +1,177 @@
+package com.ourhour.domain.chat.service;
+
+import com.ourhour.domain.chat.exception.ChatException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 채팅 메시지 ID 생성기의 노드 번호
+ * 노드 번호는 인스턴스마다 달라야 하므로 모든 인스턴스가 같은 설정 파일을 쓰더라도 겹치지 않도록
+ * node-id를 지정하지 않으면 Redis에서 비어 있는 번호를 TTL 임대로 받아 주기적으로 연장합니다.
+ * 임대를 잃으면(Redis 장애 등으로 만료되어 다른 인스턴스가 가져감) 비어 있는 다른 번호로 바꿉니다.
+ * 연장하지 못한 채 Redis TTL이 지나면 다른 인스턴스가 같은 번호를 받을 수 있으므로, 임대/연장 요청 직전 시각 + TTL을
+ * 로컬 만료 시각으로 기록하고 그 이후에는 다시 임대하기 전까지 번호를 내주지 않습니다(펜싱).
+ * 동기 저장과 쓰기 지연 저장 모두 같은 생성기로 ID를 받으므로 저장 방식과 관계없이 번호가 필요합니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageNodeIdLease {
+
+    static final long MAX_NODE_ID = (1L << ChatMessageIdGenerator.NODE_BITS) - 1;
+    private static final String KEY_PREFIX = "chat:message:node-id:";
+
+    // 자신이 가진 임대일 때만 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('EXPIRE', KEYS[1], ARGV[2]) end "
+                    + "return 0",
+            Long.class);
+
+    // 자신이 가진 임대일 때만 반납
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration leaseTtl;
+    private final String owner;
+    private final LongSupplier nanoClock;
+    private final boolean leased;
+    private volatile Lease lease;
+
+    @Autowired
+    public ChatMessageNodeIdLease(StringRedisTemplate stringRedisTemplate,
+            @Value("${chat.message.node-id:}") String configuredNodeId,
+            @Value("${chat.message.node-lease-ttl-seconds:30}") long leaseTtlSeconds) {
+        this(stringRedisTemplate, configuredNodeId, leaseTtlSeconds, System::nanoTime);
+    }
+
+    ChatMessageNodeIdLease(StringRedisTemplate stringRedisTemplate, String configuredNodeId, long leaseTtlSeconds,
+            LongSupplier nanoClock) {
+        if (leaseTtlSeconds <= 0) {
+            throw new IllegalArgumentException("chat.message.node-lease-ttl-seconds는 1 이상이어야 합니다");
+        }
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.leaseTtl = Duration.ofSeconds(leaseTtlSeconds);
+        this.owner = UUID.randomUUID().toString();
+        this.nanoClock = nanoClock;
+
+        if (configuredNodeId != null && !configuredNodeId.isBlank()) {
+            this.lease = new Lease(parse(configuredNodeId), Long.MAX_VALUE);
+            this.leased = false;
+            log.info("Chat message node ID {} configured", lease.nodeId());
+        } else {
+            this.lease = acquire();
+            this.leased = true;
+            log.info("Chat message node ID {} leased from Redis", lease.nodeId());
+        }
+    }
+
+    /**
+     * 현재 노드 번호
+     * 로컬 만료 시각이 지났으면 바로 다시 임대를 시도하고, 실패하면 겹치는 ID를 만들지 않도록 메시지 저장을 거부합니다.
+     */
+    public long getNodeId() {
+        Lease current = lease;
+        if (current.isValid(nanoClock.getAsLong())) {
+            return current.nodeId();
+        }
+        renew();
+        current = lease;
+        if (current.isValid(nanoClock.getAsLong())) {
+            return current.nodeId();
+        }
+        log.error("Chat message node ID lease {} expired and could not be renewed", current.nodeId());
+        throw ChatException.chatMessageSaveFailedException();
+    }
+
+    /**
+     * 임대 연장 (TTL의 1/3 간격)
+     */
+    @Scheduled(fixedDelayString = "#{${chat.message.node-lease-ttl-seconds:30} * 1000 / 3}")
+    public synchronized void renew() {
+        if (!leased) {
+            return;
+        }
+        Lease current = lease;
+        try {
+            long requestedAt = nanoClock.getAsLong();
+            Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT, List.of(key(current.nodeId())),
+                    owner, String.valueOf(leaseTtl.getSeconds()));
+            if (renewed != null && renewed == 1L) {
+                lease = new Lease(current.nodeId(), requestedAt + leaseTtl.toNanos());
+                return;
+            }
+            // 이미 다른 인스턴스의 번호일 수 있으므로 새 번호를 받기 전까지 사용하지 않음
+            lease = new Lease(current.nodeId(), requestedAt);
+            lease = acquire();
+            log.error("Chat message node ID lease {} was lost, switched to {}", current.nodeId(), lease.nodeId());
+        } catch (Exception e) {
+            // 로컬 만료 시각 전까지는 기존 번호를 쓰고, 다음 주기(또는 만료 후 ID 요청 시)에 다시 시도함
+            log.warn("채팅 메시지 노드 번호 임대를 연장할 수 없습니다: nodeId={}, reason={}",
+                    current.nodeId(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!leased) {
+            return;
+        }
+        long nodeId = lease.nodeId();
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key(nodeId)), owner);
+        } catch (Exception e) {
+            log.debug("채팅 메시지 노드 번호 반납 실패 (TTL 만료로 해제됨): nodeId={}, reason={}", nodeId, e.getMessage());
+        }
+    }
+
+    // 비어 있는 가장 작은 번호 임대 (모두 사용 중이거나 Redis 오류이면 기동 실패)
+    private Lease acquire() {
+        for (long candidate = 0; candidate <= MAX_NODE_ID; candidate++) {
+            long requestedAt = nanoClock.getAsLong();
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key(candidate), owner, leaseTtl))) {
+                return new Lease(candidate, requestedAt + leaseTtl.toNanos());
+            }
+        }
+        throw new IllegalStateException("채팅 메시지 노드 번호 0 ~ " + MAX_NODE_ID
+                + "가 모두 사용 중입니다. 인스턴스 수를 줄이거나 chat.message.node-id를 지정하세요");
+    }
+
+    private static long parse(String configuredNodeId) {
+        long parsed;
+        try {
+            parsed = Long.parseLong(configuredNodeId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("chat.message.node-id는 숫자여야 합니다: " + configuredNodeId);
+        }
+        if (parsed < 0 || parsed > MAX_NODE_ID) {
+            throw new IllegalArgumentException("chat.message.node-id는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다");
+        }
+        return parsed;
+    }
+
+    private static String key(long nodeId) {
+        return KEY_PREFIX + nodeId;
+    }
+
+    // 노드 번호와 로컬 만료 시각 (단조 시계 기준, Redis가 TTL을 세기 시작한 시각보다 앞서므로 항상 먼저 만료됨)
+    private record Lease(long nodeId, long expiresAtNanos) {
+
+        boolean isValid(long nowNanos) {
+            return expiresAtNanos == Long.MAX_VALUE || nowNanos - expiresAtNanos < 0;
+        }
+    }
+}
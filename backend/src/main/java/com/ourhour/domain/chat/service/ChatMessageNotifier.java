@@ -0,0 +1,50 @@
+package com.ourhour.domain.chat.service;
+
+import com.ourhour.domain.chat.dto.ChatMessageResDTO;
+import com.ourhour.domain.chat.model.ChatRoomMember;
+import com.ourhour.domain.chat.model.ChatRoomMembership;
+import com.ourhour.domain.notification.dto.ChatNotificationContext;
+import com.ourhour.domain.notification.service.NotificationEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 알림 발송
+ * 참여자는 채팅방 참여 정보 캐시에서 읽으므로 메시지마다 DB를 조회하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageNotifier {
+
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
+    private final NotificationEventService notificationEventService;
+    private final UserLocationService userLocationService;
+
+    // 발신자를 제외한 참여자 중 채팅방을 보고 있지 않은 사용자에게 메시지마다 알림 발송
+    public void notifyParticipants(Long roomId, List<ChatMessageResDTO> messages) {
+        ChatRoomMembership membership = chatRoomMembershipCache.get(roomId);
+
+        for (ChatMessageResDTO message : messages) {
+            for (ChatRoomMember member : membership.getMembers()) {
+                if (member.getMemberId().equals(message.getSenderId()) || member.getUserId() == null) {
+                    continue;
+                }
+                Long targetUserId = member.getUserId();
+
+                // 사용자가 현재 채팅방에 있지 않을 때만 알림 발송
+                if (!userLocationService.isUserInChatRoom(targetUserId, roomId)) {
+                    notificationEventService.sendChatMessageNotification(
+                            ChatNotificationContext.builder()
+                                    .userId(targetUserId)
+                                    .senderName(message.getSenderName())
+                                    .roomName(membership.getRoomName())
+                                    .roomId(roomId)
+                                    .orgId(membership.getOrgId())
+                                    .build());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package com.ourhour.domain.chat.service;
+
+import com.ourhour.domain.chat.dto.ChatMessageResDTO;
+import com.ourhour.domain.chat.dto.PendingChatMessage;
+import com.ourhour.domain.chat.enums.ChatWriteAck;
+import com.ourhour.domain.chat.exception.ChatException;
+import com.ourhour.domain.chat.repository.ChatMessageBulkRepository;
+import com.ourhour.domain.chat.repository.ChatRoomLastMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 채팅 메시지 쓰기 지연 저장기 (chat.message.write-behind.enabled=true)
+ * ID를 미리 부여한 메시지를 큐에 모아, 개수(batch-size) 또는 시간(linger-ms) 조건을 만족하면 다중 행 INSERT로 저장합니다.
+ * 채팅방 ID로 작업 스레드를 고정하므로 같은 채팅방의 메시지는 ID 순서대로 저장됩니다.
+ * 일시적인 DB 오류는 같은 묶음을 max-retries 만큼 다시 시도하며, 그동안 해당 작업 스레드의 다음 묶음은 기다리므로 순서가 유지됩니다.
+ * 재시도 후에도 실패하면 이미 전송된 메시지가 기록에서 사라지지 않도록 dead-letter(Redis)에 보관하고 주기적으로 다시 저장합니다.
+ * 제약 조건 위반(삭제된 채팅방 등)은 다시 시도해도 같은 결과이므로 건별로 저장해 위반한 메시지만 버리고 집계합니다.
+ * 참여자 알림은 저장이 커밋된 뒤 채팅방별로 한 번 참여자를 조회하여 보냅니다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehind {
+
+    private final ChatMessageBulkRepository bulkRepository;
+    private final ChatRoomLastMessageRepository chatRoomLastMessageRepository;
+    private final ChatMessageNotifier chatMessageNotifier;
+    private final ChatMessageDeadLetterQueue deadLetterQueue;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final ChatWriteAck ack;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final long enqueueTimeoutMillis;
+    private final Duration ackTimeout;
+
+    private final List<BlockingQueue<PendingChatMessage>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final Counter persistedCounter;
+    private final Counter droppedCounter;
+    private final Counter deadLetteredCounter;
+    private final Counter retryCounter;
+    private final Counter overflowCounter;
+    private final Timer persistLagTimer;
+
+    public ChatMessageWriteBehind(ChatMessageBulkRepository bulkRepository,
+            ChatRoomLastMessageRepository chatRoomLastMessageRepository,
+            ChatMessageNotifier chatMessageNotifier,
+            ChatMessageDeadLetterQueue deadLetterQueue,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${chat.message.write-behind.enabled:false}") boolean enabled,
+            @Value("${chat.message.write-behind.ack:broadcast}") ChatWriteAck ack,
+            @Value("${chat.message.write-behind.workers:2}") int workerCount,
+            @Value("${chat.message.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.message.write-behind.batch-size:200}") int batchSize,
+            @Value("${chat.message.write-behind.linger-ms:10}") long lingerMillis,
+            @Value("${chat.message.write-behind.max-retries:3}") int maxRetries,
+            @Value("${chat.message.write-behind.retry-backoff-ms:200}") long retryBackoffMillis,
+            @Value("${chat.message.write-behind.enqueue-timeout-ms:50}") long enqueueTimeoutMillis,
+            @Value("${chat.message.write-behind.ack-timeout-ms:3000}") long ackTimeoutMillis) {
+        if (workerCount <= 0 || queueCapacity < workerCount || batchSize <= 0 || maxRetries < 0) {
+            throw new IllegalArgumentException(
+                    "채팅 쓰기 지연 저장의 workers, batch-size는 1 이상, queue-capacity는 workers 이상이어야 합니다");
+        }
+        this.bulkRepository = bulkRepository;
+        this.chatRoomLastMessageRepository = chatRoomLastMessageRepository;
+        this.chatMessageNotifier = chatMessageNotifier;
+        this.deadLetterQueue = deadLetterQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.ack = ack;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.enqueueTimeoutMillis = enqueueTimeoutMillis;
+        this.ackTimeout = Duration.ofMillis(ackTimeoutMillis);
+
+        for (int i = 0; i < workerCount; i++) {
+            BlockingQueue<PendingChatMessage> queue = new ArrayBlockingQueue<>(queueCapacity / workerCount);
+            Thread worker = new Thread(() -> runFlushLoop(queue), "chat-message-writer-" + i);
+            worker.setDaemon(true);
+            queues.add(queue);
+            workers.add(worker);
+        }
+
+        this.persistedCounter = Counter.builder("chat.message.write.persisted")
+                .description("쓰기 지연 저장으로 저장한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.message.write.dropped")
+                .description("제약 조건 위반이나 dead-letter 보관 실패로 저장하지 못해 버린 채팅 메시지 수")
+                .register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("chat.message.write.dead-lettered")
+                .description("일시적인 DB 오류로 재시도 후에도 저장하지 못해 dead-letter에 보관한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.retryCounter = Counter.builder("chat.message.write.retries")
+                .description("일시적인 DB 오류로 일괄 저장을 다시 시도한 횟수")
+                .register(meterRegistry);
+        this.overflowCounter = Counter.builder("chat.message.write.overflow")
+                .description("큐가 가득 차 호출 스레드에서 직접 저장한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.persistLagTimer = Timer.builder("chat.message.write.lag")
+                .description("메시지 전송 시각부터 저장 커밋까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("chat.message.write.pending", this, ChatMessageWriteBehind::getPendingCount)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            workers.forEach(Thread::start);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ChatWriteAck getAck() {
+        return ack;
+    }
+
+    /**
+     * 메시지 저장 요청 (비동기)
+     * 큐가 enqueue-timeout-ms 동안 가득 차 있으면 호출 스레드에서 직접 저장합니다 (유실 대신 발신자 지연으로 역압).
+     * 이 경우 같은 채팅방의 앞선 메시지보다 먼저 저장될 수 있지만, 조회는 ID 순이므로 표시 순서는 바뀌지 않습니다.
+     * @return 메시지가 커밋되면 완료되고, 버려지면 예외로 완료되는 Future
+     */
+    public CompletableFuture<Void> enqueue(PendingChatMessage message) {
+        boolean queued = false;
+        if (running) {
+            try {
+                queued = queueFor(message.getRoomId()).offer(message, enqueueTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queued) {
+            if (running) {
+                overflowCounter.increment();
+            }
+            flush(List.of(message));
+        }
+        return message.getPersisted();
+    }
+
+    /**
+     * ack=persisted일 때 메시지가 커밋될 때까지 대기
+     * 시간 안에 커밋되지 않으면 전송하지 않도록 예외를 던집니다 (이후 저장될 수는 있음).
+     */
+    public void awaitPersisted(PendingChatMessage message) {
+        try {
+            message.getPersisted().get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ChatException.chatMessageSaveFailedException();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("채팅 메시지 저장 확인 실패: messageId={}, roomId={}, reason={}",
+                    message.getChatMessageId(), message.getRoomId(), e.getMessage());
+            throw ChatException.chatMessageSaveFailedException();
+        }
+    }
+
+    // 같은 채팅방의 메시지는 항상 같은 작업 스레드가 처리
+    private BlockingQueue<PendingChatMessage> queueFor(Long roomId) {
+        return queues.get(Math.floorMod(Objects.hashCode(roomId), queues.size()));
+    }
+
+    // 첫 메시지가 들어오면 linger 시간 동안 batch-size까지 모은 뒤 저장
+    private void runFlushLoop(BlockingQueue<PendingChatMessage> queue) {
+        while (running) {
+            List<PendingChatMessage> batch = new ArrayList<>(batchSize);
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 신호: 이미 모은 메시지만 저장하고, 큐에 남은 메시지는 stop()에서 저장
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                return;
+            }
+
+            try {
+                flush(batch);
+            } catch (Exception e) {
+                log.error("채팅 메시지 일괄 저장 중 예상치 못한 오류가 발생했습니다: size={}, reason={}",
+                        batch.size(), e.getMessage(), e);
+                batch.forEach(message -> message.getPersisted().completeExceptionally(e));
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 일괄 저장하고 커밋 후 참여자 알림 발송
+     * 일시적인 오류는 재시도 후 dead-letter에 보관하고, 제약 조건 위반은 건별로 저장하여 나머지 메시지는 살립니다.
+     * @return dead-letter에 보관한 메시지 수
+     */
+    int flush(List<PendingChatMessage> batch) {
+        List<PendingChatMessage> persisted;
+        List<PendingChatMessage> failed = new ArrayList<>();
+        SaveResult result = insertWithRetry(batch);
+        if (result == SaveResult.PERSISTED) {
+            persisted = batch;
+        } else if (result == SaveResult.TRANSIENT_FAILURE) {
+            persisted = List.of();
+            failed.addAll(batch);
+        } else if (batch.size() == 1) {
+            persisted = List.of();
+            drop(batch.get(0));
+        } else {
+            log.warn("채팅 메시지 일괄 저장 중 제약 조건 위반, 건별 저장으로 재시도합니다: size={}", batch.size());
+            persisted = new ArrayList<>(batch.size());
+            for (PendingChatMessage message : batch) {
+                SaveResult single = insert(List.of(message));
+                if (single == SaveResult.PERSISTED) {
+                    persisted.add(message);
+                } else if (single == SaveResult.CONSTRAINT_VIOLATION) {
+                    drop(message);
+                } else {
+                    failed.add(message);
+                }
+            }
+        }
+        if (!failed.isEmpty()) {
+            deadLetter(failed);
+        }
+
+        // 커밋 이후: 저장 확인을 기다리는 발신자를 깨우고 채팅방별로 알림 발송
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<PendingChatMessage>> byRoom = new LinkedHashMap<>();
+        for (PendingChatMessage message : persisted) {
+            message.getPersisted().complete(null);
+            persistLagTimer.record(Duration.between(message.getSentAt(), now));
+            byRoom.computeIfAbsent(message.getRoomId(), id -> new ArrayList<>()).add(message);
+        }
+        persistedCounter.increment(persisted.size());
+        byRoom.values().forEach(this::notifyParticipants);
+
+        log.debug("채팅 메시지 일괄 저장 완료: size={}, rooms={}, deadLettered={}",
+                persisted.size(), byRoom.size(), failed.size());
+        return failed.size();
+    }
+
+    /**
+     * dead-letter에 보관된 메시지를 다시 저장
+     * 이미 저장된 메시지(커밋 응답만 받지 못한 경우)는 중복 키로 버려지므로 여러 번 저장되지 않습니다.
+     * DB가 아직 복구되지 않아 다시 보관되면 다음 주기까지 기다립니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.message.write-behind.dead-letter.replay-interval-ms:10000}")
+    public void replayDeadLetters() {
+        if (!enabled || !running) {
+            return;
+        }
+        try {
+            List<PendingChatMessage> batch;
+            do {
+                batch = deadLetterQueue.pop(batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                log.info("dead-letter에 보관된 채팅 메시지 {}건을 다시 저장합니다", batch.size());
+            } while (flush(batch) == 0 && batch.size() == batchSize);
+        } catch (Exception e) {
+            log.warn("dead-letter 채팅 메시지를 다시 저장할 수 없습니다: reason={}", e.getMessage());
+        }
+    }
+
+    private SaveResult insertWithRetry(List<PendingChatMessage> batch) {
+        for (int attempt = 0; ; attempt++) {
+            SaveResult result = insert(batch);
+            if (result != SaveResult.TRANSIENT_FAILURE) {
+                return result;
+            }
+            if (attempt >= maxRetries || !backoff(attempt)) {
+                log.warn("채팅 메시지 저장 재시도 초과: size={}, attempts={}", batch.size(), attempt + 1);
+                return result;
+            }
+            retryCounter.increment();
+        }
+    }
+
+    private SaveResult insert(List<PendingChatMessage> messages) {
+        try {
+            save(messages);
+            return SaveResult.PERSISTED;
+        } catch (DataIntegrityViolationException e) {
+            // 다시 시도해도 같은 결과 (FK/중복 키)
+            log.warn("채팅 메시지 저장 중 제약 조건 위반: size={}, reason={}", messages.size(), e.getMessage());
+            return SaveResult.CONSTRAINT_VIOLATION;
+        } catch (DataAccessException e) {
+            log.warn("채팅 메시지 저장 중 일시적인 DB 오류: size={}, reason={}", messages.size(), e.getMessage());
+            return SaveResult.TRANSIENT_FAILURE;
+        }
+    }
+
+    // 메시지와 채팅방 마지막 메시지를 한 트랜잭션으로 저장
+    private void save(List<PendingChatMessage> messages) {
+        transactionTemplate.executeWithoutResult(status -> {
+            bulkRepository.insertAll(messages);
+            chatRoomLastMessageRepository.updateAll(messages);
+        });
+    }
+
+    // 재시도 간격은 시도마다 두 배로 증가 (중단 요청 시 false)
+    private boolean backoff(int attempt) {
+        if (retryBackoffMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(retryBackoffMillis << Math.min(attempt, 10));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 발신자에게는 저장 실패로 알리고(ack=persisted는 전송하지 않음) 메시지는 dead-letter에서 다시 저장
+    private void deadLetter(List<PendingChatMessage> messages) {
+        if (deadLetterQueue.push(messages)) {
+            deadLetteredCounter.increment(messages.size());
+            log.warn("채팅 메시지 {}건을 dead-letter에 보관했습니다: firstMessageId={}",
+                    messages.size(), messages.get(0).getChatMessageId());
+            messages.forEach(message -> message.getPersisted()
+                    .completeExceptionally(ChatException.chatMessageSaveFailedException()));
+        } else {
+            log.error("DB와 dead-letter 모두 사용할 수 없어 채팅 메시지 {}건을 버립니다", messages.size());
+            messages.forEach(this::drop);
+        }
+    }
+
+    private void drop(PendingChatMessage message) {
+        log.warn("채팅 메시지를 저장하지 못해 버립니다: messageId={}, roomId={}, senderId={}",
+                message.getChatMessageId(), message.getRoomId(), message.getSenderId());
+        droppedCounter.increment();
+        message.getPersisted().completeExceptionally(ChatException.chatMessageSaveFailedException());
+    }
+
+    private enum SaveResult {
+        PERSISTED,
+        CONSTRAINT_VIOLATION, // 다시 시도해도 같은 결과이므로 버림
+        TRANSIENT_FAILURE // dead-letter에 보관 후 다시 저장
+    }
+
+    private void notifyParticipants(List<PendingChatMessage> messages) {
+        PendingChatMessage first = messages.get(0);
+        List<ChatMessageResDTO> resDTOs = messages.stream().map(PendingChatMessage::toResDTO).toList();
+        try {
+            chatMessageNotifier.notifyParticipants(first.getRoomId(), resDTOs);
+        } catch (Exception e) {
+            log.warn("채팅 메시지 알림 발송 실패: roomId={}, size={}, reason={}",
+                    first.getRoomId(), messages.size(), e.getMessage());
+        }
+    }
+
+    // 큐에 대기 중인 메시지 수
+    public int getPendingCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    // 종료 시 남은 메시지를 모두 저장
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Thread worker : workers) {
+            if (worker.isAlive()) {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            }
+        }
+
+        List<PendingChatMessage> remaining = new ArrayList<>();
+        queues.forEach(queue -> queue.drainTo(remaining));
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+        }
+        if (!remaining.isEmpty()) {
+            log.info("종료 전 대기 중이던 채팅 메시지 {}건을 저장했습니다", remaining.size());
+        }
+    }
+}
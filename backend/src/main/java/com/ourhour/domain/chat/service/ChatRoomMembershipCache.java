@@ -0,0 +1,79 @@
+package com.ourhour.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ourhour.domain.chat.exception.ChatException;
+import com.ourhour.domain.chat.model.ChatRoomMembership;
+import com.ourhour.domain.chat.repository.ChatParticipantRepository;
+import com.ourhour.domain.chat.repository.ChatRoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 채팅방 참여 정보 캐시 (채팅방 ID → 회사, 이름, 참여자 멤버/사용자 ID)
+ * 메시지마다 채팅방/발신자/참여자를 조회하지 않도록 처음 사용할 때 한 번 읽어 메모리에 둡니다.
+ * 채팅방 생성/수정/삭제와 참여자 추가/삭제 시 커밋 후 비우고, 다른 인스턴스는 ttl-seconds 안에 반영됩니다.
+ * 적중/실패 수는 cache.gets{cache=chat.room.membership} 지표로 확인합니다.
+ */
+@Component
+public class ChatRoomMembershipCache {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final LoadingCache<Long, ChatRoomMembership> memberships;
+
+    public ChatRoomMembershipCache(ChatRoomRepository chatRoomRepository,
+            ChatParticipantRepository chatParticipantRepository,
+            MeterRegistry meterRegistry,
+            @Value("${chat.membership.cache.max-rooms:10000}") long maxRooms,
+            @Value("${chat.membership.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, memberships, "chat.room.membership");
+    }
+
+    /**
+     * 채팅방 참여 정보 조회 (없으면 DB에서 읽어 캐시)
+     * @throws ChatException 채팅방이 없을 때
+     */
+    public ChatRoomMembership get(Long roomId) {
+        ChatRoomMembership membership = memberships.get(roomId);
+        if (membership == null) {
+            throw ChatException.chatRoomNotFoundException();
+        }
+        return membership;
+    }
+
+    // 커밋 전에 비우면 그 사이 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 비움
+    public void evictAfterCommit(Long roomId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    memberships.invalidate(roomId);
+                }
+            });
+            return;
+        }
+        memberships.invalidate(roomId);
+    }
+
+    // 채팅방이 없으면 null (캐시하지 않음)
+    private ChatRoomMembership load(Long roomId) {
+        return chatRoomRepository.findById(roomId)
+                .map(room -> new ChatRoomMembership(roomId, room.getOrgEntity().getOrgId(), room.getName(),
+                        chatParticipantRepository.findMembersByRoomId(roomId)))
+                .orElse(null);
+    }
+}
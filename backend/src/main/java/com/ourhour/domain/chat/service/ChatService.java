@@ -1,13 +1,17 @@
 package com.ourhour.domain.chat.service;
 
 import com.ourhour.domain.chat.dto.*;
-import com.ourhour.domain.chat.entity.ChatMessageEntity;
 import com.ourhour.domain.chat.entity.ChatParticipantEntity;
 import com.ourhour.domain.chat.entity.ChatRoomEntity;
+import com.ourhour.domain.chat.enums.ChatWriteAck;
 import com.ourhour.domain.chat.exception.ChatException;
 import com.ourhour.domain.chat.mapper.ChatMapper;
+import com.ourhour.domain.chat.model.ChatRoomMember;
+import com.ourhour.domain.chat.model.ChatRoomMembership;
+import com.ourhour.domain.chat.repository.ChatMessageBulkRepository;
 import com.ourhour.domain.chat.repository.ChatMessageRepository;
 import com.ourhour.domain.chat.repository.ChatParticipantRepository;
+import com.ourhour.domain.chat.repository.ChatRoomLastMessageRepository;
 import com.ourhour.domain.chat.repository.ChatRoomRepository;
 import com.ourhour.domain.member.entity.MemberEntity;
 import com.ourhour.domain.member.exception.MemberException;
@@ -18,20 +22,24 @@ import com.ourhour.domain.org.repository.OrgParticipantMemberRepository;
 import com.ourhour.domain.org.repository.OrgRepository;
 import com.ourhour.global.common.dto.PageResponse;
 import com.ourhour.global.jwt.dto.Claims;
-import com.ourhour.domain.notification.dto.ChatNotificationContext;
-import com.ourhour.domain.notification.service.NotificationEventService;
 import com.ourhour.global.jwt.dto.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.Principal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -42,11 +50,15 @@ public class ChatService {
     private final ChatParticipantRepository chatParticipantRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageBulkRepository chatMessageBulkRepository;
+    private final ChatRoomLastMessageRepository chatRoomLastMessageRepository;
     private final MemberRepository memberRepository;
     private final OrgRepository orgRepository;
     private final OrgParticipantMemberRepository orgParticipantMemberRepository;
-    private final NotificationEventService notificationEventService;
-    private final UserLocationService userLocationService;
+    private final ChatMessageNotifier chatMessageNotifier;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageWriteBehind chatMessageWriteBehind;
+    private final ChatRoomMembershipCache chatRoomMembershipCache;
 
     public Page<ChatRoomListResDTO> findAllChatRoomsOrderByLastMessage(Long orgId, Long memberId, Pageable pageable) {
 
@@ -80,6 +92,7 @@ public class ChatService {
             ChatParticipantEntity participant = ChatParticipantEntity.createParticipant(newChatRoom, member);
             chatParticipantRepository.save(participant);
         });
+        chatRoomMembershipCache.evictAfterCommit(newChatRoom.getRoomId());
     }
 
     @Transactional
@@ -88,12 +101,14 @@ public class ChatService {
         ChatRoomEntity targetChatRoom = chatRoomRepository.findByOrgEntity_OrgIdAndRoomId(orgId, roomId).orElseThrow(
                 ChatException::chatRoomNotFoundException);
         targetChatRoom.update(request.getName(), request.getColor());
+        chatRoomMembershipCache.evictAfterCommit(roomId);
     }
 
     @Transactional
     public void deleteChatRoom(Long orgId, Long roomId) {
 
         chatRoomRepository.deleteByOrgEntity_OrgIdAndRoomId(orgId, roomId);
+        chatRoomMembershipCache.evictAfterCommit(roomId);
     }
 
     public Page<ChatMessageResDTO> findAllMessages(Long orgId, Long roomId, Pageable pageable) {
@@ -101,6 +116,70 @@ public class ChatService {
         return chatMessageRepository.findAllByOrgAndChatRoom(orgId, roomId, pageable);
     }
 
+    /**
+     * 메시지 ID 커서 기반 메시지 조회 (오프셋/COUNT 없이 (room_id, chat_message_id) 인덱스 범위만 읽음)
+     * 커서가 없으면 최신 size개, before/after는 해당 ID 이전/이후 size개,
+     * around는 해당 메시지를 포함해 앞뒤로 size개를 반환합니다. 결과는 항상 메시지 ID 오름차순입니다.
+     */
+    @Transactional(readOnly = true)
+    public ChatMessageCursorResDTO findMessagesByCursor(Long orgId, Long roomId, Long before, Long after,
+            Long around, int size) {
+        if (Stream.of(before, after, around).filter(Objects::nonNull).count() > 1) {
+            throw ChatException.invalidMessageCursorException();
+        }
+        // 회사 확인은 참여 정보 캐시로 처리하여 메시지 조회에서 채팅방을 조인하지 않음
+        if (!chatRoomMembershipCache.get(roomId).getOrgId().equals(orgId)) {
+            throw ChatException.chatRoomNotFoundException();
+        }
+
+        if (around != null) {
+            // 기준 메시지를 포함한 이전 구간과 이후 구간을 나누어 조회
+            int olderSize = (size + 1) / 2;
+            int newerSize = size - olderSize;
+            List<ChatMessageResDTO> older = chatMessageRepository.findByRoomIdBefore(roomId, around + 1,
+                    PageRequest.of(0, olderSize + 1));
+            List<ChatMessageResDTO> newer = chatMessageRepository.findByRoomIdAfter(roomId, around,
+                    PageRequest.of(0, newerSize + 1));
+
+            List<ChatMessageResDTO> messages = new ArrayList<>(ascending(older, olderSize));
+            messages.addAll(newer.subList(0, Math.min(newer.size(), newerSize)));
+            return toCursorResponse(messages, older.size() > olderSize, newer.size() > newerSize);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        if (after != null) {
+            List<ChatMessageResDTO> rows = chatMessageRepository.findByRoomIdAfter(roomId, after, limit);
+            boolean hasAfter = rows.size() > size;
+            // after 커서는 이전 응답의 메시지이므로 그 이전 메시지가 존재함
+            return toCursorResponse(hasAfter ? rows.subList(0, size) : rows, true, hasAfter);
+        }
+
+        List<ChatMessageResDTO> rows = chatMessageRepository.findByRoomIdBefore(roomId,
+                before != null ? before : Long.MAX_VALUE, limit);
+        return toCursorResponse(ascending(rows, size), rows.size() > size, before != null);
+    }
+
+    // 최신순으로 조회한 결과를 limit개까지 오래된 순으로 정렬
+    private List<ChatMessageResDTO> ascending(List<ChatMessageResDTO> newestFirst, int limit) {
+        List<ChatMessageResDTO> messages = new ArrayList<>(newestFirst.subList(0, Math.min(newestFirst.size(), limit)));
+        Collections.reverse(messages);
+        return messages;
+    }
+
+    private ChatMessageCursorResDTO toCursorResponse(List<ChatMessageResDTO> messages, boolean hasBefore,
+            boolean hasAfter) {
+        return ChatMessageCursorResDTO.builder()
+                .messages(messages)
+                .beforeCursor(hasBefore && !messages.isEmpty() ? messages.get(0).getChatMessageId() : null)
+                .afterCursor(hasAfter && !messages.isEmpty()
+                        ? messages.get(messages.size() - 1).getChatMessageId()
+                        : null)
+                .hasBefore(hasBefore)
+                .hasAfter(hasAfter)
+                .build();
+    }
+
     public List<ChatParticipantResDTO> findAllParticipants(Long orgId, Long roomId) {
 
         List<ChatParticipantEntity> participants = chatParticipantRepository.findParticipantsByOrgAndRoom(orgId,
@@ -130,6 +209,7 @@ public class ChatService {
             ChatParticipantEntity newParticipant = ChatParticipantEntity.createParticipant(chatRoom, member);
             chatParticipantRepository.save(newParticipant);
         });
+        chatRoomMembershipCache.evictAfterCommit(roomId);
     }
 
     @Transactional
@@ -140,6 +220,7 @@ public class ChatService {
                 .orElseThrow(ChatException::chatNotParticipantException);
 
         chatParticipantRepository.delete(participantToDelete);
+        chatRoomMembershipCache.evictAfterCommit(roomId);
 
         if (chatParticipantRepository.countByChatRoomEntity_RoomId(roomId) == 0) {
             chatMessageRepository.deleteAllByChatRoomEntity_RoomId(roomId);
@@ -147,53 +228,84 @@ public class ChatService {
         }
     }
 
+    /**
+     * 메시지 저장 후 전송할 응답 생성
+     * 채팅방/발신자는 참여 정보 캐시에서 확인하고 ID 값만 사용하므로 INSERT 외의 조회가 없습니다.
+     * ID는 쓰기 지연 저장과 같은 생성기에서 받아 미리 부여합니다.
+     */
     @Transactional
     public ChatMessageResDTO saveAndConvertMessage(ChatMessageReqDTO chatMessageReqDTO, Principal principal) {
-        ChatRoomEntity chatRoom = chatRoomRepository.findById(chatMessageReqDTO.getChatRoomId())
-                .orElseThrow(ChatException::chatRoomNotFoundException);
+        ChatRoomMembership membership = chatRoomMembershipCache.get(chatMessageReqDTO.getChatRoomId());
 
-        Authentication authentication = (Authentication) principal;
-        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+        Long orgId = membership.getOrgId();
+        Long memberId = findSenderMemberId(principal, orgId);
 
-        Long orgId = chatRoom.getOrgEntity().getOrgId();
-        Long memberId = userDetails.getOrgAuthorityList().stream()
-                .filter(auth -> auth.getOrgId().equals(orgId))
-                .map(auth -> auth.getMemberId())
-                .findFirst()
-                .orElseThrow(() -> MemberException.memberAccessDeniedException());
+        PendingChatMessage message = PendingChatMessage.builder()
+                .chatMessageId(chatMessageIdGenerator.nextId())
+                .roomId(membership.getRoomId())
+                .senderId(memberId)
+                .senderName(findSenderName(membership, memberId))
+                .content(chatMessageReqDTO.getMessage())
+                .sentAt(LocalDateTime.now())
+                .build();
+
+        chatMessageBulkRepository.insertAll(List.of(message));
+        chatRoomLastMessageRepository.update(message.getRoomId(), message.getChatMessageId(),
+                message.getContent(), message.getSentAt());
+        ChatMessageResDTO chatMessageResDTO = message.toResDTO();
+
+        chatMessageNotifier.notifyParticipants(membership.getRoomId(), List.of(chatMessageResDTO));
 
-        MemberEntity sender = memberRepository.findById(memberId)
-                .orElseThrow(() -> MemberException.memberNotFoundException());
+        return chatMessageResDTO;
+    }
 
-        ChatMessageEntity newMessage = ChatMessageEntity.builder()
-                .chatRoomEntity(chatRoom)
-                .memberEntity(sender)
+    /**
+     * 쓰기 지연 저장 모드의 메시지 접수
+     * ID를 부여하고 저장 큐에 넣은 뒤 바로 반환하므로, 저장과 참여자 알림은 전송 이후에 일괄 처리됩니다.
+     * ack=persisted이면 메시지가 포함된 일괄 저장이 커밋될 때까지 기다리므로 DB 연결을 잡지 않도록 트랜잭션 없이 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatMessageResDTO acceptMessage(ChatMessageReqDTO chatMessageReqDTO, Principal principal) {
+        ChatRoomMembership membership = chatRoomMembershipCache.get(chatMessageReqDTO.getChatRoomId());
+
+        Long orgId = membership.getOrgId();
+        Long memberId = findSenderMemberId(principal, orgId);
+
+        PendingChatMessage message = PendingChatMessage.builder()
+                .chatMessageId(chatMessageIdGenerator.nextId())
+                .roomId(membership.getRoomId())
+                .senderId(memberId)
+                .senderName(findSenderName(membership, memberId))
                 .content(chatMessageReqDTO.getMessage())
                 .sentAt(LocalDateTime.now())
                 .build();
 
-        ChatMessageEntity savedEntity = chatMessageRepository.save(newMessage);
-
-        List<ChatParticipantEntity> participants = chatParticipantRepository.findParticipantsByOrgAndRoom(orgId,
-                chatRoom.getRoomId());
-        for (ChatParticipantEntity participant : participants) {
-            if (!participant.getMemberEntity().getMemberId().equals(memberId)) {
-                Long targetUserId = participant.getMemberEntity().getUserEntity().getUserId();
-
-                // 사용자가 현재 채팅방에 있지 않을 때만 알림 발송
-                if (!userLocationService.isUserInChatRoom(targetUserId, chatRoom.getRoomId())) {
-                    notificationEventService.sendChatMessageNotification(
-                            ChatNotificationContext.builder()
-                                    .userId(targetUserId)
-                                    .senderName(sender.getName())
-                                    .roomName(chatRoom.getName())
-                                    .roomId(chatRoom.getRoomId())
-                                    .orgId(orgId)
-                                    .build());
-                }
-            }
+        chatMessageWriteBehind.enqueue(message);
+        if (chatMessageWriteBehind.getAck() == ChatWriteAck.PERSISTED) {
+            chatMessageWriteBehind.awaitPersisted(message);
         }
 
-        return chatMapper.toChatMessageResDTO(savedEntity);
+        return message.toResDTO();
+    }
+
+    // 참여자가 아닌 회사 멤버가 보낸 경우에만 멤버를 조회
+    private String findSenderName(ChatRoomMembership membership, Long memberId) {
+        return membership.findMember(memberId)
+                .map(ChatRoomMember::getName)
+                .orElseGet(() -> memberRepository.findById(memberId)
+                        .orElseThrow(() -> MemberException.memberNotFoundException())
+                        .getName());
+    }
+
+    // 채팅방이 속한 회사에서의 발신자 멤버 ID (토큰의 회사 권한 목록에서 확인)
+    private Long findSenderMemberId(Principal principal, Long orgId) {
+        Authentication authentication = (Authentication) principal;
+        CustomUserDetails userDetails = (CustomUserDetails) authentication.getPrincipal();
+
+        return userDetails.getOrgAuthorityList().stream()
+                .filter(auth -> auth.getOrgId().equals(orgId))
+                .map(auth -> auth.getMemberId())
+                .findFirst()
+                .orElseThrow(() -> MemberException.memberAccessDeniedException());
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
 package com.ourhour.domain.notification.controller;
 
+import com.ourhour.domain.notification.dto.NotificationCursorResDTO;
 import com.ourhour.domain.notification.dto.NotificationPageResDTO;
 import com.ourhour.domain.notification.service.NotificationService;
 import com.ourhour.domain.notification.service.SSENotificationService;
@@ -33,13 +34,17 @@ public class NotificationController {
     private static final int MIN_PAGE = 1;
     private static final int MIN_PAGE_SIZE = 1;
     private static final int MAX_PAGE_SIZE = 100;
+    private static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
 
     private final NotificationService notificationService;
     private final SSENotificationService sseNotificationService;
 
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    @Operation(summary = "SSE 알림 스트림", description = "실시간 알림을 위한 SSE 연결을 생성합니다.")
-    public SseEmitter streamNotifications(HttpServletRequest request, HttpServletResponse response) {
+    @Operation(summary = "SSE 알림 스트림",
+            description = "실시간 알림을 위한 SSE 연결을 생성합니다. Last-Event-ID 헤더(또는 lastEventId 파라미터)가 있으면 놓친 이벤트를 먼저 전송합니다.")
+    public SseEmitter streamNotifications(HttpServletRequest request, HttpServletResponse response,
+            @RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
         // JWT 필터에서 이미 인증을 처리했으므로 SecurityContext에서 사용자 ID 확인
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -63,11 +68,26 @@ public class NotificationController {
         // 청크 인코딩 안정화를 위한 추가 헤더
         response.setContentLength(-1); // 명시적으로 청크 인코딩 사용
 
-        SseEmitter emitter = sseNotificationService.subscribe(userId);
+        // EventSource 자동 재연결은 헤더로, 새로 생성한 EventSource는 쿼리 파라미터로 전달
+        Long lastEventId = parseLastEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+
+        SseEmitter emitter = sseNotificationService.subscribe(userId, lastEventId);
 
         return emitter;
     }
 
+    // 잘못된 Last-Event-ID는 무시하고 일반 연결로 처리
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     @GetMapping
     @Operation(summary = "알림 목록 조회", description = "사용자의 알림 목록을 페이지네이션으로 조회합니다.")
     public ResponseEntity<ApiResponse<NotificationPageResDTO>> getNotifications(
@@ -80,6 +100,19 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(response, "알림 목록 조회에 성공했습니다."));
     }
 
+    @GetMapping("/inbox")
+    @Operation(summary = "알림 목록 커서 조회",
+            description = "(생성 시각, 알림 ID) 기준 커서로 알림 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    public ResponseEntity<ApiResponse<NotificationCursorResDTO>> getNotificationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) @Min(MIN_PAGE_SIZE) @Max(MAX_PAGE_SIZE) int size) {
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        NotificationCursorResDTO response = notificationService.getNotificationsByCursor(userId, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "알림 목록 조회에 성공했습니다."));
+    }
+
     @GetMapping("/unread-count")
     @Operation(summary = "읽지 않은 알림 개수", description = "사용자의 읽지 않은 알림 개수를 조회합니다.")
     public ResponseEntity<ApiResponse<Long>> getUnreadCount() {
@@ -0,0 +1,86 @@
+package com.ourhour.domain.notification.controller;
+
+import com.ourhour.domain.notification.dto.NotificationPreferenceResDTO;
+import com.ourhour.domain.notification.dto.NotificationPreferenceUpdateReqDTO;
+import com.ourhour.domain.notification.enums.NotificationMuteTarget;
+import com.ourhour.domain.notification.service.NotificationPreferenceService;
+import com.ourhour.global.common.dto.ApiResponse;
+import com.ourhour.global.util.SecurityUtil;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@Validated
+@RestController
+@RequestMapping("/api/notifications/preferences")
+@RequiredArgsConstructor
+@Tag(name = "알림 설정", description = "알림 타입/프로젝트/채팅방 음소거 API")
+public class NotificationPreferenceController {
+
+    private final NotificationPreferenceService notificationPreferenceService;
+
+    @GetMapping
+    @Operation(summary = "알림 설정 조회", description = "음소거한 알림 타입, 프로젝트, 채팅방 목록을 조회합니다.")
+    public ResponseEntity<ApiResponse<NotificationPreferenceResDTO>> getPreference() {
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        NotificationPreferenceResDTO response = notificationPreferenceService.getPreference(userId);
+
+        return ResponseEntity.ok(ApiResponse.success(response, "알림 설정 조회에 성공했습니다."));
+    }
+
+    @PutMapping("/types")
+    @Operation(summary = "알림 타입 음소거 설정", description = "받지 않을 알림 타입 목록을 교체합니다.")
+    public ResponseEntity<ApiResponse<Void>> updateMutedTypes(
+            @Valid @RequestBody NotificationPreferenceUpdateReqDTO request) {
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        notificationPreferenceService.updateMutedTypes(userId, request.getMutedTypes());
+
+        return ResponseEntity.ok(ApiResponse.success(null, "알림 타입 설정 변경에 성공했습니다."));
+    }
+
+    @PutMapping("/projects/{projectId}/mute")
+    @Operation(summary = "프로젝트 알림 음소거", description = "프로젝트에서 발생하는 알림을 받지 않습니다.")
+    public ResponseEntity<ApiResponse<Void>> muteProject(@PathVariable Long projectId) {
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        notificationPreferenceService.mute(userId, NotificationMuteTarget.PROJECT, projectId);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "프로젝트 알림 음소거에 성공했습니다."));
+    }
+
+    @DeleteMapping("/projects/{projectId}/mute")
+    @Operation(summary = "프로젝트 알림 음소거 해제", description = "프로젝트 알림을 다시 받습니다.")
+    public ResponseEntity<ApiResponse<Void>> unmuteProject(@PathVariable Long projectId) {
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        notificationPreferenceService.unmute(userId, NotificationMuteTarget.PROJECT, projectId);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "프로젝트 알림 음소거 해제에 성공했습니다."));
+    }
+
+    @PutMapping("/chat-rooms/{roomId}/mute")
+    @Operation(summary = "채팅방 알림 음소거", description = "채팅방 메시지 알림을 받지 않습니다.")
+    public ResponseEntity<ApiResponse<Void>> muteChatRoom(@PathVariable Long roomId) {
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        notificationPreferenceService.mute(userId, NotificationMuteTarget.CHAT_ROOM, roomId);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "채팅방 알림 음소거에 성공했습니다."));
+    }
+
+    @DeleteMapping("/chat-rooms/{roomId}/mute")
+    @Operation(summary = "채팅방 알림 음소거 해제", description = "채팅방 메시지 알림을 다시 받습니다.")
+    public ResponseEntity<ApiResponse<Void>> unmuteChatRoom(@PathVariable Long roomId) {
+        Long userId = SecurityUtil.getCurrentUserId();
+
+        notificationPreferenceService.unmute(userId, NotificationMuteTarget.CHAT_ROOM, roomId);
+
+        return ResponseEntity.ok(ApiResponse.success(null, "채팅방 알림 음소거 해제에 성공했습니다."));
+    }
+}
@@ -15,4 +15,8 @@ public class NotificationCreateReqDTO {
     private String relatedType;
     private String actionUrl;
     private String relatedProjectName;
+
+    // 생성 요청 시각 (epoch ms, 생성부터 SSE 전송까지의 지연 측정용)
+    @Builder.Default
+    private long requestedAt = System.currentTimeMillis();
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.ourhour.domain.notification.dto;
+
+import com.ourhour.domain.notification.exception.NotificationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 알림 목록 keyset 커서 (created_at, notification_id)
+ * 클라이언트에는 내용을 해석할 필요가 없는 Base64 URL-safe 문자열로 전달합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class NotificationCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long notificationId;
+
+    public static NotificationCursor from(NotificationDTO notification) {
+        return new NotificationCursor(notification.getCreatedAt(), notification.getNotificationId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + notificationId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw NotificationException.invalidCursor();
+            }
+            return new NotificationCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw NotificationException.invalidCursor();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ourhour.domain.notification.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class NotificationCursorResDTO {
+    private List<NotificationDTO> notifications;
+    private String nextCursor; // 다음 요청에 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+    private long unreadCount;
+}
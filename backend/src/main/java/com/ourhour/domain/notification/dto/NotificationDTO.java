@@ -4,11 +4,13 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ourhour.domain.notification.enums.NotificationType;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
+@Jacksonized
 public class NotificationDTO {
     private Long notificationId;
     private NotificationType type;
@@ -23,4 +25,6 @@ public class NotificationDTO {
     private String relatedType;
     private String actionUrl;
     private String relatedProjectName;
+    private int coalescedCount;
+    private LocalDateTime lastMergedAt; // 병합 알림이 마지막으로 합쳐진 시각 (목록 정렬은 createdAt 기준)
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.ourhour.domain.notification.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 병합 윈도우 안에서 기존 알림 행에 합칠 내용
+ */
+@Getter
+@Builder
+public class NotificationMergeDTO {
+    private Long notificationId;
+    private Long userId;
+    private int increment;
+    private String title;
+    private String message;
+    private LocalDateTime mergedAt;
+}
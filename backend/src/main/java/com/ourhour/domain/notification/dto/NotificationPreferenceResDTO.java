@@ -0,0 +1,16 @@
+package com.ourhour.domain.notification.dto;
+
+import com.ourhour.domain.notification.enums.NotificationType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Builder
+public class NotificationPreferenceResDTO {
+    private Set<NotificationType> mutedTypes;
+    private List<Long> mutedProjectIds;
+    private List<Long> mutedChatRoomIds;
+}
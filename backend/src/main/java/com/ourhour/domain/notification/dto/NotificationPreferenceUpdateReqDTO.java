@@ -0,0 +1,16 @@
+package com.ourhour.domain.notification.dto;
+
+import com.ourhour.domain.notification.enums.NotificationType;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@Getter
+@NoArgsConstructor
+public class NotificationPreferenceUpdateReqDTO {
+
+    @NotNull
+    private Set<NotificationType> mutedTypes; // 받지 않을 알림 타입 (빈 집합이면 모두 받음)
+}
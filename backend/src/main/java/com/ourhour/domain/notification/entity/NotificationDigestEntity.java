@@ -0,0 +1,28 @@
+package com.ourhour.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 알림 요약 메일 발송 위치
+ * lastNotificationId 이하의 알림은 이미 요약 메일로 안내했으므로 다음 요약에서 제외합니다.
+ */
+@Entity
+@Table(name = "tbl_notification_digest")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationDigestEntity {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long lastNotificationId;
+
+    @Column(nullable = false)
+    private LocalDateTime sentAt;
+}
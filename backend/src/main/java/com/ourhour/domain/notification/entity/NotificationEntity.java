@@ -51,6 +51,13 @@ public class NotificationEntity {
 
     private String relatedProjectName;
 
+    // 병합 윈도우 안에서 합쳐진 알림 수 (병합되지 않은 알림은 1)
+    @Column(nullable = false)
+    private int coalescedCount = 1;
+
+    // 병합 알림이 마지막으로 합쳐진 시각 (병합된 적 없으면 null)
+    private LocalDateTime lastMergedAt;
+
     @Builder
     public NotificationEntity(UserEntity userEntity, NotificationType type, String title, String message,
             Long relatedId, String relatedType, String actionUrl, String relatedProjectName, 
@@ -65,6 +72,7 @@ public class NotificationEntity {
         this.relatedProjectName = relatedProjectName;
         this.isRead = isRead;
         this.createdAt = createdAt != null ? createdAt : LocalDateTime.now();
+        this.coalescedCount = 1;
     }
 
     public void markAsRead() {
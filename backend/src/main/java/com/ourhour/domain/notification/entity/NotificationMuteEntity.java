@@ -0,0 +1,27 @@
+package com.ourhour.domain.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트/채팅방 단위 알림 음소거
+ */
+@Entity
+@Table(name = "tbl_notification_mute")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationMuteEntity {
+
+    @EmbeddedId
+    private NotificationMuteId notificationMuteId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,30 @@
+package com.ourhour.domain.notification.entity;
+
+import com.ourhour.domain.notification.enums.NotificationMuteTarget;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@EqualsAndHashCode
+public class NotificationMuteId implements Serializable {
+
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private NotificationMuteTarget targetType;
+
+    private Long targetId;
+}
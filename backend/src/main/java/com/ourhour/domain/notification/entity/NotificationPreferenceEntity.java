@@ -0,0 +1,29 @@
+package com.ourhour.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 알림 타입 음소거 설정
+ * mutedTypes는 NotificationType 순서(ordinal)를 비트 위치로 하는 비트마스크입니다.
+ * 설정을 바꾼 적이 없는 사용자는 행이 없으며 모든 타입을 받습니다.
+ */
+@Entity
+@Table(name = "tbl_notification_preference")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationPreferenceEntity {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long mutedTypes;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.ourhour.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 알림 읽음 워터마크
+ * lastReadNotificationId 이하의 알림은 모두 읽은 것으로 간주하고, 그보다 큰 알림만 개별 is_read 플래그로 판단합니다.
+ * "모두 읽음"은 행 전체 UPDATE 대신 이 값 하나만 올립니다.
+ */
+@Entity
+@Table(name = "tbl_notification_read_watermark")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationReadWatermarkEntity {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long lastReadNotificationId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
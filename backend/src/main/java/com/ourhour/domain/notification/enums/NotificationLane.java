@@ -0,0 +1,18 @@
+package com.ourhour.domain.notification.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 저장/전송 우선순위 레인
+ * 레인마다 큐와 작업 스레드가 분리되어 있어, 낮은 레인의 폭주가 높은 레인의 지연으로 번지지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationLane {
+    HIGH("직접 관련된 알림 (할당, 답글, 초대)"),
+    NORMAL("일반 알림 (댓글)"),
+    LOW("대량 발생 알림 (채팅 메시지)");
+
+    private final String description;
+}
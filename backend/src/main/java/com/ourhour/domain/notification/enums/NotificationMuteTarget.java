@@ -0,0 +1,16 @@
+package com.ourhour.domain.notification.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 알림 음소거 대상 종류
+ */
+@Getter
+@RequiredArgsConstructor
+public enum NotificationMuteTarget {
+    PROJECT("프로젝트"),
+    CHAT_ROOM("채팅방");
+
+    private final String description;
+}
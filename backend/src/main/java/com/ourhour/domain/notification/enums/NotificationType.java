@@ -1,23 +1,47 @@
 package com.ourhour.domain.notification.enums;
 
+// muteBit는 tbl_notification_preference.muted_types에 저장되는 비트 위치이므로 한 번 정한 값은 바꾸거나 재사용하지 않음
+// (선언 순서와 무관하므로 타입을 재정렬하거나 삭제해도 저장된 음소거 설정의 의미가 바뀌지 않음)
 public enum NotificationType {
-    PROJECT_INVITATION("프로젝트 초대"),
-    CHAT_INVITATION("채팅 초대"),
-    CHAT_MESSAGE("채팅 메시지"),
-    ISSUE_ASSIGNED("이슈 할당"),
-    ISSUE_COMMENT("이슈 댓글"),
-    ISSUE_COMMENT_REPLY("이슈 댓글 답글"),
-    POST_COMMENT("게시글 댓글"),
-    POST_COMMENT_REPLY("게시글 댓글 답글"),
-    COMMENT_REPLY("댓글 답글");
+    PROJECT_INVITATION("프로젝트 초대", NotificationLane.HIGH, 0),
+    CHAT_INVITATION("채팅 초대", NotificationLane.HIGH, 1),
+    CHAT_MESSAGE("채팅 메시지", NotificationLane.LOW, 2),
+    ISSUE_ASSIGNED("이슈 할당", NotificationLane.HIGH, 3),
+    ISSUE_COMMENT("이슈 댓글", NotificationLane.NORMAL, 4),
+    ISSUE_COMMENT_REPLY("이슈 댓글 답글", NotificationLane.HIGH, 5),
+    POST_COMMENT("게시글 댓글", NotificationLane.NORMAL, 6),
+    POST_COMMENT_REPLY("게시글 댓글 답글", NotificationLane.HIGH, 7),
+    COMMENT_REPLY("댓글 답글", NotificationLane.HIGH, 8);
+
+    static {
+        long used = 0L;
+        for (NotificationType type : values()) {
+            if (type.muteBit < 0 || type.muteBit >= Long.SIZE || (used & (1L << type.muteBit)) != 0) {
+                throw new IllegalStateException("NotificationType muteBit는 0~63 사이의 고유한 값이어야 합니다: " + type);
+            }
+            used |= 1L << type.muteBit;
+        }
+    }
 
     private final String description;
+    private final NotificationLane lane;
+    private final int muteBit;
 
-    NotificationType(String description) {
+    NotificationType(String description, NotificationLane lane, int muteBit) {
         this.description = description;
+        this.lane = lane;
+        this.muteBit = muteBit;
     }
 
     public String getDescription() {
         return description;
     }
-}
\ No newline at end of file
+
+    public NotificationLane getLane() {
+        return lane;
+    }
+
+    public int getMuteBit() {
+        return muteBit;
+    }
+}
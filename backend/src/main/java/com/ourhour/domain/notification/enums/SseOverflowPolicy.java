@@ -0,0 +1,16 @@
+package com.ourhour.domain.notification.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SSE 연결별 송신 큐가 가득 찼을 때의 처리 정책
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SseOverflowPolicy {
+    DROP_OLDEST("가장 오래된 이벤트 폐기"),
+    DISCONNECT("느린 클라이언트 연결 종료");
+
+    private final String description;
+}
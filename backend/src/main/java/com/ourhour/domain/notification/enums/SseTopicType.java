@@ -0,0 +1,8 @@
+package com.ourhour.domain.notification.enums;
+
+// SSE 토픽 종류 (연결 시 사용자의 소속 기준으로 구독)
+public enum SseTopicType {
+    ORG,
+    PROJECT,
+    CHAT_ROOM
+}
@@ -20,4 +20,8 @@ public class NotificationException extends BusinessException {
     public static NotificationException sseConnectionError() {
         return new NotificationException(ErrorCode.SSE_CONNECTION_ERROR);
     }
+
+    public static NotificationException invalidCursor() {
+        return new NotificationException(ErrorCode.INVALID_NOTIFICATION_CURSOR);
+    }
 }
\ No newline at end of file
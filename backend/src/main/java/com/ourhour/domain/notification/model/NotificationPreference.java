@@ -0,0 +1,91 @@
+package com.ourhour.domain.notification.model;
+
+import com.ourhour.domain.notification.enums.NotificationType;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 메모리에 캐시하는 사용자별 알림 설정
+ * 타입 음소거는 NotificationType별 고정 비트 위치(muteBit)를 사용하는 비트마스크,
+ * 프로젝트/채팅방 음소거는 ID 범위가 넓어 정렬된 long 배열로 두고 이진 탐색으로 확인합니다.
+ * 설정이 없는 사용자는 공유 인스턴스 NONE을 사용합니다.
+ */
+public final class NotificationPreference {
+
+    public static final NotificationPreference NONE = new NotificationPreference(0L, new long[0], new long[0]);
+
+    private final long mutedTypes;
+    private final long[] mutedProjectIds;
+    private final long[] mutedChatRoomIds;
+
+    private NotificationPreference(long mutedTypes, long[] mutedProjectIds, long[] mutedChatRoomIds) {
+        this.mutedTypes = mutedTypes;
+        this.mutedProjectIds = mutedProjectIds;
+        this.mutedChatRoomIds = mutedChatRoomIds;
+    }
+
+    /**
+     * 배열은 복사 후 정렬하여 보관
+     */
+    public static NotificationPreference of(long mutedTypes, long[] mutedProjectIds, long[] mutedChatRoomIds) {
+        if (mutedTypes == 0L && mutedProjectIds.length == 0 && mutedChatRoomIds.length == 0) {
+            return NONE;
+        }
+        long[] projects = mutedProjectIds.clone();
+        long[] chatRooms = mutedChatRoomIds.clone();
+        Arrays.sort(projects);
+        Arrays.sort(chatRooms);
+        return new NotificationPreference(mutedTypes, projects, chatRooms);
+    }
+
+    public static long toMask(Set<NotificationType> types) {
+        long mask = 0L;
+        for (NotificationType type : types) {
+            mask |= bit(type);
+        }
+        return mask;
+    }
+
+    public static Set<NotificationType> fromMask(long mask) {
+        Set<NotificationType> types = EnumSet.noneOf(NotificationType.class);
+        for (NotificationType type : NotificationType.values()) {
+            if ((mask & bit(type)) != 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private static long bit(NotificationType type) {
+        return 1L << type.getMuteBit();
+    }
+
+    /**
+     * 알림을 받지 않아야 하는지 여부
+     * @param projectId 알림이 속한 프로젝트 (없으면 null)
+     * @param chatRoomId 알림이 속한 채팅방 (없으면 null)
+     */
+    public boolean isMuted(NotificationType type, Long projectId, Long chatRoomId) {
+        if ((mutedTypes & bit(type)) != 0) {
+            return true;
+        }
+        if (projectId != null && Arrays.binarySearch(mutedProjectIds, projectId) >= 0) {
+            return true;
+        }
+        return chatRoomId != null && Arrays.binarySearch(mutedChatRoomIds, chatRoomId) >= 0;
+    }
+
+    public Set<NotificationType> getMutedTypes() {
+        return fromMask(mutedTypes);
+    }
+
+    public long[] getMutedProjectIds() {
+        return mutedProjectIds.clone();
+    }
+
+    public long[] getMutedChatRoomIds() {
+        return mutedChatRoomIds.clone();
+    }
+}
@@ -1,36 +1,50 @@
 package com.ourhour.domain.notification.model;
 
+import com.ourhour.domain.notification.sse.SseOutbox;
 import lombok.Getter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.ScheduledFuture;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * SSE 연결 정보를 관리하는 wrapper 클래스
  * Emitter와 관련된 메타데이터를 함께 관리하여 메모리 누수를 방지합니다.
+ * 한 사용자가 여러 탭/기기에서 연결할 수 있으므로 연결마다 고유한 connectionId를 가집니다.
  */
 @Getter
 public class SseConnection {
 
+    public static final int DEFAULT_OUTBOX_CAPACITY = 256;
+
+    private final String connectionId;
     private final Long userId;
     private final SseEmitter emitter;
     private final LocalDateTime createdAt;
-    private LocalDateTime lastActivityAt;
-    private ScheduledFuture<?> heartbeatTask;
+    private volatile LocalDateTime lastActivityAt;
+    private volatile int heartbeatSlot = -1;
+    private final SseOutbox outbox;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
 
     public SseConnection(Long userId, SseEmitter emitter) {
+        this(userId, emitter, DEFAULT_OUTBOX_CAPACITY);
+    }
+
+    public SseConnection(Long userId, SseEmitter emitter, int outboxCapacity) {
+        this.connectionId = UUID.randomUUID().toString();
         this.userId = userId;
         this.emitter = emitter;
+        this.outbox = new SseOutbox(outboxCapacity);
         this.createdAt = LocalDateTime.now();
         this.lastActivityAt = LocalDateTime.now();
     }
 
     /**
-     * Heartbeat 작업 설정
+     * Heartbeat 휠 버킷 위치 설정
      */
-    public void setHeartbeatTask(ScheduledFuture<?> heartbeatTask) {
-        this.heartbeatTask = heartbeatTask;
+    public void setHeartbeatSlot(int heartbeatSlot) {
+        this.heartbeatSlot = heartbeatSlot;
     }
 
     /**
@@ -48,12 +62,11 @@ public class SseConnection {
     }
 
     /**
-     * 연결 정리
+     * 연결 정리 (여러 번 호출되어도 한 번만 수행)
      */
     public void cleanup() {
-        // Heartbeat 작업 취소
-        if (heartbeatTask != null && !heartbeatTask.isDone()) {
-            heartbeatTask.cancel(true);
+        if (!closed.compareAndSet(false, true)) {
+            return;
         }
 
         // Emitter 완료 처리
@@ -68,7 +81,6 @@ public class SseConnection {
      * 연결이 유효한지 확인
      */
     public boolean isValid() {
-        return emitter != null &&
-               (heartbeatTask == null || !heartbeatTask.isCancelled());
+        return emitter != null && !closed.get();
     }
 }
@@ -0,0 +1,11 @@
+package com.ourhour.domain.notification.repository;
+
+import com.ourhour.domain.notification.enums.NotificationMuteTarget;
+
+/**
+ * 사용자별 음소거 대상 조회를 위한 Projection Interface
+ */
+public interface MutedNotificationTarget {
+    NotificationMuteTarget getTargetType();
+    Long getTargetId();
+}
@@ -0,0 +1,118 @@
+package com.ourhour.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 보관(archive) 저장소
+ * 기본 키 범위 단위로 보존 기간이 지난 알림을 tbl_notification_archive로 옮기고 원본을 삭제합니다.
+ * 범위가 작게 유지되므로 한 번의 트랜잭션이 잡는 행 잠금도 그 범위로 제한됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationArchiveRepository {
+
+    // 보관 대상: 전체 보존 기간이 지났거나, 읽은 알림 보존 기간이 지났고 읽음(개별 읽음 또는 워터마크 이하) 상태인 알림
+    private static final String EXPIRED_CONDITION = "n.notification_id >= ? AND n.notification_id < ? "
+            + "AND (n.created_at < ? OR (n.created_at < ? "
+            + "AND (n.is_read = true OR n.notification_id <= COALESCE(w.last_read_notification_id, 0))))";
+
+    private static final String ARCHIVE_SQL = "INSERT INTO tbl_notification_archive "
+            + "(notification_id, user_id, type, title, message, is_read, created_at, related_id, related_type, "
+            + "coalesced_count, archived_at) "
+            + "SELECT n.notification_id, n.user_id, n.type, n.title, n.message, "
+            + "(n.is_read = true OR n.notification_id <= COALESCE(w.last_read_notification_id, 0)), "
+            + "n.created_at, n.related_id, n.related_type, n.coalesced_count, ? "
+            + "FROM tbl_notification n "
+            + "LEFT JOIN tbl_notification_read_watermark w ON w.user_id = n.user_id "
+            + "WHERE " + EXPIRED_CONDITION;
+
+    // 방금 보관한 행만 삭제 (보관 테이블의 기본 키 범위로 대상 지정)
+    private static final String DELETE_ARCHIVED_SQL = "DELETE FROM tbl_notification "
+            + "WHERE notification_id >= ? AND notification_id < ? "
+            + "AND notification_id IN (SELECT a.notification_id FROM tbl_notification_archive a "
+            + "WHERE a.notification_id >= ? AND a.notification_id < ?)";
+
+    // 삭제 직전에 조회하여 이번에 삭제될 원본(보관 테이블과 원본에 모두 있는 행)만 대상으로 함
+    private static final String ARCHIVED_ORIGINAL_IDS_SQL = "SELECT a.user_id, a.notification_id "
+            + "FROM tbl_notification_archive a "
+            + "JOIN tbl_notification n ON n.notification_id = a.notification_id "
+            + "WHERE a.notification_id >= ? AND a.notification_id < ?";
+
+    private static final String UNREAD_ARCHIVED_USERS_SQL = "SELECT DISTINCT user_id FROM tbl_notification_archive "
+            + "WHERE notification_id >= ? AND notification_id < ? AND is_read = false";
+
+    private static final String NEXT_ID_SQL = "SELECT MIN(notification_id) FROM tbl_notification "
+            + "WHERE notification_id >= ?";
+
+    private static final String MAX_ID_SQL = "SELECT MAX(notification_id) FROM tbl_notification";
+
+    // 생성 시각은 ID 순서를 따르므로(병합해도 바뀌지 않음) 보존 기간 안의 알림이 있으면 이후 ID도 모두 보존 대상
+    private static final String HAS_RETAINED_ORIGINAL_SQL = "SELECT COUNT(*) FROM tbl_notification "
+            + "WHERE notification_id >= ? AND notification_id < ? AND created_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * [fromId, toId) 범위에서 보존 기간이 지난 알림을 보관 테이블로 복사
+     * @return 보관한 행 수
+     */
+    public int archiveRange(long fromId, long toId, LocalDateTime expiredBefore, LocalDateTime readExpiredBefore,
+            LocalDateTime archivedAt) {
+        return jdbcTemplate.update(ARCHIVE_SQL, archivedAt, fromId, toId, expiredBefore, readExpiredBefore);
+    }
+
+    /**
+     * [fromId, toId) 범위에서 보관 테이블로 옮겨진 원본 알림 삭제
+     * @return 삭제한 행 수
+     */
+    public int deleteArchivedRange(long fromId, long toId) {
+        return jdbcTemplate.update(DELETE_ARCHIVED_SQL, fromId, toId, fromId, toId);
+    }
+
+    /**
+     * [fromId, toId) 범위에서 보관 테이블로 옮겨졌지만 아직 삭제되지 않은 원본 알림 ID (핫 티어 정리 대상)
+     * @return 사용자별 알림 ID
+     */
+    public Map<Long, List<Long>> findArchivedOriginalIds(long fromId, long toId) {
+        Map<Long, List<Long>> idsByUser = new LinkedHashMap<>();
+        jdbcTemplate.query(ARCHIVED_ORIGINAL_IDS_SQL, rs -> {
+            idsByUser.computeIfAbsent(rs.getLong("user_id"), userId -> new ArrayList<>())
+                    .add(rs.getLong("notification_id"));
+        }, fromId, toId);
+        return idsByUser;
+    }
+
+    /**
+     * [fromId, toId) 범위에서 읽지 않은 상태로 보관된 알림의 사용자 (읽지 않은 알림 카운터 보정 대상)
+     */
+    public List<Long> findUnreadArchivedUserIds(long fromId, long toId) {
+        return jdbcTemplate.queryForList(UNREAD_ARCHIVED_USERS_SQL, Long.class, fromId, toId);
+    }
+
+    /**
+     * fromId 이상인 첫 알림 ID (없으면 null)
+     */
+    public Long findNextId(long fromId) {
+        return jdbcTemplate.queryForObject(NEXT_ID_SQL, Long.class, fromId);
+    }
+
+    public Long findMaxId() {
+        return jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+    }
+
+    /**
+     * [fromId, toId) 범위에 보존 기간 안의 원본 알림이 있는지 여부
+     */
+    public boolean hasRetainedOriginal(long fromId, long toId, LocalDateTime retainedSince) {
+        Long count = jdbcTemplate.queryForObject(HAS_RETAINED_ORIGINAL_SQL, Long.class, fromId, toId, retainedSince);
+        return count != null && count > 0;
+    }
+}
@@ -0,0 +1,136 @@
+package com.ourhour.domain.notification.repository;
+
+import com.ourhour.domain.notification.dto.NotificationCreateReqDTO;
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import com.ourhour.domain.notification.dto.NotificationMergeDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 일괄 저장소 (JDBC batch insert)
+ * IDENTITY 키 전략에서는 Hibernate가 insert를 배치로 묶지 못하므로 JDBC로 직접 저장합니다.
+ * 사용자는 user_id 값만 사용하므로 UserEntity를 조회하지 않습니다 (존재 여부는 FK 제약으로 검증).
+ * MySQL에서는 rewriteBatchedStatements=true 설정으로 다중 행 INSERT 한 번으로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO tbl_notification "
+            + "(user_id, type, title, message, is_read, created_at, related_id, related_type, action_url, "
+            + "related_project_name, coalesced_count) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 1)";
+
+    // 병합된 알림은 최신 내용과 병합 시각만 갱신 (created_at은 커서 정렬 키이므로 그대로 유지)
+    // 이미 읽은 행(개별 읽음 또는 워터마크 이하)에는 합치지 않으므로 읽음 상태가 되돌아가지 않음
+    private static final String MERGE_SQL = "UPDATE tbl_notification "
+            + "SET title = ?, message = ?, coalesced_count = coalesced_count + ?, last_merged_at = ? "
+            + "WHERE notification_id = ? AND is_read = false "
+            + "AND notification_id > COALESCE((SELECT w.last_read_notification_id "
+            + "FROM tbl_notification_read_watermark w WHERE w.user_id = ?), 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 알림 일괄 저장
+     * @return 생성된 ID가 채워진 알림 목록 (요청 순서 유지)
+     */
+    public List<NotificationDTO> insertAll(List<NotificationCreateReqDTO> requests, LocalDateTime createdAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NotificationCreateReqDTO request = requests.get(i);
+                        ps.setLong(1, request.getUserId());
+                        ps.setString(2, request.getType().name());
+                        ps.setString(3, request.getTitle());
+                        ps.setString(4, request.getMessage());
+                        ps.setBoolean(5, false);
+                        ps.setObject(6, createdAt);
+                        if (request.getRelatedId() != null) {
+                            ps.setLong(7, request.getRelatedId());
+                        } else {
+                            ps.setNull(7, Types.BIGINT);
+                        }
+                        ps.setString(8, request.getRelatedType());
+                        ps.setString(9, request.getActionUrl());
+                        ps.setString(10, request.getRelatedProjectName());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return requests.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<NotificationDTO> saved = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            NotificationCreateReqDTO request = requests.get(i);
+            saved.add(NotificationDTO.builder()
+                    .notificationId(generatedId(keys, i))
+                    .type(request.getType())
+                    .title(request.getTitle())
+                    .message(request.getMessage())
+                    .isRead(false)
+                    .createdAt(createdAt)
+                    .relatedId(request.getRelatedId())
+                    .relatedType(request.getRelatedType())
+                    .actionUrl(request.getActionUrl())
+                    .relatedProjectName(request.getRelatedProjectName())
+                    .coalescedCount(1)
+                    .build());
+        }
+        return saved;
+    }
+
+    /**
+     * 병합 윈도우에 쌓인 알림을 기존 행에 일괄 반영
+     * @return 알림별 갱신 행 수 (0이면 이미 읽었거나 삭제된 알림)
+     */
+    public int[] mergeAll(List<NotificationMergeDTO> merges) {
+        return jdbcTemplate.batchUpdate(MERGE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NotificationMergeDTO merge = merges.get(i);
+                ps.setString(1, merge.getTitle());
+                ps.setString(2, merge.getMessage());
+                ps.setInt(3, merge.getIncrement());
+                ps.setObject(4, merge.getMergedAt());
+                ps.setLong(5, merge.getNotificationId());
+                ps.setLong(6, merge.getUserId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return merges.size();
+            }
+        });
+    }
+
+    // 드라이버마다 생성 키 컬럼명이 다르므로 (GENERATED_KEY, NOTIFICATION_ID 등) 첫 번째 값을 사용
+    private static Long generatedId(List<Map<String, Object>> keys, int index) {
+        if (index >= keys.size() || keys.get(index).isEmpty()) {
+            return null;
+        }
+        Object key = keys.get(index).values().iterator().next();
+        return key instanceof Number number ? number.longValue() : null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.ourhour.domain.notification.repository;
+
+/**
+ * 알림 요약 메일 수신 대상 조회를 위한 Projection Interface
+ */
+public interface NotificationDigestRecipient {
+    Long getUserId();
+    String getEmail();
+}
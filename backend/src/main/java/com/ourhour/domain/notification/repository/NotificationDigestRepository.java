@@ -0,0 +1,49 @@
+package com.ourhour.domain.notification.repository;
+
+import com.ourhour.domain.notification.entity.NotificationDigestEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificationDigestRepository extends JpaRepository<NotificationDigestEntity, Long> {
+
+    // 사용자 ID 기준 키셋 조회 (OFFSET 없이 afterUserId 다음부터 읽으므로 사용자 수가 늘어도 조회 비용이 일정)
+    @Query("SELECT u.userId AS userId, u.email AS email FROM UserEntity u " +
+            "WHERE u.userId > :afterUserId AND u.isDeleted = false AND u.email IS NOT NULL " +
+            "ORDER BY u.userId")
+    List<NotificationDigestRecipient> findRecipients(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    // 사용자별로 읽음 워터마크와 이전 요약 위치 중 큰 값 이후의 읽지 않은 알림을 사용자/타입별로 한 번에 집계
+    // (병합된 알림은 합쳐진 수만큼 계산)
+    // minNotificationId는 묶음 사용자들의 위치 중 가장 작은 값으로, idx_notification_user_read 범위의 하한으로 사용
+    @Query("SELECT n.userEntity.userId AS userId, n.type AS type, " +
+            "SUM(n.coalescedCount) AS notificationCount, MAX(n.notificationId) AS lastNotificationId " +
+            "FROM NotificationEntity n " +
+            "LEFT JOIN NotificationReadWatermarkEntity w ON w.userId = n.userEntity.userId " +
+            "LEFT JOIN NotificationDigestEntity d ON d.userId = n.userEntity.userId " +
+            "WHERE n.userEntity.userId IN :userIds AND n.isRead = false " +
+            "AND n.notificationId > :minNotificationId AND n.createdAt <= :createdBefore " +
+            "AND n.notificationId > COALESCE(w.lastReadNotificationId, 0) " +
+            "AND n.notificationId > COALESCE(d.lastNotificationId, 0) " +
+            "GROUP BY n.userEntity.userId, n.type")
+    List<UnreadNotificationSummary> summarizeUnread(@Param("userIds") Collection<Long> userIds,
+            @Param("minNotificationId") Long minNotificationId,
+            @Param("createdBefore") LocalDateTime createdBefore);
+
+    // 요약 위치는 앞으로만 이동
+    @Modifying
+    @Query(value = "INSERT INTO tbl_notification_digest (user_id, last_notification_id, sent_at) " +
+            "VALUES (:userId, :notificationId, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "last_notification_id = GREATEST(last_notification_id, VALUES(last_notification_id)), " +
+            "sent_at = NOW(6)", nativeQuery = true)
+    int advance(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+}
@@ -0,0 +1,34 @@
+package com.ourhour.domain.notification.repository;
+
+import com.ourhour.domain.notification.entity.NotificationMuteEntity;
+import com.ourhour.domain.notification.entity.NotificationMuteId;
+import com.ourhour.domain.notification.enums.NotificationMuteTarget;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationMuteRepository extends JpaRepository<NotificationMuteEntity, NotificationMuteId> {
+
+    // 사용자의 음소거 대상 전체 (기본 키 범위 조회)
+    @Query("SELECT m.notificationMuteId.targetType AS targetType, m.notificationMuteId.targetId AS targetId " +
+            "FROM NotificationMuteEntity m WHERE m.notificationMuteId.userId = :userId")
+    List<MutedNotificationTarget> findMutedTargets(@Param("userId") Long userId);
+
+    // 이미 음소거된 대상이면 무시
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tbl_notification_mute (user_id, target_type, target_id, created_at) " +
+            "VALUES (:userId, :targetType, :targetId, NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("targetType") String targetType,
+            @Param("targetId") Long targetId);
+
+    @Modifying
+    @Query("DELETE FROM NotificationMuteEntity m WHERE m.notificationMuteId.userId = :userId " +
+            "AND m.notificationMuteId.targetType = :targetType AND m.notificationMuteId.targetId = :targetId")
+    int deleteMute(@Param("userId") Long userId, @Param("targetType") NotificationMuteTarget targetType,
+            @Param("targetId") Long targetId);
+}
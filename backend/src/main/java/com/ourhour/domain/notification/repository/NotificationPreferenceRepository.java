@@ -0,0 +1,23 @@
+package com.ourhour.domain.notification.repository;
+
+import com.ourhour.domain.notification.entity.NotificationPreferenceEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreferenceEntity, Long> {
+
+    @Query("SELECT p.mutedTypes FROM NotificationPreferenceEntity p WHERE p.userId = :userId")
+    Optional<Long> findMutedTypes(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "INSERT INTO tbl_notification_preference (user_id, muted_types, updated_at) " +
+            "VALUES (:userId, :mutedTypes, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE muted_types = VALUES(muted_types), updated_at = NOW(6)", nativeQuery = true)
+    int upsertMutedTypes(@Param("userId") Long userId, @Param("mutedTypes") long mutedTypes);
+}
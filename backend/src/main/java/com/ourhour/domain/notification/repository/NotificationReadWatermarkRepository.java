@@ -0,0 +1,26 @@
+package com.ourhour.domain.notification.repository;
+
+import com.ourhour.domain.notification.entity.NotificationReadWatermarkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NotificationReadWatermarkRepository extends JpaRepository<NotificationReadWatermarkEntity, Long> {
+
+    @Query("SELECT w.lastReadNotificationId FROM NotificationReadWatermarkEntity w WHERE w.userId = :userId")
+    Optional<Long> findLastReadNotificationId(@Param("userId") Long userId);
+
+    // 워터마크는 앞으로만 이동 (동시 요청이 더 작은 값으로 되돌리지 않도록 GREATEST 사용)
+    @Modifying
+    @Query(value = "INSERT INTO tbl_notification_read_watermark (user_id, last_read_notification_id, updated_at) " +
+            "VALUES (:userId, :notificationId, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "last_read_notification_id = GREATEST(last_read_notification_id, VALUES(last_read_notification_id)), " +
+            "updated_at = NOW(6)", nativeQuery = true)
+    int advance(@Param("userId") Long userId, @Param("notificationId") Long notificationId);
+}
@@ -10,19 +10,70 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
 
     Page<NotificationEntity> findByUserEntityOrderByCreatedAtDesc(UserEntity userEntity, Pageable pageable);
 
+    long countByUserEntity(UserEntity userEntity);
+
+    @Query("SELECT COUNT(n) FROM NotificationEntity n WHERE n.userEntity.userId = :userId")
+    long countByUserId(@Param("userId") Long userId);
+
+    // keyset 페이지네이션: idx_notification_user_created (user_id, created_at) 인덱스 순서대로 읽고 COUNT 쿼리 없음
+    @Query("SELECT n FROM NotificationEntity n WHERE n.userEntity.userId = :userId " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<NotificationEntity> findLatestByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT n FROM NotificationEntity n WHERE n.userEntity.userId = :userId " +
+            "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.notificationId < :notificationId)) " +
+            "ORDER BY n.createdAt DESC, n.notificationId DESC")
+    List<NotificationEntity> findByUserIdBeforeCursor(@Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("notificationId") Long notificationId,
+            Pageable pageable);
+
     @Query("SELECT COUNT(n) FROM NotificationEntity n WHERE n.userEntity = :user AND n.isRead = false")
     long countUnreadByUser(@Param("user") UserEntity user);
 
-    @Modifying
-    @Query("UPDATE NotificationEntity n SET n.isRead = true WHERE n.userEntity = :user AND n.isRead = false")
-    int markAllAsReadByUser(@Param("user") UserEntity user);
+    // 읽지 않은 알림: 읽음 워터마크보다 크고 개별 읽음 처리되지 않은 알림
+    // 워터마크를 먼저 읽어 상수로 넘기므로 idx_notification_user_read (user_id, is_read, notification_id) 범위만 읽음
+    @Query("SELECT COUNT(n) FROM NotificationEntity n WHERE n.userEntity.userId = :userId AND n.isRead = false " +
+            "AND n.notificationId > :watermark")
+    long countUnreadAfter(@Param("userId") Long userId, @Param("watermark") Long watermark);
+
+    // 워터마크가 없는 사용자 전용 (개별 is_read 플래그만으로 판단)
+    @Query("SELECT n.userEntity.userId as userId, COUNT(n) as unreadCount FROM NotificationEntity n " +
+            "WHERE n.userEntity.userId IN :userIds AND n.isRead = false " +
+            "GROUP BY n.userEntity.userId")
+    List<UnreadNotificationCount> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT MAX(n.notificationId) FROM NotificationEntity n WHERE n.userEntity.userId = :userId")
+    Long findMaxNotificationIdByUserId(@Param("userId") Long userId);
+
+    // 워터마크 압축: 워터마크 이후 처음으로 읽지 않았거나 아직 유예 기간 안에 있는 알림 ID
+    @Query("SELECT MIN(n.notificationId) FROM NotificationEntity n WHERE n.userEntity.userId = :userId " +
+            "AND n.notificationId > :watermark AND (n.isRead = false OR n.createdAt >= :settledBefore)")
+    Long findFirstUnsettledNotificationId(@Param("userId") Long userId,
+            @Param("watermark") Long watermark,
+            @Param("settledBefore") LocalDateTime settledBefore);
+
+    // 워터마크 압축: 워터마크 이후 상한(upperBound) 미만에서 유예 기간이 지난 마지막 알림 ID
+    @Query("SELECT MAX(n.notificationId) FROM NotificationEntity n WHERE n.userEntity.userId = :userId " +
+            "AND n.notificationId > :watermark AND n.notificationId < :upperBound AND n.createdAt < :settledBefore")
+    Long findLastSettledNotificationId(@Param("userId") Long userId,
+            @Param("watermark") Long watermark,
+            @Param("upperBound") Long upperBound,
+            @Param("settledBefore") LocalDateTime settledBefore);
+
+    boolean existsByNotificationIdAndUserEntity(Long notificationId, UserEntity userEntity);
 
     @Modifying
-    @Query("UPDATE NotificationEntity n SET n.isRead = true WHERE n.notificationId = :notificationId AND n.userEntity = :user")
+    @Query("UPDATE NotificationEntity n SET n.isRead = true " +
+            "WHERE n.notificationId = :notificationId AND n.userEntity = :user AND n.isRead = false")
     int markAsReadByIdAndUser(@Param("notificationId") Long notificationId, @Param("user") UserEntity user);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.ourhour.domain.notification.repository;
+
+/**
+ * 사용자별 읽지 않은 알림 수 조회를 위한 Projection Interface
+ */
+public interface UnreadNotificationCount {
+    Long getUserId();
+    Long getUnreadCount();
+}
@@ -0,0 +1,13 @@
+package com.ourhour.domain.notification.repository;
+
+import com.ourhour.domain.notification.enums.NotificationType;
+
+/**
+ * 사용자/타입별 요약 대상 알림 수 조회를 위한 Projection Interface
+ */
+public interface UnreadNotificationSummary {
+    Long getUserId();
+    NotificationType getType();
+    Long getNotificationCount();
+    Long getLastNotificationId();
+}
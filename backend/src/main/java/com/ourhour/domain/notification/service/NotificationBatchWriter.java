@@ -0,0 +1,297 @@
+package com.ourhour.domain.notification.service;
+
+import com.ourhour.domain.notification.dto.NotificationCreateReqDTO;
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import com.ourhour.domain.notification.enums.NotificationLane;
+import com.ourhour.domain.notification.repository.NotificationBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 write-behind 저장기
+ * 모든 호출자의 알림 생성 요청을 큐에 모아, 개수(batch-size) 또는 시간(linger-ms) 조건을 만족하면
+ * 한 트랜잭션에서 JDBC batch insert로 저장하고, 커밋된 뒤에 SSE로 전송합니다.
+ * 호출자의 트랜잭션이 있으면 커밋 이후에 큐에 넣으므로 롤백된 작업의 알림은 저장되지 않습니다.
+ * 알림 타입의 우선순위 레인(NotificationLane)마다 큐와 작업 스레드를 따로 두어, 채팅 알림이 몰려도
+ * 이슈 할당/답글 같은 알림은 자기 레인에서 바로 저장/전송됩니다.
+ * 레인 안에서는 사용자 ID로 작업 스레드를 고정하므로 같은 사용자의 알림 순서가 유지됩니다.
+ */
+@Slf4j
+@Component
+public class NotificationBatchWriter {
+
+    private final NotificationBulkRepository bulkRepository;
+    private final SSENotificationService sseNotificationService;
+    private final NotificationCoalescer coalescer;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationHotInbox hotInbox;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final Map<NotificationLane, Lane> lanes = new EnumMap<>(NotificationLane.class);
+    private volatile boolean running = true;
+
+    public NotificationBatchWriter(NotificationBulkRepository bulkRepository,
+            SSENotificationService sseNotificationService,
+            NotificationCoalescer coalescer,
+            UnreadNotificationCounter unreadNotificationCounter,
+            NotificationHotInbox hotInbox,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.write-behind.batch-size:200}") int batchSize,
+            @Value("${notification.write-behind.lanes.high.workers:2}") int highWorkers,
+            @Value("${notification.write-behind.lanes.high.queue-capacity:2000}") int highQueueCapacity,
+            @Value("${notification.write-behind.lanes.high.linger-ms:5}") long highLingerMillis,
+            @Value("${notification.write-behind.lanes.normal.workers:1}") int normalWorkers,
+            @Value("${notification.write-behind.lanes.normal.queue-capacity:2000}") int normalQueueCapacity,
+            @Value("${notification.write-behind.lanes.normal.linger-ms:20}") long normalLingerMillis,
+            @Value("${notification.write-behind.lanes.low.workers:1}") int lowWorkers,
+            @Value("${notification.write-behind.lanes.low.queue-capacity:10000}") int lowQueueCapacity,
+            @Value("${notification.write-behind.lanes.low.linger-ms:50}") long lowLingerMillis) {
+        this.bulkRepository = bulkRepository;
+        this.sseNotificationService = sseNotificationService;
+        this.coalescer = coalescer;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.hotInbox = hotInbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        lanes.put(NotificationLane.HIGH,
+                new Lane(NotificationLane.HIGH, highWorkers, highQueueCapacity, highLingerMillis, meterRegistry));
+        lanes.put(NotificationLane.NORMAL,
+                new Lane(NotificationLane.NORMAL, normalWorkers, normalQueueCapacity, normalLingerMillis, meterRegistry));
+        lanes.put(NotificationLane.LOW,
+                new Lane(NotificationLane.LOW, lowWorkers, lowQueueCapacity, lowLingerMillis, meterRegistry));
+    }
+
+    @PostConstruct
+    public void start() {
+        lanes.values().forEach(lane -> lane.workers.forEach(Thread::start));
+    }
+
+    /**
+     * 알림 저장 요청 (비동기)
+     * 트랜잭션 안에서 호출되면 커밋 후에 큐에 추가합니다.
+     */
+    public void enqueue(NotificationCreateReqDTO request) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(request);
+                }
+            });
+            return;
+        }
+        offer(request);
+    }
+
+    private void offer(NotificationCreateReqDTO request) {
+        // 열린 병합 윈도우에 합쳐지면 새 행을 저장하지 않음
+        if (coalescer.tryCoalesce(request)) {
+            return;
+        }
+
+        // 레인 큐가 가득 찼거나 종료 중이면 호출 스레드에서 직접 저장 (유실 대신 호출자 지연으로 역압)
+        Lane lane = laneOf(request);
+        if (!running || !lane.queueFor(request.getUserId()).offer(request)) {
+            if (running) {
+                lane.overflowCounter.increment();
+            }
+            flush(List.of(request));
+        }
+    }
+
+    private Lane laneOf(NotificationCreateReqDTO request) {
+        return lanes.get(request.getType() != null ? request.getType().getLane() : NotificationLane.NORMAL);
+    }
+
+    // 첫 요청이 들어오면 레인의 linger 시간 동안 batch-size까지 모은 뒤 저장
+    private void runFlushLoop(Lane lane, BlockingQueue<NotificationCreateReqDTO> queue) {
+        while (running) {
+            List<NotificationCreateReqDTO> batch = new ArrayList<>(batchSize);
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + lane.lingerNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    NotificationCreateReqDTO next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 종료 신호: 이미 모은 요청만 저장하고, 큐에 남은 요청은 stop()에서 저장
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+                return;
+            }
+
+            try {
+                flush(batch);
+            } catch (Exception e) {
+                log.error("알림 일괄 저장 중 예상치 못한 오류가 발생했습니다: lane={}, reason={}",
+                        lane.name, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 한 트랜잭션으로 일괄 저장하고 커밋 후 SSE 전송
+     * 일괄 저장이 실패하면(탈퇴한 사용자 등) 건별로 다시 저장하여 나머지 알림은 살립니다.
+     */
+    void flush(List<NotificationCreateReqDTO> batch) {
+        List<NotificationDTO> saved;
+        try {
+            saved = transactionTemplate.execute(status -> bulkRepository.insertAll(batch, LocalDateTime.now()));
+        } catch (DataAccessException e) {
+            if (batch.size() > 1) {
+                log.warn("알림 일괄 저장 실패, 건별 저장으로 재시도합니다: size={}, reason={}", batch.size(), e.getMessage());
+                batch.forEach(request -> flush(List.of(request)));
+            } else {
+                log.warn("알림 저장 실패: userId={}, type={}, reason={}",
+                        batch.get(0).getUserId(), batch.get(0).getType(), e.getMessage());
+            }
+            return;
+        }
+
+        // 커밋 이후: 알림 SSE 전송 후 사용자별로 한 번씩 읽지 않은 알림 카운터 증가와 핫 티어 반영
+        Map<Long, Integer> createdPerUser = new LinkedHashMap<>();
+        Map<Long, List<NotificationDTO>> savedPerUser = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Long userId = batch.get(i).getUserId();
+            createdPerUser.merge(userId, 1, Integer::sum);
+            savedPerUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(saved.get(i));
+            coalescer.onPersisted(batch.get(i), saved.get(i));
+            sseNotificationService.sendNotification(userId, saved.get(i), batch.get(i).getRequestedAt());
+            laneOf(batch.get(i)).latencyTimer.record(
+                    Math.max(0, System.currentTimeMillis() - batch.get(i).getRequestedAt()), TimeUnit.MILLISECONDS);
+        }
+        createdPerUser.forEach(unreadNotificationCounter::add);
+        savedPerUser.forEach(hotInbox::add);
+
+        log.debug("알림 일괄 저장 완료: size={}, users={}", batch.size(), createdPerUser.size());
+    }
+
+    // 큐에 대기 중인 요청 수
+    public int getPendingCount() {
+        return lanes.values().stream().mapToInt(Lane::pendingCount).sum();
+    }
+
+    // 레인 큐에 대기 중인 요청 수
+    public int getPendingCount(NotificationLane lane) {
+        return lanes.get(lane).pendingCount();
+    }
+
+    // 종료 시 남은 요청을 높은 레인부터 모두 저장
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Lane lane : lanes.values()) {
+            lane.workers.forEach(Thread::interrupt);
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (Lane lane : lanes.values()) {
+            for (Thread worker : lane.workers) {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            }
+        }
+
+        for (Lane lane : lanes.values()) {
+            List<NotificationCreateReqDTO> remaining = new ArrayList<>();
+            lane.queues.forEach(queue -> queue.drainTo(remaining));
+            for (int from = 0; from < remaining.size(); from += batchSize) {
+                flush(remaining.subList(from, Math.min(from + batchSize, remaining.size())));
+            }
+            if (!remaining.isEmpty()) {
+                log.info("종료 전 대기 중이던 알림 {}건을 저장했습니다: lane={}", remaining.size(), lane.name);
+            }
+        }
+    }
+
+    /**
+     * 우선순위 레인: 작업 스레드별 제한 큐와 레인별 지연/역압 지표
+     * 전체 큐 크기를 작업 스레드 수로 나누어 각 스레드가 자기 큐만 처리합니다.
+     */
+    private final class Lane {
+
+        private final NotificationLane name;
+        private final long lingerNanos;
+        private final List<BlockingQueue<NotificationCreateReqDTO>> queues = new ArrayList<>();
+        private final List<Thread> workers = new ArrayList<>();
+        private final Timer latencyTimer;
+        private final Counter overflowCounter;
+
+        private Lane(NotificationLane name, int workerCount, int queueCapacity, long lingerMillis,
+                MeterRegistry meterRegistry) {
+            if (workerCount <= 0 || queueCapacity < workerCount) {
+                throw new IllegalArgumentException(
+                        "알림 레인 " + name + "의 workers는 1 이상, queue-capacity는 workers 이상이어야 합니다");
+            }
+            this.name = name;
+            this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+
+            String tag = name.name().toLowerCase(Locale.ROOT);
+            for (int i = 0; i < workerCount; i++) {
+                BlockingQueue<NotificationCreateReqDTO> queue = new ArrayBlockingQueue<>(queueCapacity / workerCount);
+                Thread worker = new Thread(() -> runFlushLoop(this, queue), "notification-writer-" + tag + "-" + i);
+                worker.setDaemon(true);
+                queues.add(queue);
+                workers.add(worker);
+            }
+
+            this.latencyTimer = Timer.builder("notification.lane.latency")
+                    .description("알림 요청부터 저장 후 SSE 전송까지 걸린 시간 (레인별)")
+                    .tag("lane", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.overflowCounter = Counter.builder("notification.lane.overflow")
+                    .description("레인 큐가 가득 차 호출 스레드에서 직접 저장한 알림 수")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            Gauge.builder("notification.lane.pending", this, Lane::pendingCount)
+                    .description("레인 큐에 대기 중인 알림 수")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+        }
+
+        // 같은 사용자의 알림은 항상 같은 작업 스레드가 처리
+        private BlockingQueue<NotificationCreateReqDTO> queueFor(Long userId) {
+            return queues.get(Math.floorMod(Objects.hashCode(userId), queues.size()));
+        }
+
+        private int pendingCount() {
+            return queues.stream().mapToInt(BlockingQueue::size).sum();
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package com.ourhour.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.ourhour.domain.notification.dto.NotificationCreateReqDTO;
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import com.ourhour.domain.notification.dto.NotificationMergeDTO;
+import com.ourhour.domain.notification.enums.NotificationType;
+import com.ourhour.domain.notification.repository.NotificationBulkRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 알림 병합기
+ * 병합 윈도우(window-seconds) 안에서 같은 사용자에게 같은 타입/관련 대상(relatedId)의 알림이 반복되면
+ * 새 행을 만들지 않고, 윈도우의 첫 알림 행에 개수와 최신 내용(최근 발신자)을 합칩니다.
+ * 첫 알림은 지연 없이 저장/전송하고, 이후 알림은 flush-interval-ms 마다 모아서 한 번의 UPDATE와 SSE 이벤트로 반영합니다.
+ * 병합은 행의 created_at(커서 정렬 키)과 읽음 상태를 바꾸지 않고 last_merged_at만 갱신하며, 행을 읽으면 윈도우를 닫아
+ * 이후 알림은 새 행으로 저장합니다.
+ */
+@Slf4j
+@Component
+public class NotificationCoalescer {
+
+    private final NotificationBulkRepository bulkRepository;
+    private final SSENotificationService sseNotificationService;
+    private final NotificationHotInbox hotInbox;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final Set<NotificationType> coalescingTypes;
+    private final Cache<CoalescingKey, Window> windows;
+    // 만료 시점에 아직 반영하지 못한 병합분이 남아있던 윈도우
+    private final ConcurrentLinkedQueue<Window> expiredWindows = new ConcurrentLinkedQueue<>();
+
+    public NotificationCoalescer(NotificationBulkRepository bulkRepository,
+            SSENotificationService sseNotificationService,
+            NotificationHotInbox hotInbox,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.coalescing.enabled:true}") boolean enabled,
+            @Value("${notification.coalescing.types:CHAT_MESSAGE}") Set<NotificationType> coalescingTypes,
+            @Value("${notification.coalescing.window-seconds:60}") long windowSeconds,
+            @Value("${notification.coalescing.max-windows:100000}") long maxWindows) {
+        this.bulkRepository = bulkRepository;
+        this.sseNotificationService = sseNotificationService;
+        this.hotInbox = hotInbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.coalescingTypes = coalescingTypes.isEmpty()
+                ? EnumSet.noneOf(NotificationType.class)
+                : EnumSet.copyOf(coalescingTypes);
+
+        // 윈도우는 첫 알림 시점부터 고정 길이로 유지 (병합으로 갱신되어도 만료 시각을 연장하지 않음)
+        long windowNanos = Duration.ofSeconds(windowSeconds).toNanos();
+        this.windows = Caffeine.newBuilder()
+                .expireAfter(new Expiry<CoalescingKey, Window>() {
+                    @Override
+                    public long expireAfterCreate(CoalescingKey key, Window window, long currentTime) {
+                        return windowNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(CoalescingKey key, Window window, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(CoalescingKey key, Window window, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .maximumSize(maxWindows)
+                // 만료/용량 초과로 밀려난 윈도우의 병합분만 반영 (읽음 처리로 닫은 윈도우의 병합분은 버림)
+                .removalListener((CoalescingKey key, Window window, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && window != null && window.hasPending()) {
+                        expiredWindows.add(window);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 열린 윈도우가 있으면 알림을 병합
+     * @return 병합되었으면 true (호출자는 새 행을 저장하지 않음), 윈도우를 새로 열었거나 병합 대상이 아니면 false
+     */
+    public boolean tryCoalesce(NotificationCreateReqDTO request) {
+        if (!enabled || request.getRelatedId() == null || !coalescingTypes.contains(request.getType())) {
+            return false;
+        }
+
+        boolean[] merged = {false};
+        windows.asMap().compute(CoalescingKey.of(request), (key, window) -> {
+            if (window == null) {
+                return new Window(key, request);
+            }
+            window.merge(request);
+            merged[0] = true;
+            return window;
+        });
+        return merged[0];
+    }
+
+    /**
+     * 윈도우의 첫 알림이 저장되면 병합 대상 행 ID를 기록
+     */
+    public void onPersisted(NotificationCreateReqDTO request, NotificationDTO saved) {
+        if (!enabled || request.getRelatedId() == null || !coalescingTypes.contains(request.getType())) {
+            return;
+        }
+        Window window = windows.getIfPresent(CoalescingKey.of(request));
+        if (window != null) {
+            window.attach(saved);
+        }
+    }
+
+    /**
+     * 사용자의 열린 윈도우를 모두 닫음 (모두 읽음 처리 시)
+     * 아직 반영하지 않은 병합분은 읽음 처리 이전에 도착한 알림이므로 버리고, 이후 알림은 새 행(워터마크보다 큰 ID)으로 저장됩니다.
+     */
+    public void closeWindows(Long userId) {
+        if (!enabled) {
+            return;
+        }
+        windows.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    /**
+     * 읽음 처리한 알림 행의 윈도우를 닫음 (개별 읽음 처리 시)
+     * 읽은 행에는 병합하지 않으므로, 이후 같은 대상의 알림은 새 행으로 저장됩니다.
+     */
+    public void closeWindow(Long userId, Long notificationId) {
+        if (!enabled) {
+            return;
+        }
+        windows.asMap().entrySet().removeIf(entry -> entry.getKey().userId().equals(userId)
+                && entry.getValue().isAttachedTo(notificationId));
+    }
+
+    /**
+     * 쌓인 병합분을 기존 행에 일괄 반영하고 커밋 후 사용자별로 한 번씩 SSE 전송
+     */
+    @Scheduled(fixedDelayString = "${notification.coalescing.flush-interval-ms:5000}")
+    public void flushPending() {
+        windows.cleanUp();
+
+        List<Window> candidates = new ArrayList<>(windows.asMap().values());
+        Window expired;
+        while ((expired = expiredWindows.poll()) != null) {
+            candidates.add(expired);
+        }
+
+        List<NotificationMergeDTO> merges = new ArrayList<>();
+        List<NotificationDTO> updated = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        List<Window> drained = new ArrayList<>();
+        for (Window window : candidates) {
+            if (window.drainTo(merges, updated, now)) {
+                drained.add(window);
+            }
+        }
+        if (merges.isEmpty()) {
+            return;
+        }
+
+        int[] rows;
+        try {
+            rows = transactionTemplate.execute(status -> bulkRepository.mergeAll(merges));
+        } catch (DataAccessException e) {
+            log.warn("병합 알림 반영 실패: size={}, reason={}", merges.size(), e.getMessage());
+            return;
+        }
+
+        for (int i = 0; i < merges.size(); i++) {
+            if (rows != null && i < rows.length && rows[i] == 0) {
+                // 반영 직전에 읽었거나 삭제된 행: 윈도우를 닫아 다음 알림부터 새 행으로 저장
+                Window window = drained.get(i);
+                windows.asMap().remove(window.getKey(), window);
+                continue;
+            }
+            Long userId = merges.get(i).getUserId();
+            sseNotificationService.sendNotification(userId, updated.get(i));
+            // 생성 시각은 그대로이므로 핫 티어에서도 같은 위치의 내용만 갱신됨
+            hotInbox.update(userId, List.of(updated.get(i)));
+        }
+
+        log.debug("병합 알림 반영 완료: windows={}", merges.size());
+    }
+
+    // 열린 병합 윈도우 수
+    public long getOpenWindowCount() {
+        return windows.estimatedSize();
+    }
+
+    private record CoalescingKey(Long userId, NotificationType type, Long relatedId) {
+
+        static CoalescingKey of(NotificationCreateReqDTO request) {
+            return new CoalescingKey(request.getUserId(), request.getType(), request.getRelatedId());
+        }
+    }
+
+    // 병합 윈도우 하나의 상태 (첫 알림 행 ID, 아직 반영하지 않은 병합 수와 최신 내용)
+    private static final class Window {
+
+        private final CoalescingKey key;
+        private final Long userId;
+        private NotificationDTO persisted;
+        private NotificationCreateReqDTO latest;
+        private int totalCount = 1;
+        private int pendingCount;
+
+        private Window(CoalescingKey key, NotificationCreateReqDTO first) {
+            this.key = key;
+            this.userId = first.getUserId();
+            this.latest = first;
+        }
+
+        synchronized void merge(NotificationCreateReqDTO request) {
+            latest = request;
+            totalCount++;
+            pendingCount++;
+        }
+
+        synchronized void attach(NotificationDTO saved) {
+            if (persisted == null) {
+                persisted = saved;
+            }
+        }
+
+        synchronized boolean hasPending() {
+            return pendingCount > 0;
+        }
+
+        synchronized boolean isAttachedTo(Long notificationId) {
+            return persisted != null && notificationId.equals(persisted.getNotificationId());
+        }
+
+        CoalescingKey getKey() {
+            return key;
+        }
+
+        // 첫 알림이 아직 저장되지 않았으면 다음 주기로 미룸 (반영 대상에 추가했으면 true)
+        synchronized boolean drainTo(List<NotificationMergeDTO> merges, List<NotificationDTO> updated,
+                LocalDateTime now) {
+            if (pendingCount == 0 || persisted == null || persisted.getNotificationId() == null) {
+                return false;
+            }
+
+            merges.add(NotificationMergeDTO.builder()
+                    .notificationId(persisted.getNotificationId())
+                    .userId(userId)
+                    .increment(pendingCount)
+                    .title(latest.getTitle())
+                    .message(latest.getMessage())
+                    .mergedAt(now)
+                    .build());
+            updated.add(NotificationDTO.builder()
+                    .notificationId(persisted.getNotificationId())
+                    .type(latest.getType())
+                    .title(latest.getTitle())
+                    .message(latest.getMessage())
+                    .isRead(false)
+                    .createdAt(persisted.getCreatedAt())
+                    .lastMergedAt(now)
+                    .relatedId(latest.getRelatedId())
+                    .relatedType(latest.getRelatedType())
+                    .actionUrl(latest.getActionUrl())
+                    .relatedProjectName(latest.getRelatedProjectName())
+                    .coalescedCount(totalCount)
+                    .build());
+            pendingCount = 0;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.ourhour.domain.notification.service;
+
+import com.ourhour.domain.auth.dto.EmailMessage;
+import com.ourhour.domain.auth.service.EmailSenderService;
+import com.ourhour.domain.notification.entity.NotificationDigestEntity;
+import com.ourhour.domain.notification.entity.NotificationReadWatermarkEntity;
+import com.ourhour.domain.notification.enums.NotificationType;
+import com.ourhour.domain.notification.repository.NotificationDigestRecipient;
+import com.ourhour.domain.notification.repository.NotificationDigestRepository;
+import com.ourhour.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.ourhour.domain.notification.repository.UnreadNotificationSummary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 읽지 않은 알림 요약 메일 작업
+ * SSE로 연결되어 있지 않은 사용자에게 읽지 않은 알림을 타입별 건수로 묶은 메일 한 통을 보냅니다.
+ * 사용자는 ID 기준 키셋(chunk-size)으로 나누어 읽고, 묶음마다 메일을 SMTP 연결 하나로 일괄 발송합니다.
+ * 발송에 성공한 사용자만 요약 위치를 올리므로 실패한 사용자는 다음 실행에서 다시 대상이 됩니다.
+ * 여러 인스턴스가 동시에 실행하지 않도록 Redis 잠금을 잡은 인스턴스만 수행합니다.
+ */
+@Slf4j
+@Component
+public class NotificationDigestJob {
+
+    private static final String LOCK_KEY = "notification:digest:lock";
+
+    private static final String SUBJECT = "[OURHOUR] 확인하지 않은 알림 %d건이 있습니다";
+    private static final String EMAIL_TEMPLATE = """
+            <p>안녕하세요. OURHOUR입니다.</p><br/>
+            <p>확인하지 않은 알림이 %d건 있습니다.</p>
+            <ul>%s</ul>
+            <p><a href="%s">OURHOUR에서 확인하기</a></p>
+            <br/><p>감사합니다.<br/>OURHOUR 팀 드림</p>
+            """;
+
+    private final NotificationDigestRepository digestRepository;
+    private final NotificationReadWatermarkRepository readWatermarkRepository;
+    private final SSENotificationService sseNotificationService;
+    private final EmailSenderService emailSenderService;
+    private final ScheduledJobLock jobLock;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long minAgeMinutes;
+    private final int chunkSize;
+    private final long throttleMillis;
+    private final int maxChunksPerRun;
+    private final Duration lockTtl;
+    private final String frontUrl;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter skippedOnlineCounter;
+    private final Timer runTimer;
+
+    public NotificationDigestJob(NotificationDigestRepository digestRepository,
+            NotificationReadWatermarkRepository readWatermarkRepository,
+            SSENotificationService sseNotificationService,
+            EmailSenderService emailSenderService,
+            ScheduledJobLock jobLock,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.digest.enabled:true}") boolean enabled,
+            @Value("${notification.digest.min-age-minutes:30}") long minAgeMinutes,
+            @Value("${notification.digest.chunk-size:500}") int chunkSize,
+            @Value("${notification.digest.throttle-ms:100}") long throttleMillis,
+            @Value("${notification.digest.max-chunks-per-run:10000}") int maxChunksPerRun,
+            @Value("${notification.digest.lock-ttl-minutes:60}") long lockTtlMinutes,
+            @Value("${spring.service.url.front}") String frontUrl) {
+        if (chunkSize <= 0 || minAgeMinutes < 0) {
+            throw new IllegalArgumentException("chunk-size는 1 이상, min-age-minutes는 0 이상이어야 합니다");
+        }
+        this.digestRepository = digestRepository;
+        this.readWatermarkRepository = readWatermarkRepository;
+        this.sseNotificationService = sseNotificationService;
+        this.emailSenderService = emailSenderService;
+        this.jobLock = jobLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.minAgeMinutes = minAgeMinutes;
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+        this.frontUrl = frontUrl;
+
+        this.sentCounter = Counter.builder("notification.digest.sent")
+                .description("발송한 알림 요약 메일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.digest.failed")
+                .description("발송하지 못한 알림 요약 메일 수")
+                .register(meterRegistry);
+        this.skippedOnlineCounter = Counter.builder("notification.digest.skipped.online")
+                .description("SSE로 연결되어 있어 요약 메일을 건너뛴 사용자 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("notification.digest.run.duration")
+                .description("알림 요약 메일 작업 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${notification.digest.cron:0 0 9 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        String lockOwner = UUID.randomUUID().toString();
+        if (!jobLock.tryAcquire(LOCK_KEY, lockOwner, lockTtl)) {
+            log.info("다른 인스턴스가 알림 요약 메일을 발송 중이므로 건너뜁니다");
+            return;
+        }
+
+        try {
+            runTimer.record(() -> sendDigests(LocalDateTime.now()));
+        } finally {
+            jobLock.release(LOCK_KEY, lockOwner);
+        }
+    }
+
+    /**
+     * 사용자 ID 순으로 chunk-size 명씩 읽어 요약 메일 발송
+     * 방금 생긴 알림은 사용자가 곧 확인할 수 있으므로 min-age-minutes 이전에 생긴 알림만 요약합니다.
+     * @return 발송한 메일 수
+     */
+    int sendDigests(LocalDateTime now) {
+        LocalDateTime createdBefore = now.minusMinutes(minAgeMinutes);
+
+        long afterUserId = 0L;
+        int sent = 0;
+        int chunks = 0;
+        while (chunks < maxChunksPerRun) {
+            List<NotificationDigestRecipient> recipients;
+            try {
+                recipients = digestRepository.findRecipients(afterUserId, PageRequest.of(0, chunkSize));
+            } catch (DataAccessException e) {
+                log.warn("요약 메일 대상 조회 실패로 작업을 중단합니다: afterUserId={}, reason={}",
+                        afterUserId, e.getMessage());
+                break;
+            }
+            if (recipients.isEmpty()) {
+                break;
+            }
+            chunks++;
+            afterUserId = recipients.get(recipients.size() - 1).getUserId();
+
+            sent += sendChunk(recipients, createdBefore);
+
+            if (recipients.size() < chunkSize || !ScheduledJobLock.pause(throttleMillis)) {
+                break;
+            }
+        }
+
+        log.info("알림 요약 메일 발송 완료: sent={}, chunks={}", sent, chunks);
+        return sent;
+    }
+
+    private int sendChunk(List<NotificationDigestRecipient> recipients, LocalDateTime createdBefore) {
+        Map<Long, String> emails = new LinkedHashMap<>();
+        for (NotificationDigestRecipient recipient : recipients) {
+            if (sseNotificationService.isOnline(recipient.getUserId())) {
+                skippedOnlineCounter.increment();
+                continue;
+            }
+            emails.put(recipient.getUserId(), recipient.getEmail());
+        }
+        if (emails.isEmpty()) {
+            return 0;
+        }
+
+        List<Digest> digests = buildDigests(emails, summarizeUnread(emails.keySet(), createdBefore));
+        if (digests.isEmpty()) {
+            return 0;
+        }
+
+        Set<EmailMessage> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        failed.addAll(emailSenderService.sendEmails(digests.stream().map(Digest::message).toList()));
+        List<Digest> delivered = digests.stream().filter(digest -> !failed.contains(digest.message())).toList();
+
+        failedCounter.increment(failed.size());
+        sentCounter.increment(delivered.size());
+        if (delivered.isEmpty()) {
+            return 0;
+        }
+
+        // 발송 후 위치 저장에 실패하면 다음 실행에서 같은 알림을 다시 안내할 수 있음 (누락보다 중복을 택함)
+        try {
+            transactionTemplate.executeWithoutResult(status -> delivered.forEach(digest ->
+                    digestRepository.advance(digest.userId(), digest.lastNotificationId())));
+        } catch (DataAccessException e) {
+            log.warn("알림 요약 위치 저장 실패: users={}, reason={}", delivered.size(), e.getMessage());
+        }
+        return delivered.size();
+    }
+
+    // 묶음 전체를 한 번에 집계 (사용자별 위치는 쿼리에서 조인하고, 위치의 최솟값을 범위 하한으로 넘김)
+    private List<UnreadNotificationSummary> summarizeUnread(Set<Long> userIds, LocalDateTime createdBefore) {
+        Map<Long, Long> positions = new HashMap<>();
+        for (NotificationReadWatermarkEntity watermark : readWatermarkRepository.findAllById(userIds)) {
+            positions.merge(watermark.getUserId(), watermark.getLastReadNotificationId(), Math::max);
+        }
+        for (NotificationDigestEntity digest : digestRepository.findAllById(userIds)) {
+            positions.merge(digest.getUserId(), digest.getLastNotificationId(), Math::max);
+        }
+        long minPosition = userIds.stream()
+                .mapToLong(userId -> positions.getOrDefault(userId, 0L))
+                .min()
+                .orElse(0L);
+        return digestRepository.summarizeUnread(userIds, minPosition, createdBefore);
+    }
+
+    // 사용자별로 타입별 건수를 모아 메일 한 통씩 생성
+    private List<Digest> buildDigests(Map<Long, String> emails, List<UnreadNotificationSummary> summaries) {
+        Map<Long, Map<NotificationType, Long>> countsByUser = new LinkedHashMap<>();
+        Map<Long, Long> lastIdByUser = new LinkedHashMap<>();
+        for (UnreadNotificationSummary summary : summaries) {
+            countsByUser.computeIfAbsent(summary.getUserId(), id -> new EnumMap<>(NotificationType.class))
+                    .merge(summary.getType(), summary.getNotificationCount(), Long::sum);
+            lastIdByUser.merge(summary.getUserId(), summary.getLastNotificationId(), Math::max);
+        }
+
+        List<Digest> digests = new ArrayList<>(countsByUser.size());
+        countsByUser.forEach((userId, counts) -> digests.add(
+                new Digest(userId, lastIdByUser.get(userId), render(emails.get(userId), counts))));
+        return digests;
+    }
+
+    EmailMessage render(String email, Map<NotificationType, Long> counts) {
+        long total = 0L;
+        StringBuilder items = new StringBuilder();
+        for (Map.Entry<NotificationType, Long> entry : counts.entrySet()) {
+            total += entry.getValue();
+            items.append("<li>")
+                    .append(entry.getKey().getDescription())
+                    .append(' ')
+                    .append(entry.getValue())
+                    .append("건</li>");
+        }
+        return new EmailMessage(email, String.format(SUBJECT, total),
+                String.format(EMAIL_TEMPLATE, total, items, frontUrl));
+    }
+
+    private record Digest(Long userId, Long lastNotificationId, EmailMessage message) {
+    }
+}
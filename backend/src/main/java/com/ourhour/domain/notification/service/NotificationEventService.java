@@ -4,13 +4,15 @@ import com.ourhour.domain.notification.config.NotificationMessageTemplate;
 import com.ourhour.domain.notification.dto.ChatNotificationContext;
 import com.ourhour.domain.notification.dto.IssueNotificationContext;
 import com.ourhour.domain.notification.dto.NotificationCreateReqDTO;
-import com.ourhour.domain.notification.dto.NotificationDTO;
 import com.ourhour.domain.notification.dto.PostNotificationContext;
 import com.ourhour.domain.notification.enums.NotificationType;
 import com.ourhour.domain.notification.enums.RelatedType;
+import com.ourhour.domain.notification.sse.SseTopic;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Map;
 
@@ -19,18 +21,27 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NotificationEventService {
 
-        private final NotificationService notificationService;
-        private final SSENotificationService sseNotificationService;
+        private final NotificationBatchWriter notificationBatchWriter;
         private final Map<NotificationType, NotificationMessageTemplate> notificationTemplates;
+        private final SSENotificationService sseNotificationService;
+        private final NotificationPreferenceService notificationPreferenceService;
+
+        // 음소거한 타입/프로젝트/채팅방의 알림은 메시지 생성, 저장, SSE 전송을 모두 건너뜀
+        private boolean isMuted(Long userId, NotificationType type, Long projectId, Long chatRoomId) {
+                return notificationPreferenceService.isMuted(userId, type, projectId, chatRoomId);
+        }
 
-        // 알림 생성 및 전송 공통 메소드
+        // 알림 생성 및 전송 공통 메소드 (일괄 저장 후 커밋되면 SSE 전송)
         private void createAndSendNotification(NotificationCreateReqDTO dto) {
-                NotificationDTO notification = notificationService.createNotification(dto);
-                sseNotificationService.sendNotification(dto.getUserId(), notification);
+                notificationBatchWriter.enqueue(dto);
         }
 
         // 채팅방 메시지 알림
         public void sendChatMessageNotification(ChatNotificationContext context) {
+                if (isMuted(context.getUserId(), NotificationType.CHAT_MESSAGE, null, context.getRoomId())) {
+                        return;
+                }
+
                 NotificationMessageTemplate template = notificationTemplates.get(NotificationType.CHAT_MESSAGE);
 
                 NotificationCreateReqDTO dto = NotificationCreateReqDTO.builder()
@@ -48,6 +59,10 @@ public class NotificationEventService {
 
         // 이슈 할당 알림
         public void sendIssueAssignedNotification(IssueNotificationContext context) {
+                if (isMuted(context.getUserId(), NotificationType.ISSUE_ASSIGNED, context.getProjectId(), null)) {
+                        return;
+                }
+
                 NotificationMessageTemplate template = notificationTemplates.get(NotificationType.ISSUE_ASSIGNED);
 
                 NotificationCreateReqDTO dto = NotificationCreateReqDTO.builder()
@@ -67,6 +82,10 @@ public class NotificationEventService {
 
         // 이슈 댓글 알림
         public void sendIssueCommentNotification(IssueNotificationContext context) {
+                if (isMuted(context.getUserId(), NotificationType.ISSUE_COMMENT, context.getProjectId(), null)) {
+                        return;
+                }
+
                 NotificationMessageTemplate template = notificationTemplates.get(NotificationType.ISSUE_COMMENT);
 
                 NotificationCreateReqDTO dto = NotificationCreateReqDTO.builder()
@@ -86,6 +105,10 @@ public class NotificationEventService {
 
         // 이슈 댓글 답글 알림
         public void sendIssueCommentReplyNotification(IssueNotificationContext context) {
+                if (isMuted(context.getUserId(), NotificationType.ISSUE_COMMENT_REPLY, context.getProjectId(), null)) {
+                        return;
+                }
+
                 NotificationMessageTemplate template = notificationTemplates.get(NotificationType.ISSUE_COMMENT_REPLY);
 
                 NotificationCreateReqDTO dto = NotificationCreateReqDTO.builder()
@@ -105,6 +128,10 @@ public class NotificationEventService {
 
         // 게시글 댓글 알림
         public void sendPostCommentNotification(PostNotificationContext context) {
+                if (isMuted(context.getUserId(), NotificationType.POST_COMMENT, null, null)) {
+                        return;
+                }
+
                 NotificationMessageTemplate template = notificationTemplates.get(NotificationType.POST_COMMENT);
 
                 NotificationCreateReqDTO dto = NotificationCreateReqDTO.builder()
@@ -123,6 +150,10 @@ public class NotificationEventService {
 
         // 게시글 댓글 답글 알림
         public void sendPostCommentReplyNotification(PostNotificationContext context) {
+                if (isMuted(context.getUserId(), NotificationType.POST_COMMENT_REPLY, null, null)) {
+                        return;
+                }
+
                 NotificationMessageTemplate template = notificationTemplates.get(NotificationType.POST_COMMENT_REPLY);
 
                 NotificationCreateReqDTO dto = NotificationCreateReqDTO.builder()
@@ -142,6 +173,10 @@ public class NotificationEventService {
         // 댓글 답글 알림 (댓글 작성자에게)
         public void sendCommentReplyNotification(Long userId, String replierName, String originalCommentContent,
                         Long relatedId, String relatedType, String actionUrl) {
+                if (isMuted(userId, NotificationType.COMMENT_REPLY, null, null)) {
+                        return;
+                }
+
                 NotificationMessageTemplate template = notificationTemplates.get(NotificationType.COMMENT_REPLY);
 
                 NotificationCreateReqDTO dto = NotificationCreateReqDTO.builder()
@@ -156,4 +191,22 @@ public class NotificationEventService {
 
                 createAndSendNotification(dto);
         }
-}
\ No newline at end of file
+
+        // 이슈 상태 변경 (프로젝트 토픽 구독자에게 화면 갱신 이벤트만 전송, 알림 행은 만들지 않음)
+        public void publishIssueStatusChanged(Long projectId, Long issueId, String status) {
+                Runnable publish = () -> sseNotificationService.publishToTopic(SseTopic.project(projectId),
+                                "issue_status_changed",
+                                Map.of("projectId", projectId, "issueId", issueId, "status", status));
+
+                if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                                @Override
+                                public void afterCommit() {
+                                        publish.run();
+                                }
+                        });
+                        return;
+                }
+                publish.run();
+        }
+}
@@ -0,0 +1,461 @@
+package com.ourhour.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 사용자별 최신 알림 핫 티어 (Redis)
+ * 첫 페이지 조회가 tbl_notification을 읽지 않도록 사용자별 최신 capacity 건을 ZSET(알림 ID)과 HASH(알림 JSON)로 보관합니다.
+ * ZSET 점수는 생성 시각(epoch 마이크로초)이고 같은 시각은 ID 역순으로 정렬되어 DB의 (created_at, notification_id) 순서와 같습니다.
+ * 생성/병합/읽음 시 그대로 반영(write-through)하고, 추가할 때마다 capacity 건만 남기고 오래된 알림을 제거합니다.
+ * 캐시가 없는 사용자는 DB에서 조회한 결과로 채우며, 그 사이 새 알림이 생기면 채우지 않고 다음 조회에서 다시 시도합니다.
+ * 첫 페이지 응답에 필요한 전체 알림 수와 읽음 워터마크도 HASH에 함께 보관해 캐시 적중 시 DB를 읽지 않습니다.
+ */
+@Slf4j
+@Component
+public class NotificationHotInbox {
+
+    private static final String IDS_KEY_PREFIX = "notification:inbox:ids:";
+    private static final String ITEMS_KEY_PREFIX = "notification:inbox:items:";
+    private static final String DIRTY_KEY_PREFIX = "notification:inbox:dirty:";
+    // 전체 알림 수와 읽음 워터마크를 보관하는 HASH 필드 (알림 ID 멤버와 겹치지 않음, 알림이 없는 사용자도 캐시할 수 있도록)
+    private static final String TOTAL_FIELD = "_total";
+    private static final String WATERMARK_FIELD = "_watermark";
+    private static final String WARM_FLAG = "1";
+    // 응답 첫 요소부터 캐시 여부, 전체 알림 수, 읽음 워터마크 다음에 알림 JSON
+    private static final int READ_HEADER_SIZE = 3;
+
+    // 최신 limit 건 조회. 첫 요소는 캐시 여부('1'/'0')로, nil 응답을 드라이버마다 다르게 해석하는 문제를 피함
+    // 전체 알림 수/워터마크가 없는 캐시(이전 형식)는 버리고 DB에서 다시 채움
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return {'0'} end "
+                    + "local meta = redis.call('HMGET', KEYS[2], '" + TOTAL_FIELD + "', '" + WATERMARK_FIELD + "') "
+                    + "if not meta[1] or not meta[2] then "
+                    + "  redis.call('DEL', KEYS[1], KEYS[2]) "
+                    + "  return {'0'} "
+                    + "end "
+                    + "local result = {'1', meta[1], meta[2]} "
+                    + "local ids = redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) "
+                    + "if #ids == 0 then return result end "
+                    + "local items = redis.call('HMGET', KEYS[2], unpack(ids)) "
+                    + "for i = 1, #items do result[i + 3] = items[i] or '' end "
+                    + "return result",
+            List.class);
+
+    // 캐시가 없고 최근 쓰기도 없었을 때만 채움
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[3]) == 1 or redis.call('EXISTS', KEYS[2]) == 1 then return 0 end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "redis.call('HSET', KEYS[2], '" + TOTAL_FIELD + "', ARGV[3], '" + WATERMARK_FIELD + "', ARGV[4]) "
+                    + "for i = 5, #ARGV, 3 do "
+                    + "  redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i]) "
+                    + "  redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2]) "
+                    + "end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // 추가/갱신 후 capacity 건만 남기고 전체 알림 수에 새 행 수(ARGV[4])를 더함
+    // 캐시가 없으면 진행 중인 채우기가 이 알림을 놓치지 않도록 표시만 남김
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then "
+                    + "  redis.call('SET', KEYS[3], '1', 'EX', ARGV[3]) "
+                    + "  return 0 "
+                    + "end "
+                    + "redis.call('HINCRBY', KEYS[2], '" + TOTAL_FIELD + "', ARGV[4]) "
+                    + "for i = 5, #ARGV, 3 do "
+                    + "  redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i]) "
+                    + "  redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2]) "
+                    + "end "
+                    + "local excess = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[1]) "
+                    + "if excess > 0 then "
+                    + "  local evicted = redis.call('ZRANGE', KEYS[1], 0, excess - 1) "
+                    + "  redis.call('ZREMRANGEBYRANK', KEYS[1], 0, excess - 1) "
+                    + "  redis.call('HDEL', KEYS[2], unpack(evicted)) "
+                    + "end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    // 읽은 사이 다른 갱신이 없었을 때만 교체 (이미 밀려난 알림이면 성공으로 간주)
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) "
+                    + "if not current then return 1 end "
+                    + "if current ~= ARGV[2] then return 0 end "
+                    + "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) "
+                    + "return 1",
+            Long.class);
+
+    // 캐시에 없는 알림의 읽음 반영. 캐시가 없으면 진행 중인 채우기가 읽기 전 상태를 쓰지 않도록 표시만 남기고,
+    // 그 사이 채워져 알림이 들어왔으면 0
+    private static final RedisScript<Long> MARK_ABSENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then "
+                    + "  redis.call('SET', KEYS[3], '1', 'EX', ARGV[2]) "
+                    + "  return 1 "
+                    + "end "
+                    + "if redis.call('HEXISTS', KEYS[2], ARGV[1]) == 1 then return 0 end "
+                    + "return 1",
+            Long.class);
+
+    // 모두 읽음 처리로 이동한 워터마크 반영 (캐시가 없으면 진행 중인 채우기가 이전 워터마크를 쓰지 않도록 표시만 남김)
+    private static final RedisScript<Long> WATERMARK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then "
+                    + "  redis.call('SET', KEYS[3], '1', 'EX', ARGV[2]) "
+                    + "  return 0 "
+                    + "end "
+                    + "local current = tonumber(redis.call('HGET', KEYS[2], '" + WATERMARK_FIELD + "') or '0') "
+                    + "if tonumber(ARGV[1]) > current then "
+                    + "  redis.call('HSET', KEYS[2], '" + WATERMARK_FIELD + "', ARGV[1]) "
+                    + "end "
+                    + "return 1",
+            Long.class);
+
+    // 삭제된 알림이 캐시에 있었으면 캐시를 버림 (남은 알림만으로는 최신 capacity 건을 보장할 수 없어 DB에서 다시 채움)
+    // 캐시 밖의 오래된 알림만 삭제되었으면 전체 알림 수만 줄이고, 캐시가 없으면 진행 중인 채우기를 막음
+    private static final String REMOVE_DELETED_SCRIPT =
+            "if redis.call('ZREM', KEYS[1], unpack(ARGV, 2)) > 0 then "
+                    + "  redis.call('DEL', KEYS[1], KEYS[2]) "
+                    + "  return 1 "
+                    + "end "
+                    + "if redis.call('EXISTS', KEYS[2]) == 0 then "
+                    + "  redis.call('SET', KEYS[3], '1', 'EX', ARGV[1]) "
+                    + "  return 0 "
+                    + "end "
+                    + "redis.call('HINCRBY', KEYS[2], '" + TOTAL_FIELD + "', 1 - #ARGV) "
+                    + "return 0";
+    // 스크립트 한 번에 넘기는 최대 알림 수 (Lua unpack 인자 수 제한)
+    private static final int REMOVE_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int capacity;
+    private final long ttlSeconds;
+    private final long warmGuardSeconds;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public NotificationHotInbox(StringRedisTemplate stringRedisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${notification.inbox.hot.enabled:true}") boolean enabled,
+            @Value("${notification.inbox.hot.capacity:50}") int capacity,
+            @Value("${notification.inbox.hot.ttl-seconds:604800}") long ttlSeconds,
+            @Value("${notification.inbox.hot.warm-guard-seconds:10}") long warmGuardSeconds) {
+        if (capacity <= 0 || ttlSeconds <= 0 || warmGuardSeconds <= 0) {
+            throw new IllegalArgumentException("inbox.hot 설정의 capacity, ttl-seconds, warm-guard-seconds는 1 이상이어야 합니다");
+        }
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 애플리케이션 ObjectMapper의 타입 정보 없이 DTO 필드만 저장
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.ttlSeconds = ttlSeconds;
+        this.warmGuardSeconds = warmGuardSeconds;
+
+        this.hitCounter = Counter.builder("notification.inbox.hot")
+                .description("핫 티어에서 응답한 첫 페이지 조회 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("notification.inbox.hot")
+                .description("핫 티어에서 응답한 첫 페이지 조회 수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최신 알림 limit 건과 전체 알림 수, 읽음 워터마크 조회
+     * 비활성화, capacity 초과 요청, 캐시 없음, Redis 오류이면 비어 있는 값을 반환하며 DB에서 조회해야 합니다.
+     */
+    public Optional<Latest> getLatest(Long userId, int limit) {
+        if (!enabled || limit > capacity) {
+            return Optional.empty();
+        }
+
+        try {
+            List<?> items = stringRedisTemplate.execute(READ_SCRIPT,
+                    List.of(IDS_KEY_PREFIX + userId, ITEMS_KEY_PREFIX + userId), String.valueOf(limit));
+            if (items == null || items.size() < READ_HEADER_SIZE || !WARM_FLAG.equals(String.valueOf(items.get(0)))) {
+                missCounter.increment();
+                return Optional.empty();
+            }
+
+            List<NotificationDTO> notifications = new ArrayList<>(items.size() - READ_HEADER_SIZE);
+            for (Object item : items.subList(READ_HEADER_SIZE, items.size())) {
+                if (item == null || item.toString().isEmpty()) {
+                    // ZSET과 HASH가 어긋난 경우 캐시를 버리고 DB에서 다시 채움
+                    evict(userId);
+                    missCounter.increment();
+                    return Optional.empty();
+                }
+                notifications.add(objectMapper.readValue(item.toString(), NotificationDTO.class));
+            }
+            hitCounter.increment();
+            return Optional.of(new Latest(notifications,
+                    Long.parseLong(items.get(1).toString()), Long.parseLong(items.get(2).toString())));
+        } catch (Exception e) {
+            log.warn("알림 핫 티어 조회 실패로 DB에서 조회합니다: userId={}, reason={}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * DB에서 조회한 최신 알림으로 캐시 채우기
+     * @param latest 최신순 상위 capacity 건 (사용자 알림이 그보다 적으면 전체)
+     * @param total 사용자의 전체 알림 수
+     * @param watermark 읽음 워터마크 (모두 읽음 처리한 적이 없으면 0)
+     */
+    public void warm(Long userId, List<NotificationDTO> latest, long total, long watermark) {
+        if (!enabled) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(4 + Math.min(latest.size(), capacity) * 3);
+        args.add(String.valueOf(capacity));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(total));
+        args.add(String.valueOf(watermark));
+        for (NotificationDTO notification : latest.subList(0, Math.min(latest.size(), capacity))) {
+            if (!appendEntry(args, notification)) {
+                return;
+            }
+        }
+
+        try {
+            stringRedisTemplate.execute(WARM_SCRIPT, keys(userId), args.toArray());
+        } catch (Exception e) {
+            log.warn("알림 핫 티어 채우기 실패: userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 새로 저장된 알림 반영 (트랜잭션 안에서 호출하면 커밋 후 반영)
+     */
+    public void add(Long userId, List<NotificationDTO> notifications) {
+        if (!enabled || notifications.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> write(userId, notifications, notifications.size()));
+    }
+
+    /**
+     * 병합으로 내용이 바뀐 알림 반영 (행 수는 그대로이므로 전체 알림 수를 바꾸지 않음)
+     */
+    public void update(Long userId, List<NotificationDTO> notifications) {
+        if (!enabled || notifications.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> write(userId, notifications, 0));
+    }
+
+    private void write(Long userId, List<NotificationDTO> notifications, int created) {
+
+        List<String> args = new ArrayList<>(4 + notifications.size() * 3);
+        args.add(String.valueOf(capacity));
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(warmGuardSeconds));
+        args.add(String.valueOf(created));
+        for (NotificationDTO notification : notifications) {
+            if (!appendEntry(args, notification)) {
+                evict(userId);
+                return;
+            }
+        }
+
+        try {
+            stringRedisTemplate.execute(ADD_SCRIPT, keys(userId), args.toArray());
+        } catch (Exception e) {
+            // 반영하지 못한 알림이 첫 페이지에서 빠지지 않도록 캐시를 버림 (실패하면 TTL로 만료)
+            log.warn("알림 핫 티어 반영 실패: userId={}, reason={}", userId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    /**
+     * 캐시된 알림을 읽음 상태로 변경 (트랜잭션 안에서 호출하면 커밋 후 반영)
+     */
+    public void markAsRead(Long userId, Long notificationId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> replaceAsRead(userId, notificationId));
+    }
+
+    private void replaceAsRead(Long userId, Long notificationId) {
+
+        String itemsKey = ITEMS_KEY_PREFIX + userId;
+        String member = member(notificationId);
+        try {
+            Object current = stringRedisTemplate.opsForHash().get(itemsKey, member);
+            if (current == null) {
+                Long absent = stringRedisTemplate.execute(MARK_ABSENT_SCRIPT, keys(userId),
+                        member, String.valueOf(warmGuardSeconds));
+                if (absent == null || absent == 0) {
+                    // 조회 직후 채워진 캐시에 읽기 전 상태가 들어갔을 수 있으므로 버림
+                    evict(userId);
+                }
+                return;
+            }
+            NotificationDTO notification = objectMapper.readValue(current.toString(), NotificationDTO.class);
+            String updated = objectMapper.writeValueAsString(notification.toBuilder().isRead(true).build());
+
+            Long replaced = stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(itemsKey),
+                    member, current.toString(), updated);
+            if (replaced == null || replaced == 0) {
+                // 그 사이 병합 등으로 바뀌었으면 캐시를 버리고 DB에서 다시 채움
+                evict(userId);
+            }
+        } catch (Exception e) {
+            log.warn("알림 핫 티어 읽음 반영 실패: userId={}, notificationId={}, reason={}",
+                    userId, notificationId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    /**
+     * 모두 읽음 처리로 이동한 읽음 워터마크 반영 (트랜잭션 안에서 호출하면 커밋 후 반영)
+     * 워터마크 압축은 이미 읽은 알림만 접으므로 캐시된 알림의 읽음 여부가 바뀌지 않아 반영하지 않습니다.
+     */
+    public void advanceWatermark(Long userId, long watermark) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(WATERMARK_SCRIPT, keys(userId),
+                        String.valueOf(watermark), String.valueOf(warmGuardSeconds));
+            } catch (Exception e) {
+                log.warn("알림 핫 티어 워터마크 반영 실패: userId={}, reason={}", userId, e.getMessage());
+                evict(userId);
+            }
+        });
+    }
+
+    /**
+     * 보존 기간 정리로 삭제된 알림 반영
+     * 삭제된 알림이 캐시에 있던 사용자만 캐시를 버리며, 사용자 수만큼 왕복하지 않도록 파이프라인으로 처리합니다.
+     * @param notificationIdsByUser 사용자별 삭제된 알림 ID
+     */
+    public void removeDeleted(Map<Long, List<Long>> notificationIdsByUser) {
+        if (!enabled || notificationIdsByUser.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                notificationIdsByUser.forEach((userId, notificationIds) -> {
+                    for (int from = 0; from < notificationIds.size(); from += REMOVE_BATCH_SIZE) {
+                        List<Long> batch = notificationIds.subList(from,
+                                Math.min(from + REMOVE_BATCH_SIZE, notificationIds.size()));
+                        String[] keysAndArgs = new String[4 + batch.size()];
+                        keysAndArgs[0] = IDS_KEY_PREFIX + userId;
+                        keysAndArgs[1] = ITEMS_KEY_PREFIX + userId;
+                        keysAndArgs[2] = DIRTY_KEY_PREFIX + userId;
+                        keysAndArgs[3] = String.valueOf(warmGuardSeconds);
+                        for (int i = 0; i < batch.size(); i++) {
+                            keysAndArgs[4 + i] = member(batch.get(i));
+                        }
+                        stringConnection.eval(REMOVE_DELETED_SCRIPT, ReturnType.INTEGER, 3, keysAndArgs);
+                    }
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("알림 핫 티어에서 삭제된 알림을 제거하지 못했습니다 (TTL 만료로 정리됨): users={}, reason={}",
+                    notificationIdsByUser.size(), e.getMessage());
+        }
+    }
+
+    public void evict(Long userId) {
+        try {
+            stringRedisTemplate.delete(List.of(IDS_KEY_PREFIX + userId, ITEMS_KEY_PREFIX + userId));
+        } catch (Exception e) {
+            log.debug("알림 핫 티어 삭제 실패 (TTL 만료로 정리됨): userId={}, reason={}", userId, e.getMessage());
+        }
+    }
+
+    public int getCapacity() {
+        return enabled ? capacity : 0;
+    }
+
+    /**
+     * 핫 티어 조회 결과
+     * @param notifications 최신순 알림 (읽음 워터마크 적용 전)
+     * @param total 사용자의 전체 알림 수
+     * @param watermark 읽음 워터마크
+     */
+    public record Latest(List<NotificationDTO> notifications, long total, long watermark) {
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private List<String> keys(Long userId) {
+        return List.of(IDS_KEY_PREFIX + userId, ITEMS_KEY_PREFIX + userId, DIRTY_KEY_PREFIX + userId);
+    }
+
+    // (member, score, json) 순서로 추가
+    private boolean appendEntry(List<String> args, NotificationDTO notification) {
+        try {
+            args.add(member(notification.getNotificationId()));
+            args.add(String.valueOf(score(notification)));
+            args.add(objectMapper.writeValueAsString(notification));
+            return true;
+        } catch (JsonProcessingException e) {
+            log.warn("알림 핫 티어 직렬화 실패: notificationId={}, reason={}",
+                    notification.getNotificationId(), e.getMessage());
+            return false;
+        }
+    }
+
+    // 같은 점수에서는 멤버 사전 역순 = ID 역순이 되도록 자릿수를 맞춤
+    static String member(Long notificationId) {
+        return String.format("%019d", notificationId);
+    }
+
+    // DATETIME(6)과 같은 마이크로초 정밀도 (현재 시각 기준 2^53 미만이라 double로 정확히 표현됨)
+    static long score(NotificationDTO notification) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH,
+                notification.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant());
+    }
+}
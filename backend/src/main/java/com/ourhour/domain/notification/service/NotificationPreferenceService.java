@@ -0,0 +1,144 @@
+package com.ourhour.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ourhour.domain.notification.dto.NotificationPreferenceResDTO;
+import com.ourhour.domain.notification.enums.NotificationMuteTarget;
+import com.ourhour.domain.notification.enums.NotificationType;
+import com.ourhour.domain.notification.model.NotificationPreference;
+import com.ourhour.domain.notification.repository.MutedNotificationTarget;
+import com.ourhour.domain.notification.repository.NotificationMuteRepository;
+import com.ourhour.domain.notification.repository.NotificationPreferenceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별 알림 설정 (타입/프로젝트/채팅방 음소거)
+ * 알림 생성 전에 확인하므로 설정은 사용자 단위로 메모리에 캐시하고, 음소거된 알림은 저장과 SSE 전송을 모두 건너뜁니다.
+ * 변경한 인스턴스는 커밋 후 바로 캐시를 비우고, 다른 인스턴스는 ttl-seconds 안에 반영됩니다.
+ */
+@Slf4j
+@Service
+public class NotificationPreferenceService {
+
+    private final NotificationPreferenceRepository preferenceRepository;
+    private final NotificationMuteRepository muteRepository;
+    private final MeterRegistry meterRegistry;
+    private final LoadingCache<Long, NotificationPreference> preferences;
+
+    public NotificationPreferenceService(NotificationPreferenceRepository preferenceRepository,
+            NotificationMuteRepository muteRepository,
+            MeterRegistry meterRegistry,
+            @Value("${notification.preference.cache.max-users:100000}") long maxUsers,
+            @Value("${notification.preference.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.preferenceRepository = preferenceRepository;
+        this.muteRepository = muteRepository;
+        this.meterRegistry = meterRegistry;
+        this.preferences = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, preferences, "notification.preference");
+    }
+
+    /**
+     * 알림을 받지 않아야 하는지 여부
+     * 설정을 읽지 못하면 알림이 사라지지 않도록 받는 것으로 처리합니다.
+     * @param projectId 알림이 속한 프로젝트 (없으면 null)
+     * @param chatRoomId 알림이 속한 채팅방 (없으면 null)
+     */
+    public boolean isMuted(Long userId, NotificationType type, Long projectId, Long chatRoomId) {
+        NotificationPreference preference;
+        try {
+            preference = preferences.get(userId);
+        } catch (DataAccessException e) {
+            log.warn("알림 설정 조회 실패로 알림을 그대로 전송합니다: userId={}, reason={}", userId, e.getMessage());
+            return false;
+        }
+
+        if (!preference.isMuted(type, projectId, chatRoomId)) {
+            return false;
+        }
+        Counter.builder("notification.preference.muted")
+                .description("알림 설정으로 생성하지 않은 알림 수")
+                .tag("type", type.name())
+                .register(meterRegistry)
+                .increment();
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public NotificationPreferenceResDTO getPreference(Long userId) {
+        NotificationPreference preference = load(userId);
+
+        return NotificationPreferenceResDTO.builder()
+                .mutedTypes(preference.getMutedTypes())
+                .mutedProjectIds(Arrays.stream(preference.getMutedProjectIds()).boxed().toList())
+                .mutedChatRoomIds(Arrays.stream(preference.getMutedChatRoomIds()).boxed().toList())
+                .build();
+    }
+
+    // 받지 않을 알림 타입 전체를 교체
+    @Transactional
+    public void updateMutedTypes(Long userId, Set<NotificationType> mutedTypes) {
+        preferenceRepository.upsertMutedTypes(userId, NotificationPreference.toMask(mutedTypes));
+        evictAfterCommit(userId);
+    }
+
+    @Transactional
+    public void mute(Long userId, NotificationMuteTarget targetType, Long targetId) {
+        muteRepository.insertIgnore(userId, targetType.name(), targetId);
+        evictAfterCommit(userId);
+    }
+
+    @Transactional
+    public void unmute(Long userId, NotificationMuteTarget targetType, Long targetId) {
+        muteRepository.deleteMute(userId, targetType, targetId);
+        evictAfterCommit(userId);
+    }
+
+    // 사용자 설정을 DB에서 읽어 캐시 항목 생성 (설정이 없으면 공유 인스턴스)
+    private NotificationPreference load(Long userId) {
+        long mutedTypes = preferenceRepository.findMutedTypes(userId).orElse(0L);
+        List<MutedNotificationTarget> targets = muteRepository.findMutedTargets(userId);
+
+        return NotificationPreference.of(mutedTypes,
+                targetIds(targets, NotificationMuteTarget.PROJECT),
+                targetIds(targets, NotificationMuteTarget.CHAT_ROOM));
+    }
+
+    private long[] targetIds(List<MutedNotificationTarget> targets, NotificationMuteTarget targetType) {
+        return targets.stream()
+                .filter(target -> target.getTargetType() == targetType)
+                .mapToLong(MutedNotificationTarget::getTargetId)
+                .toArray();
+    }
+
+    // 커밋 전에 비우면 그 사이 다른 요청이 이전 값을 다시 캐시할 수 있으므로 커밋 후 비움
+    private void evictAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    preferences.invalidate(userId);
+                }
+            });
+            return;
+        }
+        preferences.invalidate(userId);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ourhour.domain.notification.service;
+
+import com.ourhour.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.ourhour.domain.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 읽음 워터마크 압축기
+ * 개별 읽음 처리한 사용자를 모아두었다가, 워터마크 바로 뒤에 연속으로 읽은 알림이 있으면 워터마크를 그만큼 올립니다.
+ * 압축 후에는 해당 알림들의 is_read 플래그가 판정에 쓰이지 않으므로, 읽지 않은 알림 조회가 워터마크 이후 구간만 보게 됩니다.
+ * 커밋이 늦어진 알림을 건너뛰지 않도록 생성 후 settle-seconds가 지난 알림만 접습니다.
+ */
+@Slf4j
+@Component
+public class NotificationReadCompactor {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationReadWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long settleSeconds;
+    private final int batchSize;
+
+    // 마지막 압축 이후 개별 읽음 처리가 있었던 사용자
+    private final Set<Long> pendingUsers = ConcurrentHashMap.newKeySet();
+
+    public NotificationReadCompactor(NotificationRepository notificationRepository,
+            NotificationReadWatermarkRepository watermarkRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${notification.read-watermark.settle-seconds:60}") long settleSeconds,
+            @Value("${notification.read-watermark.compaction-batch-size:500}") int batchSize) {
+        this.notificationRepository = notificationRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settleSeconds = settleSeconds;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 개별 읽음 처리된 사용자를 다음 압축 대상으로 등록
+     */
+    public void track(Long userId) {
+        pendingUsers.add(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.read-watermark.compaction-interval-ms:300000}")
+    public void compactPending() {
+        if (pendingUsers.isEmpty()) {
+            return;
+        }
+
+        // 한 주기에 batchSize 명까지만 처리하고 나머지는 다음 주기로 넘김
+        List<Long> batch = new ArrayList<>(Math.min(batchSize, pendingUsers.size()));
+        Iterator<Long> iterator = pendingUsers.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(settleSeconds);
+        int advanced = 0;
+        for (Long userId : batch) {
+            try {
+                if (compact(userId, settledBefore)) {
+                    advanced++;
+                }
+            } catch (DataAccessException e) {
+                log.warn("알림 읽음 워터마크 압축 실패: userId={}, reason={}", userId, e.getMessage());
+            }
+        }
+
+        log.debug("알림 읽음 워터마크 압축 완료: users={}, advanced={}", batch.size(), advanced);
+    }
+
+    /**
+     * 사용자 한 명의 워터마크를 연속으로 읽은 구간 끝까지 이동
+     * @return 워터마크가 이동했으면 true
+     */
+    boolean compact(Long userId, LocalDateTime settledBefore) {
+        Boolean advanced = transactionTemplate.execute(status -> {
+            long watermark = watermarkRepository.findLastReadNotificationId(userId).orElse(0L);
+
+            Long firstUnsettled = notificationRepository.findFirstUnsettledNotificationId(
+                    userId, watermark, settledBefore);
+            Long lastSettled = notificationRepository.findLastSettledNotificationId(
+                    userId, watermark, firstUnsettled != null ? firstUnsettled : Long.MAX_VALUE, settledBefore);
+
+            if (lastSettled == null) {
+                return false;
+            }
+            watermarkRepository.advance(userId, lastSettled);
+            return true;
+        });
+        return Boolean.TRUE.equals(advanced);
+    }
+
+    // 압축 대기 중인 사용자 수
+    public int getPendingUserCount() {
+        return pendingUsers.size();
+    }
+}
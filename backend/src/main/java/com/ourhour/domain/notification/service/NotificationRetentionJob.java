@@ -0,0 +1,197 @@
+package com.ourhour.domain.notification.service;
+
+import com.ourhour.domain.notification.repository.NotificationArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 알림 보존 기간 정리 작업
+ * 읽은 알림은 read-retention-days, 모든 알림은 retention-days가 지나면 tbl_notification_archive로 옮기고 삭제합니다.
+ * 기본 키 범위(chunk-size) 단위로 짧은 트랜잭션을 반복하고, 범위 사이에 throttle-ms 만큼 쉬어 긴 잠금과 복제 지연을 피합니다.
+ * 여러 인스턴스가 동시에 실행하지 않도록 Redis 잠금을 잡은 인스턴스만 수행합니다.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private static final String LOCK_KEY = "notification:retention:lock";
+
+    private final NotificationArchiveRepository archiveRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationHotInbox notificationHotInbox;
+    private final ScheduledJobLock jobLock;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long readRetentionDays;
+    private final long retentionDays;
+    private final int chunkSize;
+    private final long throttleMillis;
+    private final int maxChunksPerRun;
+    private final Duration lockTtl;
+
+    private final Counter archivedCounter;
+    private final Counter deletedCounter;
+    private final DistributionSummary archivedPerRun;
+    private final Timer runTimer;
+
+    public NotificationRetentionJob(NotificationArchiveRepository archiveRepository,
+            UnreadNotificationCounter unreadNotificationCounter,
+            NotificationHotInbox notificationHotInbox,
+            ScheduledJobLock jobLock,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.retention.enabled:true}") boolean enabled,
+            @Value("${notification.retention.read-retention-days:30}") long readRetentionDays,
+            @Value("${notification.retention.retention-days:180}") long retentionDays,
+            @Value("${notification.retention.chunk-size:1000}") int chunkSize,
+            @Value("${notification.retention.throttle-ms:100}") long throttleMillis,
+            @Value("${notification.retention.max-chunks-per-run:10000}") int maxChunksPerRun,
+            @Value("${notification.retention.lock-ttl-minutes:60}") long lockTtlMinutes) {
+        if (readRetentionDays <= 0 || retentionDays < readRetentionDays || chunkSize <= 0) {
+            throw new IllegalArgumentException(
+                    "retention-days는 read-retention-days 이상이어야 하며, 보존 기간과 chunk-size는 1 이상이어야 합니다");
+        }
+        this.archiveRepository = archiveRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.notificationHotInbox = notificationHotInbox;
+        this.jobLock = jobLock;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.readRetentionDays = readRetentionDays;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.throttleMillis = throttleMillis;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+
+        this.archivedCounter = Counter.builder("notification.retention.archived")
+                .description("보관 테이블로 옮긴 알림 수")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("notification.retention.deleted")
+                .description("보관 후 삭제한 알림 수")
+                .register(meterRegistry);
+        this.archivedPerRun = DistributionSummary.builder("notification.retention.run.archived")
+                .description("실행 1회당 보관한 알림 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("notification.retention.run.duration")
+                .description("보존 기간 정리 실행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        String lockOwner = UUID.randomUUID().toString();
+        if (!jobLock.tryAcquire(LOCK_KEY, lockOwner, lockTtl)) {
+            log.info("다른 인스턴스가 알림 보존 기간 정리를 수행 중이므로 건너뜁니다");
+            return;
+        }
+
+        try {
+            int archived = runTimer.record(() -> archiveExpired(LocalDateTime.now()));
+            archivedPerRun.record(archived);
+        } finally {
+            jobLock.release(LOCK_KEY, lockOwner);
+        }
+    }
+
+    /**
+     * 가장 오래된 알림부터 기본 키 범위 단위로 보관/삭제
+     * 병합되지 않은 알림 중 보존 기간 안의 알림을 만나면 이후 ID는 모두 더 최근이므로 중단합니다.
+     * @return 보관한 알림 수
+     */
+    int archiveExpired(LocalDateTime now) {
+        LocalDateTime expiredBefore = now.minusDays(retentionDays);
+        LocalDateTime readExpiredBefore = now.minusDays(readRetentionDays);
+        LocalDateTime archivedAt = now;
+
+        Long maxId = archiveRepository.findMaxId();
+        Long fromId = archiveRepository.findNextId(0L);
+        if (maxId == null || fromId == null) {
+            return 0;
+        }
+
+        int archived = 0;
+        int chunks = 0;
+        while (fromId != null && fromId <= maxId && chunks < maxChunksPerRun) {
+            long chunkFrom = fromId;
+            long chunkTo = Math.min(chunkFrom + chunkSize, maxId + 1);
+
+            ChunkResult result;
+            try {
+                result = transactionTemplate.execute(status -> archiveChunk(
+                        chunkFrom, chunkTo, expiredBefore, readExpiredBefore, archivedAt));
+            } catch (DataAccessException e) {
+                log.warn("알림 보관 실패로 정리를 중단합니다: range=[{}, {}), reason={}",
+                        chunkFrom, chunkTo, e.getMessage());
+                break;
+            }
+            chunks++;
+
+            if (result != null && result.archived() > 0) {
+                archived += result.archived();
+                archivedCounter.increment(result.archived());
+                deletedCounter.increment(result.deleted());
+                // 삭제된 알림을 핫 티어가 계속 첫 페이지로 내보내지 않도록 커밋 후 제거
+                notificationHotInbox.removeDeleted(result.deletedIdsByUser());
+                // 읽지 않은 채로 보관된 알림이 있으면 해당 사용자 카운터를 DB와 대조
+                if (!result.unreadUserIds().isEmpty()) {
+                    unreadNotificationCounter.reconcile(result.unreadUserIds());
+                }
+            }
+
+            if (archiveRepository.hasRetainedOriginal(chunkFrom, chunkTo, readExpiredBefore)) {
+                break;
+            }
+            fromId = archiveRepository.findNextId(chunkTo);
+
+            if (!ScheduledJobLock.pause(throttleMillis)) {
+                break;
+            }
+        }
+
+        log.info("알림 보존 기간 정리 완료: archived={}, chunks={}, readRetentionDays={}, retentionDays={}",
+                archived, chunks, readRetentionDays, retentionDays);
+        return archived;
+    }
+
+    private ChunkResult archiveChunk(long fromId, long toId, LocalDateTime expiredBefore,
+            LocalDateTime readExpiredBefore, LocalDateTime archivedAt) {
+        int archived = archiveRepository.archiveRange(fromId, toId, expiredBefore, readExpiredBefore, archivedAt);
+        if (archived == 0) {
+            return new ChunkResult(0, 0, Map.of(), List.of());
+        }
+
+        Map<Long, List<Long>> deletedIdsByUser = archiveRepository.findArchivedOriginalIds(fromId, toId);
+        int deleted = archiveRepository.deleteArchivedRange(fromId, toId);
+        if (deleted != archived) {
+            log.warn("보관한 알림 수와 삭제한 알림 수가 다릅니다: range=[{}, {}), archived={}, deleted={}",
+                    fromId, toId, archived, deleted);
+        }
+        return new ChunkResult(archived, deleted, deletedIdsByUser,
+                archiveRepository.findUnreadArchivedUserIds(fromId, toId));
+    }
+
+    private record ChunkResult(int archived, int deleted, Map<Long, List<Long>> deletedIdsByUser,
+            List<Long> unreadUserIds) {
+    }
+}
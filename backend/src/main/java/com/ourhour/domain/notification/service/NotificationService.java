@@ -1,11 +1,14 @@
 package com.ourhour.domain.notification.service;
 
 import com.ourhour.domain.notification.dto.NotificationCreateReqDTO;
+import com.ourhour.domain.notification.dto.NotificationCursor;
+import com.ourhour.domain.notification.dto.NotificationCursorResDTO;
 import com.ourhour.domain.notification.dto.NotificationDTO;
 import com.ourhour.domain.notification.dto.NotificationPageResDTO;
 import com.ourhour.domain.notification.entity.NotificationEntity;
 import com.ourhour.domain.notification.exception.NotificationException;
 import com.ourhour.domain.notification.mapper.NotificationMapper;
+import com.ourhour.domain.notification.repository.NotificationReadWatermarkRepository;
 import com.ourhour.domain.notification.repository.NotificationRepository;
 import com.ourhour.domain.user.entity.UserEntity;
 import com.ourhour.domain.user.exception.UserException;
@@ -13,9 +16,6 @@ import com.ourhour.domain.user.repository.UserRepository;
 import com.ourhour.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -33,7 +34,11 @@ public class NotificationService {
         private final NotificationRepository notificationRepository;
         private final UserRepository userRepository;
         private final NotificationMapper notificationMapper;
-        private final CacheManager cacheManager;
+        private final UnreadNotificationCounter unreadNotificationCounter;
+        private final NotificationReadWatermarkRepository watermarkRepository;
+        private final NotificationReadCompactor notificationReadCompactor;
+        private final NotificationCoalescer notificationCoalescer;
+        private final NotificationHotInbox notificationHotInbox;
 
         // UserEntity 조회 공통 메소드
         private UserEntity getUserOrThrow(Long userId) {
@@ -41,32 +46,78 @@ public class NotificationService {
                                 .orElseThrow(() -> UserException.userNotFoundException());
         }
 
-        // 알림 생성
+        // 읽음 워터마크 조회 (모두 읽음 처리한 적이 없으면 0)
+        private long getReadWatermark(Long userId) {
+                return watermarkRepository.findLastReadNotificationId(userId).orElse(0L);
+        }
+
+        private List<NotificationDTO> toDTOList(List<NotificationEntity> rows, Long userId) {
+                List<NotificationDTO> notifications = notificationMapper.toDTOList(rows);
+                return notifications.isEmpty() ? notifications : applyReadWatermark(notifications, getReadWatermark(userId));
+        }
+
+        // 워터마크 이하의 알림은 is_read 값과 관계없이 읽음으로 응답
+        private List<NotificationDTO> applyReadWatermark(List<NotificationDTO> notifications, long watermark) {
+                return notifications.stream()
+                                .map(notification -> !notification.isRead()
+                                                && notification.getNotificationId() <= watermark
+                                                                ? notification.toBuilder().isRead(true).build()
+                                                                : notification)
+                                .collect(Collectors.toList());
+        }
+
+        // 최신 알림 limit 건과 전체 개수, 읽음 워터마크 (limit는 핫 티어 크기 이하)
+        // 핫 티어에 없으면 DB에서 핫 티어 크기만큼 읽어 채우고, 한 번에 다 읽히지 않은 사용자만 COUNT
+        private NotificationHotInbox.Latest getLatestNotifications(Long userId, int limit) {
+                return notificationHotInbox.getLatest(userId, limit)
+                                .orElseGet(() -> loadLatestNotifications(userId, limit));
+        }
+
+        private NotificationHotInbox.Latest loadLatestNotifications(Long userId, int limit) {
+                int capacity = notificationHotInbox.getCapacity();
+                List<NotificationDTO> latest = notificationMapper.toDTOList(notificationRepository
+                                .findLatestByUserId(userId, PageRequest.of(0, capacity)));
+                long total = latest.size() < capacity
+                                ? latest.size()
+                                : notificationRepository.countByUserId(userId);
+                long watermark = getReadWatermark(userId);
+                notificationHotInbox.warm(userId, latest, total, watermark);
+                return new NotificationHotInbox.Latest(
+                                latest.size() > limit ? latest.subList(0, limit) : latest, total, watermark);
+        }
+
+        // 알림 생성 (동기 단건 저장, 대량 생성은 NotificationBatchWriter 사용)
         @Transactional
         public NotificationDTO createNotification(NotificationCreateReqDTO dto) {
-                UserEntity user = getUserOrThrow(dto.getUserId());
+                // 사용자 존재 여부는 FK 제약으로 검증되므로 조회 없이 참조만 사용
+                UserEntity user = userRepository.getReferenceById(dto.getUserId());
 
                 NotificationEntity notification = notificationMapper.toEntity(dto, user);
                 NotificationEntity savedNotification = notificationRepository.save(notification);
+                NotificationDTO saved = notificationMapper.toDTO(savedNotification);
 
-                // 읽지 않은 알림 개수 캐시 무효화
-                evictUnreadCountCache(dto.getUserId());
+                // 커밋 후 읽지 않은 알림 카운터 증가 및 핫 티어 반영
+                unreadNotificationCounter.add(dto.getUserId(), 1);
+                notificationHotInbox.add(dto.getUserId(), List.of(saved));
 
-                return notificationMapper.toDTO(savedNotification);
+                return saved;
         }
 
-        // 알림 목록 조회
+        // 알림 목록 조회 (첫 페이지는 핫 티어에서 응답)
         public NotificationPageResDTO getNotifications(Long userId, int page, int size) {
-                UserEntity user = getUserOrThrow(userId);
+                if (page == 1 && size < notificationHotInbox.getCapacity()) {
+                        return getFirstPage(userId, size);
+                }
 
+                UserEntity user = getUserOrThrow(userId);
                 Pageable pageable = PageRequest.of(page - 1, size);
 
                 Page<NotificationEntity> notificationPage = notificationRepository
                                 .findByUserEntityOrderByCreatedAtDesc(user, pageable);
 
-                List<NotificationDTO> notifications = notificationMapper.toDTOList(notificationPage.getContent());
+                List<NotificationDTO> notifications = toDTOList(notificationPage.getContent(), userId);
 
-                long unreadCount = notificationRepository.countUnreadByUser(user);
+                long unreadCount = unreadNotificationCounter.get(userId);
 
                 return NotificationPageResDTO.builder()
                                 .notifications(notifications)
@@ -79,12 +130,73 @@ public class NotificationService {
                                 .build();
         }
 
-        // 읽지 않은 알림 개수 조회
-        @Cacheable(value = "unreadNotificationCount", key = "#userId")
-        public long getUnreadCount(Long userId) {
-                UserEntity user = getUserOrThrow(userId);
+        // 한 건 더 읽어 다음 페이지 여부를 판단하고, 전체 개수와 워터마크는 핫 티어에 함께 보관된 값 사용
+        // 핫 티어 적중 시 사용자/워터마크/COUNT 조회 없음 (캐시가 있으면 존재하는 사용자)
+        private NotificationPageResDTO getFirstPage(Long userId, int size) {
+                NotificationHotInbox.Latest latest = notificationHotInbox.getLatest(userId, size + 1)
+                                .orElseGet(() -> {
+                                        getUserOrThrow(userId);
+                                        return loadLatestNotifications(userId, size + 1);
+                                });
 
-                return notificationRepository.countUnreadByUser(user);
+                List<NotificationDTO> rows = latest.notifications();
+                boolean hasNext = rows.size() > size;
+                List<NotificationDTO> notifications = applyReadWatermark(
+                                hasNext ? rows.subList(0, size) : rows, latest.watermark());
+                long totalElements = latest.total();
+
+                return NotificationPageResDTO.builder()
+                                .notifications(notifications)
+                                .totalElements(totalElements)
+                                .totalPages((int) ((totalElements + size - 1) / size))
+                                .currentPage(1)
+                                .size(size)
+                                .unreadCount(unreadNotificationCounter.get(userId))
+                                .hasNext(hasNext)
+                                .build();
+        }
+
+        // 알림 목록 커서 조회 (무한스크롤/폴링용, 전체 개수 COUNT 없음)
+        public NotificationCursorResDTO getNotificationsByCursor(Long userId, String cursor, int size) {
+                // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+                Pageable limit = PageRequest.of(0, size + 1);
+
+                List<NotificationDTO> rows;
+                long watermark;
+                if ((cursor == null || cursor.isBlank()) && size < notificationHotInbox.getCapacity()) {
+                        // 첫 페이지는 핫 티어에서 조회
+                        NotificationHotInbox.Latest latest = getLatestNotifications(userId, size + 1);
+                        rows = latest.notifications();
+                        watermark = latest.watermark();
+                } else {
+                        if (cursor == null || cursor.isBlank()) {
+                                rows = notificationMapper.toDTOList(notificationRepository.findLatestByUserId(userId, limit));
+                        } else {
+                                NotificationCursor position = NotificationCursor.decode(cursor);
+                                rows = notificationMapper.toDTOList(notificationRepository.findByUserIdBeforeCursor(userId,
+                                                position.getCreatedAt(), position.getNotificationId(), limit));
+                        }
+                        watermark = rows.isEmpty() ? 0 : getReadWatermark(userId);
+                }
+
+                boolean hasNext = rows.size() > size;
+                List<NotificationDTO> notifications = applyReadWatermark(hasNext ? rows.subList(0, size) : rows, watermark);
+
+                String nextCursor = hasNext
+                                ? NotificationCursor.from(notifications.get(notifications.size() - 1)).encode()
+                                : null;
+
+                return NotificationCursorResDTO.builder()
+                                .notifications(notifications)
+                                .nextCursor(nextCursor)
+                                .hasNext(hasNext)
+                                .unreadCount(unreadNotificationCounter.get(userId))
+                                .build();
+        }
+
+        // 읽지 않은 알림 개수 조회 (DB COUNT 대신 카운터 사용)
+        public long getUnreadCount(Long userId) {
+                return unreadNotificationCounter.get(userId);
         }
 
         // 알림 읽음 처리
@@ -92,14 +204,28 @@ public class NotificationService {
         public void markAsRead(Long notificationId, Long userId) {
                 UserEntity user = getUserOrThrow(userId);
 
-                int updatedRows = notificationRepository.markAsReadByIdAndUser(notificationId, user);
+                // 워터마크 이하의 알림은 이미 읽은 상태
+                int updatedRows = notificationId <= getReadWatermark(userId)
+                                ? 0
+                                : notificationRepository.markAsReadByIdAndUser(notificationId, user);
 
                 if (updatedRows == 0) {
-                        throw NotificationException.notificationNotFound();
+                        // 이미 읽은 알림이면 카운터 변경 없이 종료
+                        if (!notificationRepository.existsByNotificationIdAndUserEntity(notificationId, user)) {
+                                throw NotificationException.notificationNotFound();
+                        }
+                        return;
                 }
 
-                // 읽지 않은 알림 개수 캐시 무효화
-                evictUnreadCountCache(userId);
+                // 커밋 후 읽지 않은 알림 카운터 감소 및 핫 티어 반영
+                unreadNotificationCounter.add(userId, -1);
+                notificationHotInbox.markAsRead(userId, notificationId);
+
+                // 읽은 행에는 더 이상 병합하지 않으므로 이후 같은 대상 알림은 새 행으로 저장
+                notificationCoalescer.closeWindow(userId, notificationId);
+
+                // 연속으로 읽은 알림은 나중에 워터마크로 접음
+                notificationReadCompactor.track(userId);
 
                 log.info("알림 읽음 처리 완료: notificationId={}, userId={}", notificationId, userId);
         }
@@ -107,23 +233,26 @@ public class NotificationService {
         // 모든 알림 읽음 처리
         @Transactional
         public int markAllAsRead(Long userId) {
-                UserEntity user = getUserOrThrow(userId);
+                getUserOrThrow(userId);
 
-                int updatedRows = notificationRepository.markAllAsReadByUser(user);
+                // 알림 행 전체를 UPDATE하지 않고 사용자의 최신 알림 ID까지 워터마크만 이동
+                int readCount = (int) unreadNotificationCounter.get(userId);
+                Long latestNotificationId = notificationRepository.findMaxNotificationIdByUserId(userId);
+                if (latestNotificationId != null) {
+                        watermarkRepository.advance(userId, latestNotificationId);
+                        // 커밋 후 핫 티어에 보관한 워터마크도 이동
+                        notificationHotInbox.advanceWatermark(userId, latestNotificationId);
+                }
 
-                // 읽지 않은 알림 개수 캐시 무효화
-                evictUnreadCountCache(userId);
+                // 워터마크 아래 행에 이후 알림이 병합되지 않도록 열린 병합 윈도우를 닫음 (반영 전 병합분은 버림)
+                notificationCoalescer.closeWindows(userId);
 
-                log.info("모든 알림 읽음 처리 완료: userId={}, count={}", userId, updatedRows);
+                // 커밋 후 읽지 않은 알림 카운터 초기화
+                unreadNotificationCounter.set(userId, 0);
 
-                return updatedRows;
-        }
+                log.info("모든 알림 읽음 처리 완료: userId={}, count={}, watermark={}",
+                                userId, readCount, latestNotificationId);
 
-        // 캐시 무효화 헬퍼 메서드
-        private void evictUnreadCountCache(Long userId) {
-                Cache cache = cacheManager.getCache("unreadNotificationCount");
-                if (cache != null) {
-                        cache.evict(userId);
-                }
+                return readCount;
         }
 }
\ No newline at end of file
@@ -4,118 +4,284 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ourhour.domain.notification.dto.NotificationDTO;
 import com.ourhour.domain.notification.dto.SSEEventDTO;
 import com.ourhour.domain.notification.model.SseConnection;
+import com.ourhour.domain.notification.sse.SseClusterMessage;
+import com.ourhour.domain.notification.sse.SseClusterRouter;
+import com.ourhour.domain.notification.sse.SseConnectionRegistry;
+import com.ourhour.domain.notification.sse.SseDispatcher;
+import com.ourhour.domain.notification.sse.SseFrame;
+import com.ourhour.domain.notification.sse.SseHeartbeatWheel;
+import com.ourhour.domain.notification.sse.SseReplayBuffer;
+import com.ourhour.domain.notification.sse.SseReplayEvent;
+import com.ourhour.domain.notification.sse.SseReplayResult;
+import com.ourhour.domain.notification.sse.SseShutdownDrainer;
+import com.ourhour.domain.notification.sse.SseTopic;
+import com.ourhour.domain.notification.sse.SseTopicRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.scheduling.annotation.Scheduled;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-import jakarta.annotation.PreDestroy;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class SSENotificationService {
+public class SSENotificationService implements SmartLifecycle {
 
     private final ObjectMapper objectMapper;
+    private final SseConnectionRegistry connectionRegistry;
+    private final SseHeartbeatWheel heartbeatWheel;
+    private final SseDispatcher dispatcher;
+    private final SseReplayBuffer replayBuffer;
+    private final SseClusterRouter clusterRouter;
+    private final SseTopicRegistry topicRegistry;
+    private final SseTopicResolver topicResolver;
+    private final SseShutdownDrainer shutdownDrainer;
+    private final MeterRegistry meterRegistry;
+
+    private static final SseFrame CONNECTED_FRAME = SseFrame.of("connection", "connected");
+    private static final SseFrame RESYNC_FRAME = SseFrame.of("notification", "{\"type\":\"resync_required\",\"data\":null}");
 
     // 설정값
     @Value("${notification.sse.timeout:1800000}")
     private long sseTimeout;
 
-    @Value("${notification.sse.heartbeat-pool-size:10}")
-    private int heartbeatPoolSize;
-
-    @Value("${notification.sse.heartbeat-interval:15}")
-    private int heartbeatInterval;
-
     @Value("${notification.sse.cleanup-interval:60}")
     private int cleanupIntervalSeconds;
 
     @Value("${notification.sse.connection-timeout:30}")
     private long connectionTimeoutMinutes;
 
-    // 사용자별 SSE 연결을 관리하는 맵 (SseConnection으로 변경)
-    private final Map<Long, SseConnection> connections = new ConcurrentHashMap<>();
+    // 연결 종료 사유 (sse.connections.closed 태그)
+    private static final String CLOSE_COMPLETED = "completed";
+    private static final String CLOSE_TIMEOUT = "timeout";
+    private static final String CLOSE_ERROR = "error";
+    private static final String CLOSE_EVICTED = "evicted";
+    private static final String CLOSE_STALE = "stale";
+    private static final String CLOSE_SEND_FAILURE = "send_failure";
+    private static final String CLOSE_HEARTBEAT_FAILURE = "heartbeat_failure";
+    private static final String CLOSE_DRAIN = "drain";
 
-    // heartbeat용 스케줄러
-    private ScheduledExecutorService heartbeatScheduler;
+    private Counter connectionOpenedCounter;
+    private volatile boolean draining;
+    private volatile boolean running;
 
     @PostConstruct
     public void init() {
-        this.heartbeatScheduler = Executors.newScheduledThreadPool(heartbeatPoolSize);
+        Gauge.builder("sse.connections.active", connectionRegistry, SseConnectionRegistry::getConnectionCount)
+                .description("이 인스턴스의 활성 SSE 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.connections.users", connectionRegistry, SseConnectionRegistry::getUserCount)
+                .description("이 인스턴스에 SSE로 연결된 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.topics.active", topicRegistry, SseTopicRegistry::getTopicCount)
+                .description("이 인스턴스에서 구독자가 있는 토픽 수")
+                .register(meterRegistry);
+        connectionOpenedCounter = Counter.builder("sse.connections.opened")
+                .description("생성된 SSE 연결 수")
+                .register(meterRegistry);
+
+        // 전송에 실패한 연결은 레지스트리에서도 정리
+        dispatcher.start(connection -> cleanupConnection(connection, CLOSE_SEND_FAILURE));
+        heartbeatWheel.start(connection -> cleanupConnection(connection, CLOSE_HEARTBEAT_FAILURE));
+        // 다른 노드에서 발행된 이 노드 연결 사용자의 이벤트 수신
+        clusterRouter.start(this::deliverClusterMessage);
     }
 
-    // 사용자별 SSE 연결 생성
-    public SseEmitter subscribe(Long userId) {
+    // 사용자별 SSE 연결 생성 (같은 사용자의 다른 탭/기기 연결은 유지)
+    // lastEventId가 있으면 재전송 버퍼에서 놓친 이벤트를 먼저 보냄
+    public SseEmitter subscribe(Long userId, Long lastEventId) {
         SseEmitter emitter = new SseEmitter(sseTimeout);
 
-        // 기존 연결이 있다면 정리
-        cleanupConnection(userId);
+        // 종료 중인 노드는 새 연결을 받지 않고 지터를 둔 재연결 힌트만 보낸 뒤 닫음
+        if (draining) {
+            rejectWhileDraining(emitter);
+            return emitter;
+        }
+
+        // SseConnection 객체 생성 및 등록
+        SseConnection connection = new SseConnection(userId, emitter, dispatcher.getQueueCapacity());
+        List<SseConnection> evicted;
+
+        // 등록과 재전송을 이벤트 전송과 같은 락 안에서 수행하여 그 사이 이벤트의 누락/순서 역전 방지
+        synchronized (connectionRegistry.lockFor(userId)) {
+            evicted = connectionRegistry.register(connection);
+            connectionOpenedCounter.increment();
 
-        // SseConnection 객체 생성
-        SseConnection connection = new SseConnection(userId, emitter);
-        connections.put(userId, connection);
+            // 초기 연결 메시지를 가장 먼저 송신 큐에 넣음 (연결 안정화)
+            dispatcher.dispatch(connection, CONNECTED_FRAME);
 
-        // 연결 완료 및 오류 처리
+            if (lastEventId != null) {
+                replayMissedEvents(connection, lastEventId);
+            }
+        }
+
+        // 사용자별 연결 상한을 넘어 밀려난 연결 정리
+        evicted.forEach(evictedConnection -> {
+            log.debug("Evicted oldest SSE connection {} for user {} (max {} per user)",
+                    evictedConnection.getConnectionId(), userId, connectionRegistry.getMaxConnectionsPerUser());
+            cleanupConnection(evictedConnection, CLOSE_EVICTED);
+        });
+
+        // 연결 완료 및 오류 처리 (해당 연결만 정리)
         emitter.onCompletion(() -> {
-            cleanupConnection(userId);
+            cleanupConnection(connection, CLOSE_COMPLETED);
         });
 
         emitter.onTimeout(() -> {
-            cleanupConnection(userId);
+            cleanupConnection(connection, CLOSE_TIMEOUT);
         });
 
         emitter.onError((ex) -> {
-            cleanupConnection(userId);
+            cleanupConnection(connection, CLOSE_ERROR);
         });
 
-        // 연결 유지를 위한 heartbeat 스케줄러 시작 (초기 메시지 포함)
-        startHeartbeat(connection);
+        // 연결 유지를 위한 heartbeat 휠 등록
+        if (connection.isValid()) {
+            heartbeatWheel.add(connection);
+            // 다른 노드에서 발생한 이 사용자의 이벤트가 이 노드로 오도록 라우팅 등록
+            clusterRouter.registerLocalUser(userId);
+            // 참여 중인 조직/프로젝트/채팅방 토픽 구독 (소속 변경은 다음 연결부터 반영)
+            // 조회가 끝나기 전에 연결이 정리되면 구독 시 재확인하여 되돌림
+            try {
+                topicResolver.resolveAsync(userId).thenAccept(topics -> topicRegistry.subscribe(connection, topics));
+            } catch (TaskRejectedException e) {
+                // 토픽 구독 실패는 개인 알림 연결에 영향을 주지 않음
+                log.warn("SSE 토픽 조회 대기열이 가득 차 토픽을 구독하지 않습니다: userId={}", userId);
+            }
+        }
 
         return emitter;
     }
 
+    private void rejectWhileDraining(SseEmitter emitter) {
+        try {
+            SseFrame.retry(shutdownDrainer.nextRetryMillis(), SseShutdownDrainer.DRAIN_EVENT).writeTo(emitter);
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 재전송 버퍼에서 lastEventId 이후 이벤트를 찾아 전송 (tbl_notification 조회 없음)
+    private void replayMissedEvents(SseConnection connection, long lastEventId) {
+        SseReplayResult result = replayBuffer.since(connection.getUserId(), lastEventId);
+
+        for (SseReplayEvent event : result.getEvents()) {
+            dispatcher.dispatch(connection, event.toFrame());
+        }
+
+        // 버퍼에서 이미 밀려난 이벤트가 있으면 클라이언트가 목록을 다시 조회하도록 안내
+        if (!result.isComplete()) {
+            dispatcher.dispatch(connection, RESYNC_FRAME);
+        }
+
+        log.debug("Replayed {} SSE events for user {} after {} (complete={})",
+                result.getEvents().size(), connection.getUserId(), lastEventId, result.isComplete());
+    }
+
     // SSE 이벤트 전송 공통 메소드
     private void sendEvent(Long userId, String eventName, String eventType, Object data) {
-        SseConnection connection = connections.get(userId);
+        sendEventToUsers(List.of(userId), eventName, eventType, data, 0L);
+    }
 
-        if (connection != null && connection.isValid()) {
-            try {
-                SSEEventDTO event = SSEEventDTO.builder()
-                        .type(eventType)
-                        .data(data)
-                        .build();
+    // 여러 사용자에게 같은 이벤트 전송: JSON 직렬화와 UTF-8 인코딩은 한 번만 수행하고 수신자별로 id 필드만 붙임
+    // 연결이 없는 사용자의 이벤트도 재연결 시 돌려줄 수 있도록 재전송 버퍼에는 항상 보관
+    // originMillis: 알림 생성 요청 시각 (0이면 전송 지연을 측정하지 않음)
+    private void sendEventToUsers(Collection<Long> userIds, String eventName, String eventType, Object data,
+            long originMillis) {
+        String payload;
+        try {
+            SSEEventDTO event = SSEEventDTO.builder()
+                    .type(eventType)
+                    .data(data)
+                    .build();
+            payload = objectMapper.writeValueAsString(event);
+        } catch (IOException e) {
+            log.warn("Failed to serialize SSE event for {} users: {}", userIds.size(), e.getMessage());
+            return;
+        }
+        SseFrame encodedBody = SseFrame.of(eventName, payload).withOrigin(originMillis);
+
+        Map<Long, SseReplayEvent> events = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            // ID 부여와 송신 큐 적재를 사용자 락 안에서 수행하여 재연결 시 재전송과 순서를 맞춤
+            SseReplayEvent event;
+            synchronized (connectionRegistry.lockFor(userId)) {
+                event = replayBuffer.append(userId, eventName, payload);
+                dispatchToLocalConnections(userId, event.toFrame(encodedBody));
+            }
+            events.put(userId, event);
+        }
 
-                connection.getEmitter().send(SseEmitter.event()
-                        .name(eventName)
-                        .data(objectMapper.writeValueAsString(event)));
+        // 다른 노드에 연결된 탭/기기로 전달 (Redis 호출은 락 밖에서, 수신자 전체를 한 번에 조회)
+        clusterRouter.publishToRemoteNodes(events, originMillis);
+    }
 
-                // 마지막 활동 시간 업데이트
-                connection.updateLastActivity();
+    // 다른 노드에서 ID가 부여된 이벤트(또는 토픽 이벤트)를 이 노드의 연결로 전송
+    private void deliverClusterMessage(SseClusterMessage message) {
+        if (message.getTopic() != null) {
+            dispatchToTopic(SseTopic.fromKey(message.getTopic()), message.toFrame());
+            return;
+        }
+        synchronized (connectionRegistry.lockFor(message.getUserId())) {
+            dispatchToLocalConnections(message.getUserId(), message.toFrame());
+        }
+    }
 
-            } catch (IOException e) {
-                cleanupConnection(userId);
-            }
+    // 사용자의 이 노드 내 모든 탭/기기 연결로 전송
+    private void dispatchToLocalConnections(Long userId, SseFrame frame) {
+        for (SseConnection connection : connectionRegistry.getConnections(userId)) {
+            dispatcher.dispatch(connection, frame);
+        }
+    }
+
+    // 토픽을 구독한 이 노드의 모든 연결로 전송
+    private void dispatchToTopic(SseTopic topic, SseFrame frame) {
+        for (SseConnection connection : topicRegistry.getSubscribers(topic)) {
+            dispatcher.dispatch(connection, frame);
         }
     }
 
+    // 토픽 이벤트 전송: 알림 행/재전송 버퍼 없이 구독 연결에 한 번 인코딩한 프레임을 그대로 전파
+    // 재연결 중 놓친 토픽 이벤트는 복구하지 않으므로 화면 갱신 힌트 같은 일시적인 이벤트에만 사용
+    public void publishToTopic(SseTopic topic, String eventType, Object data) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(SSEEventDTO.builder()
+                    .type(eventType)
+                    .data(data)
+                    .build());
+        } catch (IOException e) {
+            log.warn("Failed to serialize SSE topic event for {}: {}", topic.key(), e.getMessage());
+            return;
+        }
+
+        dispatchToTopic(topic, SseFrame.of("notification", payload));
+        clusterRouter.publishToTopic(topic, "notification", payload);
+    }
+
     // 알림 전송 (SecurityContext 없이도 작동하도록 userId 명시적 전달)
     public void sendNotification(Long userId, NotificationDTO notification) {
-        sendEvent(userId, "notification", "notification", notification);
+        sendNotification(userId, notification, 0L);
+    }
+
+    // requestedAtMillis: 알림 생성 요청 시각 (생성부터 SSE 쓰기까지의 지연 측정용)
+    public void sendNotification(Long userId, NotificationDTO notification, long requestedAtMillis) {
+        sendEventToUsers(List.of(userId), "notification", "notification", notification, requestedAtMillis);
     }
 
     // 알림 읽음 처리
@@ -130,143 +296,138 @@ public class SSENotificationService {
                 Map.of("message", "모든 알림이 읽음 처리되었습니다"));
     }
 
+    // 읽지 않은 알림 개수 변경
+    public void sendUnreadCount(Long userId, long unreadCount) {
+        sendEvent(userId, "notification", "unread_count", Map.of("count", unreadCount));
+    }
+
+    // 여러 사용자에게 같은 내용의 이벤트 전송 (예: 채팅방 전체 대상 이벤트)
+    public void sendToUsers(Collection<Long> userIds, String eventType, Object data) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        sendEventToUsers(userIds, "notification", eventType, data, 0L);
+    }
+
     // 사용자별 SSE 연결 상태 확인
     public boolean isConnected(Long userId) {
-        SseConnection connection = connections.get(userId);
-        return connection != null && connection.isValid();
+        return connectionRegistry.getConnections(userId).stream().anyMatch(SseConnection::isValid);
+    }
+
+    // 이 노드 또는 다른 노드에 SSE로 연결된 사용자인지 확인
+    public boolean isOnline(Long userId) {
+        return isConnected(userId) || clusterRouter.isConnectedAnywhere(userId);
     }
 
     // 현재 활성 연결 개수 조회
     public int getActiveConnectionCount() {
-        return connections.size();
+        return connectionRegistry.getConnectionCount();
     }
 
     // 연결 정리 (SseConnection을 통한 통합 정리)
-    private void cleanupConnection(Long userId) {
-        SseConnection connection = connections.remove(userId);
-        if (connection != null) {
-            try {
-                connection.cleanup();
-                log.debug("Cleaned up SSE connection for user {}", userId);
-            } catch (Exception e) {
-                log.debug("Failed to cleanup connection for user {}: {}", userId, e.getMessage());
+    private void cleanupConnection(SseConnection connection, String reason) {
+        if (connectionRegistry.unregister(connection)) {
+            // 같은 연결에 대해 여러 콜백이 호출되어도 실제 해제 시 한 번만 집계
+            Counter.builder("sse.connections.closed")
+                    .description("종료된 SSE 연결 수")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+
+            // 이 노드의 마지막 연결이면 라우팅 해제 (경합으로 잘못 해제되더라도 주기적 갱신에서 복구됨)
+            if (!connectionRegistry.hasConnection(connection.getUserId())) {
+                clusterRouter.unregisterLocalUser(connection.getUserId());
             }
         }
-    }
-
-    // SecurityContext 내에서 작업 실행하는 헬퍼 메서드
-    private void executeWithSecurityContext(SecurityContext context, Runnable task) {
-        SecurityContextHolder.setContext(context);
+        topicRegistry.unsubscribeAll(connection);
+        heartbeatWheel.remove(connection);
+        dispatcher.discard(connection);
         try {
-            task.run();
-        } finally {
-            SecurityContextHolder.clearContext();
-        }
-    }
-
-    // 연결 유지를 위한 heartbeat 메시지 전송 (ScheduledExecutorService 사용)
-    private void startHeartbeat(SseConnection connection) {
-        Long userId = connection.getUserId();
-        SseEmitter emitter = connection.getEmitter();
-
-        // 현재 SecurityContext 캡처 (HTTP 요청 스레드에서)
-        SecurityContext securityContext = SecurityContextHolder.getContext();
-
-        // 초기 연결 메시지를 즉시 전송 (연결 안정화)
-        try {
-            if (connections.containsKey(userId) && emitter != null) {
-                emitter.send(SseEmitter.event()
-                        .name("connection")
-                        .data("connected"));
-                connection.updateLastActivity();
-            }
+            connection.cleanup();
+            log.debug("Cleaned up SSE connection {} for user {}", connection.getConnectionId(), connection.getUserId());
         } catch (Exception e) {
-            log.debug("Failed to send initial connection message for user {}: {}", userId, e.getMessage());
-            cleanupConnection(userId);
-            return; // 초기 연결 실패 시 heartbeat 시작하지 않음
+            log.debug("Failed to cleanup connection {} for user {}: {}",
+                    connection.getConnectionId(), connection.getUserId(), e.getMessage());
         }
-
-        // 15초마다 heartbeat 메시지 전송 (연결 끊김 즉시 감지)
-        ScheduledFuture<?> heartbeatTask = heartbeatScheduler.scheduleAtFixedRate(() -> {
-            executeWithSecurityContext(securityContext, () -> {
-                try {
-                    SseConnection currentConnection = connections.get(userId);
-                    if (currentConnection != null && currentConnection.isValid()) {
-                        // Emitter 상태 체크
-                        try {
-                            currentConnection.getEmitter().send(SseEmitter.event()
-                                    .name("ping")
-                                    .data("ping"));
-                            currentConnection.updateLastActivity();
-
-                        } catch (IllegalStateException e) {
-                            // ResponseBodyEmitter has already completed
-                            cleanupConnection(userId);
-                        }
-                    } else {
-                        cleanupConnection(userId);
-                    }
-                } catch (IOException e) {
-                    cleanupConnection(userId);
-                } catch (Exception e) {
-                    cleanupConnection(userId);
-                }
-            });
-        }, heartbeatInterval, heartbeatInterval, TimeUnit.SECONDS);
-
-        // heartbeat 작업 저장
-        connection.setHeartbeatTask(heartbeatTask);
     }
 
     // 만료된 연결을 주기적으로 정리하는 스케줄러
     @Scheduled(fixedDelayString = "${notification.sse.cleanup-interval:60}000")
     public void cleanupStaleConnections() {
-        List<Long> staleUserIds = new ArrayList<>();
+        List<SseConnection> staleConnections = new ArrayList<>();
 
-        connections.forEach((userId, connection) -> {
+        connectionRegistry.forEach(connection -> {
             if (connection.isExpired(connectionTimeoutMinutes)) {
-                staleUserIds.add(userId);
-                log.info("Detected stale SSE connection for user {}. Last activity: {}",
-                        userId, connection.getLastActivityAt());
+                staleConnections.add(connection);
+                log.info("Detected stale SSE connection {} for user {}. Last activity: {}",
+                        connection.getConnectionId(), connection.getUserId(), connection.getLastActivityAt());
             }
         });
 
-        staleUserIds.forEach(this::cleanupConnection);
+        staleConnections.forEach(connection -> cleanupConnection(connection, CLOSE_STALE));
 
-        if (!staleUserIds.isEmpty()) {
+        if (!staleConnections.isEmpty()) {
             log.info("Cleaned up {} stale SSE connections. Current active connections: {}",
-                    staleUserIds.size(), connections.size());
+                    staleConnections.size(), connectionRegistry.getConnectionCount());
         }
     }
 
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // phase가 높을수록 먼저 멈춤: 웹 서버 graceful shutdown(DEFAULT_PHASE - 1024)과 웹 서버 종료(DEFAULT_PHASE - 2048)보다
+    // 먼저 드레인을 끝내야 Tomcat이 남은 SSE 요청을 기다리다 강제로 끊지 않음 (@PreDestroy는 웹 서버 종료 이후에 실행됨)
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
     // 서비스 종료 시 모든 연결 정리
-    @PreDestroy
-    public void shutdown() {
-        log.info("Shutting down SSE notification service. Active connections: {}", connections.size());
+    // 재연결이 한 순간에 몰리지 않도록 retry 힌트를 보내고 여러 차수에 나눠 닫음
+    @Override
+    public void stop() {
+        try {
+            shutdown();
+        } finally {
+            running = false;
+        }
+    }
+
+    private void shutdown() {
+        log.info("Shutting down SSE notification service. Active connections: {}",
+                connectionRegistry.getConnectionCount());
+
+        // 다른 노드가 이 노드로 이벤트를 보내지 않도록 라우팅부터 해제
+        clusterRouter.stop();
+        draining = true;
 
-        // 모든 연결 정리
-        connections.forEach((userId, connection) -> {
+        // 드레인 중에도 남은 연결의 heartbeat와 로컬 이벤트 전송은 유지
+        List<SseConnection> connections = new ArrayList<>();
+        connectionRegistry.forEach(connections::add);
+        shutdownDrainer.drain(connections, connection -> cleanupConnection(connection, CLOSE_DRAIN));
+
+        // 드레인과 경합해 남은 연결 정리
+        connectionRegistry.removeAll().forEach(connection -> {
             try {
                 connection.cleanup();
             } catch (Exception e) {
-                log.debug("Failed to cleanup connection for user {} during shutdown: {}", userId, e.getMessage());
+                log.debug("Failed to cleanup connection for user {} during shutdown: {}",
+                        connection.getUserId(), e.getMessage());
             }
         });
-        connections.clear();
 
-        // 스케줄러 종료
-        heartbeatScheduler.shutdown();
-        try {
-            if (!heartbeatScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
-                log.warn("Heartbeat scheduler did not terminate within 5 seconds, forcing shutdown");
-                heartbeatScheduler.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            log.error("Interrupted while waiting for heartbeat scheduler to terminate", e);
-            heartbeatScheduler.shutdownNow();
-            Thread.currentThread().interrupt();
-        }
+        topicRegistry.clear();
+
+        // heartbeat 휠 종료
+        heartbeatWheel.stop();
 
         log.info("SSE notification service shutdown completed");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.ourhour.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 예약 작업을 실행하기 위한 Redis 잠금
+ * 잠금 값에 실행마다 다른 owner를 저장하고, 해제는 owner가 같을 때만 삭제하는 스크립트로 원자적으로 처리합니다.
+ * (TTL 만료 후 다른 인스턴스가 잡은 잠금을 지우지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 잠금 획득 (Redis 오류 시 실행하지 않도록 false)
+     */
+    public boolean tryAcquire(String key, String owner, Duration ttl) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, owner, ttl));
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 작업 잠금을 얻을 수 없습니다: key={}, reason={}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * owner가 잡은 잠금일 때만 해제
+     */
+    public void release(String key, String owner) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+        } catch (Exception e) {
+            log.debug("작업 잠금 해제 실패 (TTL 만료로 해제됨): key={}, reason={}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 작업 묶음 사이 대기 (중단 요청 시 false)
+     */
+    public static boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
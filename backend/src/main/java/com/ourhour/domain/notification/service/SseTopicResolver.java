@@ -0,0 +1,69 @@
+package com.ourhour.domain.notification.service;
+
+import com.ourhour.domain.chat.repository.ChatParticipantRepository;
+import com.ourhour.domain.notification.sse.SseTopic;
+import com.ourhour.domain.org.enums.Status;
+import com.ourhour.domain.org.repository.OrgParticipantMemberRepository;
+import com.ourhour.domain.project.repository.ProjectParticipantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SSE 연결 시 구독할 토픽 결정
+ * 클라이언트가 요청한 값이 아니라 사용자의 조직/프로젝트/채팅방 참여 정보로 정하므로 권한 없는 토픽은 구독되지 않습니다.
+ * SSE 요청은 연결 종료 시점까지 열려 있어, 요청 스레드에서 조회하면 요청 범위(open-in-view) EntityManager가
+ * DB 커넥션을 연결 내내 붙잡습니다. 그래서 비동기 스레드의 짧은 읽기 트랜잭션에서 조회하고 커넥션을 바로 반납합니다.
+ */
+@Slf4j
+@Component
+public class SseTopicResolver {
+
+    private final OrgParticipantMemberRepository orgParticipantMemberRepository;
+    private final ProjectParticipantRepository projectParticipantRepository;
+    private final ChatParticipantRepository chatParticipantRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public SseTopicResolver(OrgParticipantMemberRepository orgParticipantMemberRepository,
+            ProjectParticipantRepository projectParticipantRepository,
+            ChatParticipantRepository chatParticipantRepository,
+            PlatformTransactionManager transactionManager) {
+        this.orgParticipantMemberRepository = orgParticipantMemberRepository;
+        this.projectParticipantRepository = projectParticipantRepository;
+        this.chatParticipantRepository = chatParticipantRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Async("sseTopicExecutor")
+    public CompletableFuture<List<SseTopic>> resolveAsync(Long userId) {
+        return CompletableFuture.completedFuture(resolve(userId));
+    }
+
+    List<SseTopic> resolve(Long userId) {
+        try {
+            return transactionTemplate.execute(status -> {
+                List<SseTopic> topics = new ArrayList<>();
+                orgParticipantMemberRepository.findOrgIdsByUserIdAndStatus(userId, Status.ACTIVE)
+                        .forEach(orgId -> topics.add(SseTopic.org(orgId)));
+                projectParticipantRepository.findProjectIdsByUserId(userId)
+                        .forEach(projectId -> topics.add(SseTopic.project(projectId)));
+                chatParticipantRepository.findRoomIdsByUserId(userId)
+                        .forEach(roomId -> topics.add(SseTopic.chatRoom(roomId)));
+                return topics;
+            });
+        } catch (DataAccessException | TransactionException e) {
+            // 토픽 구독 실패는 개인 알림 연결에 영향을 주지 않음
+            log.warn("SSE 토픽 구독 정보를 조회할 수 없습니다: userId={}, reason={}", userId, e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package com.ourhour.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ourhour.domain.notification.entity.NotificationReadWatermarkEntity;
+import com.ourhour.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.ourhour.domain.notification.repository.NotificationRepository;
+import com.ourhour.domain.notification.repository.UnreadNotificationCount;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 카운터
+ * 알림 생성/읽음/전체 읽음 시 DB COUNT 대신 Redis 카운터(INCRBY)를 원자적으로 갱신하고,
+ * 조회는 짧은 TTL의 로컬 near-cache → Redis → DB 순으로 처리합니다.
+ * 카운터가 없는 사용자(만료, Redis 재시작)는 DB 값으로 다시 채우고, 활성 사용자는 주기적으로 DB와 대조합니다.
+ * 활성 사용자는 카운터를 Redis에서 조회하거나 갱신할 때 Redis SET에 모아 두며, 대조 작업이 꺼내 가므로
+ * 모든 인스턴스에서 지난 대조 이후 사용된 카운터만 한 번씩 대조합니다.
+ * 값이 바뀌면 SSE(unread_count)로 새 개수를 전송합니다.
+ */
+@Slf4j
+@Component
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    // 지난 대조 이후 카운터를 사용한 사용자 (대조 대상)
+    private static final String ACTIVE_USERS_KEY = "notification:unread-active-users";
+
+    // 카운터 조회와 함께 대조 대상으로 등록
+    private static final RedisScript<String> GET_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SADD', KEYS[2], ARGV[1]) "
+                    + "return redis.call('GET', KEYS[1])",
+            String.class);
+
+    // 카운터가 있을 때만 증감 (없으면 다음 조회 때 DB 값으로 초기화되므로 잘못된 0 기준 증가를 막음), 0 미만 방지
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SADD', KEYS[2], ARGV[3]) "
+                    + "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+                    + "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) "
+                    + "if value < 0 then redis.call('SET', KEYS[1], 0) value = 0 end "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]) "
+                    + "return value",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final NotificationReadWatermarkRepository readWatermarkRepository;
+    private final SSENotificationService sseNotificationService;
+    private final Cache<Long, Long> nearCache;
+    private final Duration counterTtl;
+    private final int reconcileBatchSize;
+
+    public UnreadNotificationCounter(StringRedisTemplate stringRedisTemplate,
+            NotificationRepository notificationRepository,
+            NotificationReadWatermarkRepository readWatermarkRepository,
+            SSENotificationService sseNotificationService,
+            @Value("${notification.unread-counter.near-cache-ttl-seconds:5}") long nearCacheTtlSeconds,
+            @Value("${notification.unread-counter.near-cache-max-size:10000}") long nearCacheMaxSize,
+            @Value("${notification.unread-counter.ttl-hours:24}") long counterTtlHours,
+            @Value("${notification.unread-counter.reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.readWatermarkRepository = readWatermarkRepository;
+        this.sseNotificationService = sseNotificationService;
+        // 다른 인스턴스의 갱신은 near-cache TTL 이후에 반영됨
+        this.nearCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(nearCacheTtlSeconds))
+                .maximumSize(nearCacheMaxSize)
+                .build();
+        this.counterTtl = Duration.ofHours(counterTtlHours);
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    /**
+     * 읽지 않은 알림 개수 조회
+     */
+    public long get(Long userId) {
+        Long cached = nearCache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            String value = stringRedisTemplate.execute(GET_SCRIPT, List.of(key(userId), ACTIVE_USERS_KEY),
+                    String.valueOf(userId));
+            if (value != null) {
+                long count = Long.parseLong(value);
+                nearCache.put(userId, count);
+                return count;
+            }
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 읽지 않은 알림 카운터를 조회할 수 없습니다: {}", e.getMessage());
+            return countUnread(userId);
+        }
+
+        // 카운터가 없으면 DB 값으로 초기화 (동시에 초기화된 값이 있으면 유지)
+        long count = countUnread(userId);
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), counterTtl);
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 읽지 않은 알림 카운터를 초기화할 수 없습니다: {}", e.getMessage());
+        }
+        nearCache.put(userId, count);
+        return count;
+    }
+
+    /**
+     * 카운터 증감 후 SSE 전송 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void add(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        afterCommit(() -> {
+            Long count = null;
+            try {
+                count = stringRedisTemplate.execute(ADD_SCRIPT, List.of(key(userId), ACTIVE_USERS_KEY),
+                        String.valueOf(delta), String.valueOf(counterTtl.getSeconds()), String.valueOf(userId));
+            } catch (Exception e) {
+                log.warn("Redis 연결 오류로 인해 읽지 않은 알림 카운터를 갱신할 수 없습니다: {}", e.getMessage());
+            }
+
+            if (count != null) {
+                nearCache.put(userId, count);
+                sseNotificationService.sendUnreadCount(userId, count);
+            } else {
+                // 카운터가 없었음: 로컬 값을 버리고 다음 조회 때 DB에서 다시 계산
+                nearCache.invalidate(userId);
+            }
+        });
+    }
+
+    /**
+     * 전체 읽음 처리 등으로 개수를 직접 지정 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void set(Long userId, long count) {
+        afterCommit(() -> {
+            store(userId, count);
+            try {
+                stringRedisTemplate.opsForSet().add(ACTIVE_USERS_KEY, String.valueOf(userId));
+            } catch (Exception e) {
+                log.warn("Redis 연결 오류로 인해 읽지 않은 알림 카운터 대조 대상을 등록할 수 없습니다: {}", e.getMessage());
+            }
+            sseNotificationService.sendUnreadCount(userId, count);
+        });
+    }
+
+    /**
+     * DB 값으로 카운터를 다시 계산하고, 바뀐 사용자에게만 SSE 전송
+     */
+    public void reconcile(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += reconcileBatchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + reconcileBatchSize, ids.size()));
+
+            // 워터마크를 한 번에 읽고, 워터마크가 있는 사용자는 그 이후 범위만 개별 집계
+            Map<Long, Long> watermarks = new HashMap<>();
+            for (NotificationReadWatermarkEntity watermark : readWatermarkRepository.findAllById(chunk)) {
+                watermarks.put(watermark.getUserId(), watermark.getLastReadNotificationId());
+            }
+
+            Map<Long, Long> actual = new HashMap<>();
+            List<Long> withoutWatermark = new ArrayList<>();
+            for (Long userId : chunk) {
+                Long watermark = watermarks.get(userId);
+                if (watermark != null) {
+                    actual.put(userId, notificationRepository.countUnreadAfter(userId, watermark));
+                } else {
+                    actual.put(userId, 0L);
+                    withoutWatermark.add(userId);
+                }
+            }
+            if (!withoutWatermark.isEmpty()) {
+                for (UnreadNotificationCount row : notificationRepository.countUnreadByUserIds(withoutWatermark)) {
+                    actual.put(row.getUserId(), row.getUnreadCount());
+                }
+            }
+
+            actual.forEach((userId, count) -> {
+                Long known = nearCache.getIfPresent(userId);
+                store(userId, count);
+                if (known == null || known.longValue() != count) {
+                    sseNotificationService.sendUnreadCount(userId, count);
+                }
+            });
+        }
+    }
+
+    /**
+     * 지난 대조 이후 카운터를 조회/갱신한 사용자의 카운터를 주기적으로 DB와 대조
+     * SPOP으로 꺼내므로 여러 인스턴스가 동시에 실행해도 사용자마다 한 번만 대조하며,
+     * 대조 중 다시 등록된 사용자가 계속 이어지지 않도록 시작 시점의 개수만큼만 꺼냅니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-seconds:300}000")
+    public void reconcileActiveUsers() {
+        int reconciled = 0;
+        try {
+            Long pending = stringRedisTemplate.opsForSet().size(ACTIVE_USERS_KEY);
+            long remaining = pending != null ? pending : 0;
+            while (remaining > 0) {
+                List<String> popped = stringRedisTemplate.opsForSet().pop(ACTIVE_USERS_KEY,
+                        Math.min(remaining, reconcileBatchSize));
+                if (popped == null || popped.isEmpty()) {
+                    break;
+                }
+                List<Long> userIds = popped.stream().map(Long::valueOf).toList();
+                reconcile(userIds);
+                reconciled += userIds.size();
+                remaining -= userIds.size();
+            }
+        } catch (Exception e) {
+            // 꺼낸 뒤 대조하지 못한 사용자는 다음에 카운터를 사용할 때 다시 등록됨
+            log.warn("읽지 않은 알림 카운터 대조 실패: reconciled={}, reason={}", reconciled, e.getMessage());
+            return;
+        }
+        if (reconciled > 0) {
+            log.debug("읽지 않은 알림 카운터 대조 완료: users={}", reconciled);
+        }
+    }
+
+    // 워터마크를 먼저 읽어 집계 범위를 워터마크 이후로 한정
+    private long countUnread(Long userId) {
+        Long watermark = readWatermarkRepository.findLastReadNotificationId(userId).orElse(0L);
+        return notificationRepository.countUnreadAfter(userId, watermark);
+    }
+
+    private void store(Long userId, long count) {
+        try {
+            stringRedisTemplate.opsForValue().set(key(userId), String.valueOf(count), counterTtl);
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 읽지 않은 알림 카운터를 저장할 수 없습니다: {}", e.getMessage());
+        }
+        nearCache.put(userId, count);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ourhour.domain.notification.sse;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JVM 메모리 기반 SSE 재전송 버퍼 (기본값)
+ * 사용자별 최근 bufferSize개의 이벤트를 보관하며, 일정 시간 이벤트가 없던 사용자의 버퍼는 만료됩니다.
+ * ID는 버퍼 생성 시각(ms) * 1000 부터 시작하므로 서버 재시작 후에도 이전 ID보다 커집니다.
+ * ID 시퀀스가 노드마다 다르므로 클러스터 모드(notification.sse.cluster.enabled=true)에서는 기동을 막습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sse.replay.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySseReplayBuffer implements SseReplayBuffer {
+
+    private static final long ID_SEED_MULTIPLIER = 1000L;
+
+    private final int bufferSize;
+    private final Cache<Long, UserBuffer> buffers;
+
+    public InMemorySseReplayBuffer(
+            @Value("${notification.sse.replay.buffer-size:100}") int bufferSize,
+            @Value("${notification.sse.replay.ttl-seconds:300}") long ttlSeconds,
+            @Value("${notification.sse.replay.max-users:100000}") long maxUsers,
+            @Value("${notification.sse.cluster.enabled:false}") boolean clusterEnabled) {
+        if (clusterEnabled) {
+            // 다른 노드로 재연결하면 다른 시퀀스의 Last-Event-ID로 조회하게 되어 놓친 이벤트를 조용히 건너뜀
+            throw new IllegalStateException(
+                    "notification.sse.cluster.enabled=true에서는 notification.sse.replay.store=redis를 사용해야 합니다");
+        }
+        this.bufferSize = bufferSize;
+        this.buffers = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    @Override
+    public SseReplayEvent append(Long userId, String eventName, String data) {
+        UserBuffer buffer = buffers.get(userId, id -> new UserBuffer(System.currentTimeMillis() * ID_SEED_MULTIPLIER));
+        return buffer.append(eventName, data, bufferSize);
+    }
+
+    @Override
+    public SseReplayResult since(Long userId, long lastEventId) {
+        UserBuffer buffer = buffers.getIfPresent(userId);
+        if (buffer == null) {
+            // 만료되었거나 재시작으로 버퍼가 없음: 놓친 이벤트가 있었는지 알 수 없음
+            return SseReplayResult.incomplete(List.of());
+        }
+        return buffer.since(lastEventId);
+    }
+
+    // 사용자 한 명의 이벤트 버퍼
+    private static final class UserBuffer {
+
+        private final long firstId;
+        private long nextId;
+        private final ArrayDeque<SseReplayEvent> events = new ArrayDeque<>();
+
+        private UserBuffer(long firstId) {
+            this.firstId = firstId;
+            this.nextId = firstId;
+        }
+
+        synchronized SseReplayEvent append(String eventName, String data, int bufferSize) {
+            SseReplayEvent event = new SseReplayEvent(nextId++, eventName, data);
+            events.addLast(event);
+            while (events.size() > bufferSize) {
+                events.pollFirst();
+            }
+            return event;
+        }
+
+        synchronized SseReplayResult since(long lastEventId) {
+            List<SseReplayEvent> missed = new ArrayList<>();
+            for (SseReplayEvent event : events) {
+                if (event.getId() > lastEventId) {
+                    missed.add(event);
+                }
+            }
+
+            long oldestRetainedId = events.isEmpty() ? nextId : events.peekFirst().getId();
+            // 다른 세대의 ID이거나, 이미 밀려난 이벤트가 사이에 있으면 불완전
+            boolean sameGeneration = lastEventId >= firstId - 1 && lastEventId < nextId;
+            boolean complete = sameGeneration && lastEventId + 1 >= oldestRetainedId;
+            return new SseReplayResult(missed, complete);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.ourhour.domain.notification.sse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * JVM 내부 노드 간 전달 채널 (기본값)
+ * 단일 인스턴스 운영과 테스트에서 Redis 없이 같은 라우팅 흐름을 사용하기 위한 구현입니다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sse.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalSseClusterTransport implements SseClusterTransport {
+
+    private final Map<String, Consumer<SseClusterMessage>> handlers = new ConcurrentHashMap<>();
+    private final Map<String, Consumer<SseClusterMessage>> broadcastHandlers = new ConcurrentHashMap<>();
+
+    @Override
+    public void subscribe(String nodeId, Consumer<SseClusterMessage> handler) {
+        handlers.put(nodeId, handler);
+    }
+
+    @Override
+    public long publish(String nodeId, SseClusterMessage message) {
+        Consumer<SseClusterMessage> handler = handlers.get(nodeId);
+        if (handler == null) {
+            return 0;
+        }
+        handler.accept(message);
+        return 1;
+    }
+
+    @Override
+    public void subscribeBroadcast(String nodeId, Consumer<SseClusterMessage> handler) {
+        broadcastHandlers.put(nodeId, handler);
+    }
+
+    @Override
+    public void publishBroadcast(SseClusterMessage message) {
+        broadcastHandlers.values().forEach(handler -> handler.accept(message));
+    }
+
+    @Override
+    public void unsubscribe(String nodeId) {
+        handlers.remove(nodeId);
+        broadcastHandlers.remove(nodeId);
+    }
+}
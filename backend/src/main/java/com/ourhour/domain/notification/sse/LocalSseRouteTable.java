@@ -0,0 +1,57 @@
+package com.ourhour.domain.notification.sse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM 메모리 기반 라우팅 테이블 (기본값)
+ * 단일 인스턴스에서는 항목이 노드 자신뿐이므로 TTL 없이 연결/해제 시점에만 갱신합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.sse.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalSseRouteTable implements SseRouteTable {
+
+    private final Map<Long, Set<String>> routes = new ConcurrentHashMap<>();
+
+    @Override
+    public void add(Long userId, String nodeId) {
+        routes.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(nodeId);
+    }
+
+    @Override
+    public void remove(Long userId, String nodeId) {
+        routes.computeIfPresent(userId, (id, nodes) -> {
+            nodes.remove(nodeId);
+            return nodes.isEmpty() ? null : nodes;
+        });
+    }
+
+    @Override
+    public Set<String> nodesFor(Long userId) {
+        Set<String> nodes = routes.get(userId);
+        return nodes == null ? Set.of() : Set.copyOf(nodes);
+    }
+
+    @Override
+    public Map<Long, Set<String>> nodesFor(Collection<Long> userIds) {
+        Map<Long, Set<String>> result = new HashMap<>();
+        for (Long userId : userIds) {
+            Set<String> nodes = routes.get(userId);
+            if (nodes != null && !nodes.isEmpty()) {
+                result.put(userId, Set.copyOf(nodes));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void refresh(Collection<Long> userIds, String nodeId) {
+        userIds.forEach(userId -> add(userId, nodeId));
+    }
+}
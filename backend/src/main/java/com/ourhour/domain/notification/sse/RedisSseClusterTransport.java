@@ -0,0 +1,101 @@
+package com.ourhour.domain.notification.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 노드 간 전달 채널
+ * 노드마다 sse:node:{nodeId} 채널을 구독하므로 발행 노드는 대상 노드에만 메시지를 보냅니다.
+ * 토픽 이벤트는 모든 노드가 구독하는 sse:broadcast 채널로 보냅니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.sse.cluster.enabled", havingValue = "true")
+public class RedisSseClusterTransport implements SseClusterTransport {
+
+    private static final String CHANNEL_PREFIX = "sse:node:";
+    private static final String BROADCAST_CHANNEL = "sse:broadcast";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, MessageListener> listeners = new ConcurrentHashMap<>();
+    private final Map<String, MessageListener> broadcastListeners = new ConcurrentHashMap<>();
+
+    public RedisSseClusterTransport(StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void subscribe(String nodeId, Consumer<SseClusterMessage> handler) {
+        MessageListener listener = (message, pattern) -> handle(message, handler);
+        listeners.put(nodeId, listener);
+        listenerContainer.addMessageListener(listener, new ChannelTopic(CHANNEL_PREFIX + nodeId));
+    }
+
+    @Override
+    public long publish(String nodeId, SseClusterMessage message) {
+        try {
+            Long receivers = stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + nodeId,
+                    objectMapper.writeValueAsString(message));
+            return receivers == null ? 0 : receivers;
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 노드 {}로 SSE 이벤트를 전달할 수 없습니다: {}", nodeId, e.getMessage());
+            // 일시적인 장애일 수 있으므로 라우팅 정보는 유지
+            return -1;
+        }
+    }
+
+    @Override
+    public void subscribeBroadcast(String nodeId, Consumer<SseClusterMessage> handler) {
+        MessageListener listener = (message, pattern) -> handle(message, handler);
+        broadcastListeners.put(nodeId, listener);
+        listenerContainer.addMessageListener(listener, new ChannelTopic(BROADCAST_CHANNEL));
+    }
+
+    @Override
+    public void publishBroadcast(SseClusterMessage message) {
+        try {
+            stringRedisTemplate.convertAndSend(BROADCAST_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 SSE 토픽 이벤트를 다른 노드로 전달할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void unsubscribe(String nodeId) {
+        MessageListener listener = listeners.remove(nodeId);
+        if (listener != null) {
+            listenerContainer.removeMessageListener(listener);
+        }
+        MessageListener broadcastListener = broadcastListeners.remove(nodeId);
+        if (broadcastListener != null) {
+            listenerContainer.removeMessageListener(broadcastListener);
+        }
+    }
+
+    private void handle(Message message, Consumer<SseClusterMessage> handler) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            handler.accept(objectMapper.readValue(body, SseClusterMessage.class));
+        } catch (Exception e) {
+            log.warn("Failed to handle SSE cluster message: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ourhour.domain.notification.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 기반 SSE 재전송 버퍼
+ * 여러 서버 인스턴스가 같은 ID 시퀀스와 버퍼를 공유하므로, 재연결이 다른 노드로 가더라도 놓친 이벤트를 돌려줄 수 있습니다.
+ * 사용자별 시퀀스(STRING)와 이벤트(ZSET, score = 이벤트 ID)를 같은 TTL로 관리합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.sse.replay.store", havingValue = "redis")
+public class RedisSseReplayBuffer implements SseReplayBuffer {
+
+    private static final String SEQUENCE_KEY_PREFIX = "sse:replay:seq:";
+    private static final String EVENTS_KEY_PREFIX = "sse:replay:events:";
+    private static final String MEMBER_DELIMITER = "\n";
+    private static final long ID_SEED_MULTIPLIER = 1000L;
+
+    // 시퀀스 증가, 이벤트 추가, 크기 제한, TTL 갱신을 원자적으로 수행
+    // 시퀀스가 새로 생성되면 현재 시각 기반 값으로 시작하여 이전 세대 ID보다 커지도록 함
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "local id = redis.call('INCR', KEYS[1]) "
+                    + "if id == 1 then "
+                    + "  id = tonumber(ARGV[1]) "
+                    + "  redis.call('SET', KEYS[1], string.format('%d', id)) "
+                    + "end "
+                    + "local idStr = string.format('%d', id) "
+                    + "redis.call('ZADD', KEYS[2], idStr, idStr .. '\\n' .. ARGV[2] .. '\\n' .. ARGV[3]) "
+                    + "redis.call('ZREMRANGEBYRANK', KEYS[2], 0, -(tonumber(ARGV[4]) + 1)) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[5]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[5]) "
+                    + "return id",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int bufferSize;
+    private final long ttlSeconds;
+
+    public RedisSseReplayBuffer(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${notification.sse.replay.buffer-size:100}") int bufferSize,
+            @Value("${notification.sse.replay.ttl-seconds:300}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.bufferSize = bufferSize;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    public SseReplayEvent append(Long userId, String eventName, String data) {
+        try {
+            Long id = stringRedisTemplate.execute(APPEND_SCRIPT,
+                    List.of(SEQUENCE_KEY_PREFIX + userId, EVENTS_KEY_PREFIX + userId),
+                    String.valueOf(System.currentTimeMillis() * ID_SEED_MULTIPLIER),
+                    eventName,
+                    data,
+                    String.valueOf(bufferSize),
+                    String.valueOf(ttlSeconds));
+            if (id != null) {
+                return new SseReplayEvent(id, eventName, data);
+            }
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 SSE 재전송 버퍼에 이벤트를 저장할 수 없습니다: {}", e.getMessage());
+        }
+        // ID 없이 전송 (클라이언트의 Last-Event-ID는 그대로 유지되어 다음 재연결 시 불완전 판정됨)
+        return new SseReplayEvent(-1L, eventName, data);
+    }
+
+    @Override
+    public SseReplayResult since(Long userId, long lastEventId) {
+        try {
+            String sequence = stringRedisTemplate.opsForValue().get(SEQUENCE_KEY_PREFIX + userId);
+            String eventsKey = EVENTS_KEY_PREFIX + userId;
+            Set<ZSetOperations.TypedTuple<String>> oldest = stringRedisTemplate.opsForZSet()
+                    .rangeWithScores(eventsKey, 0, 0);
+
+            if (sequence == null || oldest == null || oldest.isEmpty()) {
+                return SseReplayResult.incomplete(List.of());
+            }
+
+            long lastAssignedId = Long.parseLong(sequence);
+            long oldestRetainedId = oldest.iterator().next().getScore().longValue();
+
+            Set<String> members = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(eventsKey, lastEventId + 1, Double.POSITIVE_INFINITY);
+            List<SseReplayEvent> missed = new ArrayList<>();
+            if (members != null) {
+                for (String member : members) {
+                    String[] parts = member.split(MEMBER_DELIMITER, 3);
+                    if (parts.length == 3) {
+                        missed.add(new SseReplayEvent(Long.parseLong(parts[0]), parts[1], parts[2]));
+                    }
+                }
+            }
+
+            boolean complete = lastEventId <= lastAssignedId && lastEventId + 1 >= oldestRetainedId;
+            return new SseReplayResult(missed, complete);
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 SSE 재전송 버퍼를 조회할 수 없습니다: {}", e.getMessage());
+            return SseReplayResult.incomplete(List.of());
+        }
+    }
+}
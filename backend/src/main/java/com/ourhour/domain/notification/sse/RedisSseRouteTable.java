@@ -0,0 +1,122 @@
+package com.ourhour.domain.notification.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis 기반 라우팅 테이블
+ * 사용자별 SET(sse:route:{userId})에 연결을 가진 노드 ID를 보관하고 TTL로 만료시킵니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.sse.cluster.enabled", havingValue = "true")
+public class RedisSseRouteTable implements SseRouteTable {
+
+    private static final String ROUTE_KEY_PREFIX = "sse:route:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration routeTtl;
+
+    public RedisSseRouteTable(
+            StringRedisTemplate stringRedisTemplate,
+            @Value("${notification.sse.cluster.route-ttl-seconds:180}") long routeTtlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.routeTtl = Duration.ofSeconds(routeTtlSeconds);
+    }
+
+    @Override
+    public void add(Long userId, String nodeId) {
+        try {
+            String key = ROUTE_KEY_PREFIX + userId;
+            stringRedisTemplate.opsForSet().add(key, nodeId);
+            stringRedisTemplate.expire(key, routeTtl);
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 SSE 라우팅 정보를 등록할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void remove(Long userId, String nodeId) {
+        try {
+            stringRedisTemplate.opsForSet().remove(ROUTE_KEY_PREFIX + userId, nodeId);
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 SSE 라우팅 정보를 삭제할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Set<String> nodesFor(Long userId) {
+        try {
+            Set<String> nodes = stringRedisTemplate.opsForSet().members(ROUTE_KEY_PREFIX + userId);
+            return nodes == null ? Set.of() : nodes;
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 SSE 라우팅 정보를 조회할 수 없습니다: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    @Override
+    public Map<Long, Set<String>> nodesFor(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            // 수신자 수만큼 왕복하지 않도록 파이프라인으로 일괄 조회 (결과는 요청 순서대로 반환됨)
+            List<Long> orderedUserIds = List.copyOf(userIds);
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : orderedUserIds) {
+                    stringConnection.sMembers(ROUTE_KEY_PREFIX + userId);
+                }
+                return null;
+            });
+
+            Map<Long, Set<String>> routes = new HashMap<>();
+            for (int i = 0; i < orderedUserIds.size(); i++) {
+                if (results.get(i) instanceof Set<?> nodes && !nodes.isEmpty()) {
+                    Set<String> nodeIds = new HashSet<>();
+                    nodes.forEach(node -> nodeIds.add(String.valueOf(node)));
+                    routes.put(orderedUserIds.get(i), nodeIds);
+                }
+            }
+            return routes;
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 SSE 라우팅 정보를 조회할 수 없습니다: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void refresh(Collection<Long> userIds, String nodeId) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            // 연결된 사용자 수만큼 왕복하지 않도록 파이프라인으로 일괄 갱신
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : userIds) {
+                    String key = ROUTE_KEY_PREFIX + userId;
+                    stringConnection.sAdd(key, nodeId);
+                    stringConnection.expire(key, routeTtl.getSeconds());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Redis 연결 오류로 인해 SSE 라우팅 정보를 갱신할 수 없습니다: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ourhour.domain.notification.sse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다른 노드에 연결된 사용자에게 전달하는 SSE 이벤트
+ * 이벤트 ID는 발행 노드에서 재전송 버퍼를 통해 이미 부여된 값을 그대로 사용합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseClusterMessage {
+
+    private String originNodeId;
+    private Long userId;
+    private long eventId;
+    private String eventName;
+    private String data;
+    // 알림 생성 요청 시각 (epoch ms, 0이면 전송 지연을 측정하지 않음)
+    private long originMillis;
+    // 토픽 이벤트면 토픽 키 (userId 대신 토픽 구독 연결로 전송)
+    private String topic;
+
+    public SseFrame toFrame() {
+        return new SseReplayEvent(eventId, eventName, data).toFrame().withOrigin(originMillis);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ourhour.domain.notification.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 SSE 이벤트 라우터
+ * 사용자 → 노드 라우팅 테이블을 유지하고, 다른 노드에 연결된 사용자의 이벤트를 해당 노드로만 발행합니다.
+ * 모든 노드로 브로드캐스트하지 않으므로 노드 수가 늘어도 이벤트당 발행 수는 사용자가 연결된 노드 수로 제한됩니다.
+ * 단, 토픽 이벤트는 구독 연결의 위치를 추적하지 않고 모든 노드로 한 번 발행합니다.
+ */
+@Slf4j
+@Component
+public class SseClusterRouter {
+
+    private final SseClusterTransport transport;
+    private final SseRouteTable routeTable;
+    private final SseConnectionRegistry connectionRegistry;
+    private final String nodeId;
+
+    public SseClusterRouter(SseClusterTransport transport,
+            SseRouteTable routeTable,
+            SseConnectionRegistry connectionRegistry,
+            @Value("${notification.sse.cluster.node-id:}") String nodeId) {
+        this.transport = transport;
+        this.routeTable = routeTable;
+        this.connectionRegistry = connectionRegistry;
+        // 노드 ID를 지정하지 않으면 재시작마다 새 ID를 사용 (이전 프로세스의 라우팅 항목과 섞이지 않도록)
+        this.nodeId = nodeId == null || nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+    }
+
+    /**
+     * 이 노드로 전달되는 이벤트 수신 시작
+     */
+    public void start(Consumer<SseClusterMessage> handler) {
+        transport.subscribe(nodeId, handler);
+        // 토픽 이벤트는 모든 노드로 발행되므로 자기 노드가 발행한 메시지는 무시 (발행 시 이미 로컬 전송함)
+        transport.subscribeBroadcast(nodeId, message -> {
+            if (!nodeId.equals(message.getOriginNodeId())) {
+                handler.accept(message);
+            }
+        });
+        log.info("SSE cluster router started on node {}", nodeId);
+    }
+
+    /**
+     * 사용자가 이 노드에 연결됨
+     */
+    public void registerLocalUser(Long userId) {
+        routeTable.add(userId, nodeId);
+    }
+
+    /**
+     * 사용자의 마지막 연결이 이 노드에서 해제됨
+     */
+    public void unregisterLocalUser(Long userId) {
+        routeTable.remove(userId, nodeId);
+    }
+
+    /**
+     * 사용자가 연결된 다른 노드로 이벤트 발행
+     * 구독자가 없는 노드(비정상 종료)는 라우팅 테이블에서 즉시 제거합니다.
+     */
+    public void publishToRemoteNodes(Long userId, SseReplayEvent event) {
+        publishToRemoteNodes(userId, event, 0L);
+    }
+
+    /**
+     * @param originMillis 알림 생성 요청 시각 (수신 노드에서 전송 지연 측정용, 0이면 측정하지 않음)
+     */
+    public void publishToRemoteNodes(Long userId, SseReplayEvent event, long originMillis) {
+        publishToRemoteNodes(Map.of(userId, event), originMillis);
+    }
+
+    /**
+     * 한 이벤트의 수신자 전체를 다른 노드로 발행
+     * 라우팅 조회는 수신자 수와 관계없이 한 번(Redis 파이프라인)에 수행합니다.
+     * @param events 사용자별 ID가 부여된 이벤트
+     */
+    public void publishToRemoteNodes(Map<Long, SseReplayEvent> events, long originMillis) {
+        if (events.isEmpty()) {
+            return;
+        }
+        routeTable.nodesFor(events.keySet())
+                .forEach((userId, nodes) -> publish(userId, nodes, events.get(userId), originMillis));
+    }
+
+    private void publish(Long userId, Set<String> nodes, SseReplayEvent event, long originMillis) {
+        if (nodes.isEmpty() || (nodes.size() == 1 && nodes.contains(nodeId))) {
+            return;
+        }
+
+        SseClusterMessage message = new SseClusterMessage(nodeId, userId, event.getId(),
+                event.getEventName(), event.getData(), originMillis, null);
+        for (String targetNodeId : nodes) {
+            if (nodeId.equals(targetNodeId)) {
+                continue;
+            }
+            if (transport.publish(targetNodeId, message) == 0) {
+                log.debug("Removing stale SSE route of user {} to node {}", userId, targetNodeId);
+                routeTable.remove(userId, targetNodeId);
+            }
+        }
+    }
+
+    /**
+     * 다른 노드의 토픽 구독 연결로 이벤트 발행 (ID 없이 전송, 재전송 대상 아님)
+     */
+    public void publishToTopic(SseTopic topic, String eventName, String data) {
+        transport.publishBroadcast(new SseClusterMessage(nodeId, null, -1L, eventName, data, 0L, topic.key()));
+    }
+
+    /**
+     * 이 노드에 연결된 사용자들의 라우팅 항목 갱신
+     * 연결/해제 경합으로 누락되거나 TTL이 다가온 항목을 주기적으로 복구합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.cluster.route-refresh-interval:60}000")
+    public void refreshRoutes() {
+        Set<Long> userIds = new HashSet<>();
+        connectionRegistry.forEach(connection -> userIds.add(connection.getUserId()));
+        routeTable.refresh(userIds, nodeId);
+    }
+
+    /**
+     * 사용자가 어느 노드에든 연결되어 있는지 여부 (라우팅 테이블 기준)
+     */
+    public boolean isConnectedAnywhere(Long userId) {
+        return !routeTable.nodesFor(userId).isEmpty();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 이벤트 수신을 멈추고 이 노드의 라우팅 항목 제거 (종료 시 사용)
+     */
+    public void stop() {
+        transport.unsubscribe(nodeId);
+
+        Set<Long> userIds = new HashSet<>();
+        connectionRegistry.forEach(connection -> userIds.add(connection.getUserId()));
+        userIds.forEach(this::unregisterLocalUser);
+    }
+}
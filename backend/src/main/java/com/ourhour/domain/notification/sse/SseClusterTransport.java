@@ -0,0 +1,38 @@
+package com.ourhour.domain.notification.sse;
+
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 SSE 이벤트 전달 채널
+ * 노드마다 전용 채널을 두어 사용자가 연결된 노드에만 이벤트를 보냅니다.
+ * 토픽 이벤트는 구독 연결이 어느 노드에 있는지 추적하지 않으므로 모든 노드가 받는 브로드캐스트 채널로 보냅니다.
+ * notification.sse.cluster.enabled=true 이면 Redis pub/sub, 아니면 단일 노드용 로컬 구현을 사용합니다.
+ */
+public interface SseClusterTransport {
+
+    /**
+     * 노드 채널 구독 시작
+     */
+    void subscribe(String nodeId, Consumer<SseClusterMessage> handler);
+
+    /**
+     * 특정 노드로 이벤트 발행
+     * @return 메시지를 받은 구독자 수 (0이면 해당 노드가 더 이상 살아있지 않음, 음수면 발행 실패)
+     */
+    long publish(String nodeId, SseClusterMessage message);
+
+    /**
+     * 브로드캐스트 채널 구독 시작 (자기 노드가 발행한 메시지도 수신하므로 호출자가 걸러야 함)
+     */
+    void subscribeBroadcast(String nodeId, Consumer<SseClusterMessage> handler);
+
+    /**
+     * 모든 노드로 이벤트 발행
+     */
+    void publishBroadcast(SseClusterMessage message);
+
+    /**
+     * 노드 채널과 브로드캐스트 채널 구독 해제
+     */
+    void unsubscribe(String nodeId);
+}
@@ -0,0 +1,197 @@
+package com.ourhour.domain.notification.sse;
+
+import com.ourhour.domain.notification.model.SseConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 SSE 연결 레지스트리
+ * 한 사용자가 여러 탭/기기에서 동시에 연결할 수 있도록 연결 ID 단위로 관리합니다.
+ * 대량 연결 시 단일 맵에 경합이 몰리지 않도록 userId 기준으로 스트라이프를 나누고,
+ * 사용자별 연결 수 상한을 넘으면 가장 오래된 연결부터 밀어냅니다.
+ */
+@Component
+public class SseConnectionRegistry {
+
+    private static final SseConnection[] EMPTY = new SseConnection[0];
+
+    private final ConcurrentHashMap<Long, SseConnection[]>[] stripes;
+    private final Object[] stripeLocks;
+    private final int stripeMask;
+    private final int maxConnectionsPerUser;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    public SseConnectionRegistry(
+            @Value("${notification.sse.registry-stripes:64}") int stripeCount,
+            @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        if (stripeCount <= 0 || maxConnectionsPerUser <= 0) {
+            throw new IllegalArgumentException("stripeCount와 maxConnectionsPerUser는 1 이상이어야 합니다");
+        }
+
+        // 스트라이프 수는 비트 마스크로 인덱싱하기 위해 2의 거듭제곱으로 맞춤
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+
+        this.stripes = new ConcurrentHashMap[size];
+        this.stripeLocks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ConcurrentHashMap<>();
+            this.stripeLocks[i] = new Object();
+        }
+        this.stripeMask = size - 1;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+    }
+
+    /**
+     * 연결 등록
+     * @return 사용자별 상한을 넘어 밀려난 연결 목록 (호출자가 정리해야 함)
+     */
+    public List<SseConnection> register(SseConnection connection) {
+        List<SseConnection> evicted = new ArrayList<>(1);
+
+        stripeFor(connection.getUserId()).compute(connection.getUserId(), (userId, current) -> {
+            SseConnection[] base = current == null ? EMPTY : current;
+
+            // 오래된 연결이 배열 앞쪽에 위치하므로 앞에서부터 밀어냄
+            int keepFrom = Math.max(0, base.length + 1 - maxConnectionsPerUser);
+            evicted.addAll(Arrays.asList(base).subList(0, keepFrom));
+
+            SseConnection[] next = Arrays.copyOfRange(base, keepFrom, base.length + 1);
+            next[next.length - 1] = connection;
+            return next;
+        });
+
+        connectionCount.addAndGet(1 - evicted.size());
+        return evicted;
+    }
+
+    /**
+     * 특정 연결만 해제 (같은 사용자의 다른 탭/기기 연결은 유지)
+     * @return 실제로 레지스트리에서 제거되었으면 true
+     */
+    public boolean unregister(SseConnection connection) {
+        boolean[] removed = {false};
+
+        stripeFor(connection.getUserId()).computeIfPresent(connection.getUserId(), (userId, current) -> {
+            int index = indexOf(current, connection);
+            if (index < 0) {
+                return current;
+            }
+            removed[0] = true;
+
+            if (current.length == 1) {
+                return null;
+            }
+            SseConnection[] next = new SseConnection[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            return next;
+        });
+
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+        return removed[0];
+    }
+
+    /**
+     * 사용자의 모든 연결 조회 (읽기 전용 스냅샷)
+     */
+    public List<SseConnection> getConnections(Long userId) {
+        SseConnection[] current = stripeFor(userId).get(userId);
+        return current == null ? List.of() : Arrays.asList(current);
+    }
+
+    /**
+     * 사용자의 연결 존재 여부
+     */
+    public boolean hasConnection(Long userId) {
+        return stripeFor(userId).containsKey(userId);
+    }
+
+    /**
+     * 등록된 모든 연결 순회
+     */
+    public void forEach(Consumer<SseConnection> action) {
+        for (ConcurrentHashMap<Long, SseConnection[]> stripe : stripes) {
+            stripe.values().forEach(userConnections -> {
+                for (SseConnection connection : userConnections) {
+                    action.accept(connection);
+                }
+            });
+        }
+    }
+
+    /**
+     * 모든 연결을 레지스트리에서 제거하고 반환 (종료 시 사용)
+     */
+    public List<SseConnection> removeAll() {
+        List<SseConnection> removed = new ArrayList<>();
+        for (ConcurrentHashMap<Long, SseConnection[]> stripe : stripes) {
+            for (Long userId : stripe.keySet()) {
+                SseConnection[] userConnections = stripe.remove(userId);
+                if (userConnections != null) {
+                    removed.addAll(Arrays.asList(userConnections));
+                }
+            }
+        }
+        connectionCount.addAndGet(-removed.size());
+        return removed;
+    }
+
+    // 전체 연결 수
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    // 연결된 사용자 수
+    public int getUserCount() {
+        int count = 0;
+        for (ConcurrentHashMap<Long, SseConnection[]> stripe : stripes) {
+            count += stripe.size();
+        }
+        return count;
+    }
+
+    public int getMaxConnectionsPerUser() {
+        return maxConnectionsPerUser;
+    }
+
+    /**
+     * 사용자별 이벤트 순서를 맞추기 위한 스트라이프 락
+     * 이벤트 ID 부여/전송과 재연결 시 재전송을 같은 락 안에서 수행하여 순서 역전과 누락을 막습니다.
+     */
+    public Object lockFor(Long userId) {
+        return stripeLocks[stripeIndex(userId)];
+    }
+
+    private ConcurrentHashMap<Long, SseConnection[]> stripeFor(Long userId) {
+        return stripes[stripeIndex(userId)];
+    }
+
+    private int stripeIndex(Long userId) {
+        // Long.hashCode의 상위 비트를 섞어 연속된 userId도 고르게 분산
+        int hash = userId.hashCode();
+        hash ^= (hash >>> 16);
+        return hash & stripeMask;
+    }
+
+    private static int indexOf(SseConnection[] connections, SseConnection target) {
+        for (int i = 0; i < connections.length; i++) {
+            if (connections[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,251 @@
+package com.ourhour.domain.notification.sse;
+
+import com.ourhour.domain.notification.enums.SseOverflowPolicy;
+import com.ourhour.domain.notification.model.SseConnection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * SSE 비동기 전송기
+ * 호출 스레드(대부분 트랜잭션 안의 비즈니스 로직)는 연결별 송신 큐에 프레임을 넣기만 하고,
+ * 실제 emitter.send()는 소수의 writer 스레드가 수행합니다.
+ * 큐가 가득 차면 설정된 정책에 따라 가장 오래된 이벤트를 버리거나 느린 클라이언트의 연결을 끊습니다.
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final int queueCapacity;
+    private final int drainBatchSize;
+    private final SseOverflowPolicy overflowPolicy;
+    private final ThreadPoolExecutor writerPool;
+
+    private final AtomicLong queuedFrames = new AtomicLong();
+    private final Counter droppedCounter;
+    private final Counter slowConsumerDisconnectCounter;
+    private final MeterRegistry meterRegistry;
+    private final Timer writeTimer;
+    private final Timer deliveryTimer;
+
+    private volatile Consumer<SseConnection> failureHandler = connection -> { };
+
+    public SseDispatcher(
+            @Value("${notification.sse.dispatch.queue-capacity:256}") int queueCapacity,
+            @Value("${notification.sse.dispatch.writer-threads:4}") int writerThreads,
+            @Value("${notification.sse.dispatch.drain-batch-size:32}") int drainBatchSize,
+            @Value("${notification.sse.dispatch.overflow-policy:DROP_OLDEST}") SseOverflowPolicy overflowPolicy,
+            MeterRegistry meterRegistry) {
+        this.queueCapacity = queueCapacity;
+        this.drainBatchSize = drainBatchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.meterRegistry = meterRegistry;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        // drain 작업은 연결당 최대 1개만 예약되므로 작업 큐 크기는 연결 수를 넘지 않음
+        this.writerPool = new ThreadPoolExecutor(writerThreads, writerThreads,
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "sse-writer-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("sse.dispatch.queue.depth", queuedFrames, AtomicLong::get)
+                .description("전체 연결의 송신 대기 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.dispatch.pending.drains", writerPool, pool -> pool.getQueue().size())
+                .description("writer 스레드를 기다리는 연결 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("sse.dispatch.dropped")
+                .description("송신 큐 초과로 폐기된 이벤트 수")
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+        this.slowConsumerDisconnectCounter = Counter.builder("sse.dispatch.slow.disconnects")
+                .description("송신 큐 초과로 종료된 느린 연결 수")
+                .register(meterRegistry);
+        this.writeTimer = Timer.builder("sse.dispatch.write")
+                .description("프레임 하나를 emitter에 쓰는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("notification.delivery.latency")
+                .description("알림 생성 요청부터 SSE 쓰기까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송 실패/느린 연결을 정리할 콜백 등록
+     */
+    public void start(Consumer<SseConnection> failureHandler) {
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * 연결별 송신 큐에 프레임 추가 후 writer 스레드에 drain 예약
+     * @return 큐에 들어갔으면 true, 느린 연결로 판단되어 끊겼으면 false
+     */
+    public boolean dispatch(SseConnection connection, SseFrame frame) {
+        if (!connection.isValid()) {
+            return false;
+        }
+
+        SseOutbox outbox = connection.getOutbox();
+
+        if (outbox.offer(frame)) {
+            queuedFrames.incrementAndGet();
+        } else if (overflowPolicy == SseOverflowPolicy.DROP_OLDEST) {
+            if (outbox.offerEvictingOldest(frame) != null) {
+                droppedCounter.increment();
+            } else {
+                queuedFrames.incrementAndGet();
+            }
+        } else {
+            // 느린 클라이언트 연결 종료
+            droppedCounter.increment();
+            slowConsumerDisconnectCounter.increment();
+            log.info("Disconnecting slow SSE consumer {} for user {} (queue capacity {})",
+                    connection.getConnectionId(), connection.getUserId(), queueCapacity);
+            discard(connection);
+            failureHandler.accept(connection);
+            return false;
+        }
+
+        scheduleDrain(connection);
+        return true;
+    }
+
+    /**
+     * 송신 큐가 비어 있을 때만 프레임 추가 (heartbeat용)
+     * 대기 중인 이벤트가 있다면 그 자체가 연결 유지 역할을 하므로 ping을 생략합니다.
+     */
+    public boolean dispatchIfIdle(SseConnection connection, SseFrame frame) {
+        if (!connection.getOutbox().isEmpty()) {
+            return false;
+        }
+        return dispatch(connection, frame);
+    }
+
+    /**
+     * 연결 종료 시 대기 중인 프레임 폐기
+     */
+    public void discard(SseConnection connection) {
+        int cleared = connection.getOutbox().clear();
+        if (cleared > 0) {
+            queuedFrames.addAndGet(-cleared);
+        }
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (connection.getOutbox().tryScheduleDrain()) {
+            try {
+                writerPool.execute(() -> drain(connection));
+            } catch (Exception e) {
+                // 종료 중 등으로 예약 실패 시 플래그 원복
+                connection.getOutbox().releaseDrain();
+                log.debug("Failed to schedule SSE drain for connection {}: {}",
+                        connection.getConnectionId(), e.getMessage());
+            }
+        }
+    }
+
+    // writer 스레드에서 연결 하나의 송신 큐를 최대 drainBatchSize만큼 전송
+    private void drain(SseConnection connection) {
+        SseOutbox outbox = connection.getOutbox();
+        boolean failed = false;
+
+        try {
+            int written = 0;
+            SseFrame frame;
+            while (written < drainBatchSize && (frame = outbox.poll()) != null) {
+                queuedFrames.decrementAndGet();
+                if (!connection.isValid()) {
+                    countWriteFailure("ConnectionClosed");
+                    failed = true;
+                    break;
+                }
+                long startedAt = System.nanoTime();
+                frame.writeTo(connection.getEmitter());
+                writeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                if (frame.getOriginMillis() > 0) {
+                    deliveryTimer.record(Math.max(0, System.currentTimeMillis() - frame.getOriginMillis()),
+                            TimeUnit.MILLISECONDS);
+                }
+                connection.updateLastActivity();
+                written++;
+            }
+        } catch (Exception e) {
+            // IOException(클라이언트 연결 끊김) 또는 이미 완료된 emitter (IllegalStateException)
+            countWriteFailure(e.getClass().getSimpleName());
+            log.debug("Failed to write SSE frame to connection {} for user {}: {}",
+                    connection.getConnectionId(), connection.getUserId(), e.getMessage());
+            failed = true;
+        } finally {
+            outbox.releaseDrain();
+        }
+
+        if (failed) {
+            discard(connection);
+            failureHandler.accept(connection);
+            return;
+        }
+
+        // 배치 한도로 남은 프레임이 있거나 drain 중 새 프레임이 들어왔으면 다시 예약 (연결 간 공정성 유지)
+        if (!outbox.isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    // 쓰기 실패 원인별 집계 (원인 종류가 적으므로 태그 값으로 예외 클래스명 사용)
+    private void countWriteFailure(String cause) {
+        Counter.builder("sse.dispatch.write.failures")
+                .description("emitter 쓰기 실패 수")
+                .tag("cause", cause)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public SseOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    // 전체 송신 대기 프레임 수
+    public long getQueuedFrameCount() {
+        return queuedFrames.get();
+    }
+
+    // 폐기된 이벤트 수
+    public long getDroppedCount() {
+        return (long) droppedCounter.count();
+    }
+
+    @PreDestroy
+    public void stop() {
+        writerPool.shutdown();
+        try {
+            if (!writerPool.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("SSE writer pool did not terminate within 5 seconds, forcing shutdown");
+                writerPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writerPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
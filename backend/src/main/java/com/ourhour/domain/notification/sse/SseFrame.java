@@ -0,0 +1,141 @@
+package com.ourhour.domain.notification.sse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 미리 UTF-8 바이트로 인코딩된 SSE 프레임
+ * 같은 프레임을 여러 emitter에 그대로 쓸 수 있도록 불변 객체로 유지합니다.
+ * 수신자마다 다른 id 필드는 별도 버퍼로 두어, 여러 사용자에게 같은 이벤트를 보낼 때도 본문(event/data)은 한 번만 인코딩합니다.
+ * originMillis는 알림 생성 요청 시각(epoch ms)으로, 전송 시 생성부터 SSE 쓰기까지의 지연을 측정하는 데만 쓰입니다.
+ */
+public final class SseFrame {
+
+    private final byte[] idLine;
+    private final byte[] body;
+    private final ResponseBodyEmitter.DataWithMediaType bodyItem;
+    private final Set<ResponseBodyEmitter.DataWithMediaType> items;
+    private final long originMillis;
+
+    private SseFrame(byte[] body) {
+        this.idLine = null;
+        this.body = body;
+        this.bodyItem = new ResponseBodyEmitter.DataWithMediaType(body, MediaType.TEXT_PLAIN);
+        this.items = Set.of(bodyItem);
+        this.originMillis = 0L;
+    }
+
+    private SseFrame(SseFrame shared, long originMillis) {
+        this.idLine = shared.idLine;
+        this.body = shared.body;
+        this.bodyItem = shared.bodyItem;
+        this.items = shared.items;
+        this.originMillis = originMillis;
+    }
+
+    private SseFrame(byte[] idLine, SseFrame shared) {
+        this.idLine = idLine;
+        this.body = shared.body;
+        this.bodyItem = shared.bodyItem;
+        this.originMillis = shared.originMillis;
+
+        // id 필드가 event/data보다 먼저 쓰이도록 순서 유지
+        Set<ResponseBodyEmitter.DataWithMediaType> ordered = new LinkedHashSet<>(2);
+        ordered.add(new ResponseBodyEmitter.DataWithMediaType(idLine, MediaType.TEXT_PLAIN));
+        ordered.add(bodyItem);
+        this.items = ordered;
+    }
+
+    /**
+     * 이벤트 이름과 데이터로 프레임 생성
+     */
+    public static SseFrame of(String eventName, String data) {
+        StringBuilder sb = new StringBuilder(eventName.length() + data.length() + 16);
+        sb.append("event:").append(eventName).append('\n');
+        appendData(sb, data);
+        sb.append('\n');
+        return new SseFrame(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 이벤트 ID(Last-Event-ID로 돌아옴), 이름, 데이터로 프레임 생성
+     */
+    public static SseFrame of(String id, String eventName, String data) {
+        return of(eventName, data).withId(id);
+    }
+
+    /**
+     * 재연결 대기 시간(retry 필드)을 지정하는 프레임 생성
+     * EventSource는 retry 값을 이후 자동 재연결 간격으로 사용하며, 같은 값을 이벤트 데이터로도 보내 직접 재연결하는 클라이언트가 읽을 수 있게 합니다.
+     */
+    public static SseFrame retry(long retryMillis, String eventName) {
+        String millis = Long.toString(retryMillis);
+        StringBuilder sb = new StringBuilder(eventName.length() + millis.length() * 2 + 24);
+        sb.append("retry:").append(millis).append('\n');
+        sb.append("event:").append(eventName).append('\n');
+        sb.append("data:").append(millis).append('\n');
+        sb.append('\n');
+        return new SseFrame(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 본문 버퍼를 공유하고 id 필드만 덧붙인 프레임 생성
+     * 이미 id가 있는 프레임이면 기존 id를 대체합니다.
+     */
+    public SseFrame withId(String id) {
+        if (id == null) {
+            return idLine == null ? this : new SseFrame(new SseFrame(body), originMillis);
+        }
+        return new SseFrame(("id:" + id + "\n").getBytes(StandardCharsets.UTF_8), this);
+    }
+
+    /**
+     * 인코딩된 버퍼를 공유하고 생성 요청 시각만 기록한 프레임 생성 (0이면 측정하지 않음)
+     */
+    public SseFrame withOrigin(long originMillis) {
+        return originMillis == this.originMillis ? this : new SseFrame(this, originMillis);
+    }
+
+    // 여러 줄 데이터는 줄마다 data: 필드로 나눠야 함
+    private static void appendData(StringBuilder sb, String data) {
+        int start = 0;
+        int newline;
+        while ((newline = data.indexOf('\n', start)) >= 0) {
+            sb.append("data:").append(data, start, newline).append('\n');
+            start = newline + 1;
+        }
+        sb.append("data:").append(data, start, data.length()).append('\n');
+    }
+
+    /**
+     * emitter에 인코딩된 프레임 그대로 전송
+     */
+    public void writeTo(SseEmitter emitter) throws IOException {
+        emitter.send(items);
+    }
+
+    public long getOriginMillis() {
+        return originMillis;
+    }
+
+    public int size() {
+        return (idLine == null ? 0 : idLine.length) + body.length;
+    }
+
+    // 같은 본문 버퍼를 공유하는지 여부
+    boolean sharesBodyWith(SseFrame other) {
+        return body == other.body;
+    }
+
+    @Override
+    public String toString() {
+        String text = new String(body, StandardCharsets.UTF_8);
+        return idLine == null ? text : new String(idLine, StandardCharsets.UTF_8) + text;
+    }
+}
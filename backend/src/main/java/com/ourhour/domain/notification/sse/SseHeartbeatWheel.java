@@ -0,0 +1,179 @@
+package com.ourhour.domain.notification.sse;
+
+import com.ourhour.domain.notification.model.SseConnection;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * SSE heartbeat용 해시 타이밍 휠
+ * 연결마다 ScheduledFuture를 두는 대신 heartbeat 주기를 여러 버킷으로 나누고,
+ * 단일 스레드가 매 tick마다 한 버킷에 속한 연결 전체에 미리 인코딩된 ping 프레임을 전송합니다.
+ * 실제 쓰기는 SseDispatcher의 writer 스레드가 수행하므로 느린 클라이언트가 휠을 막지 않습니다.
+ * 연결 수가 늘어도 스케줄러 작업 수는 1개로 고정됩니다.
+ */
+@Slf4j
+@Component
+public class SseHeartbeatWheel {
+
+    public static final SseFrame PING_FRAME = SseFrame.of("ping", "ping");
+
+    private final SseDispatcher dispatcher;
+    private final Set<SseConnection>[] buckets;
+    private final long tickMillis;
+    private final Timer sweepTimer;
+
+    private volatile int currentTick;
+    private volatile long lastSweepNanos;
+    private ScheduledExecutorService ticker;
+    private Consumer<SseConnection> failureHandler = connection -> { };
+
+    @SuppressWarnings("unchecked")
+    public SseHeartbeatWheel(
+            @Value("${notification.sse.heartbeat-interval:15}") int heartbeatIntervalSeconds,
+            @Value("${notification.sse.heartbeat-buckets:30}") int bucketCount,
+            SseDispatcher dispatcher,
+            MeterRegistry meterRegistry) {
+        if (heartbeatIntervalSeconds <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("heartbeat-interval과 heartbeat-buckets는 1 이상이어야 합니다");
+        }
+
+        this.dispatcher = dispatcher;
+        this.buckets = new Set[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            this.buckets[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.tickMillis = Math.max(1, TimeUnit.SECONDS.toMillis(heartbeatIntervalSeconds) / bucketCount);
+        this.sweepTimer = Timer.builder("sse.heartbeat.sweep")
+                .description("heartbeat 버킷 하나를 순회하는 데 걸린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 휠 시작
+     * @param failureHandler ping 전송에 실패한 연결을 정리할 콜백
+     */
+    public synchronized void start(Consumer<SseConnection> failureHandler) {
+        if (ticker != null) {
+            return;
+        }
+        this.failureHandler = failureHandler;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sse-heartbeat-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 연결 추가
+     * 방금 순회한 버킷에 넣어 첫 ping이 약 한 주기 뒤에 나가도록 함 (연결 직후 connection 메시지를 이미 보냈으므로)
+     */
+    public void add(SseConnection connection) {
+        int slot = currentTick;
+        connection.setHeartbeatSlot(slot);
+        buckets[slot].add(connection);
+    }
+
+    // 연결 제거
+    public void remove(SseConnection connection) {
+        int slot = connection.getHeartbeatSlot();
+        if (slot >= 0) {
+            buckets[slot].remove(connection);
+        }
+    }
+
+    // 다음 버킷으로 이동 후 해당 버킷 순회
+    void tick() {
+        int next = (currentTick + 1) % buckets.length;
+        currentTick = next;
+        try {
+            sweep(next);
+        } catch (Exception e) {
+            // 예외로 스케줄이 중단되지 않도록 방어
+            log.warn("SSE heartbeat sweep failed for bucket {}: {}", next, e.getMessage());
+        }
+    }
+
+    // 버킷 하나에 속한 모든 연결에 동일한 ping 프레임 전송 예약
+    void sweep(int slot) {
+        long start = System.nanoTime();
+        int pinged = 0;
+
+        for (SseConnection connection : buckets[slot]) {
+            if (!connection.isValid()) {
+                buckets[slot].remove(connection);
+                failureHandler.accept(connection);
+                continue;
+            }
+            // 쓰기 실패는 dispatcher가 감지하여 정리
+            if (dispatcher.dispatchIfIdle(connection, PING_FRAME)) {
+                pinged++;
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        lastSweepNanos = elapsed;
+        sweepTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (TimeUnit.NANOSECONDS.toMillis(elapsed) > tickMillis) {
+            log.warn("SSE heartbeat sweep of bucket {} took {}ms for {} connections (tick {}ms)",
+                    slot, TimeUnit.NANOSECONDS.toMillis(elapsed), pinged, tickMillis);
+        }
+    }
+
+    // 가장 최근 버킷 순회 시간 (나노초)
+    public long getLastSweepNanos() {
+        return lastSweepNanos;
+    }
+
+    public int getBucketCount() {
+        return buckets.length;
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    // 휠에 등록된 연결 수
+    public int size() {
+        int size = 0;
+        for (Set<SseConnection> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (ticker == null) {
+            return;
+        }
+        ticker.shutdown();
+        try {
+            if (!ticker.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Heartbeat wheel did not terminate within 5 seconds, forcing shutdown");
+                ticker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            ticker.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        ticker = null;
+        for (Set<SseConnection> bucket : buckets) {
+            bucket.clear();
+        }
+    }
+}
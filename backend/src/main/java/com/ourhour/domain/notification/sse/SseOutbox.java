@@ -0,0 +1,94 @@
+package com.ourhour.domain.notification.sse;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결별 송신 대기열 (고정 크기 링 버퍼)
+ * 한 번에 하나의 writer만 drain하도록 draining 플래그로 직렬화하여 연결 내 이벤트 순서를 보장합니다.
+ */
+public class SseOutbox {
+
+    private final SseFrame[] ring;
+    private int head;
+    private int size;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+
+    public SseOutbox(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다");
+        }
+        this.ring = new SseFrame[capacity];
+    }
+
+    /**
+     * 프레임 추가
+     * @return 큐가 가득 차 추가하지 못했으면 false
+     */
+    public synchronized boolean offer(SseFrame frame) {
+        if (size == ring.length) {
+            return false;
+        }
+        ring[(head + size) % ring.length] = frame;
+        size++;
+        return true;
+    }
+
+    /**
+     * 큐가 가득 찼으면 가장 오래된 프레임을 밀어내고 추가
+     * @return 밀려난 프레임 (없으면 null)
+     */
+    public synchronized SseFrame offerEvictingOldest(SseFrame frame) {
+        SseFrame evicted = null;
+        if (size == ring.length) {
+            evicted = poll();
+        }
+        offer(frame);
+        return evicted;
+    }
+
+    // 가장 오래된 프레임 꺼내기
+    public synchronized SseFrame poll() {
+        if (size == 0) {
+            return null;
+        }
+        SseFrame frame = ring[head];
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        size--;
+        return frame;
+    }
+
+    /**
+     * 대기 중인 프레임 모두 폐기
+     * @return 폐기된 프레임 수
+     */
+    public synchronized int clear() {
+        int cleared = size;
+        while (size > 0) {
+            poll();
+        }
+        return cleared;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int capacity() {
+        return ring.length;
+    }
+
+    // drain 작업 예약 (이미 예약/실행 중이면 false)
+    boolean tryScheduleDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    // drain 작업 종료
+    void releaseDrain() {
+        draining.set(false);
+    }
+}
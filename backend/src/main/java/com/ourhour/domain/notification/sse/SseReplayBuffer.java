@@ -0,0 +1,21 @@
+package com.ourhour.domain.notification.sse;
+
+/**
+ * 사용자별 SSE 재전송 버퍼
+ * 전송되는 이벤트마다 사용자별 단조 증가 ID를 부여하고 최근 이벤트를 보관하여,
+ * Last-Event-ID를 보낸 재연결 요청에 DB 조회 없이 놓친 이벤트를 돌려줍니다.
+ * notification.sse.replay.store 값으로 memory(기본) 또는 redis 구현을 선택합니다.
+ */
+public interface SseReplayBuffer {
+
+    /**
+     * 이벤트에 ID를 부여하고 버퍼에 보관
+     * @return ID가 부여된 이벤트
+     */
+    SseReplayEvent append(Long userId, String eventName, String data);
+
+    /**
+     * lastEventId 이후의 이벤트를 ID 오름차순으로 조회
+     */
+    SseReplayResult since(Long userId, long lastEventId);
+}
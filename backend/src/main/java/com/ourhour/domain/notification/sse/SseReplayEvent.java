@@ -0,0 +1,33 @@
+package com.ourhour.domain.notification.sse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재연결 시 다시 보내기 위해 보관하는 SSE 이벤트
+ * id는 사용자별로 단조 증가하며 SSE id 필드(Last-Event-ID)로 그대로 사용됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SseReplayEvent {
+
+    private final long id;
+    private final String eventName;
+    private final String data;
+
+    // ID를 부여하지 못한 이벤트 (저장소 장애 등)
+    public boolean hasId() {
+        return id >= 0;
+    }
+
+    public SseFrame toFrame() {
+        return SseFrame.of(hasId() ? String.valueOf(id) : null, eventName, data);
+    }
+
+    /**
+     * 이미 인코딩된 본문에 이 이벤트의 id만 붙인 프레임 (여러 수신자 전송 시 재인코딩 방지)
+     */
+    public SseFrame toFrame(SseFrame encodedBody) {
+        return encodedBody.withId(hasId() ? String.valueOf(id) : null);
+    }
+}
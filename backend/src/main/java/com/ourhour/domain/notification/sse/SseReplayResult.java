@@ -0,0 +1,23 @@
+package com.ourhour.domain.notification.sse;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Last-Event-ID 이후 놓친 이벤트 조회 결과
+ * complete가 false면 버퍼에서 이미 밀려났거나 다른 세대(서버 재시작 등)의 ID라서
+ * 놓친 이벤트를 모두 복구할 수 없으므로 클라이언트가 목록을 다시 조회해야 합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SseReplayResult {
+
+    private final List<SseReplayEvent> events;
+    private final boolean complete;
+
+    public static SseReplayResult incomplete(List<SseReplayEvent> events) {
+        return new SseReplayResult(events, false);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ourhour.domain.notification.sse;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 사용자 → 연결된 노드 라우팅 테이블
+ * 한 사용자가 여러 기기로 서로 다른 노드에 연결될 수 있으므로 사용자별로 노드 집합을 관리합니다.
+ * 항목은 TTL을 가지며 연결을 가진 노드가 주기적으로 갱신하므로, 비정상 종료된 노드의 항목은 자연히 만료됩니다.
+ */
+public interface SseRouteTable {
+
+    void add(Long userId, String nodeId);
+
+    void remove(Long userId, String nodeId);
+
+    Set<String> nodesFor(Long userId);
+
+    /**
+     * 여러 사용자의 노드 집합을 한 번에 조회 (연결된 노드가 없는 사용자는 결과에서 제외)
+     */
+    Map<Long, Set<String>> nodesFor(Collection<Long> userIds);
+
+    /**
+     * 노드에 연결된 사용자들의 라우팅 항목 TTL 갱신
+     */
+    void refresh(Collection<Long> userIds, String nodeId);
+}
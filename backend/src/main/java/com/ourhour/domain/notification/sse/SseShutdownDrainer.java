@@ -0,0 +1,117 @@
+package com.ourhour.domain.notification.sse;
+
+import com.ourhour.domain.notification.model.SseConnection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 종료 시 SSE 연결을 여러 번에 나눠 닫는 드레인
+ * 모든 연결을 한 번에 닫으면 클라이언트가 같은 순간 재연결하여 다른 노드에 SSE 토큰 발급과 subscribe가 몰립니다.
+ * 연결마다 무작위 지터를 더한 retry 값을 먼저 보낸 뒤, period-ms 동안 waves 번에 나눠 연결을 닫아 재연결 시점을 분산합니다.
+ */
+@Slf4j
+@Component
+public class SseShutdownDrainer {
+
+    public static final String DRAIN_EVENT = "drain";
+
+    private final SseDispatcher dispatcher;
+    private final boolean enabled;
+    private final long periodMillis;
+    private final int waves;
+    private final long retryBaseMillis;
+    private final long retryJitterMillis;
+
+    public SseShutdownDrainer(
+            SseDispatcher dispatcher,
+            @Value("${notification.sse.drain.enabled:true}") boolean enabled,
+            @Value("${notification.sse.drain.period-ms:10000}") long periodMillis,
+            @Value("${notification.sse.drain.waves:10}") int waves,
+            @Value("${notification.sse.drain.retry-base-ms:1000}") long retryBaseMillis,
+            @Value("${notification.sse.drain.retry-jitter-ms:5000}") long retryJitterMillis) {
+        if (periodMillis < 0 || waves <= 0 || retryBaseMillis < 0 || retryJitterMillis < 0) {
+            throw new IllegalArgumentException("drain.waves는 1 이상, 나머지 drain 설정은 0 이상이어야 합니다");
+        }
+        this.dispatcher = dispatcher;
+        this.enabled = enabled;
+        this.periodMillis = periodMillis;
+        this.waves = waves;
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryJitterMillis = retryJitterMillis;
+    }
+
+    /**
+     * 연결에 retry 힌트를 보내고 나눠서 닫음 (모든 연결을 닫을 때까지 호출 스레드를 붙잡음)
+     * 대기 중 인터럽트되면 남은 연결을 즉시 닫습니다.
+     * @param closer 연결 하나를 정리하는 콜백
+     */
+    public void drain(List<SseConnection> connections, Consumer<SseConnection> closer) {
+        if (connections.isEmpty()) {
+            return;
+        }
+        if (!enabled) {
+            connections.forEach(closer);
+            return;
+        }
+
+        // 사용자 단위로 묶인 레지스트리 순서를 섞어 한 사용자의 탭이 같은 차수에 몰리지 않게 함
+        List<SseConnection> shuffled = new ArrayList<>(connections);
+        Collections.shuffle(shuffled, ThreadLocalRandom.current());
+        shuffled.forEach(connection -> dispatcher.dispatch(connection, SseFrame.retry(nextRetryMillis(), DRAIN_EVENT)));
+
+        List<List<SseConnection>> partitions = partition(shuffled, waves);
+        long waveIntervalMillis = periodMillis / partitions.size();
+        log.info("Draining {} SSE connections in {} waves over {} ms",
+                shuffled.size(), partitions.size(), periodMillis);
+
+        for (int i = 0; i < partitions.size(); i++) {
+            // 첫 차수도 간격만큼 기다려 retry 프레임이 먼저 쓰이도록 함
+            if (!pause(waveIntervalMillis)) {
+                partitions.subList(i, partitions.size()).forEach(wave -> wave.forEach(closer));
+                return;
+            }
+            partitions.get(i).forEach(closer);
+        }
+    }
+
+    // base 이상 base + jitter 이하의 재연결 대기 시간
+    public long nextRetryMillis() {
+        return retryBaseMillis + ThreadLocalRandom.current().nextLong(retryJitterMillis + 1);
+    }
+
+    // 크기 차이가 최대 1인 연속 구간으로 분할 (연결 수보다 차수가 많으면 빈 차수는 만들지 않음)
+    static <T> List<List<T>> partition(List<T> items, int count) {
+        int parts = Math.min(count, items.size());
+        List<List<T>> partitions = new ArrayList<>(parts);
+        int base = items.size() / parts;
+        int remainder = items.size() % parts;
+        int from = 0;
+        for (int i = 0; i < parts; i++) {
+            int to = from + base + (i < remainder ? 1 : 0);
+            partitions.add(items.subList(from, to));
+            from = to;
+        }
+        return partitions;
+    }
+
+    // 차수 사이 대기 (중단 요청 시 false)
+    private boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
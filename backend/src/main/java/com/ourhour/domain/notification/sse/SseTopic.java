@@ -0,0 +1,40 @@
+package com.ourhour.domain.notification.sse;
+
+import com.ourhour.domain.notification.enums.SseTopicType;
+
+/**
+ * SSE 토픽 (조직/프로젝트/채팅방)
+ * 같은 토픽을 구독한 연결에는 알림 행을 만들지 않고 이벤트 하나를 메모리에서 바로 전파합니다.
+ */
+public record SseTopic(SseTopicType type, Long id) {
+
+    private static final String DELIMITER = ":";
+
+    public static SseTopic org(Long orgId) {
+        return new SseTopic(SseTopicType.ORG, orgId);
+    }
+
+    public static SseTopic project(Long projectId) {
+        return new SseTopic(SseTopicType.PROJECT, projectId);
+    }
+
+    public static SseTopic chatRoom(Long roomId) {
+        return new SseTopic(SseTopicType.CHAT_ROOM, roomId);
+    }
+
+    /**
+     * 노드 간 전달용 키 (예: PROJECT:3)
+     */
+    public String key() {
+        return type.name() + DELIMITER + id;
+    }
+
+    public static SseTopic fromKey(String key) {
+        int delimiter = key.indexOf(DELIMITER);
+        if (delimiter < 0) {
+            throw new IllegalArgumentException("잘못된 SSE 토픽 키입니다: " + key);
+        }
+        return new SseTopic(SseTopicType.valueOf(key.substring(0, delimiter)),
+                Long.parseLong(key.substring(delimiter + 1)));
+    }
+}
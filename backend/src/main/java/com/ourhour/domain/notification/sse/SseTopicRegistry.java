@@ -0,0 +1,92 @@
+package com.ourhour.domain.notification.sse;
+
+import com.ourhour.domain.notification.model.SseConnection;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토픽별 SSE 구독 레지스트리
+ * 토픽 → 구독 연결 집합과, 연결 종료 시 정리를 위한 연결 → 구독 토픽 집합을 함께 유지합니다.
+ */
+@Component
+public class SseTopicRegistry {
+
+    private final ConcurrentHashMap<SseTopic, Set<SseConnection>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<SseTopic>> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * 연결을 토픽들에 구독
+     * 구독 중 연결이 종료되었으면 등록한 구독을 되돌립니다.
+     */
+    public void subscribe(SseConnection connection, Collection<SseTopic> topics) {
+        if (topics.isEmpty()) {
+            return;
+        }
+
+        // 추가를 compute 안에서 해야 unsubscribeAll이 빈 집합을 지운 직후 그 집합에 추가해 구독이 유실되지 않음
+        subscriptions.compute(connection.getConnectionId(), (id, subscribed) -> {
+            Set<SseTopic> set = subscribed == null ? ConcurrentHashMap.newKeySet() : subscribed;
+            set.addAll(topics);
+            return set;
+        });
+        for (SseTopic topic : topics) {
+            subscribers.compute(topic, (key, connections) -> {
+                Set<SseConnection> set = connections == null ? ConcurrentHashMap.newKeySet() : connections;
+                set.add(connection);
+                return set;
+            });
+        }
+
+        // 구독 도중 정리된 연결이 토픽에 남지 않도록 재확인
+        if (!connection.isValid()) {
+            unsubscribeAll(connection);
+        }
+    }
+
+    /**
+     * 연결의 모든 구독 해제
+     */
+    public void unsubscribeAll(SseConnection connection) {
+        Set<SseTopic> topics = subscriptions.remove(connection.getConnectionId());
+        if (topics == null) {
+            return;
+        }
+
+        for (SseTopic topic : topics) {
+            subscribers.computeIfPresent(topic, (key, connections) -> {
+                connections.remove(connection);
+                return connections.isEmpty() ? null : connections;
+            });
+        }
+    }
+
+    /**
+     * 토픽 구독 연결 조회
+     */
+    public Collection<SseConnection> getSubscribers(SseTopic topic) {
+        Set<SseConnection> connections = subscribers.get(topic);
+        return connections == null ? Set.of() : connections;
+    }
+
+    /**
+     * 연결의 구독 토픽 조회
+     */
+    public Set<SseTopic> getTopics(SseConnection connection) {
+        Set<SseTopic> topics = subscriptions.get(connection.getConnectionId());
+        return topics == null ? Set.of() : topics;
+    }
+
+    // 구독자가 있는 토픽 수
+    public int getTopicCount() {
+        return subscribers.size();
+    }
+
+    // 모든 구독 제거 (종료 시 사용)
+    public void clear() {
+        subscribers.clear();
+        subscriptions.clear();
+    }
+}
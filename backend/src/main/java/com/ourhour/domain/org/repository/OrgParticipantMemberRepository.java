@@ -111,6 +111,13 @@ public interface OrgParticipantMemberRepository
         Optional<OrgParticipantMemberEntity> findByOrgEntity_OrgIdAndMemberEntity_UserEntity_UserIdAndStatus(Long orgId,
                         Long userId, Status status);
 
+        // 사용자가 참여 중인 조직 ID 조회 (SSE 토픽 구독용)
+        @Query("SELECT opm.orgEntity.orgId " +
+                        "FROM OrgParticipantMemberEntity opm " +
+                        "WHERE opm.memberEntity.userEntity.userId = :userId " +
+                        "AND opm.status = :status")
+        List<Long> findOrgIdsByUserIdAndStatus(@Param("userId") Long userId, @Param("status") Status status);
+
         @Query("SELECT opm " +
                         "FROM OrgParticipantMemberEntity opm " +
                         "JOIN opm.memberEntity m " +
@@ -60,4 +60,9 @@ public interface ProjectParticipantRepository extends JpaRepository<ProjectParti
                         "ORDER BY p.projectParticipantId.projectId, p.projectParticipantId.memberId")
         List<ProjectParticipantEntity> findLimitedParticipantsByProjectIds(@Param("projectIds") List<Long> projectIds,
                         @Param("limit") int limit);
-}
\ No newline at end of file
+
+        // 사용자가 참여 중인 프로젝트 ID 조회 (SSE 토픽 구독용)
+        @Query("SELECT p.projectParticipantId.projectId FROM ProjectParticipantEntity p " +
+                        "WHERE p.memberEntity.userEntity.userId = :userId")
+        List<Long> findProjectIdsByUserId(@Param("userId") Long userId);
+}
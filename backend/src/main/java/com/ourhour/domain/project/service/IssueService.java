@@ -212,6 +212,10 @@ public class IssueService {
 
         IssueEntity savedIssueEntity = issueRepository.save(issueEntity);
 
+        // 같은 프로젝트를 보고 있는 사용자 화면 갱신
+        notificationEventService.publishIssueStatusChanged(savedIssueEntity.getProjectEntity().getProjectId(),
+                issueId, savedIssueEntity.getStatus().name());
+
         IssueDetailDTO issueDetailDTO = issueMapper.toIssueDetailDTO(savedIssueEntity);
 
         return ApiResponse.success(issueDetailDTO, ProjectConstants.ISSUE_STATUS_UPDATE_SUCCESS);
@@ -1,5 +1,6 @@
 package com.ourhour.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -29,4 +30,22 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // SSE 연결 시 토픽 조회 전용 (메일 발송 큐에 밀려 구독이 늦어지지 않도록 분리)
+    @Bean(name = "sseTopicExecutor")
+    public Executor sseTopicExecutor(
+            @Value("${notification.sse.topic-resolver.threads:4}") int threads,
+            @Value("${notification.sse.topic-resolver.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Sse-Topic-");
+
+        // 큐가 꽉 차면 거부 (요청 스레드에서 조회하면 연결 내내 DB 커넥션을 붙잡으므로 CallerRunsPolicy 사용 안 함)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+
+        executor.initialize();
+        return executor;
+    }
 }
@@ -1,8 +1,12 @@
 package com.ourhour.global.config;
 
+import com.ourhour.domain.chat.broker.ChatClusterRelay;
+import com.ourhour.domain.chat.enums.ChatBrokerType;
 import com.ourhour.global.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
@@ -27,13 +31,56 @@ import java.util.Objects;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectProvider<ChatClusterRelay> chatClusterRelay;
     private static final String USER_AUTHENTICATION_KEY = "userAuthentication";
 
+    @Value("${chat.broker.type:simple}")
+    private ChatBrokerType brokerType;
+
+    @Value("${chat.broker.destination-prefix:/sub}")
+    private String destinationPrefix;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${chat.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
 
-        registry.enableSimpleBroker("/sub");
+        switch (brokerType) {
+            // 노드마다 내장 브로커를 두고, 브로커로 가는 메시지를 Redis로 다른 노드에도 전달
+            case REDIS -> {
+                registry.enableSimpleBroker(destinationPrefix);
+                registry.configureBrokerChannel().interceptors(chatClusterRelay.getObject());
+            }
+            // 외부 STOMP 브로커가 구독과 전송을 모두 담당 (노드는 연결만 중계)
+            case RELAY -> {
+                var relay = registry.enableStompBrokerRelay(destinationPrefix)
+                        .setRelayHost(relayHost)
+                        .setRelayPort(relayPort)
+                        .setClientLogin(relayLogin)
+                        .setClientPasscode(relayPasscode)
+                        .setSystemLogin(relayLogin)
+                        .setSystemPasscode(relayPasscode);
+                if (!relayVirtualHost.isBlank()) {
+                    relay.setVirtualHost(relayVirtualHost);
+                }
+            }
+            default -> registry.enableSimpleBroker(destinationPrefix);
+        }
         registry.setApplicationDestinationPrefixes("/pub");
+        log.info("STOMP broker configured: type={}, prefix={}", brokerType, destinationPrefix);
     }
 
     @Override
@@ -113,6 +113,8 @@ public enum ErrorCode {
     CHAT_ROOM_NOT_FOUND("존재하지 않는 채팅방입니다", 7000, HttpStatus.NOT_FOUND),
     CHAT_NOT_PARTICIPANT("해당 채팅방의 참여자가 아닙니다", 7001, HttpStatus.FORBIDDEN),
     CHAT_ALREADY_PARTICIPANT("이미 참여하고 있는 채팅방입니다", 7002, HttpStatus.BAD_REQUEST),
+    CHAT_MESSAGE_SAVE_FAILED("메시지를 저장하지 못했습니다. 잠시 후 다시 시도해주세요", 7003, HttpStatus.SERVICE_UNAVAILABLE),
+    CHAT_INVALID_MESSAGE_CURSOR("before, after, around 중 하나만 지정할 수 있습니다", 7004, HttpStatus.BAD_REQUEST),
 
     // ========== 파일 관련 (8000~8999) ==========
     INVALID_FILE_FORMAT("잘못된 파일 형식입니다", 8000, HttpStatus.BAD_REQUEST),
@@ -137,7 +139,8 @@ public enum ErrorCode {
     // ========== 알림 관련 (10000~10999) ==========
     NOTIFICATION_NOT_FOUND("알림을 찾을 수 없습니다", 10000, HttpStatus.NOT_FOUND),
     NOTIFICATION_ACCESS_DENIED("알림에 접근할 권한이 없습니다", 10001, HttpStatus.FORBIDDEN),
-    SSE_CONNECTION_ERROR("실시간 알림 연결에 실패했습니다", 10002, HttpStatus.INTERNAL_SERVER_ERROR);
+    SSE_CONNECTION_ERROR("실시간 알림 연결에 실패했습니다", 10002, HttpStatus.INTERNAL_SERVER_ERROR),
+    INVALID_NOTIFICATION_CURSOR("알림 목록 커서가 올바르지 않습니다", 10003, HttpStatus.BAD_REQUEST);
 
     private final String message;
     private final int statusCode;
@@ -0,0 +1,4 @@
+-- 같은 사용자/타입/관련 대상의 반복 알림을 한 행으로 합칠 때 합쳐진 알림 수
+ALTER TABLE tbl_notification ADD COLUMN coalesced_count INT NOT NULL DEFAULT 1;
+-- 병합 알림이 마지막으로 합쳐진 시각 (created_at은 커서 정렬 키이므로 병합 시 바꾸지 않음)
+ALTER TABLE tbl_notification ADD COLUMN last_merged_at DATETIME(6) NULL;
@@ -0,0 +1,8 @@
+-- 사용자별 알림 읽음 워터마크: 이 ID 이하의 알림은 is_read 값과 관계없이 읽은 것으로 간주
+CREATE TABLE tbl_notification_read_watermark (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    last_read_notification_id BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_notification_read_watermark_user
+        FOREIGN KEY (user_id) REFERENCES tbl_user (user_id) ON DELETE CASCADE
+);
@@ -0,0 +1,18 @@
+-- 보존 기간이 지난 알림의 보관 테이블
+-- 조회 빈도가 낮으므로 사용자별 조회용 인덱스 하나만 두고 압축 행 포맷 사용
+-- is_read는 읽음 워터마크까지 반영한 값으로 저장
+CREATE TABLE tbl_notification_archive (
+    notification_id BIGINT NOT NULL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    type VARCHAR(50) NOT NULL,
+    title VARCHAR(100) NOT NULL,
+    message VARCHAR(500) NOT NULL,
+    is_read BOOLEAN NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    related_id BIGINT,
+    related_type VARCHAR(50),
+    coalesced_count INT NOT NULL DEFAULT 1,
+    archived_at DATETIME(6) NOT NULL,
+
+    INDEX idx_notification_archive_user (user_id, notification_id)
+) ROW_FORMAT = COMPRESSED;
@@ -0,0 +1,21 @@
+-- 사용자별 알림 설정
+-- 타입별 음소거는 NotificationType의 고정 비트 위치(muteBit)를 사용하는 비트마스크 하나로 저장
+CREATE TABLE tbl_notification_preference (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    muted_types BIGINT NOT NULL DEFAULT 0,
+    updated_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_notification_preference_user
+        FOREIGN KEY (user_id) REFERENCES tbl_user (user_id) ON DELETE CASCADE
+);
+
+-- 프로젝트/채팅방 단위 음소거 (사용자별로 한 번에 읽도록 기본 키가 user_id로 시작하며 외래 키 인덱스로도 사용됨)
+CREATE TABLE tbl_notification_mute (
+    user_id BIGINT NOT NULL,
+    target_type VARCHAR(20) NOT NULL,
+    target_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (user_id, target_type, target_id),
+    CONSTRAINT fk_notification_mute_user
+        FOREIGN KEY (user_id) REFERENCES tbl_user (user_id) ON DELETE CASCADE
+);
@@ -0,0 +1,8 @@
+-- 사용자별 알림 요약 메일 발송 위치: 이 ID 이하의 알림은 이미 요약 메일에 포함됨
+CREATE TABLE tbl_notification_digest (
+    user_id BIGINT NOT NULL PRIMARY KEY,
+    last_notification_id BIGINT NOT NULL,
+    sent_at DATETIME(6) NOT NULL,
+    CONSTRAINT fk_notification_digest_user
+        FOREIGN KEY (user_id) REFERENCES tbl_user (user_id) ON DELETE CASCADE
+);
@@ -0,0 +1,2 @@
+-- 채팅 메시지 keyset 페이지네이션: 채팅방 안에서 메시지 ID 순서로 범위 조회
+CREATE INDEX idx_chat_message_room_message ON tbl_chat_message (room_id, chat_message_id);
@@ -0,0 +1,18 @@
+-- 채팅방 목록 정렬용 마지막 메시지 (메시지 저장 시 함께 갱신, 더 큰 메시지 ID로만 변경)
+ALTER TABLE tbl_chat_room
+    ADD COLUMN last_message_id BIGINT NULL,
+    ADD COLUMN last_message_preview VARCHAR(255) NULL,
+    ADD COLUMN last_sent_at DATETIME(6) NULL;
+
+UPDATE tbl_chat_room cr
+    JOIN (SELECT room_id, MAX(chat_message_id) AS last_message_id
+          FROM tbl_chat_message
+          GROUP BY room_id) lm ON lm.room_id = cr.room_id
+    JOIN tbl_chat_message cm ON cm.chat_message_id = lm.last_message_id
+SET cr.last_message_id = cm.chat_message_id,
+    cr.last_message_preview = LEFT(cm.content, 255),
+    cr.last_sent_at = cm.sent_at;
+
+-- 채팅방 목록은 참여자(member_id)에서 시작해 채팅방을 기본 키로 조인하므로 정렬용 인덱스는 두지 않고
+-- FK_org_TO_chat_room용 org_id 인덱스만 명시적으로 유지
+CREATE INDEX idx_chat_room_org ON tbl_chat_room (org_id);
@@ -0,0 +1,4 @@
+-- 채팅 메시지 ID는 동기 저장/쓰기 지연 저장 모두 애플리케이션(ChatMessageIdGenerator)에서 부여
+-- 쓰기 지연 저장이 넣은 큰 ID로 AUTO_INCREMENT가 밀려 두 방식의 ID가 겹치지 않도록 AUTO_INCREMENT를 제거
+ALTER TABLE tbl_chat_message
+    MODIFY chat_message_id BIGINT NOT NULL;
@@ -0,0 +1,87 @@
+package com.ourhour.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ourhour.domain.auth.dto.EmailMessage;
+
+@DisplayName("EmailSenderService 테스트")
+class EmailSenderServiceTest {
+
+    private FakeSmtpServer smtpServer;
+    private EmailSenderService emailSenderService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new FakeSmtpServer(Set.of("rejected@ourhour.test"));
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpServer.getPort());
+
+        emailSenderService = new EmailSenderService(mailSender);
+        ReflectionTestUtils.setField(emailSenderService, "fromMail", "noreply@ourhour.test");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        smtpServer.close();
+    }
+
+    @Test
+    @DisplayName("여러 메일을 SMTP 연결 하나로 발송")
+    void sendEmails_SingleConnection() {
+        // given
+        List<EmailMessage> messages = List.of(
+                new EmailMessage("a@ourhour.test", "요약", "<p>1</p>"),
+                new EmailMessage("b@ourhour.test", "요약", "<p>2</p>"),
+                new EmailMessage("c@ourhour.test", "요약", "<p>3</p>"));
+
+        // when
+        List<EmailMessage> failed = emailSenderService.sendEmails(messages);
+
+        // then
+        assertThat(failed).isEmpty();
+        assertThat(smtpServer.getDeliveredRecipients())
+                .containsExactlyInAnyOrder("a@ourhour.test", "b@ourhour.test", "c@ourhour.test");
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일부 수신자가 거부되어도 나머지는 발송하고 실패한 메일만 반환")
+    void sendEmails_ReturnsOnlyFailed() {
+        // given
+        EmailMessage rejected = new EmailMessage("rejected@ourhour.test", "요약", "<p>1</p>");
+        EmailMessage accepted = new EmailMessage("ok@ourhour.test", "요약", "<p>2</p>");
+
+        // when
+        List<EmailMessage> failed = emailSenderService.sendEmails(List.of(rejected, accepted));
+
+        // then
+        assertThat(failed).containsExactly(rejected);
+        assertThat(smtpServer.getDeliveredRecipients()).containsExactly("ok@ourhour.test");
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결할 수 없으면 모든 메일을 실패로 반환")
+    void sendEmails_ConnectionFailure() throws Exception {
+        // given
+        smtpServer.close();
+        List<EmailMessage> messages = List.of(new EmailMessage("a@ourhour.test", "요약", "<p>1</p>"));
+
+        // when
+        List<EmailMessage> failed = emailSenderService.sendEmails(messages);
+
+        // then
+        assertThat(failed).containsExactlyElementsOf(messages);
+    }
+}
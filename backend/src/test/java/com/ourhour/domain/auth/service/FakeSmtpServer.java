@@ -0,0 +1,109 @@
+package com.ourhour.domain.auth.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 SMTP 서버
+ * 메일 발송 흐름에 필요한 최소 명령만 처리하고 받은 메일의 수신자를 기록합니다.
+ * rejectedRecipients에 있는 주소는 RCPT 단계에서 거부합니다.
+ */
+class FakeSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Set<String> rejectedRecipients;
+    private final List<String> deliveredRecipients = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final Thread acceptThread;
+
+    FakeSmtpServer(Set<String> rejectedRecipients) throws IOException {
+        this.serverSocket = new ServerSocket(0);
+        this.rejectedRecipients = rejectedRecipients;
+        this.acceptThread = new Thread(this::acceptLoop, "fake-smtp");
+        this.acceptThread.setDaemon(true);
+        this.acceptThread.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    List<String> getDeliveredRecipients() {
+        return deliveredRecipients;
+    }
+
+    int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try (Socket socket = serverSocket.accept()) {
+                connectionCount.incrementAndGet();
+                handle(socket);
+            } catch (IOException e) {
+                // 서버 종료
+            }
+        }
+    }
+
+    private void handle(Socket socket) throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        OutputStream out = socket.getOutputStream();
+        PrintWriter writer = new PrintWriter(out, true, StandardCharsets.UTF_8);
+        reply(writer, "220 localhost fake smtp");
+
+        List<String> recipients = new CopyOnWriteArrayList<>();
+        String line;
+        while ((line = in.readLine()) != null) {
+            String command = line.toUpperCase();
+            if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+                reply(writer, "250 localhost");
+            } else if (command.startsWith("MAIL FROM")) {
+                recipients.clear();
+                reply(writer, "250 OK");
+            } else if (command.startsWith("RCPT TO")) {
+                String address = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                if (rejectedRecipients.contains(address)) {
+                    reply(writer, "550 mailbox unavailable");
+                } else {
+                    recipients.add(address);
+                    reply(writer, "250 OK");
+                }
+            } else if (command.equals("DATA")) {
+                reply(writer, "354 end data with <CR><LF>.<CR><LF>");
+                while ((line = in.readLine()) != null && !line.equals(".")) {
+                    // 본문은 기록하지 않음
+                }
+                deliveredRecipients.addAll(recipients);
+                reply(writer, "250 OK");
+            } else if (command.equals("QUIT")) {
+                reply(writer, "221 bye");
+                return;
+            } else {
+                // RSET, NOOP 등
+                reply(writer, "250 OK");
+            }
+        }
+    }
+
+    private void reply(PrintWriter writer, String message) {
+        writer.print(message + "\r\n");
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
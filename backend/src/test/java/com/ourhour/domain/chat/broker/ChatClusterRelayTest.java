@@ -0,0 +1,113 @@
+package com.ourhour.domain.chat.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("ChatClusterRelay 테스트")
+class ChatClusterRelayTest {
+
+    // 노드 하나의 brokerChannel과 그 채널로 들어온 메시지
+    private static class Node {
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final List<Message<?>> brokered = new CopyOnWriteArrayList<>();
+        private final SimpMessagingTemplate template;
+        private final ChatClusterRelay relay;
+
+        Node(ChatBrokerTransport transport, String nodeId) {
+            brokerChannel.subscribe(brokered::add);
+            relay = new ChatClusterRelay(transport, brokerChannel, new SimpleMeterRegistry(), "/sub", nodeId);
+            brokerChannel.addInterceptor(relay);
+            relay.start();
+
+            template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+        }
+    }
+
+    private Node nodeA;
+    private Node nodeB;
+    private Node nodeC;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryChatBrokerTransport transport = new InMemoryChatBrokerTransport();
+        nodeA = new Node(transport, "node-a");
+        nodeB = new Node(transport, "node-b");
+        nodeC = new Node(transport, "node-c");
+    }
+
+    @Test
+    @DisplayName("한 노드에서 보낸 채팅방 메시지를 다른 모든 노드의 브로커로 한 번씩 전달")
+    void convertAndSend_RelaysToOtherNodes() {
+        // when
+        nodeA.template.convertAndSend("/sub/chat/room/1", Map.of("message", "안녕하세요"));
+
+        // then
+        assertThat(nodeA.brokered).hasSize(1);
+        assertThat(nodeB.brokered).hasSize(1);
+        assertThat(nodeC.brokered).hasSize(1);
+
+        Message<?> relayed = nodeB.brokered.get(0);
+        assertThat(SimpMessageHeaderAccessor.getDestination(relayed.getHeaders())).isEqualTo("/sub/chat/room/1");
+        assertThat(relayed.getHeaders().get(ChatClusterRelay.ORIGIN_HEADER)).isEqualTo("node-a");
+        assertThat(new String((byte[]) relayed.getPayload(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"message\":\"안녕하세요\"}");
+        assertThat(relayed.getHeaders().get(MessageHeaders.CONTENT_TYPE).toString())
+                .startsWith("application/json");
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 받은 메시지는 다시 발행하지 않음")
+    void deliver_DoesNotRepublish() {
+        // when
+        nodeA.template.convertAndSend("/sub/chat/room/1", Map.of("message", "hi"));
+        nodeB.template.convertAndSend("/sub/chat/room/2", Map.of("message", "hi"));
+
+        // then
+        assertThat(nodeA.brokered).hasSize(2);
+        assertThat(nodeB.brokered).hasSize(2);
+        assertThat(nodeC.brokered).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("구독 경로 접두사가 아닌 목적지는 중계하지 않음")
+    void preSend_IgnoresOtherDestinations() {
+        // when
+        nodeA.template.convertAndSend("/queue/errors", Map.of("message", "hi"));
+
+        // then
+        assertThat(nodeA.brokered).hasSize(1);
+        assertThat(nodeB.brokered).isEmpty();
+        assertThat(nodeC.brokered).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중계를 멈춘 노드는 다른 노드의 메시지를 받지 않음")
+    void stop_Unsubscribes() {
+        // given
+        nodeC.relay.stop();
+
+        // when
+        nodeA.template.convertAndSend("/sub/chat/room/1", Map.of("message", "hi"));
+
+        // then
+        assertThat(nodeB.brokered).hasSize(1);
+        assertThat(nodeC.brokered).isEmpty();
+    }
+}
@@ -0,0 +1,30 @@
+package com.ourhour.domain.chat.broker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 노드 간 전달 채널
+ * 여러 노드의 중계기가 하나의 인스턴스를 공유하여 Redis pub/sub처럼 모든 구독자에게 메시지를 전달합니다.
+ */
+class InMemoryChatBrokerTransport implements ChatBrokerTransport {
+
+    private final Map<String, Consumer<ChatBrokerMessage>> handlers = new ConcurrentHashMap<>();
+
+    @Override
+    public void subscribe(String nodeId, Consumer<ChatBrokerMessage> handler) {
+        handlers.put(nodeId, handler);
+    }
+
+    @Override
+    public boolean publish(ChatBrokerMessage message) {
+        handlers.values().forEach(handler -> handler.accept(message));
+        return true;
+    }
+
+    @Override
+    public void unsubscribe(String nodeId) {
+        handlers.remove(nodeId);
+    }
+}
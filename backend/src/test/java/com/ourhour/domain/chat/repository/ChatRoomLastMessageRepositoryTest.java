@@ -0,0 +1,77 @@
+package com.ourhour.domain.chat.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.ourhour.domain.chat.dto.PendingChatMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomLastMessageRepository 테스트")
+class ChatRoomLastMessageRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ChatRoomLastMessageRepository repository;
+
+    private PendingChatMessage message(long id, long roomId) {
+        return PendingChatMessage.builder()
+                .chatMessageId(id)
+                .roomId(roomId)
+                .senderId(10L)
+                .senderName("김철수")
+                .content("메시지 " + id)
+                .sentAt(LocalDateTime.of(2025, 7, 1, 9, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("일괄 저장한 메시지 중 채팅방마다 가장 큰 ID의 메시지로 한 번씩 갱신")
+    @SuppressWarnings("unchecked")
+    void updateAll_LatestPerRoom() {
+        // given
+        List<PendingChatMessage> messages = List.of(message(3, 7), message(1, 8), message(5, 7), message(4, 7));
+
+        // when
+        repository.updateAll(messages);
+
+        // then
+        ArgumentCaptor<Collection<PendingChatMessage>> captor = ArgumentCaptor.forClass(Collection.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), captor.capture(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        assertThat(captor.getValue()).extracting(PendingChatMessage::getChatMessageId).containsExactly(5L, 1L);
+    }
+
+    @Test
+    @DisplayName("미리보기는 코드 포인트 기준으로 잘라 이모지가 깨지지 않음")
+    void preview_TruncatesByCodePoint() {
+        // given
+        String content = "가".repeat(ChatRoomLastMessageRepository.PREVIEW_LENGTH - 1) + "🚀🚀";
+
+        // when
+        String preview = ChatRoomLastMessageRepository.preview(content);
+
+        // then
+        assertThat(preview).endsWith("가🚀");
+        assertThat(preview.codePointCount(0, preview.length())).isEqualTo(ChatRoomLastMessageRepository.PREVIEW_LENGTH);
+        assertThat(ChatRoomLastMessageRepository.preview("짧은 메시지")).isEqualTo("짧은 메시지");
+    }
+}
@@ -0,0 +1,92 @@
+package com.ourhour.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ourhour.domain.chat.dto.PendingChatMessage;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageDeadLetterQueue 테스트")
+class ChatMessageDeadLetterQueueTest {
+
+    private static final LocalDateTime SENT_AT = LocalDateTime.of(2025, 7, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private ChatMessageDeadLetterQueue deadLetterQueue;
+
+    @BeforeEach
+    void setUp() {
+        given(stringRedisTemplate.opsForList()).willReturn(listOperations);
+        deadLetterQueue = new ChatMessageDeadLetterQueue(stringRedisTemplate, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("보관한 메시지를 꺼내면 저장에 필요한 값이 그대로 복원")
+    @SuppressWarnings("unchecked")
+    void pushThenPop_RoundTrip() {
+        // given
+        PendingChatMessage message = PendingChatMessage.builder()
+                .chatMessageId(42L)
+                .roomId(7L)
+                .senderId(10L)
+                .senderName("김철수")
+                .content("안녕하세요")
+                .sentAt(SENT_AT)
+                .build();
+        ArgumentCaptor<List<String>> values = ArgumentCaptor.forClass(List.class);
+        deadLetterQueue.push(List.of(message));
+        then(listOperations).should().rightPushAll(eq(ChatMessageDeadLetterQueue.KEY), values.capture());
+        given(listOperations.leftPop(ChatMessageDeadLetterQueue.KEY, 10)).willReturn(values.getValue());
+
+        // when
+        List<PendingChatMessage> popped = deadLetterQueue.pop(10);
+
+        // then
+        assertThat(popped).singleElement().satisfies(restored -> {
+            assertThat(restored.getChatMessageId()).isEqualTo(42L);
+            assertThat(restored.getRoomId()).isEqualTo(7L);
+            assertThat(restored.getSenderId()).isEqualTo(10L);
+            assertThat(restored.getSenderName()).isEqualTo("김철수");
+            assertThat(restored.getContent()).isEqualTo("안녕하세요");
+            assertThat(restored.getSentAt()).isEqualTo(SENT_AT);
+            assertThat(restored.getPersisted()).isNotDone();
+        });
+    }
+
+    @Test
+    @DisplayName("Redis 오류로 보관하지 못하면 false")
+    void push_ReturnsFalseOnRedisFailure() {
+        // given
+        given(listOperations.rightPushAll(eq(ChatMessageDeadLetterQueue.KEY), anyList()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        boolean pushed = deadLetterQueue.push(List.of(PendingChatMessage.builder().chatMessageId(1L).build()));
+
+        // then
+        assertThat(pushed).isFalse();
+    }
+}
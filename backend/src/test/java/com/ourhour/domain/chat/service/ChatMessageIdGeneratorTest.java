@@ -0,0 +1,62 @@
+package com.ourhour.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ChatMessageIdGenerator 테스트")
+class ChatMessageIdGeneratorTest {
+
+    private static final long NOW = ChatMessageIdGenerator.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 ms 안에서는 순번이, ms가 바뀌면 시각이 ID를 증가시킴")
+    void nextId_IncreasesWithinAndAcrossMillis() {
+        // given
+        ChatMessageIdGenerator generator = generator(3);
+
+        // when
+        long first = generator.nextId(NOW);
+        long second = generator.nextId(NOW);
+        long third = generator.nextId(NOW + 1);
+
+        // then
+        assertThat(first).isEqualTo((1_000_000L << 12) | (3L << 8));
+        assertThat(second).isEqualTo(first + 1);
+        assertThat(third).isGreaterThan(second);
+    }
+
+    @Test
+    @DisplayName("같은 ms에 순번을 다 쓰거나 시계가 뒤로 가도 ID는 계속 증가")
+    void nextId_MonotonicOnOverflowAndClockSkew() {
+        // given
+        ChatMessageIdGenerator generator = generator(0);
+        long previous = generator.nextId(NOW);
+
+        // when & then
+        for (int i = 0; i < 600; i++) {
+            long next = generator.nextId(i % 2 == 0 ? NOW : NOW - 5_000);
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("ID는 JavaScript 숫자로 정확히 표현되는 53비트 이내")
+    void nextId_FitsIn53Bits() {
+        // given
+        ChatMessageIdGenerator generator = generator(15);
+        long sixtyYearsLater = ChatMessageIdGenerator.EPOCH_MILLIS + 60L * 365 * 24 * 60 * 60 * 1000;
+
+        // when
+        long id = generator.nextId(sixtyYearsLater);
+
+        // then
+        assertThat(id).isLessThan(1L << 53);
+    }
+
+    private ChatMessageIdGenerator generator(long nodeId) {
+        return new ChatMessageIdGenerator(new ChatMessageNodeIdLease(null, String.valueOf(nodeId), 30));
+    }
+}
@@ -0,0 +1,164 @@
+package com.ourhour.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ourhour.domain.chat.exception.ChatException;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ChatMessageNodeIdLease 테스트")
+class ChatMessageNodeIdLeaseTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("node-id를 지정하지 않으면 Redis에서 비어 있는 가장 작은 번호를 임대")
+    void constructor_LeasesFirstFreeNodeId() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+        given(valueOperations.setIfAbsent(eq("chat:message:node-id:2"), anyString(), any(Duration.class)))
+                .willReturn(true);
+
+        // when
+        ChatMessageNodeIdLease lease = new ChatMessageNodeIdLease(stringRedisTemplate, "", 30);
+
+        // then
+        assertThat(lease.getNodeId()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("모든 번호가 사용 중이면 기동 실패")
+    void constructor_FailsWhenAllNodeIdsTaken() {
+        // given
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> new ChatMessageNodeIdLease(stringRedisTemplate, "", 30))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("지정한 node-id는 임대 없이 사용하고 0~15만 허용")
+    void constructor_UsesConfiguredNodeId() {
+        // when
+        ChatMessageNodeIdLease lease = new ChatMessageNodeIdLease(stringRedisTemplate, "7", 30);
+
+        // then
+        assertThat(lease.getNodeId()).isEqualTo(7);
+        then(valueOperations).should(never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        assertThatThrownBy(() -> new ChatMessageNodeIdLease(stringRedisTemplate, "16", 30))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ChatMessageNodeIdLease(stringRedisTemplate, "-1", 30))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("임대를 잃으면 비어 있는 다른 번호로 바꿈")
+    void renew_SwitchesNodeIdWhenLeaseLost() {
+        // given
+        given(valueOperations.setIfAbsent(eq("chat:message:node-id:0"), anyString(), any(Duration.class)))
+                .willReturn(true, false);
+        given(valueOperations.setIfAbsent(eq("chat:message:node-id:1"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        ChatMessageNodeIdLease lease = new ChatMessageNodeIdLease(stringRedisTemplate, "", 30);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .willReturn(0L);
+
+        // when
+        lease.renew();
+
+        // then
+        assertThat(lease.getNodeId()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("연장하지 못한 채 로컬 만료 시각이 지나면 번호를 내주지 않음")
+    void getNodeId_RefusesAfterLocalLeaseExpiry() {
+        // given
+        AtomicLong now = new AtomicLong();
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        ChatMessageNodeIdLease lease = new ChatMessageNodeIdLease(stringRedisTemplate, "", 30, now::get);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .willThrow(new IllegalStateException("redis down"));
+
+        // when & then
+        now.set(Duration.ofSeconds(29).toNanos());
+        lease.renew();
+        assertThat(lease.getNodeId()).isZero();
+
+        now.set(Duration.ofSeconds(30).toNanos());
+        assertThatThrownBy(lease::getNodeId).isInstanceOf(ChatException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("연장에 성공하면 연장 요청 시각부터 TTL만큼 다시 사용")
+    void renew_ExtendsLocalLeaseExpiry() {
+        // given
+        AtomicLong now = new AtomicLong();
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        ChatMessageNodeIdLease lease = new ChatMessageNodeIdLease(stringRedisTemplate, "", 30, now::get);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .willReturn(1L);
+
+        // when
+        now.set(Duration.ofSeconds(10).toNanos());
+        lease.renew();
+
+        // then
+        now.set(Duration.ofSeconds(39).toNanos());
+        assertThat(lease.getNodeId()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("임대를 잃었는데 비어 있는 번호가 없으면 기존 번호도 바로 사용 중지")
+    void renew_FencesImmediatelyWhenLeaseLostAndNoFreeNodeId() {
+        // given
+        AtomicLong now = new AtomicLong();
+        given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true, false);
+        ChatMessageNodeIdLease lease = new ChatMessageNodeIdLease(stringRedisTemplate, "", 30, now::get);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString()))
+                .willReturn(0L);
+
+        // when
+        lease.renew();
+
+        // then
+        assertThatThrownBy(lease::getNodeId).isInstanceOf(ChatException.class);
+    }
+}
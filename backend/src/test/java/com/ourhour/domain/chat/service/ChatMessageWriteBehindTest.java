@@ -0,0 +1,328 @@
+package com.ourhour.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ourhour.domain.chat.dto.ChatMessageResDTO;
+import com.ourhour.domain.chat.dto.PendingChatMessage;
+import com.ourhour.domain.chat.enums.ChatWriteAck;
+import com.ourhour.domain.chat.exception.ChatException;
+import com.ourhour.domain.chat.repository.ChatMessageBulkRepository;
+import com.ourhour.domain.chat.repository.ChatRoomLastMessageRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageWriteBehind 테스트")
+class ChatMessageWriteBehindTest {
+
+    @Mock
+    private ChatMessageBulkRepository bulkRepository;
+
+    @Mock
+    private ChatRoomLastMessageRepository chatRoomLastMessageRepository;
+
+    @Mock
+    private ChatMessageNotifier chatMessageNotifier;
+
+    @Mock
+    private ChatMessageDeadLetterQueue deadLetterQueue;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageWriteBehind writeBehind;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.stop();
+    }
+
+    private ChatMessageWriteBehind create(int queueCapacity, int batchSize, long lingerMillis, int maxRetries,
+            boolean started) {
+        meterRegistry = new SimpleMeterRegistry();
+        ChatMessageWriteBehind created = new ChatMessageWriteBehind(bulkRepository, chatRoomLastMessageRepository,
+                chatMessageNotifier, deadLetterQueue, mock(PlatformTransactionManager.class), meterRegistry, true,
+                ChatWriteAck.BROADCAST, 1, queueCapacity, batchSize, lingerMillis, maxRetries, 0, 0, 1_000);
+        if (started) {
+            created.start();
+        }
+        return created;
+    }
+
+    private PendingChatMessage message(long id, long roomId) {
+        return PendingChatMessage.builder()
+                .chatMessageId(id)
+                .roomId(roomId)
+                .senderId(10L)
+                .senderName("보낸이")
+                .content("message-" + id)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
+
+    private List<Long> ids(List<PendingChatMessage> messages) {
+        return messages.stream().map(PendingChatMessage::getChatMessageId).toList();
+    }
+
+    @Test
+    @DisplayName("모은 메시지를 한 번에 저장하고 채팅방별로 한 번씩 알림 발송")
+    void flush_BatchesAndNotifiesPerRoom() {
+        // given
+        writeBehind = create(100, 10, 10_000, 0, false);
+        List<List<Long>> inserted = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> inserted.add(ids(invocation.getArgument(0))))
+                .given(bulkRepository).insertAll(anyList());
+        List<PendingChatMessage> messages = List.of(message(1, 7), message(2, 8), message(3, 7));
+
+        // when
+        writeBehind.flush(messages);
+
+        // then
+        assertThat(inserted).containsExactly(List.of(1L, 2L, 3L));
+        then(chatRoomLastMessageRepository).should().updateAll(messages);
+        then(chatMessageNotifier).should().notifyParticipants(eq(7L),
+                argThat(list -> list.stream().map(ChatMessageResDTO::getChatMessageId).toList()
+                        .equals(List.of(1L, 3L))));
+        then(chatMessageNotifier).should().notifyParticipants(eq(8L), anyList());
+        assertThat(messages).allSatisfy(message -> assertThat(message.getPersisted()).isCompleted());
+        assertThat(meterRegistry.counter("chat.message.write.persisted").count()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("같은 채팅방 메시지는 큐에 넣은 순서대로 저장")
+    void enqueue_PersistsInRoomOrder() {
+        // given
+        writeBehind = create(1_000, 3, 5, 0, true);
+        List<Long> inserted = new CopyOnWriteArrayList<>();
+        willAnswer(invocation -> inserted.addAll(ids(invocation.getArgument(0))))
+                .given(bulkRepository).insertAll(anyList());
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            futures.add(writeBehind.enqueue(message(id, 7)));
+        }
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> futures.stream().allMatch(CompletableFuture::isDone));
+        assertThat(inserted).isSorted().hasSize(20);
+    }
+
+    @Test
+    @DisplayName("일시적인 DB 오류는 같은 묶음을 다시 시도하고, 그동안 다음 묶음은 기다림")
+    void flush_RetriesTransientFailureBeforeNextBatch() {
+        // given
+        writeBehind = create(1_000, 2, 0, 3, true);
+        List<List<Long>> inserted = new CopyOnWriteArrayList<>();
+        AtomicInteger attempts = new AtomicInteger();
+        willAnswer(invocation -> {
+            List<Long> ids = ids(invocation.getArgument(0));
+            if (ids.contains(1L) && attempts.incrementAndGet() <= 2) {
+                throw new QueryTimeoutException("timeout");
+            }
+            inserted.add(ids);
+            return null;
+        }).given(bulkRepository).insertAll(anyList());
+
+        // when
+        PendingChatMessage first = message(1, 7);
+        writeBehind.enqueue(first);
+        CompletableFuture<Void> last = writeBehind.enqueue(message(2, 7));
+        CompletableFuture<Void> next = writeBehind.enqueue(message(3, 7));
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> last.isDone() && next.isDone());
+        assertThat(inserted.stream().flatMap(List::stream).toList()).containsExactly(1L, 2L, 3L);
+        assertThat(first.getPersisted()).isCompleted();
+        assertThat(meterRegistry.counter("chat.message.write.retries").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("데이터 오류는 재시도 없이 건별로 저장하고 저장하지 못한 메시지만 버림")
+    void flush_DropsOnlyInvalidMessage() {
+        // given
+        writeBehind = create(100, 10, 10_000, 3, false);
+        willAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(message -> message.getRoomId() == 99L)) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return null;
+        }).given(bulkRepository).insertAll(anyList());
+        PendingChatMessage valid = message(1, 7);
+        PendingChatMessage deletedRoom = message(2, 99);
+
+        // when
+        writeBehind.flush(List.of(valid, deletedRoom));
+
+        // then
+        then(bulkRepository).should(times(3)).insertAll(anyList());
+        assertThat(valid.getPersisted()).isCompleted();
+        assertThatThrownBy(() -> deletedRoom.getPersisted().join()).hasCauseInstanceOf(ChatException.class);
+        then(chatMessageNotifier).should(never()).notifyParticipants(eq(99L), anyList());
+        assertThat(meterRegistry.counter("chat.message.write.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("chat.message.write.retries").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("ack=persisted 대기 중 저장하지 못하면 전송하지 않도록 예외")
+    void awaitPersisted_ThrowsWhenDropped() {
+        // given
+        writeBehind = create(100, 10, 10_000, 0, false);
+        willThrow(new DataIntegrityViolationException("fk")).given(bulkRepository).insertAll(anyList());
+        PendingChatMessage message = message(1, 99);
+
+        // when
+        writeBehind.flush(List.of(message));
+
+        // then
+        assertThatThrownBy(() -> writeBehind.awaitPersisted(message)).isInstanceOf(ChatException.class);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출 스레드에서 직접 저장")
+    void enqueue_FlushesOnCallerWhenFull() {
+        // given
+        writeBehind = create(1, 10, 10_000, 0, false);
+        writeBehind.enqueue(message(1, 7));
+
+        // when
+        CompletableFuture<Void> overflowed = writeBehind.enqueue(message(2, 7));
+
+        // then
+        assertThat(overflowed).isCompleted();
+        assertThat(writeBehind.getPendingCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.message.write.overflow").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 메시지를 모두 저장")
+    void stop_DrainsQueue() throws InterruptedException {
+        // given
+        writeBehind = create(100, 10, 10_000, 0, false);
+        List<CompletableFuture<Void>> futures = List.of(
+                writeBehind.enqueue(message(1, 7)), writeBehind.enqueue(message(2, 8)));
+
+        // when
+        writeBehind.stop();
+
+        // then
+        assertThat(futures).allSatisfy(future -> assertThat(future).isCompleted());
+        assertThat(writeBehind.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 일시적인 DB 오류이면 버리지 않고 dead-letter에 보관")
+    void flush_DeadLettersAfterTransientRetries() {
+        // given
+        writeBehind = create(100, 10, 10_000, 2, false);
+        willThrow(new QueryTimeoutException("timeout")).given(bulkRepository).insertAll(anyList());
+        given(deadLetterQueue.push(anyList())).willReturn(true);
+        List<PendingChatMessage> messages = List.of(message(1, 7), message(2, 8));
+
+        // when
+        int deadLettered = writeBehind.flush(messages);
+
+        // then
+        assertThat(deadLettered).isEqualTo(2);
+        then(bulkRepository).should(times(3)).insertAll(anyList());
+        then(deadLetterQueue).should().push(messages);
+        assertThat(messages).allSatisfy(message -> assertThat(message.getPersisted()).isCompletedExceptionally());
+        assertThat(meterRegistry.counter("chat.message.write.dead-lettered").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("chat.message.write.dropped").count()).isZero();
+        then(chatMessageNotifier).should(never()).notifyParticipants(eq(7L), anyList());
+    }
+
+    @Test
+    @DisplayName("건별 저장 중 제약 조건 위반만 버리고 일시적인 오류는 dead-letter에 보관")
+    void flush_SplitsConstraintViolationFromTransientFailure() {
+        // given
+        writeBehind = create(100, 10, 10_000, 0, false);
+        willAnswer(invocation -> {
+            List<PendingChatMessage> batch = invocation.getArgument(0);
+            if (batch.stream().anyMatch(message -> message.getRoomId() == 99L)) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            if (batch.stream().anyMatch(message -> message.getRoomId() == 8L)) {
+                throw new QueryTimeoutException("timeout");
+            }
+            return null;
+        }).given(bulkRepository).insertAll(anyList());
+        given(deadLetterQueue.push(anyList())).willReturn(true);
+        PendingChatMessage valid = message(1, 7);
+        PendingChatMessage timedOut = message(2, 8);
+        PendingChatMessage deletedRoom = message(3, 99);
+
+        // when
+        writeBehind.flush(List.of(valid, timedOut, deletedRoom));
+
+        // then
+        assertThat(valid.getPersisted()).isCompleted();
+        then(deadLetterQueue).should().push(List.of(timedOut));
+        assertThat(meterRegistry.counter("chat.message.write.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("chat.message.write.dead-lettered").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("dead-letter에도 보관하지 못하면 버리고 집계")
+    void flush_DropsWhenDeadLetterUnavailable() {
+        // given
+        writeBehind = create(100, 10, 10_000, 0, false);
+        willThrow(new QueryTimeoutException("timeout")).given(bulkRepository).insertAll(anyList());
+        given(deadLetterQueue.push(anyList())).willReturn(false);
+        PendingChatMessage message = message(1, 7);
+
+        // when
+        writeBehind.flush(List.of(message));
+
+        // then
+        assertThatThrownBy(() -> message.getPersisted().join()).hasCauseInstanceOf(ChatException.class);
+        assertThat(meterRegistry.counter("chat.message.write.dropped").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("chat.message.write.dead-lettered").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("dead-letter에 보관된 메시지를 꺼내 다시 저장하고 참여자 알림 발송")
+    void replayDeadLetters_PersistsAndNotifies() {
+        // given
+        writeBehind = create(100, 2, 10_000, 0, false);
+        given(deadLetterQueue.pop(2)).willReturn(List.of(message(1, 7), message(2, 7)), List.of(message(3, 8)));
+
+        // when
+        writeBehind.replayDeadLetters();
+
+        // then
+        then(bulkRepository).should(times(2)).insertAll(anyList());
+        then(chatMessageNotifier).should().notifyParticipants(eq(7L), anyList());
+        then(chatMessageNotifier).should().notifyParticipants(eq(8L), anyList());
+        assertThat(meterRegistry.counter("chat.message.write.persisted").count()).isEqualTo(3.0);
+    }
+}
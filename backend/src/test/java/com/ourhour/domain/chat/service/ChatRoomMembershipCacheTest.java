@@ -0,0 +1,116 @@
+package com.ourhour.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.ourhour.domain.chat.entity.ChatRoomEntity;
+import com.ourhour.domain.chat.exception.ChatException;
+import com.ourhour.domain.chat.model.ChatRoomMember;
+import com.ourhour.domain.chat.model.ChatRoomMembership;
+import com.ourhour.domain.chat.repository.ChatParticipantRepository;
+import com.ourhour.domain.chat.repository.ChatRoomRepository;
+import com.ourhour.domain.org.entity.OrgEntity;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatRoomMembershipCache 테스트")
+class ChatRoomMembershipCacheTest {
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private ChatParticipantRepository chatParticipantRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatRoomMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new ChatRoomMembershipCache(chatRoomRepository, chatParticipantRepository, meterRegistry, 100, 60);
+    }
+
+    private ChatRoomEntity room(Long orgId, String name) {
+        OrgEntity org = mock(OrgEntity.class);
+        given(org.getOrgId()).willReturn(orgId);
+        ChatRoomEntity room = mock(ChatRoomEntity.class);
+        given(room.getOrgEntity()).willReturn(org);
+        given(room.getName()).willReturn(name);
+        return room;
+    }
+
+    @Test
+    @DisplayName("처음 사용할 때 한 번만 조회하고 이후에는 캐시에서 반환")
+    void get_LoadsOnce() {
+        // given
+        ChatRoomEntity room = room(1L, "개발팀");
+        given(chatRoomRepository.findById(7L)).willReturn(Optional.of(room));
+        given(chatParticipantRepository.findMembersByRoomId(7L)).willReturn(List.of(
+                new ChatRoomMember(10L, 100L, "김철수"),
+                new ChatRoomMember(11L, 101L, "이영희")));
+
+        // when
+        ChatRoomMembership first = cache.get(7L);
+        ChatRoomMembership second = cache.get(7L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.getOrgId()).isEqualTo(1L);
+        assertThat(first.getRoomName()).isEqualTo("개발팀");
+        assertThat(first.getMembers()).extracting(ChatRoomMember::getUserId).containsExactly(100L, 101L);
+        assertThat(first.findMember(11L)).map(ChatRoomMember::getName).contains("이영희");
+        then(chatParticipantRepository).should(times(1)).findMembersByRoomId(7L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "chat.room.membership").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "chat.room.membership").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("참여자 변경 후 비우면 다음 조회에서 새 참여자를 읽음")
+    void evictAfterCommit_Reloads() {
+        // given
+        ChatRoomEntity room = room(1L, "개발팀");
+        given(chatRoomRepository.findById(7L)).willReturn(Optional.of(room));
+        given(chatParticipantRepository.findMembersByRoomId(7L))
+                .willReturn(List.of(new ChatRoomMember(10L, 100L, "김철수")))
+                .willReturn(List.of(new ChatRoomMember(10L, 100L, "김철수"), new ChatRoomMember(12L, 102L, "박민수")));
+        cache.get(7L);
+
+        // when
+        cache.evictAfterCommit(7L);
+        ChatRoomMembership reloaded = cache.get(7L);
+
+        // then
+        assertThat(reloaded.getMembers()).extracting(ChatRoomMember::getMemberId).containsExactly(10L, 12L);
+        then(chatParticipantRepository).should(times(2)).findMembersByRoomId(7L);
+    }
+
+    @Test
+    @DisplayName("채팅방이 없으면 예외를 던지고 캐시하지 않음")
+    void get_RoomNotFound() {
+        // given
+        given(chatRoomRepository.findById(99L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(99L)).isInstanceOf(ChatException.class);
+        assertThatThrownBy(() -> cache.get(99L)).isInstanceOf(ChatException.class);
+        then(chatRoomRepository).should(times(2)).findById(99L);
+    }
+}
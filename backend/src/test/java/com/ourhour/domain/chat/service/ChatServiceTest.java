@@ -0,0 +1,129 @@
+package com.ourhour.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+
+import com.ourhour.domain.chat.dto.ChatMessageCursorResDTO;
+import com.ourhour.domain.chat.dto.ChatMessageResDTO;
+import com.ourhour.domain.chat.exception.ChatException;
+import com.ourhour.domain.chat.model.ChatRoomMembership;
+import com.ourhour.domain.chat.repository.ChatMessageRepository;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ChatService 메시지 커서 조회 테스트")
+class ChatServiceTest {
+
+    private static final Long ORG_ID = 1L;
+    private static final Long ROOM_ID = 7L;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatRoomMembershipCache chatRoomMembershipCache;
+
+    @InjectMocks
+    private ChatService chatService;
+
+    @BeforeEach
+    void setUp() {
+        given(chatRoomMembershipCache.get(ROOM_ID))
+                .willReturn(new ChatRoomMembership(ROOM_ID, ORG_ID, "개발팀", List.of()));
+    }
+
+    // from부터 to까지의 메시지 (from이 더 크면 최신순)
+    private List<ChatMessageResDTO> messages(long from, long to) {
+        LongStream ids = from <= to
+                ? LongStream.rangeClosed(from, to)
+                : LongStream.rangeClosed(to, from).map(id -> from + to - id);
+        return ids.mapToObj(id -> new ChatMessageResDTO(ROOM_ID, id, 10L, "김철수", "메시지 " + id,
+                LocalDateTime.of(2025, 7, 1, 9, 0))).toList();
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 최신 size개를 오래된 순으로 반환")
+    void findMessagesByCursor_Latest() {
+        // given
+        given(chatMessageRepository.findByRoomIdBefore(ROOM_ID, Long.MAX_VALUE, PageRequest.of(0, 4)))
+                .willReturn(messages(100, 97));
+
+        // when
+        ChatMessageCursorResDTO response = chatService.findMessagesByCursor(ORG_ID, ROOM_ID, null, null, null, 3);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessageResDTO::getChatMessageId)
+                .containsExactly(98L, 99L, 100L);
+        assertThat(response.isHasBefore()).isTrue();
+        assertThat(response.getBeforeCursor()).isEqualTo(98L);
+        assertThat(response.isHasAfter()).isFalse();
+        assertThat(response.getAfterCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("after 커서 이후 메시지가 size개 이하이면 마지막 페이지")
+    void findMessagesByCursor_After() {
+        // given
+        given(chatMessageRepository.findByRoomIdAfter(ROOM_ID, 50L, PageRequest.of(0, 4)))
+                .willReturn(messages(51, 52));
+
+        // when
+        ChatMessageCursorResDTO response = chatService.findMessagesByCursor(ORG_ID, ROOM_ID, null, 50L, null, 3);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessageResDTO::getChatMessageId)
+                .containsExactly(51L, 52L);
+        assertThat(response.isHasBefore()).isTrue();
+        assertThat(response.getBeforeCursor()).isEqualTo(51L);
+        assertThat(response.isHasAfter()).isFalse();
+    }
+
+    @Test
+    @DisplayName("around는 기준 메시지를 포함해 앞뒤 메시지를 함께 반환")
+    void findMessagesByCursor_Around() {
+        // given
+        given(chatMessageRepository.findByRoomIdBefore(ROOM_ID, 51L, PageRequest.of(0, 4)))
+                .willReturn(messages(50, 47));
+        given(chatMessageRepository.findByRoomIdAfter(ROOM_ID, 50L, PageRequest.of(0, 3)))
+                .willReturn(messages(51, 52));
+
+        // when
+        ChatMessageCursorResDTO response = chatService.findMessagesByCursor(ORG_ID, ROOM_ID, null, null, 50L, 5);
+
+        // then
+        assertThat(response.getMessages()).extracting(ChatMessageResDTO::getChatMessageId)
+                .containsExactly(48L, 49L, 50L, 51L, 52L);
+        assertThat(response.isHasBefore()).isTrue();
+        assertThat(response.isHasAfter()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커서를 두 개 이상 지정하거나 다른 회사의 채팅방이면 조회하지 않음")
+    void findMessagesByCursor_Invalid() {
+        // when & then
+        assertThatThrownBy(() -> chatService.findMessagesByCursor(ORG_ID, ROOM_ID, 10L, 20L, null, 3))
+                .isInstanceOf(ChatException.class);
+        assertThatThrownBy(() -> chatService.findMessagesByCursor(2L, ROOM_ID, null, null, null, 3))
+                .isInstanceOf(ChatException.class);
+        then(chatMessageRepository).should(never()).findByRoomIdBefore(any(), any(), any());
+    }
+}
@@ -0,0 +1,212 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ourhour.domain.notification.dto.NotificationCreateReqDTO;
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import com.ourhour.domain.notification.enums.NotificationLane;
+import com.ourhour.domain.notification.enums.NotificationType;
+import com.ourhour.domain.notification.repository.NotificationBulkRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationBatchWriter 테스트")
+class NotificationBatchWriterTest {
+
+    @Mock
+    private NotificationBulkRepository bulkRepository;
+
+    @Mock
+    private SSENotificationService sseNotificationService;
+
+    @Mock
+    private NotificationCoalescer coalescer;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private NotificationHotInbox hotInbox;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationBatchWriter batchWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchWriter = new NotificationBatchWriter(bulkRepository, sseNotificationService, coalescer, unreadNotificationCounter,
+                hotInbox, mock(PlatformTransactionManager.class), meterRegistry, 2,
+                1, 100, 10_000, 1, 100, 10_000, 1, 100, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batchWriter.stop();
+    }
+
+    private NotificationCreateReqDTO request(Long userId) {
+        return request(userId, NotificationType.CHAT_MESSAGE);
+    }
+
+    private NotificationCreateReqDTO request(Long userId, NotificationType type) {
+        return NotificationCreateReqDTO.builder()
+                .userId(userId)
+                .type(type)
+                .title("새 메시지")
+                .message("채팅방에 새 메시지가 있습니다")
+                .relatedId(10L)
+                .build();
+    }
+
+    private NotificationDTO saved(Long notificationId) {
+        return NotificationDTO.builder()
+                .notificationId(notificationId)
+                .type(NotificationType.CHAT_MESSAGE)
+                .build();
+    }
+
+    @Test
+    @DisplayName("일괄 저장 후 SSE 전송과 사용자별 카운터 증가")
+    void flush_SavesBatchAndSendsAfterCommit() {
+        // given
+        List<NotificationCreateReqDTO> batch = List.of(request(1L), request(2L), request(1L));
+        given(bulkRepository.insertAll(eq(batch), any(LocalDateTime.class)))
+                .willReturn(List.of(saved(100L), saved(101L), saved(102L)));
+
+        // when
+        batchWriter.flush(batch);
+
+        // then
+        then(bulkRepository).should(times(1)).insertAll(anyList(), any(LocalDateTime.class));
+        then(unreadNotificationCounter).should(times(1)).add(1L, 2);
+        then(unreadNotificationCounter).should(times(1)).add(2L, 1);
+        then(sseNotificationService).should()
+                .sendNotification(eq(1L), argThat(dto -> dto.getNotificationId() == 100L), anyLong());
+        then(sseNotificationService).should()
+                .sendNotification(eq(2L), argThat(dto -> dto.getNotificationId() == 101L), anyLong());
+        then(sseNotificationService).should()
+                .sendNotification(eq(1L), argThat(dto -> dto.getNotificationId() == 102L), anyLong());
+        then(hotInbox).should(times(1)).add(eq(1L), argThat(dtos -> dtos.size() == 2));
+        then(hotInbox).should(times(1)).add(eq(2L), argThat(dtos -> dtos.size() == 1));
+    }
+
+    @Test
+    @DisplayName("일괄 저장이 실패하면 건별로 재시도하고 실패한 건만 제외")
+    void flush_FallsBackToSingleRows() {
+        // given
+        NotificationCreateReqDTO valid = request(1L);
+        NotificationCreateReqDTO invalid = request(999L);
+        given(bulkRepository.insertAll(eq(List.of(valid, invalid)), any(LocalDateTime.class)))
+                .willThrow(new DataIntegrityViolationException("fk_notification_user"));
+        given(bulkRepository.insertAll(eq(List.of(valid)), any(LocalDateTime.class)))
+                .willReturn(List.of(saved(100L)));
+        given(bulkRepository.insertAll(eq(List.of(invalid)), any(LocalDateTime.class)))
+                .willThrow(new DataIntegrityViolationException("fk_notification_user"));
+
+        // when
+        batchWriter.flush(List.of(valid, invalid));
+
+        // then
+        then(sseNotificationService).should().sendNotification(eq(1L), any(NotificationDTO.class), anyLong());
+        then(sseNotificationService).should(never()).sendNotification(eq(999L), any(NotificationDTO.class), anyLong());
+    }
+
+    @Test
+    @DisplayName("병합 윈도우에 합쳐진 알림은 저장하지 않음")
+    void enqueue_SkipsCoalescedRequest() {
+        // given
+        NotificationCreateReqDTO request = request(1L);
+        given(coalescer.tryCoalesce(request)).willReturn(true);
+
+        // when
+        batchWriter.enqueue(request);
+
+        // then
+        assertThat(batchWriter.getPendingCount()).isZero();
+        then(bulkRepository).should(never()).insertAll(anyList(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("배치 크기에 도달하면 대기 시간 전에 저장")
+    void enqueue_FlushesOnBatchSize() {
+        // given
+        given(bulkRepository.insertAll(anyList(), any(LocalDateTime.class)))
+                .willReturn(List.of(saved(100L), saved(101L)));
+        batchWriter.start();
+
+        // when
+        batchWriter.enqueue(request(1L));
+        batchWriter.enqueue(request(2L));
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> then(sseNotificationService).should(times(2))
+                .sendNotification(any(), any(NotificationDTO.class), anyLong()));
+        then(bulkRepository).should(times(1)).insertAll(argThat(batch -> batch.size() == 2), any(LocalDateTime.class));
+        assertThat(batchWriter.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("알림 타입의 우선순위 레인 큐에 따로 대기")
+    void enqueue_SeparatesLanesByType() {
+        // given (종료 시 남은 요청 저장)
+        given(bulkRepository.insertAll(anyList(), any(LocalDateTime.class))).willAnswer(invocation -> {
+            List<NotificationCreateReqDTO> batch = invocation.getArgument(0);
+            return batch.stream().map(request -> saved(100L)).toList();
+        });
+
+        // when
+        batchWriter.enqueue(request(1L, NotificationType.CHAT_MESSAGE));
+        batchWriter.enqueue(request(1L, NotificationType.CHAT_MESSAGE));
+        batchWriter.enqueue(request(2L, NotificationType.ISSUE_ASSIGNED));
+
+        // then
+        assertThat(batchWriter.getPendingCount(NotificationLane.LOW)).isEqualTo(2);
+        assertThat(batchWriter.getPendingCount(NotificationLane.HIGH)).isEqualTo(1);
+        assertThat(batchWriter.getPendingCount(NotificationLane.NORMAL)).isZero();
+        assertThat(batchWriter.getPendingCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전송 후 레인별 지연 시간을 기록")
+    void flush_RecordsLaneLatency() {
+        // given
+        List<NotificationCreateReqDTO> batch = List.of(
+                request(1L, NotificationType.ISSUE_ASSIGNED), request(2L, NotificationType.CHAT_MESSAGE));
+        given(bulkRepository.insertAll(eq(batch), any(LocalDateTime.class)))
+                .willReturn(List.of(saved(100L), saved(101L)));
+
+        // when
+        batchWriter.flush(batch);
+
+        // then
+        assertThat(meterRegistry.timer("notification.lane.latency", "lane", "high").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("notification.lane.latency", "lane", "low").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("notification.lane.latency", "lane", "normal").count()).isZero();
+    }
+}
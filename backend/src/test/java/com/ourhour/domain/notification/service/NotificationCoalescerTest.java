@@ -0,0 +1,217 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.ourhour.domain.notification.dto.NotificationCreateReqDTO;
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import com.ourhour.domain.notification.dto.NotificationMergeDTO;
+import com.ourhour.domain.notification.enums.NotificationType;
+import com.ourhour.domain.notification.repository.NotificationBulkRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationCoalescer 테스트")
+class NotificationCoalescerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 7, 1, 9, 0);
+
+    @Mock
+    private NotificationBulkRepository bulkRepository;
+
+    @Mock
+    private SSENotificationService sseNotificationService;
+
+    @Mock
+    private NotificationHotInbox hotInbox;
+
+    private NotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new NotificationCoalescer(bulkRepository, sseNotificationService, hotInbox,
+                mock(PlatformTransactionManager.class), true, Set.of(NotificationType.CHAT_MESSAGE), 60, 1000);
+    }
+
+    private NotificationCreateReqDTO chatMessage(Long userId, Long roomId, String sender) {
+        return NotificationCreateReqDTO.builder()
+                .userId(userId)
+                .type(NotificationType.CHAT_MESSAGE)
+                .title(sender + "님의 메시지")
+                .message("'개발' 채팅방에 새 메시지가 있습니다.")
+                .relatedId(roomId)
+                .build();
+    }
+
+    @Test
+    @DisplayName("윈도우의 첫 알림은 저장하고 이후 같은 대상 알림은 병합")
+    void tryCoalesce_MergesWithinWindow() {
+        // when
+        boolean first = coalescer.tryCoalesce(chatMessage(1L, 10L, "김"));
+        boolean second = coalescer.tryCoalesce(chatMessage(1L, 10L, "이"));
+        boolean otherRoom = coalescer.tryCoalesce(chatMessage(1L, 11L, "이"));
+        boolean otherUser = coalescer.tryCoalesce(chatMessage(2L, 10L, "이"));
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isTrue();
+        assertThat(otherRoom).isFalse();
+        assertThat(otherUser).isFalse();
+    }
+
+    @Test
+    @DisplayName("병합 대상이 아닌 타입은 병합하지 않음")
+    void tryCoalesce_IgnoresOtherTypes() {
+        // given
+        NotificationCreateReqDTO issueAssigned = NotificationCreateReqDTO.builder()
+                .userId(1L)
+                .type(NotificationType.ISSUE_ASSIGNED)
+                .relatedId(5L)
+                .build();
+
+        // when
+        coalescer.tryCoalesce(issueAssigned);
+        boolean merged = coalescer.tryCoalesce(issueAssigned);
+
+        // then
+        assertThat(merged).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("쌓인 병합분은 한 번의 UPDATE와 한 번의 SSE로 반영")
+    void flushPending_AppliesMergedCountAndLatestSender() {
+        // given
+        NotificationCreateReqDTO first = chatMessage(1L, 10L, "김");
+        coalescer.tryCoalesce(first);
+        coalescer.onPersisted(first, NotificationDTO.builder().notificationId(100L).createdAt(CREATED_AT).build());
+        coalescer.tryCoalesce(chatMessage(1L, 10L, "이"));
+        coalescer.tryCoalesce(chatMessage(1L, 10L, "박"));
+        given(bulkRepository.mergeAll(anyList())).willReturn(new int[] {1});
+
+        // when
+        coalescer.flushPending();
+        coalescer.flushPending();
+
+        // then
+        ArgumentCaptor<List<NotificationMergeDTO>> captor = ArgumentCaptor.forClass(List.class);
+        then(bulkRepository).should(times(1)).mergeAll(captor.capture());
+        NotificationMergeDTO merge = captor.getValue().get(0);
+        assertThat(merge.getNotificationId()).isEqualTo(100L);
+        assertThat(merge.getIncrement()).isEqualTo(2);
+        assertThat(merge.getTitle()).isEqualTo("박님의 메시지");
+        then(sseNotificationService).should(times(1)).sendNotification(eq(1L),
+                argThat(dto -> dto.getCoalescedCount() == 3 && dto.getNotificationId() == 100L));
+    }
+
+    @Test
+    @DisplayName("병합해도 생성 시각(커서 정렬 키)은 유지하고 병합 시각만 갱신")
+    void flushPending_KeepsCreatedAt() {
+        // given
+        NotificationCreateReqDTO first = chatMessage(1L, 10L, "김");
+        coalescer.tryCoalesce(first);
+        coalescer.onPersisted(first, NotificationDTO.builder().notificationId(100L).createdAt(CREATED_AT).build());
+        coalescer.tryCoalesce(chatMessage(1L, 10L, "이"));
+        given(bulkRepository.mergeAll(anyList())).willReturn(new int[] {1});
+
+        // when
+        coalescer.flushPending();
+
+        // then
+        ArgumentCaptor<NotificationDTO> captor = ArgumentCaptor.forClass(NotificationDTO.class);
+        then(sseNotificationService).should().sendNotification(eq(1L), captor.capture());
+        assertThat(captor.getValue().getCreatedAt()).isEqualTo(CREATED_AT);
+        assertThat(captor.getValue().getLastMergedAt()).isAfter(CREATED_AT);
+        assertThat(captor.getValue().isRead()).isFalse();
+    }
+
+    @Test
+    @DisplayName("모두 읽음으로 닫은 윈도우의 병합분은 반영하지 않고 다음 알림은 새 행으로 저장")
+    void closeWindows_DropsPendingMerges() {
+        // given
+        NotificationCreateReqDTO first = chatMessage(1L, 10L, "김");
+        coalescer.tryCoalesce(first);
+        coalescer.onPersisted(first, NotificationDTO.builder().notificationId(100L).createdAt(CREATED_AT).build());
+        coalescer.tryCoalesce(chatMessage(1L, 10L, "이"));
+
+        // when
+        coalescer.closeWindows(1L);
+        coalescer.flushPending();
+        boolean merged = coalescer.tryCoalesce(chatMessage(1L, 10L, "박"));
+
+        // then
+        then(bulkRepository).should(never()).mergeAll(anyList());
+        assertThat(merged).isFalse();
+    }
+
+    @Test
+    @DisplayName("개별 읽음 처리한 행의 윈도우만 닫음")
+    void closeWindow_ClosesOnlyReadRow() {
+        // given
+        NotificationCreateReqDTO room10 = chatMessage(1L, 10L, "김");
+        NotificationCreateReqDTO room11 = chatMessage(1L, 11L, "김");
+        coalescer.tryCoalesce(room10);
+        coalescer.tryCoalesce(room11);
+        coalescer.onPersisted(room10, NotificationDTO.builder().notificationId(100L).createdAt(CREATED_AT).build());
+        coalescer.onPersisted(room11, NotificationDTO.builder().notificationId(101L).createdAt(CREATED_AT).build());
+
+        // when
+        coalescer.closeWindow(1L, 100L);
+
+        // then
+        assertThat(coalescer.tryCoalesce(chatMessage(1L, 10L, "이"))).isFalse();
+        assertThat(coalescer.tryCoalesce(chatMessage(1L, 11L, "이"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 읽은 행이라 반영되지 않으면 SSE를 보내지 않고 윈도우를 닫음")
+    void flushPending_ClosesWindowWhenRowAlreadyRead() {
+        // given
+        NotificationCreateReqDTO first = chatMessage(1L, 10L, "김");
+        coalescer.tryCoalesce(first);
+        coalescer.onPersisted(first, NotificationDTO.builder().notificationId(100L).createdAt(CREATED_AT).build());
+        coalescer.tryCoalesce(chatMessage(1L, 10L, "이"));
+        given(bulkRepository.mergeAll(anyList())).willReturn(new int[] {0});
+
+        // when
+        coalescer.flushPending();
+
+        // then
+        then(sseNotificationService).should(never()).sendNotification(eq(1L), any());
+        assertThat(coalescer.tryCoalesce(chatMessage(1L, 10L, "박"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("첫 알림이 저장되기 전에는 병합분을 반영하지 않음")
+    void flushPending_WaitsForFirstRow() {
+        // given
+        coalescer.tryCoalesce(chatMessage(1L, 10L, "김"));
+        coalescer.tryCoalesce(chatMessage(1L, 10L, "이"));
+
+        // when
+        coalescer.flushPending();
+
+        // then
+        then(bulkRepository).should(never()).mergeAll(anyList());
+    }
+}
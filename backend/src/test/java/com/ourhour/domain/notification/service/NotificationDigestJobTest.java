@@ -0,0 +1,239 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.ourhour.domain.auth.dto.EmailMessage;
+import com.ourhour.domain.auth.service.EmailSenderService;
+import com.ourhour.domain.notification.entity.NotificationDigestEntity;
+import com.ourhour.domain.notification.entity.NotificationReadWatermarkEntity;
+import com.ourhour.domain.notification.enums.NotificationType;
+import com.ourhour.domain.notification.repository.NotificationDigestRecipient;
+import com.ourhour.domain.notification.repository.NotificationDigestRepository;
+import com.ourhour.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.ourhour.domain.notification.repository.UnreadNotificationSummary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("NotificationDigestJob 테스트")
+class NotificationDigestJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 1, 9, 0);
+
+    @Mock
+    private NotificationDigestRepository digestRepository;
+
+    @Mock
+    private NotificationReadWatermarkRepository readWatermarkRepository;
+
+    @Mock
+    private SSENotificationService sseNotificationService;
+
+    @Mock
+    private EmailSenderService emailSenderService;
+
+    @Mock
+    private ScheduledJobLock jobLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDigestJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        job = new NotificationDigestJob(digestRepository, readWatermarkRepository, sseNotificationService, emailSenderService,
+                jobLock, transactionManager, meterRegistry, true, 30, 2, 0, 10000, 60,
+                "https://ourhour.test");
+    }
+
+    @Test
+    @DisplayName("마지막 사용자 ID 다음부터 chunk-size 명씩 읽고 덜 찬 묶음에서 중단")
+    void sendDigests_KeysetChunks() {
+        // given
+        given(digestRepository.findRecipients(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(recipient(1L), recipient(3L)));
+        given(digestRepository.findRecipients(3L, PageRequest.of(0, 2)))
+                .willReturn(List.of(recipient(8L)));
+        given(digestRepository.summarizeUnread(anyCollection(), anyLong(), any())).willReturn(List.of());
+
+        // when
+        job.sendDigests(NOW);
+
+        // then
+        then(digestRepository).should().summarizeUnread(Set.of(1L, 3L), 0L, NOW.minusMinutes(30));
+        then(digestRepository).should().summarizeUnread(Set.of(8L), 0L, NOW.minusMinutes(30));
+        then(digestRepository).should(never()).findRecipients(eq(8L), any());
+        then(emailSenderService).should(never()).sendEmails(any());
+    }
+
+    @Test
+    @DisplayName("SSE로 연결된 사용자는 요약 메일 대상에서 제외")
+    void sendDigests_SkipsOnlineUsers() {
+        // given
+        given(digestRepository.findRecipients(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(recipient(1L)));
+        given(sseNotificationService.isOnline(1L)).willReturn(true);
+
+        // when
+        int sent = job.sendDigests(NOW);
+
+        // then
+        assertThat(sent).isZero();
+        then(digestRepository).should(never()).summarizeUnread(anyCollection(), anyLong(), any());
+        assertThat(meterRegistry.counter("notification.digest.skipped.online").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("사용자별 메일 한 통으로 묶어 일괄 발송하고 성공한 사용자만 요약 위치를 올림")
+    @SuppressWarnings("unchecked")
+    void sendDigests_AdvancesOnlyDelivered() {
+        // given
+        given(digestRepository.findRecipients(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(recipient(1L), recipient(2L)));
+        given(digestRepository.summarizeUnread(anyCollection(), anyLong(), any())).willReturn(List.of(
+                summary(1L, NotificationType.ISSUE_ASSIGNED, 2L, 40L),
+                summary(1L, NotificationType.CHAT_MESSAGE, 5L, 55L),
+                summary(2L, NotificationType.POST_COMMENT, 1L, 60L)));
+        given(emailSenderService.sendEmails(any())).willAnswer(invocation -> {
+            List<EmailMessage> messages = invocation.getArgument(0);
+            return messages.stream().filter(message -> message.toEmail().equals("user2@ourhour.test")).toList();
+        });
+
+        // when
+        int sent = job.sendDigests(NOW);
+
+        // then
+        ArgumentCaptor<List<EmailMessage>> captor = ArgumentCaptor.forClass(List.class);
+        then(emailSenderService).should().sendEmails(captor.capture());
+        assertThat(captor.getValue()).extracting(EmailMessage::toEmail)
+                .containsExactly("user1@ourhour.test", "user2@ourhour.test");
+        assertThat(captor.getValue().get(0).subject()).contains("7건");
+
+        assertThat(sent).isEqualTo(1);
+        then(digestRepository).should().advance(1L, 55L);
+        then(digestRepository).should(never()).advance(eq(2L), anyLong());
+        assertThat(meterRegistry.counter("notification.digest.sent").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("notification.digest.failed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("묶음 전체를 한 번에 집계하고 사용자별 위치 중 가장 작은 값을 범위 하한으로 사용")
+    void sendDigests_SummarizesChunkInOneQuery() {
+        // given
+        given(digestRepository.findRecipients(0L, PageRequest.of(0, 2)))
+                .willReturn(List.of(recipient(1L), recipient(2L)));
+        List<NotificationReadWatermarkEntity> watermarks = List.of(watermark(1L, 30L), watermark(2L, 10L));
+        List<NotificationDigestEntity> positions = List.of(digestPosition(1L, 20L), digestPosition(2L, 50L));
+        given(readWatermarkRepository.findAllById(anyCollection())).willReturn(watermarks);
+        given(digestRepository.findAllById(anyCollection())).willReturn(positions);
+        given(digestRepository.summarizeUnread(anyCollection(), anyLong(), any())).willReturn(List.of());
+
+        // when
+        job.sendDigests(NOW);
+
+        // then
+        then(digestRepository).should().summarizeUnread(Set.of(1L, 2L), 30L, NOW.minusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("요약 메일은 알림 타입 선언 순서로 건수를 나열")
+    void render_ListsCountsInTypeOrder() {
+        // given
+        Map<NotificationType, Long> counts = new EnumMap<>(NotificationType.class);
+        counts.put(NotificationType.POST_COMMENT, 1L);
+        counts.put(NotificationType.PROJECT_INVITATION, 2L);
+
+        // when
+        EmailMessage message = job.render("user@ourhour.test", counts);
+
+        // then
+        assertThat(message.subject()).isEqualTo("[OURHOUR] 확인하지 않은 알림 3건이 있습니다");
+        assertThat(message.content())
+                .contains("<li>프로젝트 초대 2건</li><li>게시글 댓글 1건</li>")
+                .contains("href=\"https://ourhour.test\"");
+    }
+
+    private NotificationDigestRecipient recipient(Long userId) {
+        return new NotificationDigestRecipient() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public String getEmail() {
+                return "user" + userId + "@ourhour.test";
+            }
+        };
+    }
+
+    private NotificationReadWatermarkEntity watermark(Long userId, Long lastReadNotificationId) {
+        NotificationReadWatermarkEntity watermark = mock(NotificationReadWatermarkEntity.class);
+        given(watermark.getUserId()).willReturn(userId);
+        given(watermark.getLastReadNotificationId()).willReturn(lastReadNotificationId);
+        return watermark;
+    }
+
+    private NotificationDigestEntity digestPosition(Long userId, Long lastNotificationId) {
+        NotificationDigestEntity digest = mock(NotificationDigestEntity.class);
+        given(digest.getUserId()).willReturn(userId);
+        given(digest.getLastNotificationId()).willReturn(lastNotificationId);
+        return digest;
+    }
+
+    private UnreadNotificationSummary summary(Long userId, NotificationType type, Long count, Long lastId) {
+        return new UnreadNotificationSummary() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public NotificationType getType() {
+                return type;
+            }
+
+            @Override
+            public Long getNotificationCount() {
+                return count;
+            }
+
+            @Override
+            public Long getLastNotificationId() {
+                return lastId;
+            }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import com.ourhour.domain.notification.enums.NotificationType;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationHotInbox 테스트")
+class NotificationHotInboxTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 7, 1, 12, 0, 0, 123_456_000);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationHotInbox hotInbox;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        hotInbox = new NotificationHotInbox(stringRedisTemplate, meterRegistry, true, 50, 604800, 10);
+    }
+
+    @Test
+    @DisplayName("저장한 알림 JSON은 읽음 여부와 마이크로초 생성 시각까지 그대로 복원")
+    @SuppressWarnings("unchecked")
+    void warmThenGetLatest_RoundTrip() {
+        // given
+        NotificationDTO notification = notification(10L, BASE_TIME, true);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        hotInbox.warm(USER_ID, List.of(notification), 1, 0);
+        then(stringRedisTemplate).should().execute(any(RedisScript.class), anyList(), args.capture());
+        String json = (String) Arrays.asList(args.getValue()).get(6);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq("1")))
+                .willReturn(List.of("1", "120", "7", json));
+
+        // when
+        Optional<NotificationHotInbox.Latest> latest = hotInbox.getLatest(USER_ID, 1);
+
+        // then
+        assertThat(latest).isPresent();
+        assertThat(latest.get().total()).isEqualTo(120L);
+        assertThat(latest.get().watermark()).isEqualTo(7L);
+        NotificationDTO restored = latest.get().notifications().get(0);
+        assertThat(restored.getNotificationId()).isEqualTo(10L);
+        assertThat(restored.isRead()).isTrue();
+        assertThat(restored.getCreatedAt()).isEqualTo(BASE_TIME);
+        assertThat(restored.getType()).isEqualTo(NotificationType.CHAT_MESSAGE);
+        assertThat(meterRegistry.counter("notification.inbox.hot", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시가 없거나 핫 티어 크기를 넘는 요청은 DB로 넘김")
+    @SuppressWarnings("unchecked")
+    void getLatest_MissWhenNotWarmOrTooLarge() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), eq("20"))).willReturn(List.of("0"));
+
+        // when & then
+        assertThat(hotInbox.getLatest(USER_ID, 20)).isEmpty();
+        assertThat(hotInbox.getLatest(USER_ID, 51)).isEmpty();
+        assertThat(meterRegistry.counter("notification.inbox.hot", "result", "miss").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 생성 시각이면 ID가 큰 알림이 먼저 오도록 멤버 자릿수를 맞추고 점수는 마이크로초")
+    void memberAndScore_MatchDatabaseOrder() {
+        // when
+        String older = NotificationHotInbox.member(9L);
+        String newer = NotificationHotInbox.member(10L);
+        long score = NotificationHotInbox.score(notification(10L, BASE_TIME, false));
+        long nextMicro = NotificationHotInbox.score(notification(11L, BASE_TIME.plusNanos(1_000), false));
+
+        // then
+        assertThat(newer.compareTo(older)).isPositive();
+        assertThat(nextMicro - score).isEqualTo(1L);
+        assertThat((double) score).isEqualTo(score);
+    }
+
+    @Test
+    @DisplayName("보존 기간 정리로 삭제된 알림은 사용자별 스크립트로 파이프라인에 묶어 제거")
+    @SuppressWarnings("unchecked")
+    void removeDeleted_PipelinesPerUser() {
+        // given
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        given(stringRedisTemplate.executePipelined(any(RedisCallback.class))).willAnswer(invocation -> {
+            RedisCallback<Object> callback = invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+
+        // when
+        hotInbox.removeDeleted(Map.of(USER_ID, List.of(9L, 10L)));
+
+        // then
+        then(connection).should().eval(anyString(), eq(ReturnType.INTEGER), eq(3),
+                eq("notification:inbox:ids:1"), eq("notification:inbox:items:1"), eq("notification:inbox:dirty:1"),
+                eq("10"), eq(NotificationHotInbox.member(9L)), eq(NotificationHotInbox.member(10L)));
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 알림을 읽으면 진행 중인 채우기가 읽기 전 상태를 쓰지 않도록 표시")
+    @SuppressWarnings("unchecked")
+    void markAsRead_GuardsWarmWhenNotCached() {
+        // given
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get("notification:inbox:items:1", NotificationHotInbox.member(10L))).willReturn(null);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(1L);
+
+        // when
+        hotInbox.markAsRead(USER_ID, 10L);
+
+        // then
+        ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+        then(stringRedisTemplate).should().execute(script.capture(),
+                eq(List.of("notification:inbox:ids:1", "notification:inbox:items:1", "notification:inbox:dirty:1")),
+                eq(NotificationHotInbox.member(10L)), eq("10"));
+        assertThat(script.getValue().getScriptAsString()).contains("SET', KEYS[3]");
+        then(stringRedisTemplate).should(never()).delete(anyList());
+    }
+
+    @Test
+    @DisplayName("조회 직후 캐시가 채워져 읽은 알림이 들어왔으면 캐시를 버림")
+    @SuppressWarnings("unchecked")
+    void markAsRead_EvictsWhenWarmedConcurrently() {
+        // given
+        given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.get("notification:inbox:items:1", NotificationHotInbox.member(10L))).willReturn(null);
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString())).willReturn(0L);
+
+        // when
+        hotInbox.markAsRead(USER_ID, 10L);
+
+        // then
+        then(stringRedisTemplate).should().delete(List.of("notification:inbox:ids:1", "notification:inbox:items:1"));
+    }
+
+    private NotificationDTO notification(Long id, LocalDateTime createdAt, boolean read) {
+        return NotificationDTO.builder()
+                .notificationId(id)
+                .type(NotificationType.CHAT_MESSAGE)
+                .title("title")
+                .message("message")
+                .isRead(read)
+                .createdAt(createdAt)
+                .coalescedCount(1)
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.ourhour.domain.notification.enums.NotificationMuteTarget;
+import com.ourhour.domain.notification.enums.NotificationType;
+import com.ourhour.domain.notification.model.NotificationPreference;
+import com.ourhour.domain.notification.repository.MutedNotificationTarget;
+import com.ourhour.domain.notification.repository.NotificationMuteRepository;
+import com.ourhour.domain.notification.repository.NotificationPreferenceRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationPreferenceService 테스트")
+class NotificationPreferenceServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private NotificationPreferenceRepository preferenceRepository;
+
+    @Mock
+    private NotificationMuteRepository muteRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationPreferenceService preferenceService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        preferenceService = new NotificationPreferenceService(preferenceRepository, muteRepository, meterRegistry,
+                1000, 60);
+    }
+
+    @Test
+    @DisplayName("음소거한 타입, 프로젝트, 채팅방의 알림만 건너뜀")
+    void isMuted_ByTypeProjectAndChatRoom() {
+        // given
+        given(preferenceRepository.findMutedTypes(USER_ID))
+                .willReturn(Optional.of(NotificationPreference.toMask(EnumSet.of(NotificationType.POST_COMMENT))));
+        given(muteRepository.findMutedTargets(USER_ID)).willReturn(List.of(
+                target(NotificationMuteTarget.PROJECT, 30L),
+                target(NotificationMuteTarget.PROJECT, 10L),
+                target(NotificationMuteTarget.CHAT_ROOM, 7L)));
+
+        // when & then
+        assertThat(preferenceService.isMuted(USER_ID, NotificationType.POST_COMMENT, null, null)).isTrue();
+        assertThat(preferenceService.isMuted(USER_ID, NotificationType.ISSUE_ASSIGNED, 10L, null)).isTrue();
+        assertThat(preferenceService.isMuted(USER_ID, NotificationType.ISSUE_ASSIGNED, 20L, null)).isFalse();
+        assertThat(preferenceService.isMuted(USER_ID, NotificationType.CHAT_MESSAGE, null, 7L)).isTrue();
+        assertThat(preferenceService.isMuted(USER_ID, NotificationType.CHAT_MESSAGE, null, 8L)).isFalse();
+        assertThat(meterRegistry.counter("notification.preference.muted", "type", "ISSUE_ASSIGNED").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("사용자 설정은 한 번만 조회하고 캐시에서 확인")
+    void isMuted_LoadsOncePerUser() {
+        // given
+        given(preferenceRepository.findMutedTypes(USER_ID)).willReturn(Optional.empty());
+        given(muteRepository.findMutedTargets(USER_ID)).willReturn(List.of());
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            preferenceService.isMuted(USER_ID, NotificationType.CHAT_MESSAGE, null, 1L);
+        }
+
+        // then
+        then(preferenceRepository).should(times(1)).findMutedTypes(USER_ID);
+        then(muteRepository).should(times(1)).findMutedTargets(USER_ID);
+    }
+
+    @Test
+    @DisplayName("설정 변경 후에는 캐시를 비우고 다시 조회")
+    void updateMutedTypes_EvictsCache() {
+        // given
+        given(preferenceRepository.findMutedTypes(USER_ID))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(NotificationPreference.toMask(EnumSet.of(NotificationType.CHAT_MESSAGE))));
+        given(muteRepository.findMutedTargets(USER_ID)).willReturn(List.of());
+        assertThat(preferenceService.isMuted(USER_ID, NotificationType.CHAT_MESSAGE, null, null)).isFalse();
+
+        // when
+        preferenceService.updateMutedTypes(USER_ID, EnumSet.of(NotificationType.CHAT_MESSAGE));
+
+        // then
+        then(preferenceRepository).should().upsertMutedTypes(USER_ID,
+                NotificationPreference.toMask(EnumSet.of(NotificationType.CHAT_MESSAGE)));
+        assertThat(preferenceService.isMuted(USER_ID, NotificationType.CHAT_MESSAGE, null, null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("설정을 읽지 못하면 알림을 그대로 받음")
+    void isMuted_FailsOpen() {
+        // given
+        given(preferenceRepository.findMutedTypes(USER_ID)).willThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThat(preferenceService.isMuted(USER_ID, NotificationType.ISSUE_ASSIGNED, 1L, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("타입 비트마스크는 타입별 고정 비트를 사용하고 같은 타입 집합으로 복원")
+    void preference_MaskRoundTrip() {
+        // given
+        EnumSet<NotificationType> types = EnumSet.of(NotificationType.CHAT_MESSAGE, NotificationType.COMMENT_REPLY);
+
+        // when
+        long mask = NotificationPreference.toMask(types);
+
+        // then
+        assertThat(mask).isEqualTo((1L << 2) | (1L << 8));
+        assertThat(NotificationPreference.fromMask(mask)).isEqualTo(types);
+        assertThat(NotificationPreference.of(0L, new long[0], new long[0])).isSameAs(NotificationPreference.NONE);
+    }
+
+    private MutedNotificationTarget target(NotificationMuteTarget targetType, Long targetId) {
+        return new MutedNotificationTarget() {
+            @Override
+            public NotificationMuteTarget getTargetType() {
+                return targetType;
+            }
+
+            @Override
+            public Long getTargetId() {
+                return targetId;
+            }
+        };
+    }
+}
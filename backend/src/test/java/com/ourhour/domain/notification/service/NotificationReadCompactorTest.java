@@ -0,0 +1,119 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.ourhour.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.ourhour.domain.notification.repository.NotificationRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationReadCompactor 테스트")
+class NotificationReadCompactorTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationReadWatermarkRepository watermarkRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationReadCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        compactor = new NotificationReadCompactor(notificationRepository, watermarkRepository, transactionManager,
+                60, 500);
+    }
+
+    @Test
+    @DisplayName("워터마크 뒤에 연속으로 읽은 알림이 있으면 첫 미확정 알림 직전까지 워터마크 이동")
+    void compact_AdvancesToLastSettledBeforeFirstUnread() {
+        // given
+        given(watermarkRepository.findLastReadNotificationId(USER_ID)).willReturn(Optional.of(10L));
+        given(notificationRepository.findFirstUnsettledNotificationId(eq(USER_ID), eq(10L), any(LocalDateTime.class)))
+                .willReturn(20L);
+        given(notificationRepository.findLastSettledNotificationId(eq(USER_ID), eq(10L), eq(20L),
+                any(LocalDateTime.class))).willReturn(18L);
+
+        // when
+        boolean advanced = compactor.compact(USER_ID, LocalDateTime.now());
+
+        // then
+        assertThat(advanced).isTrue();
+        then(watermarkRepository).should().advance(USER_ID, 18L);
+    }
+
+    @Test
+    @DisplayName("워터마크가 없고 읽지 않은 알림도 없으면 마지막 확정 알림까지 워터마크 생성")
+    void compact_CreatesWatermarkWhenAllRead() {
+        // given
+        given(watermarkRepository.findLastReadNotificationId(USER_ID)).willReturn(Optional.empty());
+        given(notificationRepository.findFirstUnsettledNotificationId(eq(USER_ID), eq(0L), any(LocalDateTime.class)))
+                .willReturn(null);
+        given(notificationRepository.findLastSettledNotificationId(eq(USER_ID), eq(0L), eq(Long.MAX_VALUE),
+                any(LocalDateTime.class))).willReturn(42L);
+
+        // when
+        boolean advanced = compactor.compact(USER_ID, LocalDateTime.now());
+
+        // then
+        assertThat(advanced).isTrue();
+        then(watermarkRepository).should().advance(USER_ID, 42L);
+    }
+
+    @Test
+    @DisplayName("워터마크 바로 뒤 알림을 읽지 않았으면 이동하지 않음")
+    void compact_NoAdvanceWhenNextIsUnread() {
+        // given
+        given(watermarkRepository.findLastReadNotificationId(USER_ID)).willReturn(Optional.of(10L));
+        given(notificationRepository.findFirstUnsettledNotificationId(eq(USER_ID), eq(10L), any(LocalDateTime.class)))
+                .willReturn(11L);
+        given(notificationRepository.findLastSettledNotificationId(eq(USER_ID), eq(10L), eq(11L),
+                any(LocalDateTime.class))).willReturn(null);
+
+        // when
+        boolean advanced = compactor.compact(USER_ID, LocalDateTime.now());
+
+        // then
+        assertThat(advanced).isFalse();
+        then(watermarkRepository).should(never()).advance(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("등록된 사용자만 압축하고 처리 후 대기 목록에서 제거")
+    void compactPending_DrainsTrackedUsers() {
+        // given
+        compactor.track(USER_ID);
+        compactor.track(USER_ID);
+        given(watermarkRepository.findLastReadNotificationId(USER_ID)).willReturn(Optional.of(10L));
+
+        // when
+        compactor.compactPending();
+
+        // then
+        assertThat(compactor.getPendingUserCount()).isZero();
+        then(watermarkRepository).should().findLastReadNotificationId(USER_ID);
+    }
+}
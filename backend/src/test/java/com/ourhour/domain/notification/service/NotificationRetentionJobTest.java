@@ -0,0 +1,138 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.ourhour.domain.notification.repository.NotificationArchiveRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("NotificationRetentionJob 테스트")
+class NotificationRetentionJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 1, 3, 30);
+
+    @Mock
+    private NotificationArchiveRepository archiveRepository;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private NotificationHotInbox notificationHotInbox;
+
+    @Mock
+    private ScheduledJobLock jobLock;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+        job = new NotificationRetentionJob(archiveRepository, unreadNotificationCounter, notificationHotInbox, jobLock,
+                transactionManager, meterRegistry, true, 30, 180, 100, 0, 10000, 60);
+    }
+
+    @Test
+    @DisplayName("가장 오래된 ID부터 범위 단위로 보관/삭제하고 보존 대상 원본을 만나면 중단")
+    void archiveExpired_StopsAtRetainedOriginal() {
+        // given
+        given(archiveRepository.findMaxId()).willReturn(1000L);
+        given(archiveRepository.findNextId(0L)).willReturn(1L);
+        given(archiveRepository.findNextId(101L)).willReturn(101L);
+        given(archiveRepository.archiveRange(eq(1L), eq(101L), any(), any(), any())).willReturn(100);
+        given(archiveRepository.findArchivedOriginalIds(1L, 101L)).willReturn(Map.of(7L, List.of(1L, 2L)));
+        given(archiveRepository.deleteArchivedRange(1L, 101L)).willReturn(100);
+        given(archiveRepository.findUnreadArchivedUserIds(1L, 101L)).willReturn(List.of(7L));
+        given(archiveRepository.archiveRange(eq(101L), eq(201L), any(), any(), any())).willReturn(40);
+        given(archiveRepository.deleteArchivedRange(101L, 201L)).willReturn(40);
+        given(archiveRepository.findUnreadArchivedUserIds(101L, 201L)).willReturn(List.of());
+        given(archiveRepository.hasRetainedOriginal(eq(1L), eq(101L), any())).willReturn(false);
+        given(archiveRepository.hasRetainedOriginal(eq(101L), eq(201L), any())).willReturn(true);
+
+        // when
+        int archived = job.archiveExpired(NOW);
+
+        // then
+        assertThat(archived).isEqualTo(140);
+        assertThat(meterRegistry.counter("notification.retention.archived").count()).isEqualTo(140.0);
+        assertThat(meterRegistry.counter("notification.retention.deleted").count()).isEqualTo(140.0);
+        then(unreadNotificationCounter).should().reconcile(List.of(7L));
+        then(notificationHotInbox).should().removeDeleted(Map.of(7L, List.of(1L, 2L)));
+        then(archiveRepository).should(never()).findNextId(201L);
+    }
+
+    @Test
+    @DisplayName("읽은 알림과 전체 알림에 서로 다른 보존 기준 시각 적용")
+    void archiveExpired_UsesBothCutoffs() {
+        // given
+        given(archiveRepository.findMaxId()).willReturn(50L);
+        given(archiveRepository.findNextId(0L)).willReturn(1L);
+
+        // when
+        job.archiveExpired(NOW);
+
+        // then
+        then(archiveRepository).should().archiveRange(1L, 51L, NOW.minusDays(180), NOW.minusDays(30), NOW);
+        then(archiveRepository).should(never()).deleteArchivedRange(anyLong(), anyLong());
+        then(unreadNotificationCounter).should(never()).reconcile(anyCollection());
+        then(notificationHotInbox).should(never()).removeDeleted(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 잠금을 잡고 있으면 실행하지 않음")
+    void run_SkipsWhenLocked() {
+        // given
+        given(jobLock.tryAcquire(eq("notification:retention:lock"), any(), any(Duration.class))).willReturn(false);
+
+        // when
+        job.run();
+
+        // then
+        then(archiveRepository).should(never()).findMaxId();
+    }
+
+    @Test
+    @DisplayName("실행 1회당 보관 수를 기록하고 잠금 해제")
+    void run_RecordsArchivedPerRun() {
+        // given
+        given(jobLock.tryAcquire(eq("notification:retention:lock"), any(), any(Duration.class))).willReturn(true);
+        given(archiveRepository.findMaxId()).willReturn(null);
+
+        // when
+        job.run();
+
+        // then
+        assertThat(meterRegistry.summary("notification.retention.run.archived").count()).isEqualTo(1);
+        then(jobLock).should().release(eq("notification:retention:lock"), any());
+    }
+}
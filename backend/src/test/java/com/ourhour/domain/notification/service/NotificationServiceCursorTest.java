@@ -0,0 +1,255 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.ourhour.domain.notification.dto.NotificationCursor;
+import com.ourhour.domain.notification.dto.NotificationCursorResDTO;
+import com.ourhour.domain.notification.dto.NotificationDTO;
+import com.ourhour.domain.notification.dto.NotificationPageResDTO;
+import com.ourhour.domain.notification.entity.NotificationEntity;
+import com.ourhour.domain.notification.exception.NotificationException;
+import com.ourhour.domain.notification.mapper.NotificationMapper;
+import com.ourhour.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.ourhour.domain.notification.repository.NotificationRepository;
+import com.ourhour.domain.user.entity.UserEntity;
+import com.ourhour.domain.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationService 커서 조회 테스트")
+class NotificationServiceCursorTest {
+
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 7, 1, 12, 0, 0, 123_000_000);
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationMapper notificationMapper;
+
+    @Mock
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Mock
+    private NotificationReadWatermarkRepository watermarkRepository;
+
+    @Mock
+    private NotificationReadCompactor notificationReadCompactor;
+
+    @Mock
+    private NotificationCoalescer notificationCoalescer;
+
+    @Mock
+    private NotificationHotInbox notificationHotInbox;
+
+    @InjectMocks
+    private NotificationService notificationService;
+
+    @Test
+    @DisplayName("요청 크기보다 한 건 더 조회되면 마지막 항목 기준 nextCursor를 반환")
+    void getNotificationsByCursor_HasNext() {
+        // given
+        List<NotificationEntity> rows = rows(3);
+        given(notificationRepository.findLatestByUserId(eq(USER_ID), any(Pageable.class))).willReturn(rows);
+        given(notificationMapper.toDTOList(anyList())).willAnswer(invocation -> toDTOs(invocation.getArgument(0)));
+        given(unreadNotificationCounter.get(USER_ID)).willReturn(5L);
+
+        // when
+        NotificationCursorResDTO result = notificationService.getNotificationsByCursor(USER_ID, null, 2);
+
+        // then
+        assertThat(result.getNotifications()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getUnreadCount()).isEqualTo(5L);
+
+        NotificationCursor next = NotificationCursor.decode(result.getNextCursor());
+        assertThat(next.getNotificationId()).isEqualTo(result.getNotifications().get(1).getNotificationId());
+        assertThat(next.getCreatedAt()).isEqualTo(result.getNotifications().get(1).getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지면 nextCursor 없음")
+    void getNotificationsByCursor_LastPage() {
+        // given
+        NotificationCursor cursor = new NotificationCursor(BASE_TIME, 10L);
+        given(notificationRepository.findByUserIdBeforeCursor(eq(USER_ID), eq(BASE_TIME), eq(10L), any(Pageable.class)))
+                .willReturn(rows(1));
+        given(notificationMapper.toDTOList(anyList())).willAnswer(invocation -> toDTOs(invocation.getArgument(0)));
+
+        // when
+        NotificationCursorResDTO result = notificationService.getNotificationsByCursor(USER_ID, cursor.encode(), 20);
+
+        // then
+        assertThat(result.getNotifications()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        then(notificationRepository).should(never()).findLatestByUserId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("읽음 워터마크 이하의 알림은 읽음으로 응답")
+    void getNotificationsByCursor_AppliesReadWatermark() {
+        // given
+        given(notificationRepository.findLatestByUserId(eq(USER_ID), any(Pageable.class))).willReturn(rows(3));
+        given(notificationMapper.toDTOList(anyList())).willAnswer(invocation -> toDTOs(invocation.getArgument(0)));
+        given(watermarkRepository.findLastReadNotificationId(USER_ID)).willReturn(Optional.of(99L));
+
+        // when
+        NotificationCursorResDTO result = notificationService.getNotificationsByCursor(USER_ID, null, 20);
+
+        // then
+        assertThat(result.getNotifications())
+                .extracting(NotificationDTO::getNotificationId, NotificationDTO::isRead)
+                .containsExactly(tuple(100L, false), tuple(99L, true), tuple(98L, true));
+    }
+
+    @Test
+    @DisplayName("첫 페이지는 핫 티어에 있으면 DB를 조회하지 않음")
+    void getNotificationsByCursor_FirstPageFromHotInbox() {
+        // given
+        given(notificationHotInbox.getCapacity()).willReturn(50);
+        given(notificationHotInbox.getLatest(USER_ID, 3))
+                .willReturn(Optional.of(new NotificationHotInbox.Latest(toDTOs(rows(3)), 3, 0)));
+
+        // when
+        NotificationCursorResDTO result = notificationService.getNotificationsByCursor(USER_ID, null, 2);
+
+        // then
+        assertThat(result.getNotifications()).extracting(NotificationDTO::getNotificationId).containsExactly(100L, 99L);
+        assertThat(result.isHasNext()).isTrue();
+        then(notificationRepository).should(never()).findLatestByUserId(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("핫 티어에 없으면 핫 티어 크기만큼 DB에서 읽어 채우고 요청 크기만 응답")
+    void getNotificationsByCursor_WarmsHotInboxOnMiss() {
+        // given
+        given(notificationHotInbox.getCapacity()).willReturn(5);
+        given(notificationRepository.findLatestByUserId(eq(USER_ID), any(Pageable.class))).willReturn(rows(5));
+        given(notificationMapper.toDTOList(anyList())).willAnswer(invocation -> toDTOs(invocation.getArgument(0)));
+
+        // when
+        NotificationCursorResDTO result = notificationService.getNotificationsByCursor(USER_ID, null, 2);
+
+        // then
+        assertThat(result.getNotifications()).hasSize(2);
+        assertThat(result.isHasNext()).isTrue();
+        then(notificationRepository).should().findLatestByUserId(USER_ID, PageRequest.of(0, 5));
+        then(notificationHotInbox).should().warm(eq(USER_ID), argThat(latest -> latest.size() == 5), eq(0L), eq(0L));
+    }
+
+    @Test
+    @DisplayName("목록 첫 페이지가 핫 티어에 있으면 사용자/워터마크/COUNT 조회 없이 보관된 값으로 응답")
+    void getNotifications_FirstPageFromHotInboxSkipsDatabase() {
+        // given
+        given(notificationHotInbox.getCapacity()).willReturn(50);
+        given(notificationHotInbox.getLatest(USER_ID, 3))
+                .willReturn(Optional.of(new NotificationHotInbox.Latest(toDTOs(rows(3)), 120, 99)));
+        given(unreadNotificationCounter.get(USER_ID)).willReturn(1L);
+
+        // when
+        NotificationPageResDTO result = notificationService.getNotifications(USER_ID, 1, 2);
+
+        // then
+        assertThat(result.getNotifications())
+                .extracting(NotificationDTO::getNotificationId, NotificationDTO::isRead)
+                .containsExactly(tuple(100L, false), tuple(99L, true));
+        assertThat(result.getTotalElements()).isEqualTo(120L);
+        assertThat(result.getTotalPages()).isEqualTo(60);
+        assertThat(result.isHasNext()).isTrue();
+        then(userRepository).shouldHaveNoInteractions();
+        then(watermarkRepository).shouldHaveNoInteractions();
+        then(notificationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("목록 첫 페이지가 핫 티어에 없으면 사용자를 확인하고 COUNT 결과와 워터마크를 함께 채움")
+    void getNotifications_FirstPageWarmsWithTotalAndWatermark() {
+        // given
+        UserEntity user = UserEntity.builder().build();
+        given(notificationHotInbox.getCapacity()).willReturn(3);
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user));
+        given(notificationRepository.findLatestByUserId(eq(USER_ID), any(Pageable.class))).willReturn(rows(3));
+        given(notificationMapper.toDTOList(anyList())).willAnswer(invocation -> toDTOs(invocation.getArgument(0)));
+        given(notificationRepository.countByUserId(USER_ID)).willReturn(40L);
+        given(watermarkRepository.findLastReadNotificationId(USER_ID)).willReturn(Optional.of(98L));
+
+        // when
+        NotificationPageResDTO result = notificationService.getNotifications(USER_ID, 1, 2);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(40L);
+        assertThat(result.getNotifications()).hasSize(2);
+        then(notificationHotInbox).should().warm(eq(USER_ID), argThat(latest -> latest.size() == 3), eq(40L), eq(98L));
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 커서는 NotificationException")
+    void getNotificationsByCursor_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> notificationService.getNotificationsByCursor(USER_ID, "not-a-cursor", 20))
+                .isInstanceOf(NotificationException.class);
+        then(notificationRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("커서 인코딩 후 디코딩하면 같은 위치")
+    void cursor_RoundTrip() {
+        // given
+        NotificationCursor cursor = new NotificationCursor(BASE_TIME, 42L);
+
+        // when
+        NotificationCursor decoded = NotificationCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.getCreatedAt()).isEqualTo(BASE_TIME);
+        assertThat(decoded.getNotificationId()).isEqualTo(42L);
+    }
+
+    private List<NotificationEntity> rows(int count) {
+        List<NotificationEntity> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(NotificationEntity.builder().build());
+        }
+        return rows;
+    }
+
+    private List<NotificationDTO> toDTOs(List<NotificationEntity> entities) {
+        // 최신순 정렬 결과처럼 ID와 생성 시각이 함께 감소
+        return IntStream.range(0, entities.size())
+                .mapToObj(i -> NotificationDTO.builder()
+                        .notificationId(100L - i)
+                        .createdAt(BASE_TIME.minusMinutes(i))
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,89 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ScheduledJobLock 테스트")
+class ScheduledJobLockTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private ScheduledJobLock jobLock;
+
+    @BeforeEach
+    void setUp() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        jobLock = new ScheduledJobLock(stringRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 오류가 나면 잠금을 얻지 못한 것으로 처리")
+    void tryAcquire_ReturnsFalseOnRedisError() {
+        // given
+        given(valueOperations.setIfAbsent(any(), any(), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        boolean acquired = jobLock.tryAcquire("job:lock", "owner", Duration.ofMinutes(1));
+
+        // then
+        assertThat(acquired).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("해제는 GET/DEL 대신 owner를 비교하는 스크립트 한 번으로 처리")
+    void release_UsesCompareAndDeleteScript() {
+        // when
+        jobLock.release("job:lock", "owner");
+
+        // then
+        ArgumentCaptor<RedisScript<Long>> captor = ArgumentCaptor.forClass(RedisScript.class);
+        then(stringRedisTemplate).should().execute(captor.capture(), eq(List.of("job:lock")), eq("owner"));
+        assertThat(captor.getValue().getScriptAsString()).contains("GET").contains("DEL");
+        then(valueOperations).should(never()).get(anyString());
+        then(stringRedisTemplate).should(never()).delete(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("해제 중 Redis 오류는 무시 (TTL 만료로 해제됨)")
+    void release_IgnoresRedisError() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatCode(() -> jobLock.release("job:lock", "owner")).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,196 @@
+package com.ourhour.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.ourhour.domain.notification.entity.NotificationReadWatermarkEntity;
+import com.ourhour.domain.notification.repository.NotificationReadWatermarkRepository;
+import com.ourhour.domain.notification.repository.NotificationRepository;
+import com.ourhour.domain.notification.repository.UnreadNotificationCount;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("UnreadNotificationCounter 테스트")
+class UnreadNotificationCounterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationReadWatermarkRepository readWatermarkRepository;
+
+    @Mock
+    private SSENotificationService sseNotificationService;
+
+    private UnreadNotificationCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        counter = new UnreadNotificationCounter(stringRedisTemplate, notificationRepository, readWatermarkRepository,
+                sseNotificationService,
+                5, 100, 24, 500);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Redis 카운터가 있으면 DB를 조회하지 않고, 이후 조회는 near-cache에서 처리")
+    void get_UsesRedisThenNearCache() {
+        // given
+        givenRedisCounter(1L, "7");
+
+        // when
+        long first = counter.get(1L);
+        long second = counter.get(1L);
+
+        // then
+        assertThat(first).isEqualTo(7);
+        assertThat(second).isEqualTo(7);
+        then(stringRedisTemplate).should(times(1)).execute(any(RedisScript.class),
+                eq(List.of("notification:unread:1", "notification:unread-active-users")), eq("1"));
+        then(notificationRepository).should(never()).countUnreadAfter(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Redis 카운터가 없으면 워터마크 이후 범위의 DB 값으로 초기화")
+    void get_InitializesFromDatabase() {
+        // given
+        givenRedisCounter(1L, null);
+        given(readWatermarkRepository.findLastReadNotificationId(1L)).willReturn(Optional.of(40L));
+        given(notificationRepository.countUnreadAfter(1L, 40L)).willReturn(3L);
+
+        // when
+        long count = counter.get(1L);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        then(valueOperations).should().setIfAbsent(eq("notification:unread:1"), eq("3"), any(Duration.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("증감 결과를 near-cache에 반영하고 SSE로 전송")
+    void add_UpdatesNearCacheAndPushes() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), eq("1")))
+                .willReturn(4L);
+
+        // when
+        counter.add(1L, 1);
+
+        // then
+        assertThat(counter.get(1L)).isEqualTo(4);
+        then(sseNotificationService).should().sendUnreadCount(1L, 4L);
+        then(stringRedisTemplate).should(never()).execute(any(RedisScript.class), anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("대조 결과 값이 바뀐 사용자에게만 SSE 전송")
+    void reconcile_PushesOnlyChangedCounts() {
+        // given
+        givenRedisCounter(1L, "2");
+        givenRedisCounter(2L, "5");
+        counter.get(1L);
+        counter.get(2L);
+        NotificationReadWatermarkEntity watermark = watermark(2L, 40L);
+        given(readWatermarkRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(watermark));
+        given(notificationRepository.countUnreadByUserIds(List.of(1L)))
+                .willReturn(List.of(unreadCount(1L, 2L)));
+        given(notificationRepository.countUnreadAfter(2L, 40L)).willReturn(6L);
+
+        // when
+        counter.reconcile(List.of(1L, 2L));
+
+        // then
+        then(sseNotificationService).should(never()).sendUnreadCount(eq(1L), anyLong());
+        then(sseNotificationService).should().sendUnreadCount(2L, 6L);
+        assertThat(counter.get(2L)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("지난 대조 이후 카운터를 사용한 사용자를 Redis SET에서 묶음 단위로 꺼내 대조")
+    void reconcileActiveUsers_PopsTrackedUsersInBatches() {
+        // given
+        counter = new UnreadNotificationCounter(stringRedisTemplate, notificationRepository, readWatermarkRepository,
+                sseNotificationService,
+                5, 100, 24, 2);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.size("notification:unread-active-users")).willReturn(3L);
+        given(setOperations.pop("notification:unread-active-users", 2)).willReturn(List.of("1", "2"));
+        given(setOperations.pop("notification:unread-active-users", 1)).willReturn(List.of("3"));
+        given(notificationRepository.countUnreadByUserIds(List.of(1L, 2L)))
+                .willReturn(List.of(unreadCount(1L, 4L)));
+
+        // when
+        counter.reconcileActiveUsers();
+
+        // then
+        then(readWatermarkRepository).should().findAllById(List.of(1L, 2L));
+        then(readWatermarkRepository).should().findAllById(List.of(3L));
+        then(valueOperations).should().set(eq("notification:unread:1"), eq("4"), any(Duration.class));
+        then(valueOperations).should().set(eq("notification:unread:3"), eq("0"), any(Duration.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRedisCounter(Long userId, String value) {
+        given(stringRedisTemplate.execute(any(RedisScript.class),
+                eq(List.of("notification:unread:" + userId, "notification:unread-active-users")),
+                eq(String.valueOf(userId)))).willReturn(value);
+    }
+
+    private NotificationReadWatermarkEntity watermark(Long userId, Long lastReadNotificationId) {
+        NotificationReadWatermarkEntity watermark = mock(NotificationReadWatermarkEntity.class);
+        given(watermark.getUserId()).willReturn(userId);
+        given(watermark.getLastReadNotificationId()).willReturn(lastReadNotificationId);
+        return watermark;
+    }
+
+    private UnreadNotificationCount unreadCount(Long userId, Long count) {
+        return new UnreadNotificationCount() {
+            @Override
+            public Long getUserId() {
+                return userId;
+            }
+
+            @Override
+            public Long getUnreadCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.ourhour.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemorySseReplayBuffer 테스트")
+class InMemorySseReplayBufferTest {
+
+        private InMemorySseReplayBuffer replayBuffer;
+
+        @BeforeEach
+        void setUp() {
+                replayBuffer = new InMemorySseReplayBuffer(3, 300, 1000, false);
+        }
+
+        @Test
+        @DisplayName("사용자별 이벤트 ID는 단조 증가")
+        void append_AssignsMonotonicIds() {
+                // when
+                SseReplayEvent first = replayBuffer.append(1L, "notification", "a");
+                SseReplayEvent second = replayBuffer.append(1L, "notification", "b");
+
+                // then
+                assertThat(first.hasId()).isTrue();
+                assertThat(second.getId()).isEqualTo(first.getId() + 1);
+                assertThat(second.toFrame().toString()).isEqualTo(
+                                "id:" + second.getId() + "\nevent:notification\ndata:b\n\n");
+        }
+
+        @Test
+        @DisplayName("Last-Event-ID 이후 놓친 이벤트만 순서대로 반환")
+        void since_ReturnsMissedEvents() {
+                // given
+                SseReplayEvent first = replayBuffer.append(1L, "notification", "a");
+                replayBuffer.append(1L, "notification", "b");
+                replayBuffer.append(1L, "notification-read", "c");
+
+                // when
+                SseReplayResult result = replayBuffer.since(1L, first.getId());
+
+                // then
+                assertThat(result.isComplete()).isTrue();
+                assertThat(result.getEvents()).extracting(SseReplayEvent::getData).containsExactly("b", "c");
+        }
+
+        @Test
+        @DisplayName("최신 이벤트까지 받은 경우 재전송 없이 완전한 결과")
+        void since_UpToDate() {
+                // given
+                SseReplayEvent last = replayBuffer.append(1L, "notification", "a");
+
+                // when
+                SseReplayResult result = replayBuffer.since(1L, last.getId());
+
+                // then
+                assertThat(result.isComplete()).isTrue();
+                assertThat(result.getEvents()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("버퍼에서 밀려난 이벤트가 있으면 불완전한 결과")
+        void since_IncompleteWhenTrimmed() {
+                // given
+                SseReplayEvent first = replayBuffer.append(1L, "notification", "a");
+                for (int i = 0; i < 4; i++) {
+                        replayBuffer.append(1L, "notification", "n" + i);
+                }
+
+                // when
+                SseReplayResult result = replayBuffer.since(1L, first.getId());
+
+                // then
+                assertThat(result.isComplete()).isFalse();
+                assertThat(result.getEvents()).extracting(SseReplayEvent::getData).containsExactly("n1", "n2", "n3");
+        }
+
+        @Test
+        @DisplayName("버퍼가 없는 사용자나 다른 세대의 ID는 불완전한 결과")
+        void since_IncompleteForUnknownGeneration() {
+                // given
+                SseReplayEvent event = replayBuffer.append(1L, "notification", "a");
+
+                // when
+                SseReplayResult unknownUser = replayBuffer.since(2L, event.getId());
+                SseReplayResult futureId = replayBuffer.since(1L, event.getId() + 10);
+                SseReplayResult staleId = replayBuffer.since(1L, 42L);
+
+                // then
+                assertThat(unknownUser.isComplete()).isFalse();
+                assertThat(futureId.isComplete()).isFalse();
+                assertThat(staleId.isComplete()).isFalse();
+                assertThat(staleId.getEvents()).extracting(SseReplayEvent::getData).containsExactly("a");
+        }
+
+        @Test
+        @DisplayName("클러스터 모드에서는 노드별 ID 시퀀스를 쓰는 메모리 버퍼로 기동하지 않음")
+        void constructor_RejectsClusterMode() {
+                // when & then
+                assertThatThrownBy(() -> new InMemorySseReplayBuffer(3, 300, 1000, true))
+                                .isInstanceOf(IllegalStateException.class)
+                                .hasMessageContaining("replay.store=redis");
+        }
+}
@@ -0,0 +1,161 @@
+package com.ourhour.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ourhour.domain.notification.model.SseConnection;
+
+@DisplayName("SseClusterRouter 테스트")
+class SseClusterRouterTest {
+
+        // 여러 노드가 공유하는 Redis 대역
+        private LocalSseClusterTransport transport;
+        private LocalSseRouteTable routeTable;
+
+        private SseClusterRouter nodeA;
+        private SseClusterRouter nodeB;
+        private SseClusterRouter nodeC;
+        private SseConnectionRegistry registryB;
+
+        private final List<SseClusterMessage> receivedByA = new CopyOnWriteArrayList<>();
+        private final List<SseClusterMessage> receivedByB = new CopyOnWriteArrayList<>();
+        private final List<SseClusterMessage> receivedByC = new CopyOnWriteArrayList<>();
+
+        @BeforeEach
+        void setUp() {
+                transport = new LocalSseClusterTransport();
+                routeTable = new LocalSseRouteTable();
+                registryB = new SseConnectionRegistry(4, 5);
+
+                nodeA = new SseClusterRouter(transport, routeTable, new SseConnectionRegistry(4, 5), "node-a");
+                nodeB = new SseClusterRouter(transport, routeTable, registryB, "node-b");
+                nodeC = new SseClusterRouter(transport, routeTable, new SseConnectionRegistry(4, 5), "node-c");
+                nodeA.start(receivedByA::add);
+                nodeB.start(receivedByB::add);
+                nodeC.start(receivedByC::add);
+        }
+
+        @Test
+        @DisplayName("사용자가 연결된 노드에만 이벤트를 발행")
+        void publish_OnlyToRoutedNode() {
+                // given
+                nodeB.registerLocalUser(1L);
+
+                // when
+                nodeA.publishToRemoteNodes(1L, new SseReplayEvent(7L, "notification", "{}"));
+
+                // then
+                assertThat(receivedByB).hasSize(1);
+                assertThat(receivedByB.get(0).getOriginNodeId()).isEqualTo("node-a");
+                assertThat(receivedByB.get(0).toFrame().toString()).isEqualTo("id:7\nevent:notification\ndata:{}\n\n");
+                assertThat(receivedByA).isEmpty();
+                assertThat(receivedByC).isEmpty();
+        }
+
+        @Test
+        @DisplayName("같은 노드에만 연결된 사용자는 발행하지 않음")
+        void publish_SkipsLocalOnlyUser() {
+                // given
+                nodeA.registerLocalUser(1L);
+
+                // when
+                nodeA.publishToRemoteNodes(1L, new SseReplayEvent(1L, "notification", "{}"));
+
+                // then
+                assertThat(receivedByA).isEmpty();
+                assertThat(receivedByB).isEmpty();
+                assertThat(receivedByC).isEmpty();
+        }
+
+        @Test
+        @DisplayName("구독자가 없는 노드의 라우팅 항목은 제거")
+        void publish_PrunesDeadNode() {
+                // given
+                nodeB.registerLocalUser(1L);
+                nodeC.registerLocalUser(1L);
+                transport.unsubscribe("node-c");
+
+                // when
+                nodeA.publishToRemoteNodes(1L, new SseReplayEvent(1L, "notification", "{}"));
+
+                // then
+                assertThat(receivedByB).hasSize(1);
+                assertThat(routeTable.nodesFor(1L)).containsExactly("node-b");
+        }
+
+        @Test
+        @DisplayName("주기적 갱신은 로컬 연결 사용자의 라우팅을 복구하고, 종료 시 제거")
+        void refreshAndStop() {
+                // given
+                registryB.register(new SseConnection(2L, new SseEmitter()));
+
+                // when
+                nodeB.refreshRoutes();
+
+                // then
+                assertThat(routeTable.nodesFor(2L)).containsExactly("node-b");
+
+                // when
+                nodeB.stop();
+
+                // then
+                assertThat(routeTable.nodesFor(2L)).isEmpty();
+                assertThat(transport.publish("node-b", new SseClusterMessage())).isZero();
+        }
+
+        @Test
+        @DisplayName("여러 수신자의 라우팅은 한 번에 조회하고 사용자마다 연결된 노드로만 발행")
+        void publish_BatchesRouteLookup() {
+                // given
+                AtomicInteger lookups = new AtomicInteger();
+                LocalSseRouteTable countingTable = new LocalSseRouteTable() {
+                        @Override
+                        public Map<Long, Set<String>> nodesFor(Collection<Long> userIds) {
+                                lookups.incrementAndGet();
+                                return super.nodesFor(userIds);
+                        }
+                };
+                SseClusterRouter router = new SseClusterRouter(transport, countingTable, new SseConnectionRegistry(4, 5),
+                                "node-d");
+                countingTable.add(1L, "node-b");
+                countingTable.add(2L, "node-c");
+                Map<Long, SseReplayEvent> events = new LinkedHashMap<>();
+                events.put(1L, new SseReplayEvent(10L, "notification", "{}"));
+                events.put(2L, new SseReplayEvent(20L, "notification", "{}"));
+                events.put(3L, new SseReplayEvent(30L, "notification", "{}"));
+
+                // when
+                router.publishToRemoteNodes(events, 0L);
+
+                // then
+                assertThat(lookups).hasValue(1);
+                assertThat(receivedByB).extracting(SseClusterMessage::getUserId).containsExactly(1L);
+                assertThat(receivedByC).extracting(SseClusterMessage::getUserId).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("토픽 이벤트는 발행한 노드를 제외한 모든 노드로 전파")
+        void publishToTopic_BroadcastsToOtherNodes() {
+                // when
+                nodeA.publishToTopic(SseTopic.project(3L), "notification", "{}");
+
+                // then
+                assertThat(receivedByA).isEmpty();
+                assertThat(receivedByB).hasSize(1);
+                assertThat(receivedByC).hasSize(1);
+                assertThat(receivedByB.get(0).getTopic()).isEqualTo("PROJECT:3");
+                assertThat(receivedByB.get(0).toFrame().toString()).isEqualTo("event:notification\ndata:{}\n\n");
+        }
+}
@@ -0,0 +1,149 @@
+package com.ourhour.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ourhour.domain.notification.model.SseConnection;
+
+@DisplayName("SseConnectionRegistry 테스트")
+class SseConnectionRegistryTest {
+
+        private SseConnectionRegistry registry;
+
+        @BeforeEach
+        void setUp() {
+                registry = new SseConnectionRegistry(8, 3);
+        }
+
+        private SseConnection newConnection(Long userId) {
+                return new SseConnection(userId, new SseEmitter());
+        }
+
+        @Test
+        @DisplayName("같은 사용자의 여러 연결이 서로를 밀어내지 않고 공존")
+        void register_MultipleDevices_AllKept() {
+                // given
+                SseConnection tab = newConnection(1L);
+                SseConnection phone = newConnection(1L);
+
+                // when
+                List<SseConnection> evictedByTab = registry.register(tab);
+                List<SseConnection> evictedByPhone = registry.register(phone);
+
+                // then
+                assertThat(evictedByTab).isEmpty();
+                assertThat(evictedByPhone).isEmpty();
+                assertThat(registry.getConnections(1L)).containsExactly(tab, phone);
+                assertThat(tab.getConnectionId()).isNotEqualTo(phone.getConnectionId());
+                assertThat(registry.getConnectionCount()).isEqualTo(2);
+                assertThat(registry.getUserCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("사용자별 상한 초과 시 가장 오래된 연결부터 밀려남")
+        void register_OverCap_EvictsOldest() {
+                // given
+                SseConnection first = newConnection(1L);
+                SseConnection second = newConnection(1L);
+                SseConnection third = newConnection(1L);
+                registry.register(first);
+                registry.register(second);
+                registry.register(third);
+
+                // when
+                SseConnection fourth = newConnection(1L);
+                List<SseConnection> evicted = registry.register(fourth);
+
+                // then
+                assertThat(evicted).containsExactly(first);
+                assertThat(registry.getConnections(1L)).containsExactly(second, third, fourth);
+                assertThat(registry.getConnectionCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("특정 연결 해제 시 같은 사용자의 다른 연결은 유지")
+        void unregister_OnlyTargetConnection() {
+                // given
+                SseConnection tab = newConnection(1L);
+                SseConnection phone = newConnection(1L);
+                registry.register(tab);
+                registry.register(phone);
+
+                // when
+                boolean removed = registry.unregister(tab);
+                boolean removedAgain = registry.unregister(tab);
+
+                // then
+                assertThat(removed).isTrue();
+                assertThat(removedAgain).isFalse();
+                assertThat(registry.getConnections(1L)).containsExactly(phone);
+                assertThat(registry.hasConnection(1L)).isTrue();
+
+                registry.unregister(phone);
+                assertThat(registry.hasConnection(1L)).isFalse();
+                assertThat(registry.getConnectionCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("여러 스레드에서 동시에 등록/해제해도 연결 수가 일관됨")
+        void concurrentRegisterAndUnregister_CountConsistent() throws InterruptedException {
+                // given
+                int threads = 8;
+                int usersPerThread = 500;
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                CountDownLatch latch = new CountDownLatch(threads);
+
+                // when
+                for (int t = 0; t < threads; t++) {
+                        int offset = t * usersPerThread;
+                        executor.submit(() -> {
+                                List<SseConnection> mine = new ArrayList<>();
+                                for (int i = 0; i < usersPerThread; i++) {
+                                        SseConnection connection = newConnection((long) (offset + i));
+                                        registry.register(connection);
+                                        mine.add(connection);
+                                }
+                                for (int i = 0; i < mine.size(); i += 2) {
+                                        registry.unregister(mine.get(i));
+                                }
+                                latch.countDown();
+                        });
+                }
+                latch.await(10, TimeUnit.SECONDS);
+                executor.shutdown();
+
+                // then
+                int[] iterated = {0};
+                registry.forEach(connection -> iterated[0]++);
+                assertThat(registry.getConnectionCount()).isEqualTo(threads * usersPerThread / 2);
+                assertThat(iterated[0]).isEqualTo(registry.getConnectionCount());
+        }
+
+        @Test
+        @DisplayName("removeAll 호출 시 모든 연결 반환 후 비워짐")
+        void removeAll_ReturnsEverything() {
+                // given
+                registry.register(newConnection(1L));
+                registry.register(newConnection(1L));
+                registry.register(newConnection(2L));
+
+                // when
+                List<SseConnection> removed = registry.removeAll();
+
+                // then
+                assertThat(removed).hasSize(3);
+                assertThat(registry.getConnectionCount()).isZero();
+                assertThat(registry.getUserCount()).isZero();
+        }
+}
@@ -0,0 +1,210 @@
+package com.ourhour.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ourhour.domain.notification.enums.SseOverflowPolicy;
+import com.ourhour.domain.notification.model.SseConnection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SseDispatcher 테스트")
+class SseDispatcherTest {
+
+        private SseDispatcher dispatcher;
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        // 첫 쓰기에서 release 될 때까지 막히는 느린 클라이언트, 이후 쓰인 프레임을 기록
+        private class BlockingEmitter extends SseEmitter {
+                private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+                private final List<String> written = new CopyOnWriteArrayList<>();
+
+                @Override
+                public void send(Set<DataWithMediaType> items) throws IOException {
+                        firstWriteStarted.countDown();
+                        try {
+                                release.await(5, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                        }
+                        items.forEach(item -> written.add(new String((byte[]) item.getData())));
+                }
+        }
+
+        @AfterEach
+        void tearDown() {
+                release.countDown();
+                if (dispatcher != null) {
+                        dispatcher.stop();
+                }
+        }
+
+        private SseDispatcher newDispatcher(SseOverflowPolicy policy, SimpleMeterRegistry meterRegistry) {
+                return new SseDispatcher(2, 1, 8, policy, meterRegistry);
+        }
+
+        @Test
+        @DisplayName("호출 스레드는 느린 클라이언트 쓰기를 기다리지 않음")
+        void dispatch_DoesNotBlockCaller() throws InterruptedException {
+                // given
+                dispatcher = newDispatcher(SseOverflowPolicy.DROP_OLDEST, new SimpleMeterRegistry());
+                BlockingEmitter emitter = new BlockingEmitter();
+                SseConnection connection = new SseConnection(1L, emitter, 2);
+
+                // when
+                long start = System.nanoTime();
+                dispatcher.dispatch(connection, SseFrame.of("notification", "1"));
+                emitter.firstWriteStarted.await(5, TimeUnit.SECONDS);
+                dispatcher.dispatch(connection, SseFrame.of("notification", "2"));
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+                // then
+                assertThat(elapsedMillis).isLessThan(1000);
+                release.countDown();
+                await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(emitter.written).containsExactly(
+                                "event:notification\ndata:1\n\n", "event:notification\ndata:2\n\n"));
+                assertThat(dispatcher.getQueuedFrameCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("DROP_OLDEST 정책은 큐 초과 시 가장 오래된 이벤트를 버림")
+        void dispatch_DropOldest() throws InterruptedException {
+                // given
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                dispatcher = newDispatcher(SseOverflowPolicy.DROP_OLDEST, meterRegistry);
+                BlockingEmitter emitter = new BlockingEmitter();
+                SseConnection connection = new SseConnection(1L, emitter, 2);
+
+                dispatcher.dispatch(connection, SseFrame.of("e", "in-flight"));
+                emitter.firstWriteStarted.await(5, TimeUnit.SECONDS);
+
+                // when
+                dispatcher.dispatch(connection, SseFrame.of("e", "a"));
+                dispatcher.dispatch(connection, SseFrame.of("e", "b"));
+                dispatcher.dispatch(connection, SseFrame.of("e", "c"));
+
+                // then
+                assertThat(dispatcher.getDroppedCount()).isEqualTo(1);
+                assertThat(meterRegistry.get("sse.dispatch.queue.depth").gauge().value()).isEqualTo(2);
+                release.countDown();
+                await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(emitter.written).containsExactly(
+                                "event:e\ndata:in-flight\n\n", "event:e\ndata:b\n\n", "event:e\ndata:c\n\n"));
+                assertThat(connection.isValid()).isTrue();
+        }
+
+        @Test
+        @DisplayName("DISCONNECT 정책은 큐 초과 시 느린 연결을 끊음")
+        void dispatch_DisconnectSlowConsumer() throws InterruptedException {
+                // given
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                dispatcher = newDispatcher(SseOverflowPolicy.DISCONNECT, meterRegistry);
+                List<SseConnection> disconnected = new CopyOnWriteArrayList<>();
+                dispatcher.start(connection -> {
+                        disconnected.add(connection);
+                        connection.cleanup();
+                });
+                BlockingEmitter emitter = new BlockingEmitter();
+                SseConnection connection = new SseConnection(1L, emitter, 2);
+
+                dispatcher.dispatch(connection, SseFrame.of("e", "in-flight"));
+                emitter.firstWriteStarted.await(5, TimeUnit.SECONDS);
+
+                // when
+                boolean first = dispatcher.dispatch(connection, SseFrame.of("e", "a"));
+                boolean second = dispatcher.dispatch(connection, SseFrame.of("e", "b"));
+                boolean overflow = dispatcher.dispatch(connection, SseFrame.of("e", "c"));
+
+                // then
+                assertThat(first).isTrue();
+                assertThat(second).isTrue();
+                assertThat(overflow).isFalse();
+                assertThat(disconnected).containsExactly(connection);
+                assertThat(connection.isValid()).isFalse();
+                assertThat(dispatcher.getQueuedFrameCount()).isZero();
+                assertThat(meterRegistry.get("sse.dispatch.slow.disconnects").counter().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("쓰기 시간과 생성 요청부터 쓰기까지의 지연을 기록")
+        void drain_RecordsWriteAndDeliveryLatency() {
+                // given
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                dispatcher = newDispatcher(SseOverflowPolicy.DROP_OLDEST, meterRegistry);
+                release.countDown();
+                BlockingEmitter emitter = new BlockingEmitter();
+                SseConnection connection = new SseConnection(1L, emitter, 2);
+
+                // when
+                dispatcher.dispatch(connection, SseFrame.of("e", "a").withOrigin(System.currentTimeMillis() - 50));
+                dispatcher.dispatch(connection, SseFrame.of("e", "b"));
+
+                // then
+                await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+                        assertThat(meterRegistry.get("sse.dispatch.write").timer().count()).isEqualTo(2);
+                        assertThat(meterRegistry.get("notification.delivery.latency").timer().count()).isEqualTo(1);
+                });
+                assertThat(meterRegistry.get("notification.delivery.latency").timer().max(TimeUnit.MILLISECONDS))
+                                .isGreaterThanOrEqualTo(50);
+        }
+
+        @Test
+        @DisplayName("쓰기 실패는 원인별로 집계하고 연결을 정리")
+        void drain_CountsWriteFailureByCause() {
+                // given
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                dispatcher = newDispatcher(SseOverflowPolicy.DROP_OLDEST, meterRegistry);
+                List<SseConnection> failed = new CopyOnWriteArrayList<>();
+                dispatcher.start(failed::add);
+                SseEmitter brokenEmitter = new SseEmitter() {
+                        @Override
+                        public void send(Set<DataWithMediaType> items) throws IOException {
+                                throw new IOException("Broken pipe");
+                        }
+                };
+                SseConnection connection = new SseConnection(1L, brokenEmitter, 2);
+
+                // when
+                dispatcher.dispatch(connection, SseFrame.of("e", "a"));
+
+                // then
+                await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(failed).containsExactly(connection));
+                assertThat(meterRegistry.get("sse.dispatch.write.failures").tag("cause", "IOException").counter().count())
+                                .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("송신 큐는 고정 크기 링 버퍼로 순서를 유지")
+        void outbox_RingBufferOrder() {
+                // given
+                SseOutbox outbox = new SseOutbox(2);
+                SseFrame a = SseFrame.of("e", "a");
+                SseFrame b = SseFrame.of("e", "b");
+                SseFrame c = SseFrame.of("e", "c");
+
+                // when
+                outbox.offer(a);
+                outbox.offer(b);
+                boolean accepted = outbox.offer(c);
+                SseFrame evicted = outbox.offerEvictingOldest(c);
+
+                // then
+                assertThat(accepted).isFalse();
+                assertThat(evicted).isSameAs(a);
+                assertThat(outbox.poll()).isSameAs(b);
+                assertThat(outbox.poll()).isSameAs(c);
+                assertThat(outbox.poll()).isNull();
+        }
+}
@@ -0,0 +1,100 @@
+package com.ourhour.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@DisplayName("SseFrame 테스트")
+class SseFrameTest {
+
+        // emitter에 실제로 쓰이는 바이트를 순서대로 기록
+        private static class RecordingEmitter extends SseEmitter {
+                private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+                @Override
+                public void send(Set<DataWithMediaType> items) throws IOException {
+                        for (DataWithMediaType item : items) {
+                                written.write((byte[]) item.getData());
+                        }
+                }
+        }
+
+        @Test
+        @DisplayName("여러 줄 데이터는 줄마다 data 필드로 인코딩")
+        void of_MultilineData() {
+                // when
+                SseFrame frame = SseFrame.of("notification", "a\nb");
+
+                // then
+                assertThat(frame.toString()).isEqualTo("event:notification\ndata:a\ndata:b\n\n");
+        }
+
+        @Test
+        @DisplayName("수신자별 id 프레임은 인코딩된 본문을 공유하고 id 필드를 먼저 씀")
+        void withId_SharesEncodedBody() throws IOException {
+                // given
+                SseFrame encodedBody = SseFrame.of("notification", "{\"type\":\"notification\"}");
+
+                // when
+                SseFrame first = encodedBody.withId("1");
+                SseFrame second = encodedBody.withId("2");
+                RecordingEmitter emitter = new RecordingEmitter();
+                second.writeTo(emitter);
+
+                // then
+                assertThat(first.sharesBodyWith(encodedBody)).isTrue();
+                assertThat(second.sharesBodyWith(first)).isTrue();
+                assertThat(emitter.written.toString()).isEqualTo(
+                                "id:2\nevent:notification\ndata:{\"type\":\"notification\"}\n\n");
+                assertThat(second.size()).isEqualTo(emitter.written.size());
+        }
+
+        @Test
+        @DisplayName("id를 다시 붙이면 기존 id를 대체")
+        void withId_ReplacesExistingId() {
+                // given
+                SseFrame frame = SseFrame.of("1", "e", "d");
+
+                // when
+                SseFrame replaced = frame.withId("2");
+                SseFrame withoutId = frame.withId(null);
+
+                // then
+                assertThat(replaced.toString()).isEqualTo("id:2\nevent:e\ndata:d\n\n");
+                assertThat(withoutId.toString()).isEqualTo("event:e\ndata:d\n\n");
+        }
+
+        @Test
+        @DisplayName("생성 요청 시각은 버퍼를 공유하고 id를 붙여도 유지")
+        void withOrigin_KeptAcrossWithId() {
+                // given
+                SseFrame frame = SseFrame.of("e", "d");
+
+                // when
+                SseFrame origin = frame.withOrigin(1_000L);
+                SseFrame withId = origin.withId("7");
+
+                // then
+                assertThat(frame.getOriginMillis()).isZero();
+                assertThat(origin.sharesBodyWith(frame)).isTrue();
+                assertThat(withId.getOriginMillis()).isEqualTo(1_000L);
+                assertThat(withId.withId(null).getOriginMillis()).isEqualTo(1_000L);
+                assertThat(withId.toString()).isEqualTo("id:7\nevent:e\ndata:d\n\n");
+        }
+
+        @Test
+        @DisplayName("재연결 프레임은 retry 필드와 같은 값을 데이터로 가진 이벤트로 인코딩")
+        void retry_EncodesRetryFieldAndEvent() {
+                // when
+                SseFrame frame = SseFrame.retry(4_500L, "drain");
+
+                // then
+                assertThat(frame.toString()).isEqualTo("retry:4500\nevent:drain\ndata:4500\n\n");
+        }
+}
@@ -0,0 +1,99 @@
+package com.ourhour.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ourhour.domain.notification.enums.SseOverflowPolicy;
+import com.ourhour.domain.notification.model.SseConnection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SseHeartbeatWheel 테스트")
+class SseHeartbeatWheelTest {
+
+        private SimpleMeterRegistry meterRegistry;
+        private SseDispatcher dispatcher;
+        private SseHeartbeatWheel wheel;
+
+        @BeforeEach
+        void setUp() {
+                meterRegistry = new SimpleMeterRegistry();
+                dispatcher = new SseDispatcher(16, 1, 8, SseOverflowPolicy.DROP_OLDEST, meterRegistry);
+                wheel = new SseHeartbeatWheel(15, 30, dispatcher, meterRegistry);
+        }
+
+        @AfterEach
+        void tearDown() {
+                wheel.stop();
+                dispatcher.stop();
+        }
+
+        @Test
+        @DisplayName("tick 간격은 heartbeat 주기를 버킷 수로 나눈 값")
+        void tickMillis_IntervalDividedByBuckets() {
+                assertThat(wheel.getTickMillis()).isEqualTo(500);
+                assertThat(wheel.getBucketCount()).isEqualTo(30);
+        }
+
+        @Test
+        @DisplayName("버킷 순회 시 닫힌 연결은 휠에서 제거되고 쓰기 실패는 dispatcher가 감지")
+        void sweep_DetectsFailedConnections() {
+                // given
+                List<SseConnection> failed = new CopyOnWriteArrayList<>();
+                dispatcher.start(failed::add);
+
+                SseConnection healthy = new SseConnection(1L, new SseEmitter());
+                SseEmitter completedEmitter = new SseEmitter();
+                completedEmitter.complete();
+                SseConnection broken = new SseConnection(2L, completedEmitter);
+                SseConnection closed = new SseConnection(3L, new SseEmitter());
+                closed.cleanup();
+
+                wheel.add(healthy);
+                wheel.add(broken);
+                wheel.add(closed);
+
+                // when
+                wheel.sweep(healthy.getHeartbeatSlot());
+
+                // then
+                await().atMost(Duration.ofSeconds(5))
+                                .untilAsserted(() -> assertThat(failed).containsExactly(broken));
+                assertThat(wheel.size()).isEqualTo(2);
+                assertThat(healthy.isValid()).isTrue();
+                assertThat(meterRegistry.get("sse.heartbeat.sweep").timer().count()).isEqualTo(1);
+                assertThat(wheel.getLastSweepNanos()).isPositive();
+        }
+
+        @Test
+        @DisplayName("연결 제거 시 휠에서 빠짐")
+        void remove_DetachesConnection() {
+                // given
+                SseConnection connection = new SseConnection(1L, new SseEmitter());
+                wheel.add(connection);
+
+                // when
+                wheel.remove(connection);
+
+                // then
+                assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("ping 프레임은 한 번만 인코딩된 SSE 형식")
+        void pingFrame_Encoded() {
+                assertThat(SseHeartbeatWheel.PING_FRAME.toString()).isEqualTo("event:ping\ndata:ping\n\n");
+                assertThat(SseFrame.of("notification", "a\nb").toString())
+                                .isEqualTo("event:notification\ndata:a\ndata:b\n\n");
+        }
+}
@@ -0,0 +1,119 @@
+package com.ourhour.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ourhour.domain.notification.enums.SseOverflowPolicy;
+import com.ourhour.domain.notification.model.SseConnection;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SseShutdownDrainer 테스트")
+class SseShutdownDrainerTest {
+
+        private SseDispatcher dispatcher;
+
+        // 쓰인 프레임을 기록하는 emitter
+        private static class RecordingEmitter extends SseEmitter {
+                private final List<String> written = new CopyOnWriteArrayList<>();
+
+                @Override
+                public void send(Set<DataWithMediaType> items) throws IOException {
+                        items.forEach(item -> written.add(new String((byte[]) item.getData())));
+                }
+        }
+
+        @BeforeEach
+        void setUp() {
+                dispatcher = new SseDispatcher(16, 1, 8, SseOverflowPolicy.DROP_OLDEST, new SimpleMeterRegistry());
+        }
+
+        @AfterEach
+        void tearDown() {
+                dispatcher.stop();
+        }
+
+        @Test
+        @DisplayName("연결을 크기 차이가 최대 1인 차수로 나누고 연결보다 차수가 많으면 빈 차수를 만들지 않음")
+        void partition_EvenWaves() {
+                // given
+                List<Integer> items = IntStream.range(0, 7).boxed().toList();
+
+                // when
+                List<List<Integer>> waves = SseShutdownDrainer.partition(items, 3);
+                List<List<Integer>> fewer = SseShutdownDrainer.partition(items.subList(0, 2), 10);
+
+                // then
+                assertThat(waves).extracting(List::size).containsExactly(3, 2, 2);
+                assertThat(waves.stream().flatMap(List::stream).toList()).isEqualTo(items);
+                assertThat(fewer).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("재연결 대기 시간은 base 이상 base + jitter 이하")
+        void nextRetryMillis_WithinJitter() {
+                // given
+                SseShutdownDrainer drainer = new SseShutdownDrainer(dispatcher, true, 0, 4, 1_000, 500);
+
+                // when & then
+                for (int i = 0; i < 100; i++) {
+                        assertThat(drainer.nextRetryMillis()).isBetween(1_000L, 1_500L);
+                }
+        }
+
+        @Test
+        @DisplayName("모든 연결에 retry 힌트를 보낸 뒤 전부 닫음")
+        void drain_SendsRetryAndClosesAll() {
+                // given
+                SseShutdownDrainer drainer = new SseShutdownDrainer(dispatcher, true, 0, 3, 1_000, 0);
+                List<RecordingEmitter> emitters = new ArrayList<>();
+                List<SseConnection> connections = new ArrayList<>();
+                for (long userId = 1; userId <= 5; userId++) {
+                        RecordingEmitter emitter = new RecordingEmitter();
+                        emitters.add(emitter);
+                        connections.add(new SseConnection(userId, emitter, 16));
+                }
+                List<SseConnection> closed = new CopyOnWriteArrayList<>();
+
+                // when
+                drainer.drain(connections, closed::add);
+
+                // then
+                assertThat(closed).containsExactlyInAnyOrderElementsOf(connections);
+                await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(emitters)
+                                .allSatisfy(emitter -> assertThat(emitter.written)
+                                                .containsExactly("retry:1000\nevent:drain\ndata:1000\n\n")));
+        }
+
+        @Test
+        @DisplayName("비활성화하면 retry 힌트 없이 바로 닫음")
+        void drain_DisabledClosesImmediately() {
+                // given
+                SseShutdownDrainer drainer = new SseShutdownDrainer(dispatcher, false, 10_000, 10, 1_000, 5_000);
+                RecordingEmitter emitter = new RecordingEmitter();
+                SseConnection connection = new SseConnection(1L, emitter, 16);
+                List<SseConnection> closed = new ArrayList<>();
+
+                // when
+                drainer.drain(List.of(connection), closed::add);
+
+                // then
+                assertThat(closed).containsExactly(connection);
+                assertThat(dispatcher.getQueuedFrameCount()).isZero();
+                assertThat(emitter.written).isEmpty();
+        }
+}
@@ -0,0 +1,103 @@
+package com.ourhour.domain.notification.sse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.ourhour.domain.notification.model.SseConnection;
+
+@DisplayName("SseTopicRegistry 테스트")
+class SseTopicRegistryTest {
+
+        private final SseTopicRegistry registry = new SseTopicRegistry();
+
+        @Test
+        @DisplayName("구독한 토픽의 구독자로 조회되고, 해제하면 빈 토픽은 제거")
+        void subscribeAndUnsubscribe() {
+                // given
+                SseConnection first = new SseConnection(1L, new SseEmitter());
+                SseConnection second = new SseConnection(2L, new SseEmitter());
+
+                // when
+                registry.subscribe(first, List.of(SseTopic.org(1L), SseTopic.project(3L)));
+                registry.subscribe(second, List.of(SseTopic.project(3L)));
+
+                // then
+                assertThat(registry.getSubscribers(SseTopic.project(3L))).containsExactlyInAnyOrder(first, second);
+                assertThat(registry.getTopics(first)).containsExactlyInAnyOrder(SseTopic.org(1L), SseTopic.project(3L));
+                assertThat(registry.getTopicCount()).isEqualTo(2);
+
+                // when
+                registry.unsubscribeAll(first);
+
+                // then
+                assertThat(registry.getSubscribers(SseTopic.project(3L))).containsExactly(second);
+                assertThat(registry.getSubscribers(SseTopic.org(1L))).isEmpty();
+                assertThat(registry.getTopicCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("이미 종료된 연결은 구독이 남지 않음")
+        void subscribe_InvalidConnection() {
+                // given
+                SseConnection connection = new SseConnection(1L, new SseEmitter());
+                connection.cleanup();
+
+                // when
+                registry.subscribe(connection, List.of(SseTopic.chatRoom(5L)));
+
+                // then
+                assertThat(registry.getSubscribers(SseTopic.chatRoom(5L))).isEmpty();
+                assertThat(registry.getTopicCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("마지막 구독자 해제와 동시에 구독해도 새 구독이 유실되지 않음")
+        void subscribe_ConcurrentWithLastUnsubscribe() {
+                SseTopic topic = SseTopic.chatRoom(5L);
+                for (int i = 0; i < 2000; i++) {
+                        // given
+                        SseConnection leaving = new SseConnection(1L, new SseEmitter());
+                        SseConnection joining = new SseConnection(2L, new SseEmitter());
+                        registry.subscribe(leaving, List.of(topic));
+                        CyclicBarrier barrier = new CyclicBarrier(2);
+
+                        // when
+                        CompletableFuture<Void> unsubscribe = CompletableFuture.runAsync(() -> {
+                                await(barrier);
+                                registry.unsubscribeAll(leaving);
+                        });
+                        await(barrier);
+                        registry.subscribe(joining, List.of(topic));
+                        unsubscribe.join();
+
+                        // then
+                        assertThat(registry.getSubscribers(topic)).containsExactly(joining);
+                        registry.unsubscribeAll(joining);
+                }
+        }
+
+        @Test
+        @DisplayName("토픽 키는 문자열로 변환 후 같은 토픽으로 복원")
+        void topicKey_RoundTrip() {
+                // when
+                SseTopic topic = SseTopic.fromKey(SseTopic.chatRoom(5L).key());
+
+                // then
+                assertThat(topic).isEqualTo(SseTopic.chatRoom(5L));
+        }
+
+        private static void await(CyclicBarrier barrier) {
+                try {
+                        barrier.await();
+                } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                }
+        }
+}
@@ -52,6 +52,7 @@ import com.ourhour.domain.project.repository.IssueRepository;
 import com.ourhour.domain.project.repository.IssueTagRepository;
 import com.ourhour.domain.project.repository.MilestoneRepository;
 import com.ourhour.domain.project.repository.ProjectRepository;
+import com.ourhour.domain.notification.service.NotificationEventService;
 import com.ourhour.domain.project.validator.ProjectValidator;
 import com.ourhour.domain.project.service.AuthorizationService;
 import com.ourhour.global.common.dto.ApiResponse;
@@ -92,6 +93,9 @@ class IssueServiceTest {
     @Mock
     private AuthorizationService authorizationService;
 
+    @Mock
+    private NotificationEventService notificationEventService;
+
     @InjectMocks
     private IssueService issueService;
 
@@ -538,6 +542,9 @@ class IssueServiceTest {
 
         given(issueRepository.findById(issueId)).willReturn(Optional.of(issue));
         given(issueRepository.save(issue)).willReturn(issue);
+        given(issue.getProjectEntity()).willReturn(project);
+        given(project.getProjectId()).willReturn(3L);
+        given(issue.getStatus()).willReturn(newStatus);
 
         IssueDetailDTO issueDetail = mock(IssueDetailDTO.class);
         given(issueMapper.toIssueDetailDTO(issue)).willReturn(issueDetail);
@@ -550,6 +557,7 @@ class IssueServiceTest {
         assertThat(result.getStatus()).isEqualTo(HttpStatus.OK);
         then(issueRepository).should().findById(issueId);
         then(issueRepository).should().save(issue);
+        then(notificationEventService).should().publishIssueStatusChanged(3L, issueId, "IN_PROGRESS");
     }
 
     @Test
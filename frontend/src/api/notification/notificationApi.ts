@@ -1,5 +1,5 @@
 import { ApiResponse } from '@/types/apiTypes';
-import { NotificationPageResponse } from '@/types/notificationTypes';
+import { NotificationCursorResponse, NotificationPageResponse } from '@/types/notificationTypes';
 
 import { axiosInstance } from '@/api/axiosConfig';
 
@@ -11,6 +11,20 @@ export const notificationApi = {
     return response.data;
   },
 
+  // 커서 기반 알림 목록 조회 (무한스크롤용, cursor가 없으면 최신 알림부터)
+  getNotificationsByCursor: async (
+    cursor: string | null = null,
+    size = 20,
+  ): Promise<NotificationCursorResponse> => {
+    const response = await axiosInstance.get<NotificationCursorResponse>(
+      '/api/notifications/inbox',
+      {
+        params: { cursor: cursor ?? undefined, size },
+      },
+    );
+    return response.data;
+  },
+
   getUnreadCount: async (): Promise<ApiResponse<number>> => {
     const response = await axiosInstance.get<ApiResponse<number>>(
       '/api/notifications/unread-count',
@@ -418,6 +418,9 @@ function NotificationItem({ notification, onMarkAsRead }: NotificationItemProps)
               }`}
             >
               {notification?.title}
+              {(notification?.coalescedCount ?? 1) > 1 && (
+                <span className="ml-1 text-xs text-gray-500">+{notification.coalescedCount! - 1}</span>
+              )}
             </p>
             {!notification?.isRead && (
               <button
@@ -436,7 +439,7 @@ function NotificationItem({ notification, onMarkAsRead }: NotificationItemProps)
           >
             {notification?.message}
           </p>
-          <p className="text-xs text-gray-400 mt-2">{formatTime(notification?.createdAt)}</p>
+          <p className="text-xs text-gray-400 mt-2">{formatTime(notification?.lastMergedAt ?? notification?.createdAt)}</p>
         </div>
       </div>
     </div>
@@ -2,10 +2,11 @@ import { useCallback } from 'react';
 
 import { useInfiniteQuery, useQuery, useMutation, useQueryClient } from '@tanstack/react-query';
 
+import { type ApiResponse } from '@/types/apiTypes';
 import { type Notification as NotificationType, type SSEEvent } from '@/types/notificationTypes';
 
 import { notificationApi } from '@/api/notification/notificationApi';
-import { NOTIFICATION_QUERY_KEYS } from '@/constants/queryKeys';
+import { NOTIFICATION_QUERY_KEYS, PROJECT_QUERY_KEYS } from '@/constants/queryKeys';
 import { useSSE } from '@/hooks/queries/notification/useSSE';
 import { useAppDispatch, useAppSelector } from '@/stores/hooks';
 import { setError } from '@/stores/notificationSlice';
@@ -25,15 +26,16 @@ export function useInfiniteNotifications() {
     error: infiniteQueryError,
   } = useInfiniteQuery({
     queryKey: [NOTIFICATION_QUERY_KEYS.NOTIFICATION_LIST_INFINITE],
-    initialPageParam: 1,
+    initialPageParam: null as string | null,
     maxPages: undefined, // 무제한 페이지
-    queryFn: async ({ pageParam = 1 }: { pageParam: number }) =>
-      notificationApi.getNotifications(pageParam, 20),
+    // 커서 기반 조회: 새 알림이 추가되어도 다음 페이지가 밀리거나 중복되지 않음
+    queryFn: async ({ pageParam }: { pageParam: string | null }) =>
+      notificationApi.getNotificationsByCursor(pageParam, 20),
     getNextPageParam: (lastPage) => {
       if (!lastPage) {
         return undefined;
       }
-      return lastPage.hasNext ? lastPage.currentPage + 1 : undefined;
+      return lastPage.hasNext && lastPage.nextCursor ? lastPage.nextCursor : undefined;
     },
     staleTime: 0,
     refetchOnWindowFocus: true,
@@ -43,7 +45,9 @@ export function useInfiniteNotifications() {
   });
 
   // 모든 페이지의 알림을 하나의 배열로 합치기
-  const allNotifications = infiniteData?.pages?.flatMap((page) => page?.notifications || []) || [];
+  // 묶인 알림도 생성 시각(커서 정렬 키)은 바뀌지 않으므로 페이지 간 중복이 생기지 않음
+  const allNotifications =
+    infiniteData?.pages?.flatMap((page) => page?.notifications || []) || [];
 
   // 첫 번째 페이지의 unreadCount 사용
   const unreadCount = infiniteData?.pages?.[0]?.unreadCount || 0;
@@ -122,6 +126,8 @@ export function useInfiniteNotifications() {
 
           case 'notification_read':
           case 'all_notifications_read':
+          // 재연결 중 놓친 이벤트를 서버 버퍼로 복구할 수 없는 경우 전체 재조회
+          case 'resync_required':
             // 읽음 처리 시에도 invalidate만 사용하여 자연스러운 업데이트
             queryClient.invalidateQueries({
               queryKey: [NOTIFICATION_QUERY_KEYS.NOTIFICATION_LIST_INFINITE],
@@ -131,6 +137,31 @@ export function useInfiniteNotifications() {
             });
             break;
 
+          case 'unread_count': {
+            // 서버 카운터가 보낸 새 개수를 바로 반영 (재조회 없음)
+            const { count } = event.data as { count: number };
+            queryClient.setQueryData<ApiResponse<number> | undefined>(
+              [NOTIFICATION_QUERY_KEYS.NOTIFICATION_UNREAD_COUNT],
+              (previous) => (previous ? { ...previous, data: count } : previous),
+            );
+            break;
+          }
+
+          case 'issue_status_changed': {
+            // 구독 중인 프로젝트의 이슈 상태가 바뀌면 해당 이슈 목록/상세만 다시 조회
+            const { issueId } = event.data as { projectId: number; issueId: number };
+            queryClient.invalidateQueries({
+              queryKey: [PROJECT_QUERY_KEYS.ISSUE_LIST],
+              exact: false,
+            });
+            queryClient.invalidateQueries({
+              predicate: (query) =>
+                query.queryKey[0] === PROJECT_QUERY_KEYS.ISSUE_DETAIL &&
+                query.queryKey[2] === issueId,
+            });
+            break;
+          }
+
           case 'connected':
             dispatch(setError(null));
             break;
@@ -19,15 +19,15 @@ export function useNotificationData() {
     error: infiniteQueryError,
   } = useInfiniteQuery({
     queryKey: [NOTIFICATION_QUERY_KEYS.NOTIFICATION_LIST_INFINITE],
-    initialPageParam: 1,
+    initialPageParam: null as string | null,
     maxPages: undefined,
-    queryFn: async ({ pageParam = 1 }: { pageParam: number }) =>
-      notificationApi.getNotifications(pageParam, 20),
+    queryFn: async ({ pageParam }: { pageParam: string | null }) =>
+      notificationApi.getNotificationsByCursor(pageParam, 20),
     getNextPageParam: (lastPage) => {
       if (!lastPage) {
         return undefined;
       }
-      return lastPage.hasNext ? lastPage.currentPage + 1 : undefined;
+      return lastPage.hasNext && lastPage.nextCursor ? lastPage.nextCursor : undefined;
     },
     staleTime: 0,
     refetchOnWindowFocus: true,
@@ -37,7 +37,13 @@ export function useNotificationData() {
   });
 
   // 모든 페이지의 알림을 하나의 배열로 합치기
-  const allNotifications = infiniteData?.pages?.flatMap((page) => page?.notifications || []) || [];
+  // 묶인 알림은 생성 시각이 갱신되어 앞쪽으로 이동할 수 있으므로 ID 기준으로 중복 제거
+  const allNotifications = (
+    infiniteData?.pages?.flatMap((page) => page?.notifications || []) || []
+  ).filter(
+    (notification, index, list) =>
+      list.findIndex((other) => other.notificationId === notification.notificationId) === index,
+  );
 
   // 첫 번째 페이지의 unreadCount 사용
   const unreadCount = infiniteData?.pages?.[0]?.unreadCount || 0;
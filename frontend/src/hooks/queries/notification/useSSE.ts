@@ -21,6 +21,10 @@ export function useSSE({ url, onMessage, onError, onOpen, enabled = true }: UseS
   const eventSourceRef = useRef<EventSource | null>(null);
   const retryTimeoutRef = useRef<ReturnType<typeof setTimeout> | null>(null);
   const retryCountRef = useRef(0);
+  // 마지막으로 받은 이벤트 ID (재연결 시 놓친 이벤트 재전송 요청용)
+  const lastEventIdRef = useRef<string | null>(null);
+  // 서버 종료(drain) 시 받은 재연결 대기 시간 (노드 종료 후 재연결이 한 순간에 몰리지 않도록 분산)
+  const drainRetryDelayRef = useRef<number | null>(null);
 
   // 콜백 ref로 최신 함수 참조 유지 (의존성 배열 최적화)
   const onMessageRef = useRef(onMessage);
@@ -77,7 +81,12 @@ export function useSSE({ url, onMessage, onError, onOpen, enabled = true }: UseS
       // 쿠키 설정을 위한 최소 대기시간
       await new Promise((resolve) => setTimeout(resolve, 50));
 
-      const eventSource = new EventSource(url, {
+      // EventSource를 새로 만들면 Last-Event-ID 헤더가 전송되지 않으므로 쿼리 파라미터로 전달
+      const connectUrl = lastEventIdRef.current
+        ? `${url}${url.includes('?') ? '&' : '?'}lastEventId=${encodeURIComponent(lastEventIdRef.current)}`
+        : url;
+
+      const eventSource = new EventSource(connectUrl, {
         withCredentials: true,
       });
 
@@ -89,6 +98,9 @@ export function useSSE({ url, onMessage, onError, onOpen, enabled = true }: UseS
 
       // Named Event Listeners (백엔드에서 .name()으로 전송하는 이벤트들)
       eventSource.addEventListener('notification', (event) => {
+        if (event.lastEventId) {
+          lastEventIdRef.current = event.lastEventId;
+        }
         const parsedData = JSON.parse(event.data);
         onMessageRef.current?.(parsedData);
       });
@@ -101,6 +113,12 @@ export function useSSE({ url, onMessage, onError, onOpen, enabled = true }: UseS
         });
       });
 
+      eventSource.addEventListener('drain', (event) => {
+        // 서버가 곧 연결을 닫으므로 지정한 시간 뒤 재연결
+        const delay = Number(event.data);
+        drainRetryDelayRef.current = Number.isFinite(delay) && delay >= 0 ? delay : null;
+      });
+
       eventSource.addEventListener('connection', (event) => {
         // 초기 연결 확인 메시지
         onMessageRef.current?.({
@@ -127,6 +145,17 @@ export function useSSE({ url, onMessage, onError, onOpen, enabled = true }: UseS
         onErrorRef.current?.(error);
         setConnectionState('disconnected');
 
+        // 서버 drain으로 닫힌 연결은 재시도 횟수를 늘리지 않고 서버가 준 시간 뒤 재연결
+        if (drainRetryDelayRef.current !== null) {
+          const delay = drainRetryDelayRef.current;
+          drainRetryDelayRef.current = null;
+          disconnect();
+          retryTimeoutRef.current = setTimeout(() => {
+            connect();
+          }, delay);
+          return;
+        }
+
         // CONNECTING 상태에서 오류 발생 시 지수 백오프로 재연결
         if (eventSource.readyState === EventSource.CONNECTING) {
           if (retryCountRef.current < maxRetries) {
@@ -8,6 +8,13 @@ export interface NotificationPageResponse {
   hasNext: boolean;
 }
 
+export interface NotificationCursorResponse {
+  notifications: Notification[];
+  nextCursor: string | null;
+  hasNext: boolean;
+  unreadCount: number;
+}
+
 export interface Notification {
   notificationId: number;
   type: NotificationType;
@@ -19,6 +26,10 @@ export interface Notification {
   relatedType?: string;
   actionUrl?: string;
   relatedProjectName?: string;
+  // 병합 윈도우 안에서 합쳐진 알림 수 (1이면 단건)
+  coalescedCount?: number;
+  // 묶인 알림이 마지막으로 합쳐진 시각 (목록 순서는 createdAt 기준)
+  lastMergedAt?: string | null;
 }
 
 export type NotificationType =